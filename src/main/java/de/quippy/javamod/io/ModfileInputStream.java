@@ -85,6 +85,21 @@ public class ModfileInputStream extends RandomAccessInputStreamImpl {
         checkForPackedFiles();
     }
 
+    /**
+     * Constructor for ModfileInputStream
+     *
+     * @param fromUrl
+     * @param memoryMapped if true, a local file is memory mapped
+     * @throws IOException
+     * @throws MalformedURLException
+     * @since 17.10.2026
+     */
+    public ModfileInputStream(URL fromUrl, boolean memoryMapped) throws IOException, MalformedURLException {
+        super(fromUrl, memoryMapped);
+        this.fileName = Helpers.createLocalFileStringFromURL(fromUrl, false);
+        checkForPackedFiles();
+    }
+
     /**
      * @return the fileName
      */
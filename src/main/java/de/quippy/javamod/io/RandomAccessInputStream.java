@@ -38,6 +38,9 @@ import de.quippy.javamod.system.Helpers;
  */
 public interface RandomAccessInputStream {
 
+    /** amount of values converted at once by the bulk reads */
+    int BULK_BUFFER_SIZE = 4096;
+
     File getFile();
 
     // InputStream functions - normally implemented due to extending from InputStream
@@ -370,4 +373,117 @@ public interface RandomAccessInputStream {
         }
         return result;
     }
+
+    // bulk reads
+
+    /**
+     * Read up to length bytes - less only at the end of the stream
+     *
+     * @param buffer
+     * @param length
+     * @return the amount of bytes read
+     * @throws IOException when an io error occurs
+     * @since 17.10.2026
+     */
+    private int readFully(byte[] buffer, int length) throws IOException {
+        int read = 0;
+        while (read < length) {
+            int count = read(buffer, read, length - read);
+            if (count <= 0) break;
+            read += count;
+        }
+        return read;
+    }
+
+    /**
+     * Read an array of little endian 16 bit values
+     *
+     * @param target
+     * @param offset
+     * @param length amount of words
+     * @return the amount of words read - less than length only at the end of the stream
+     * @throws IOException when an io error occurs
+     * @since 17.10.2026
+     */
+    default int readIntelWords(short[] target, int offset, int length) throws IOException {
+        byte[] buffer = new byte[Math.min(length, BULK_BUFFER_SIZE) << 1];
+        int words = 0;
+        while (words < length) {
+            int read = readFully(buffer, Math.min(length - words, BULK_BUFFER_SIZE) << 1) >> 1;
+            for (int i = 0, b = 0; i < read; i++, b += 2)
+                target[offset + words + i] = (short) ((buffer[b] & 0xff) | ((buffer[b + 1] & 0xff) << 8));
+            words += read;
+            if (read < BULK_BUFFER_SIZE) break;
+        }
+        return words;
+    }
+
+    /**
+     * Read an array of big endian 16 bit values
+     *
+     * @param target
+     * @param offset
+     * @param length amount of words
+     * @return the amount of words read - less than length only at the end of the stream
+     * @throws IOException when an io error occurs
+     * @since 17.10.2026
+     */
+    default int readMotorolaWords(short[] target, int offset, int length) throws IOException {
+        byte[] buffer = new byte[Math.min(length, BULK_BUFFER_SIZE) << 1];
+        int words = 0;
+        while (words < length) {
+            int read = readFully(buffer, Math.min(length - words, BULK_BUFFER_SIZE) << 1) >> 1;
+            for (int i = 0, b = 0; i < read; i++, b += 2)
+                target[offset + words + i] = (short) (((buffer[b] & 0xff) << 8) | (buffer[b + 1] & 0xff));
+            words += read;
+            if (read < BULK_BUFFER_SIZE) break;
+        }
+        return words;
+    }
+
+    /**
+     * Read an array of little endian 32 bit values
+     *
+     * @param target
+     * @param offset
+     * @param length amount of dwords
+     * @return the amount of dwords read - less than length only at the end of the stream
+     * @throws IOException when an io error occurs
+     * @since 17.10.2026
+     */
+    default int readIntelDWords(int[] target, int offset, int length) throws IOException {
+        byte[] buffer = new byte[Math.min(length, BULK_BUFFER_SIZE) << 2];
+        int dwords = 0;
+        while (dwords < length) {
+            int read = readFully(buffer, Math.min(length - dwords, BULK_BUFFER_SIZE) << 2) >> 2;
+            for (int i = 0, b = 0; i < read; i++, b += 4)
+                target[offset + dwords + i] = (buffer[b] & 0xff) | ((buffer[b + 1] & 0xff) << 8) | ((buffer[b + 2] & 0xff) << 16) | ((buffer[b + 3] & 0xff) << 24);
+            dwords += read;
+            if (read < BULK_BUFFER_SIZE) break;
+        }
+        return dwords;
+    }
+
+    /**
+     * Read an array of big endian 32 bit values
+     *
+     * @param target
+     * @param offset
+     * @param length amount of dwords
+     * @return the amount of dwords read - less than length only at the end of the stream
+     * @throws IOException when an io error occurs
+     * @since 17.10.2026
+     */
+    default int readMotorolaDWords(int[] target, int offset, int length) throws IOException {
+        byte[] buffer = new byte[Math.min(length, BULK_BUFFER_SIZE) << 2];
+        int dwords = 0;
+        while (dwords < length) {
+            int read = readFully(buffer, Math.min(length - dwords, BULK_BUFFER_SIZE) << 2) >> 2;
+            for (int i = 0, b = 0; i < read; i++, b += 4)
+                target[offset + dwords + i] = ((buffer[b] & 0xff) << 24) | ((buffer[b + 1] & 0xff) << 16) | ((buffer[b + 2] & 0xff) << 8) | (buffer[b + 3] & 0xff);
+            dwords += read;
+            if (read < BULK_BUFFER_SIZE) break;
+        }
+        return dwords;
+    }
 }
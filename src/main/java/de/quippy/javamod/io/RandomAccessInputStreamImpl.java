@@ -35,6 +35,9 @@ import java.lang.System.Logger.Level;
 import java.net.MalformedURLException;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
 
 import de.quippy.javamod.system.Helpers;
 
@@ -52,6 +55,10 @@ import static java.lang.System.getLogger;
  * <p>
  * Additionally, to speed up things, RandomAccessStreamImpl is provided with a
  * transparent buffer - changed on 18.01.22.
+ * <p>
+ * Local files can also be memory mapped instead - changed on 17.10.2026.
+ * The primitive and the bulk read methods then read directly from the
+ * mapped buffer without any copying.
  *
  * @author Daniel Becker
  * @since 31.12.2007
@@ -78,6 +85,9 @@ public class RandomAccessInputStreamImpl extends InputStream implements RandomAc
     /** the whole file length */
     private long randomAccessFileLength = 0;
 
+    /* The memory mapped file */
+    private MappedByteBuffer mappedBuffer = null;
+
     /* The fullFileCache */
     protected byte[] fullFileCache = null;
     protected int fullFileCache_readPointer = 0;
@@ -90,10 +100,26 @@ public class RandomAccessInputStreamImpl extends InputStream implements RandomAc
      * @throws FileNotFoundException when the file not found
      */
     public RandomAccessInputStreamImpl(File file) throws IOException {
+        this(file, false);
+    }
+
+    /**
+     * Constructor for RandomAccessInputStreamImpl
+     *
+     * @param file file to access
+     * @param memoryMapped if true, a local file is memory mapped
+     * @throws FileNotFoundException when the file not found
+     * @since 17.10.2026
+     */
+    public RandomAccessInputStreamImpl(File file, boolean memoryMapped) throws IOException {
         if (!file.exists()) {
             file = unpackFromZIPFile(file.toURI().toURL());
+            memoryMapped = false; // the temporary file is deleted with close
         }
-        openRandomAccessStream(localFile = file);
+        if (memoryMapped)
+            openMappedStream(localFile = file);
+        else
+            openRandomAccessStream(localFile = file);
     }
 
     /**
@@ -108,13 +134,29 @@ public class RandomAccessInputStreamImpl extends InputStream implements RandomAc
 
     /** */
     public RandomAccessInputStreamImpl(URL fromUrl) throws IOException {
+        this(fromUrl, false);
+    }
+
+    /**
+     * Constructor for RandomAccessInputStreamImpl
+     *
+     * @param fromUrl source url
+     * @param memoryMapped if true, a local file is memory mapped
+     * @throws IOException when an io error occurs
+     * @since 17.10.2026
+     */
+    public RandomAccessInputStreamImpl(URL fromUrl, boolean memoryMapped) throws IOException {
         if (Helpers.isFile(fromUrl)) {
             try {
                 File file = new File(fromUrl.toURI());
                 if (!file.exists()) {
                     file = unpackFromZIPFile(fromUrl);
+                    memoryMapped = false; // the temporary file is deleted with close
                 }
-                openRandomAccessStream(localFile = file);
+                if (memoryMapped)
+                    openMappedStream(localFile = file);
+                else
+                    openRandomAccessStream(localFile = file);
             } catch (URISyntaxException uriEx) {
                 throw new MalformedURLException(uriEx.getMessage());
             }
@@ -230,6 +272,26 @@ public class RandomAccessInputStreamImpl extends InputStream implements RandomAc
         fillRandomAccessBuffer(0);
     }
 
+    /**
+     * Files bigger than 2GB cannot be mapped - those are read with the
+     * buffered RandomAccessFile.
+     *
+     * @param theFile file to access
+     * @throws IOException when an io error occurs
+     * @since 17.10.2026
+     */
+    private void openMappedStream(File theFile) throws IOException {
+        try (RandomAccessFile file = new RandomAccessFile(theFile, "r")) {
+            long size = file.length();
+            if (size > Integer.MAX_VALUE) {
+                openRandomAccessStream(theFile);
+                return;
+            }
+            // the mapping stays valid after closing the channel
+            mappedBuffer = file.getChannel().map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+    }
+
     /**
      * @return end buffer pointer or -1 source file is not set
      * @throws IOException when an io error occurs
@@ -291,6 +353,8 @@ public class RandomAccessInputStreamImpl extends InputStream implements RandomAc
     public int available() throws IOException {
         if (raFile != null)
             return (int) (randomAccessFileLength - this.getFilePointer());
+        else if (mappedBuffer != null)
+            return mappedBuffer.remaining();
         else
             return fullFileCache_length - fullFileCache_readPointer;
     }
@@ -306,6 +370,7 @@ public class RandomAccessInputStreamImpl extends InputStream implements RandomAc
 
         raFile = null;
         tmpFile = null;
+        mappedBuffer = null;
         randomAccessBuffer = null;
         randomAccessBuffer_endPointer = 0;
         randomAccessBuffer_readPointer = 0;
@@ -320,7 +385,7 @@ public class RandomAccessInputStreamImpl extends InputStream implements RandomAc
     @Override
     public synchronized void mark(int readlimit) {
         try {
-            if (raFile != null)
+            if (raFile != null || mappedBuffer != null)
                 mark = (int) this.getFilePointer();
             else
                 mark = fullFileCache_readPointer;
@@ -335,7 +400,7 @@ public class RandomAccessInputStreamImpl extends InputStream implements RandomAc
 
     @Override
     public synchronized void reset() throws IOException {
-        if (raFile != null)
+        if (raFile != null || mappedBuffer != null)
             this.seek(mark);
         else
             fullFileCache_readPointer = mark;
@@ -350,6 +415,11 @@ public class RandomAccessInputStreamImpl extends InputStream implements RandomAc
             if (newpos > randomAccessFileLength) newpos = randomAccessFileLength;
             this.seek(newpos);
             return newpos - pos;
+        } else if (mappedBuffer != null) {
+            if (n <= 0) return 0;
+            int skipped = (n > mappedBuffer.remaining()) ? mappedBuffer.remaining() : (int) n;
+            mappedBuffer.position(mappedBuffer.position() + skipped);
+            return skipped;
         } else {
             if (n <= 0) return 0;
             int newpos = fullFileCache_readPointer + (int) n;
@@ -364,6 +434,8 @@ public class RandomAccessInputStreamImpl extends InputStream implements RandomAc
     public long getFilePointer() throws IOException {
         if (raFile != null)
             return randomAccessFilePosition + randomAccessBuffer_readPointer;
+        else if (mappedBuffer != null)
+            return mappedBuffer.position();
         else
             return fullFileCache_readPointer;
     }
@@ -376,7 +448,9 @@ public class RandomAccessInputStreamImpl extends InputStream implements RandomAc
                 fillRandomAccessBuffer(pos);
             } else
                 randomAccessBuffer_readPointer = (int) (pos - randomAccessFilePosition);
-        } else
+        } else if (mappedBuffer != null)
+            mappedBuffer.position((int) ((pos > mappedBuffer.limit()) ? mappedBuffer.limit() : pos));
+        else
             fullFileCache_readPointer = (int) pos;
     }
 
@@ -384,6 +458,8 @@ public class RandomAccessInputStreamImpl extends InputStream implements RandomAc
     public long length() throws IOException {
         if (raFile != null)
             return randomAccessFileLength;
+        else if (mappedBuffer != null)
+            return mappedBuffer.limit();
         else
             return fullFileCache_length;
     }
@@ -394,6 +470,8 @@ public class RandomAccessInputStreamImpl extends InputStream implements RandomAc
     public int read() throws IOException {
         if (raFile != null)
             return readByte_internal();
+        else if (mappedBuffer != null)
+            return (mappedBuffer.hasRemaining()) ? ((int) mappedBuffer.get()) & 0xff : -1;
         else
             return (fullFileCache_readPointer < fullFileCache_length) ? ((int) fullFileCache[fullFileCache_readPointer++]) & 0xff : -1;
     }
@@ -402,7 +480,12 @@ public class RandomAccessInputStreamImpl extends InputStream implements RandomAc
     public int read(byte[] b, int off, int len) throws IOException {
         if (raFile != null)
             return readBytes_internal(b, off, len);
-        else {
+        else if (mappedBuffer != null) {
+            if (!mappedBuffer.hasRemaining()) return -1;
+            if (len > mappedBuffer.remaining()) len = mappedBuffer.remaining();
+            mappedBuffer.get(b, off, len);
+            return len;
+        } else {
             if (b == null)
                 throw new NullPointerException();
             if ((off < 0) || (off > b.length) || (len < 0) || ((off + len) > b.length) || ((off + len) < 0))
@@ -418,4 +501,88 @@ public class RandomAccessInputStreamImpl extends InputStream implements RandomAc
             return len;
         }
     }
+
+    // ---- Primitive and bulk reads directly from the memory mapped file
+
+    /**
+     * @param order
+     * @param size amount of bytes needed
+     * @return true, if the mapped buffer can deliver that - with the byte order set
+     * @since 17.10.2026
+     */
+    private boolean mappedCanRead(ByteOrder order, int size) {
+        if (mappedBuffer == null || mappedBuffer.remaining() < size) return false;
+        mappedBuffer.order(order);
+        return true;
+    }
+
+    @Override
+    public short readIntelWord() throws IOException {
+        return (mappedCanRead(ByteOrder.LITTLE_ENDIAN, 2)) ? mappedBuffer.getShort() : RandomAccessInputStream.super.readIntelWord();
+    }
+
+    @Override
+    public int readIntelUnsignedWord() throws IOException {
+        return (mappedCanRead(ByteOrder.LITTLE_ENDIAN, 2)) ? mappedBuffer.getShort() & 0xffff : RandomAccessInputStream.super.readIntelUnsignedWord();
+    }
+
+    @Override
+    public short readMotorolaWord() throws IOException {
+        return (mappedCanRead(ByteOrder.BIG_ENDIAN, 2)) ? mappedBuffer.getShort() : RandomAccessInputStream.super.readMotorolaWord();
+    }
+
+    @Override
+    public int readMotorolaUnsignedWord() throws IOException {
+        return (mappedCanRead(ByteOrder.BIG_ENDIAN, 2)) ? mappedBuffer.getShort() & 0xffff : RandomAccessInputStream.super.readMotorolaUnsignedWord();
+    }
+
+    @Override
+    public int readIntelDWord() throws IOException {
+        return (mappedCanRead(ByteOrder.LITTLE_ENDIAN, 4)) ? mappedBuffer.getInt() : RandomAccessInputStream.super.readIntelDWord();
+    }
+
+    @Override
+    public int readMotorolaDWord() throws IOException {
+        return (mappedCanRead(ByteOrder.BIG_ENDIAN, 4)) ? mappedBuffer.getInt() : RandomAccessInputStream.super.readMotorolaDWord();
+    }
+
+    @Override
+    public int readIntelWords(short[] target, int offset, int length) throws IOException {
+        if (mappedBuffer == null) return RandomAccessInputStream.super.readIntelWords(target, offset, length);
+        int words = Math.min(length, mappedBuffer.remaining() >> 1);
+        mappedBuffer.order(ByteOrder.LITTLE_ENDIAN).asShortBuffer().get(target, offset, words);
+        // like reading byte wise: a partial value at the end is consumed as well
+        mappedBuffer.position((words < length) ? mappedBuffer.limit() : mappedBuffer.position() + (words << 1));
+        return words;
+    }
+
+    @Override
+    public int readMotorolaWords(short[] target, int offset, int length) throws IOException {
+        if (mappedBuffer == null) return RandomAccessInputStream.super.readMotorolaWords(target, offset, length);
+        int words = Math.min(length, mappedBuffer.remaining() >> 1);
+        mappedBuffer.order(ByteOrder.BIG_ENDIAN).asShortBuffer().get(target, offset, words);
+        // like reading byte wise: a partial value at the end is consumed as well
+        mappedBuffer.position((words < length) ? mappedBuffer.limit() : mappedBuffer.position() + (words << 1));
+        return words;
+    }
+
+    @Override
+    public int readIntelDWords(int[] target, int offset, int length) throws IOException {
+        if (mappedBuffer == null) return RandomAccessInputStream.super.readIntelDWords(target, offset, length);
+        int dwords = Math.min(length, mappedBuffer.remaining() >> 2);
+        mappedBuffer.order(ByteOrder.LITTLE_ENDIAN).asIntBuffer().get(target, offset, dwords);
+        // like reading byte wise: a partial value at the end is consumed as well
+        mappedBuffer.position((dwords < length) ? mappedBuffer.limit() : mappedBuffer.position() + (dwords << 2));
+        return dwords;
+    }
+
+    @Override
+    public int readMotorolaDWords(int[] target, int offset, int length) throws IOException {
+        if (mappedBuffer == null) return RandomAccessInputStream.super.readMotorolaDWords(target, offset, length);
+        int dwords = Math.min(length, mappedBuffer.remaining() >> 2);
+        mappedBuffer.order(ByteOrder.BIG_ENDIAN).asIntBuffer().get(target, offset, dwords);
+        // like reading byte wise: a partial value at the end is consumed as well
+        mappedBuffer.position((dwords < length) ? mappedBuffer.limit() : mappedBuffer.position() + (dwords << 2));
+        return dwords;
+    }
 }
@@ -0,0 +1,337 @@
+/*
+ * @(#) RandomAccessZipFile.java
+ *
+ * Created on 17.10.2026 by Daniel Becker
+ *
+ *-----------------------------------------------------------------------
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation; either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, write to the Free Software
+ *  Foundation, Inc., 675 Mass Ave, Cambridge, MA 02139, USA.
+ *----------------------------------------------------------------------
+ */
+
+package de.quippy.javamod.io;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+import java.util.zip.ZipException;
+
+
+/**
+ * Random access to the entries of a zip archive in a
+ * {@link RandomAccessInputStream}: only the central directory is read
+ * when opening, an entry is read and inflated when asked for.
+ * Nothing of the archive is kept in memory besides the directory.
+ * <p>
+ * Reading entries is thread safe - the compressed data is read while
+ * holding the lock of this object, the inflating is done without.
+ * Only stored and deflated entries are supported, no ZIP64 archives.
+ *
+ * @author Daniel Becker
+ * @since 17.10.2026
+ */
+public class RandomAccessZipFile {
+
+    private static final int LOCAL_HEADER_SIGNATURE = 0x04034b50;
+    private static final int CENTRAL_HEADER_SIGNATURE = 0x02014b50;
+    private static final int END_OF_CENTRAL_DIR_SIGNATURE = 0x06054b50;
+    private static final int END_OF_CENTRAL_DIR_SIZE = 22;
+    private static final int MAX_COMMENT_SIZE = 0xFFFF;
+
+    private static final int METHOD_STORED = 0;
+    private static final int METHOD_DEFLATED = 8;
+
+    /**
+     * An entry of the central directory
+     *
+     * @since 17.10.2026
+     */
+    public static final class Entry {
+
+        private final String name;
+        private final int method;
+        private final long compressedSize;
+        private final long size;
+        private final long localHeaderOffset;
+
+        private Entry(String name, int method, long compressedSize, long size, long localHeaderOffset) {
+            this.name = name;
+            this.method = method;
+            this.compressedSize = compressedSize;
+            this.size = size;
+            this.localHeaderOffset = localHeaderOffset;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public boolean isDirectory() {
+            return name.endsWith("/");
+        }
+
+        /**
+         * @return the size of the inflated data
+         */
+        public long getSize() {
+            return size;
+        }
+
+        public long getCompressedSize() {
+            return compressedSize;
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+
+    private final RandomAccessInputStream input;
+    private final List<Entry> entries;
+
+    /**
+     * Constructor for RandomAccessZipFile - reads the central directory
+     *
+     * @param input the zip archive. Is not closed by this class.
+     * @throws IOException if this is no (supported) zip archive
+     */
+    public RandomAccessZipFile(RandomAccessInputStream input) throws IOException {
+        super();
+        this.input = input;
+        this.entries = Collections.unmodifiableList(readCentralDirectory());
+    }
+
+    /**
+     * Find the "end of central directory" record - it is at the end of
+     * the archive, only followed by the archive comment.
+     */
+    private long findEndOfCentralDirectory() throws IOException {
+        long length = input.getLength();
+        if (length < END_OF_CENTRAL_DIR_SIZE) throw new ZipException("No zip archive: too short");
+        int tailSize = (int) Math.min(length, END_OF_CENTRAL_DIR_SIZE + MAX_COMMENT_SIZE);
+        byte[] tail = new byte[tailSize];
+        input.seek(length - tailSize);
+        readFully(tail, 0, tailSize);
+        for (int i = tailSize - END_OF_CENTRAL_DIR_SIZE; i >= 0; i--) {
+            if (getIntelDWord(tail, i) == END_OF_CENTRAL_DIR_SIGNATURE)
+                return length - tailSize + i;
+        }
+        throw new ZipException("No zip archive: end of central directory not found");
+    }
+
+    private List<Entry> readCentralDirectory() throws IOException {
+        input.seek(findEndOfCentralDirectory() + 10);
+        int entryCount = input.readIntelUnsignedWord();
+        long directorySize = input.readIntelDWord() & 0xFFFF_FFFFL;
+        long directoryOffset = input.readIntelDWord() & 0xFFFF_FFFFL;
+        if (entryCount == 0xFFFF || directorySize == 0xFFFF_FFFFL || directoryOffset == 0xFFFF_FFFFL)
+            throw new ZipException("ZIP64 archives are not supported");
+        if (directoryOffset + directorySize > input.getLength()) throw new ZipException("Broken zip archive: central directory out of range");
+
+        byte[] directory = new byte[(int) directorySize];
+        input.seek(directoryOffset);
+        readFully(directory, 0, directory.length);
+
+        List<Entry> result = new ArrayList<>(entryCount);
+        int pos = 0;
+        for (int i = 0; i < entryCount; i++) {
+            if (pos + 46 > directory.length || getIntelDWord(directory, pos) != CENTRAL_HEADER_SIGNATURE)
+                throw new ZipException("Broken zip archive: bad central directory entry " + i);
+            int method = getIntelWord(directory, pos + 10);
+            long compressedSize = getIntelDWord(directory, pos + 20) & 0xFFFF_FFFFL;
+            long size = getIntelDWord(directory, pos + 24) & 0xFFFF_FFFFL;
+            int nameLength = getIntelWord(directory, pos + 28);
+            int extraLength = getIntelWord(directory, pos + 30);
+            int commentLength = getIntelWord(directory, pos + 32);
+            long localHeaderOffset = getIntelDWord(directory, pos + 42) & 0xFFFF_FFFFL;
+            if (pos + 46 + nameLength > directory.length) throw new ZipException("Broken zip archive: bad central directory entry " + i);
+            String name = new String(directory, pos + 46, nameLength, StandardCharsets.UTF_8);
+            result.add(new Entry(name, method, compressedSize, size, localHeaderOffset));
+            pos += 46 + nameLength + extraLength + commentLength;
+        }
+        return result;
+    }
+
+    /**
+     * @return all entries in the order of the central directory
+     */
+    public List<Entry> getEntries() {
+        return entries;
+    }
+
+    /**
+     * @param name
+     * @return the entry with that name or null
+     */
+    public Entry getEntry(String name) {
+        for (Entry entry : entries) {
+            if (entry.name.equals(name)) return entry;
+        }
+        return null;
+    }
+
+    /**
+     * The local header can have a different extra field than the central
+     * directory entry - so we need to read its lengths
+     */
+    private long getDataOffset(Entry entry) throws IOException {
+        input.seek(entry.localHeaderOffset);
+        if (input.readIntelDWord() != LOCAL_HEADER_SIGNATURE) throw new ZipException("Broken zip archive: bad local header of " + entry.name);
+        input.seek(entry.localHeaderOffset + 26);
+        int nameLength = input.readIntelUnsignedWord();
+        int extraLength = input.readIntelUnsignedWord();
+        long dataOffset = entry.localHeaderOffset + 30 + nameLength + extraLength;
+        if (dataOffset + entry.compressedSize > input.getLength()) throw new ZipException("Broken zip archive: data of " + entry.name + " out of range");
+        return dataOffset;
+    }
+
+    private void checkMethod(Entry entry) throws ZipException {
+        if (entry.method != METHOD_STORED && entry.method != METHOD_DEFLATED)
+            throw new ZipException("Unsupported compression method " + entry.method + " of " + entry.name);
+    }
+
+    /**
+     * Reads and inflates an entry completely
+     *
+     * @param entry
+     * @return the inflated data
+     * @throws IOException
+     */
+    public byte[] readAllBytes(Entry entry) throws IOException {
+        checkMethod(entry);
+        if (entry.size > Integer.MAX_VALUE - 8 || entry.compressedSize > Integer.MAX_VALUE - 8)
+            throw new ZipException("Entry too large: " + entry.name);
+
+        byte[] compressed = new byte[(int) entry.compressedSize];
+        synchronized (this) {
+            input.seek(getDataOffset(entry));
+            readFully(compressed, 0, compressed.length);
+        }
+        if (entry.method == METHOD_STORED) return compressed;
+
+        byte[] result = new byte[(int) entry.size];
+        Inflater inflater = new Inflater(true);
+        try {
+            inflater.setInput(compressed);
+            int inflated = 0;
+            while (inflated < result.length) {
+                int count = inflater.inflate(result, inflated, result.length - inflated);
+                if (count == 0 && (inflater.finished() || inflater.needsInput() || inflater.needsDictionary())) break;
+                inflated += count;
+            }
+            if (inflated != result.length) throw new ZipException("Broken zip archive: " + entry.name + " is truncated");
+        } catch (DataFormatException ex) {
+            throw new ZipException("Broken zip archive: " + entry.name + ": " + ex.getMessage());
+        } finally {
+            inflater.end();
+        }
+        return result;
+    }
+
+    /**
+     * Opens a stream inflating an entry while it is read - the compressed
+     * data is not read into memory. The stream must not be used after
+     * the archive is closed.
+     *
+     * @param entry
+     * @return the stream of the inflated data
+     * @throws IOException
+     */
+    public InputStream getInputStream(Entry entry) throws IOException {
+        checkMethod(entry);
+        long dataOffset;
+        synchronized (this) {
+            dataOffset = getDataOffset(entry);
+        }
+        InputStream raw = new EntryInputStream(dataOffset, entry.compressedSize);
+        if (entry.method == METHOD_STORED) return raw;
+        // the inflater needs a dummy byte at the end of "nowrap" data
+        return new InflaterInputStream(new SequenceInputStream(raw, new ByteArrayInputStream(new byte[1])), new Inflater(true), 8192) {
+            private boolean closed;
+
+            @Override
+            public void close() throws IOException {
+                if (!closed) {
+                    closed = true;
+                    inf.end();
+                    super.close();
+                }
+            }
+        };
+    }
+
+    /**
+     * The compressed data of an entry - reads the archive at its own position
+     */
+    private class EntryInputStream extends InputStream {
+
+        private long position;
+        private final long end;
+
+        EntryInputStream(long offset, long length) {
+            this.position = offset;
+            this.end = offset + length;
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] one = new byte[1];
+            return (read(one, 0, 1) < 0) ? -1 : one[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (position >= end) return -1;
+            int toRead = (int) Math.min(len, end - position);
+            int read;
+            synchronized (RandomAccessZipFile.this) {
+                input.seek(position);
+                read = input.read(b, off, toRead);
+            }
+            if (read > 0) position += read;
+            return read;
+        }
+
+        @Override
+        public int available() {
+            return (int) Math.min(Integer.MAX_VALUE, end - position);
+        }
+    }
+
+    private void readFully(byte[] buffer, int offset, int length) throws IOException {
+        while (length > 0) {
+            int read = input.read(buffer, offset, length);
+            if (read < 0) throw new ZipException("Unexpected end of zip archive");
+            offset += read;
+            length -= read;
+        }
+    }
+
+    private static int getIntelWord(byte[] buffer, int offset) {
+        return (buffer[offset] & 0xFF) | ((buffer[offset + 1] & 0xFF) << 8);
+    }
+
+    private static int getIntelDWord(byte[] buffer, int offset) {
+        return (buffer[offset] & 0xFF) | ((buffer[offset + 1] & 0xFF) << 8) | ((buffer[offset + 2] & 0xFF) << 16) | ((buffer[offset + 3] & 0xFF) << 24);
+    }
+}
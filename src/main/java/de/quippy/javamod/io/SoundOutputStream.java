@@ -27,6 +27,8 @@ import javax.sound.sampled.AudioFormat;
 
 import de.quippy.javamod.io.wav.WaveFile;
 import de.quippy.javamod.mixer.dsp.AudioProcessor;
+import de.quippy.javamod.mixer.dsp.SampleConverter;
+import de.quippy.javamod.mixer.dsp.iir.filter.Dither;
 
 
 /**
@@ -56,6 +58,33 @@ public interface SoundOutputStream {
 
     void writeSampleData(byte[] samples, int start, int length);
 
+    /**
+     * Write float samples (1.0<=x<=-1.0, L/R or mono). These are
+     * quantized to the audio format only here - with the dither set.
+     * The default converts them without dither and writes the bytes,
+     * nothing is written without an audio format.
+     *
+     * @param samples
+     * @param start
+     * @param length amount of float samples
+     * @since 17.10.2026
+     */
+    default void writeSampleData(float[] samples, int start, int length) {
+        AudioFormat audioFormat = getAudioFormat();
+        if (audioFormat == null) return;
+        SampleConverter converter = new SampleConverter(audioFormat);
+        byte[] bytes = new byte[length * converter.getBytesPerChannel()];
+        int written = converter.toBytes(samples, start, start + length, length, bytes, 0, null);
+        writeSampleData(bytes, 0, written);
+    }
+
+    /**
+     * @param dither the dither used to quantize float samples, null for none
+     * @since 17.10.2026
+     */
+    default void setDither(Dither dither) {
+    }
+
     void setInternalFramePosition(long newPosition);
 
     long getFramePosition();
@@ -33,6 +33,8 @@ import javax.sound.sampled.SourceDataLine;
 
 import de.quippy.javamod.io.wav.WaveFile;
 import de.quippy.javamod.mixer.dsp.AudioProcessor;
+import de.quippy.javamod.mixer.dsp.SampleConverter;
+import de.quippy.javamod.mixer.dsp.iir.filter.Dither;
 import de.quippy.javamod.system.Helpers;
 
 import static java.lang.System.getLogger;
@@ -49,19 +51,23 @@ public class SoundOutputStreamImpl implements SoundOutputStream {
 
     private static final Logger logger = getLogger(SoundOutputStreamImpl.class.getName());
 
-    protected AudioProcessor audioProcessor;
+    protected volatile AudioProcessor audioProcessor;
     protected AudioFormat audioFormat;
     protected File exportFile;
 
     protected float currentVolume;
     protected float currentBalance;
 
-    protected SourceDataLine sourceLine;
+    protected volatile SourceDataLine sourceLine;
     protected WaveFile waveExportFile;
     protected boolean playDuringExport;
     protected boolean keepSilent;
     protected int sourceLineBufferSize;
 
+    protected Dither dither;
+    private SampleConverter sampleConverter;
+    private byte[] convertBuffer;
+
     public SoundOutputStreamImpl() {
         super();
     }
@@ -127,6 +133,7 @@ public class SoundOutputStreamImpl implements SoundOutputStream {
      */
     protected synchronized void openAudioProcessor() {
         if (audioProcessor != null) {
+            audioProcessor.setDither(dither);
             if (sourceLine != null) {
                 audioProcessor.initializeProcessor(sourceLine);
                 audioProcessor.setUseInternalCounter(keepSilent);
@@ -259,7 +266,11 @@ public class SoundOutputStreamImpl implements SoundOutputStream {
      */
     @Override
     public void flushLine() {
-        if (sourceLine != null) sourceLine.flush();
+        if (sourceLine != null) {
+            sourceLine.flush();
+            AudioProcessor processor = audioProcessor;
+            if (processor != null) processor.resetFramePosition();
+        }
     }
 
     /**
@@ -271,7 +282,11 @@ public class SoundOutputStreamImpl implements SoundOutputStream {
      */
     @Override
     public void drainLine() {
-        if (sourceLine != null) sourceLine.drain();
+        if (sourceLine != null) {
+            sourceLine.drain();
+            AudioProcessor processor = audioProcessor;
+            if (processor != null) processor.resetFramePosition();
+        }
     }
 
     @Override
@@ -308,15 +323,61 @@ public class SoundOutputStreamImpl implements SoundOutputStream {
             writeSampleDataInternally(samples, start, length);
     }
 
+    /**
+     * Float samples are converted into the audio format here - or by the
+     * audio processor after its effects, if there is one.
+     *
+     * @param samples
+     * @param start
+     * @param length
+     * @since 17.10.2026
+     */
+    @Override
+    public synchronized void writeSampleData(float[] samples, int start, int length) {
+        if (audioProcessor != null) {
+            int samplesToWrite = length;
+            int startFrom = start;
+            while (samplesToWrite > 0) {
+                int anzSamples = audioProcessor.writeSampleData(samples, startFrom, samplesToWrite);
+                writeSampleDataInternally(audioProcessor.getResultSampleBuffer(), 0, audioProcessor.getResultSampleBufferLength());
+                startFrom += anzSamples;
+                samplesToWrite -= anzSamples;
+            }
+        } else if (audioFormat != null) {
+            if (sampleConverter == null || sampleConverter.getAudioFormat() != audioFormat) sampleConverter = new SampleConverter(audioFormat);
+            int bytes = length * sampleConverter.getBytesPerChannel();
+            if (convertBuffer == null || convertBuffer.length < bytes) convertBuffer = new byte[bytes];
+            int written = sampleConverter.toBytes(samples, start, start + length, length, convertBuffer, 0, dither);
+            writeSampleDataInternally(convertBuffer, 0, written);
+        }
+    }
+
     @Override
-    public synchronized void setInternalFramePosition(long newFramePosition) {
-        if (audioProcessor != null) audioProcessor.setInternalFramePosition(newFramePosition);
+    public synchronized void setDither(Dither dither) {
+        this.dither = dither;
+        if (audioProcessor != null) audioProcessor.setDither(dither);
     }
 
+    /**
+     * Not synchronized: the writing thread holds the monitor while the
+     * line blocks - the GUI must not wait for that.
+     */
+    @Override
+    public void setInternalFramePosition(long newFramePosition) {
+        AudioProcessor processor = audioProcessor;
+        if (processor != null) processor.setInternalFramePosition(newFramePosition);
+    }
+
+    /**
+     * Not synchronized: the writing thread holds the monitor while the
+     * line blocks - the GUI must not wait for that.
+     */
     @Override
-    public synchronized long getFramePosition() {
-        if (audioProcessor != null) return audioProcessor.getFramePosition();
-        else if (sourceLine != null) return sourceLine.getLongFramePosition();
+    public long getFramePosition() {
+        AudioProcessor processor = audioProcessor;
+        SourceDataLine line = sourceLine;
+        if (processor != null) return processor.getFramePosition();
+        else if (line != null) return line.getLongFramePosition();
         else
             return -1;
     }
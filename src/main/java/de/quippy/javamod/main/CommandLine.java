@@ -23,18 +23,24 @@
 package de.quippy.javamod.main;
 
 import java.io.File;
+import java.io.IOException;
 import java.lang.System.Logger;
 import java.lang.System.Logger.Level;
 import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Properties;
 
 import de.quippy.javamod.main.gui.PlayThread;
 import de.quippy.javamod.main.gui.PlayThreadEventListener;
 import de.quippy.javamod.main.playlist.PlayList;
+import de.quippy.javamod.main.playlist.PlayListEntry;
 import de.quippy.javamod.mixer.Mixer;
 import de.quippy.javamod.multimedia.MultimediaContainer;
 import de.quippy.javamod.multimedia.MultimediaContainerManager;
 import de.quippy.javamod.multimedia.mod.ModContainer;
+import de.quippy.javamod.multimedia.render.BatchRenderer;
+import de.quippy.javamod.multimedia.render.RenderSettings;
 import de.quippy.javamod.system.Helpers;
 
 import static java.lang.System.getLogger;
@@ -52,6 +58,8 @@ import static java.lang.System.getLogger;
  * -b8/16: #Bits per sample
  * -rx: use Samplerate x (8000/11025/22050/44100/96000... anything allowed, your soundhardware supports
  * -eWAVEFILE: export to wave file
+ * -xDIR: render all files, directories and playlists given into wave files in DIR
+ * -cx: use x threads with -x
  */
 public class CommandLine extends JavaModMainBase implements PlayThreadEventListener {
 
@@ -65,6 +73,10 @@ public class CommandLine extends JavaModMainBase implements PlayThreadEventListe
     private MultimediaContainer currentContainer;
     private PlayThread playerThread = null;
     private PlayList currentPlayList = null;
+    private final List<String> inputNames = new ArrayList<>();
+    private File batchOutputDir;
+    private int batchThreads = Runtime.getRuntime().availableProcessors();
+    private RenderSettings renderSettings;
 
     /**
      * Constructor for CommandLine
@@ -78,7 +90,8 @@ public class CommandLine extends JavaModMainBase implements PlayThreadEventListe
      */
     private static void showHelp() {
         System.err.println("java -jar ./javamod [-rx] [-b{8,16,24,32}] [-s{+,-}] [-i{+,-}] [-w{+,-}] [-n{+,-}] [-m{+,-}] [-d{+,-}] [-l{+,-}] [-ax] [-h{+,-}]");
-        System.err.println("                    [-j{+,-}] [-v0.0-1.0] [-eWAVFILE] MODFILE\n");
+        System.err.println("                    [-j{+,-}] [-v0.0-1.0] [-eWAVFILE] MODFILE");
+        System.err.println("java -jar ./javamod [options as above] -xDIR [-cx] {MODFILE,DIRECTORY,PLAYLIST}...\n");
         System.err.println("-rx        : use Samplerate x (8000/11025/22050/44100/96000...");
         System.err.println("                               anything your soundhardware supports)");
         System.err.println("-b8/16/24  : #Bits per sample");
@@ -96,6 +109,8 @@ public class CommandLine extends JavaModMainBase implements PlayThreadEventListe
         System.err.println("-j+/-      : do/don't repeat playlist");
         System.err.println("-v0.0-1.0  : set volume");
         System.err.println("-eWAVEFILE : export to wave file");
+        System.err.println("-xDIR      : render all inputs into wave files in DIR - faster than real time");
+        System.err.println("-cx        : use x threads for -x (default: one per core)");
         System.err.println("Dithering  : no dithering settings in command line version");
     }
 
@@ -162,11 +177,18 @@ public class CommandLine extends JavaModMainBase implements PlayThreadEventListe
                     case 'v':
                         initialVolume = Float.parseFloat(op);
                         break;
+                    case 'x':
+                        batchOutputDir = new File(op);
+                        break;
+                    case 'c':
+                        batchThreads = Integer.parseInt(op);
+                        break;
                     default:
                         throw new RuntimeException("Unknown parameter: " + arg.charAt(1));
                 }
             } else {
                 String fileName = arg;
+                inputNames.add(fileName);
                 modFileName = Helpers.createURLfromString(fileName);
                 if (modFileName == null) {
                     logger.log(Level.ERROR, "This is not parsable: " + fileName);
@@ -175,7 +197,10 @@ public class CommandLine extends JavaModMainBase implements PlayThreadEventListe
             }
         }
 
-        MultimediaContainerManager.configureContainer(props);
+        if (batchOutputDir != null)
+            renderSettings = new RenderSettings(props); // no containers needed for that
+        else
+            MultimediaContainerManager.configureContainer(props);
     }
 
     /**
@@ -275,6 +300,52 @@ public class CommandLine extends JavaModMainBase implements PlayThreadEventListe
         }
     }
 
+    /**
+     * Render all inputs into wave files in parallel
+     *
+     * @return the amount of inputs failed
+     * @since 17.10.2026
+     */
+    private int doBatchRender() throws IOException, InterruptedException {
+        List<BatchRenderer.Job> jobs = new ArrayList<>();
+        for (String inputName : inputNames) {
+            if (PlayList.isPlaylistFile(inputName)) {
+                PlayList playList = PlayList.createFromFile(inputName, shuffle, false);
+                for (PlayListEntry entry : playList.getAllEntries()) {
+                    URL file = entry.getFile();
+                    jobs.add(new BatchRenderer.Job(file, new File(batchOutputDir, Helpers.getFileNameFromURL(file) + ".wav")));
+                }
+            } else
+                jobs.addAll(BatchRenderer.createJobs(new File(inputName), batchOutputDir));
+        }
+
+        // playlists and several inputs can bring along the same names
+        jobs = BatchRenderer.makeOutputsUnique(jobs);
+
+        BatchRenderer renderer = new BatchRenderer(renderSettings, batchThreads);
+        renderer.addBatchRenderListener(result -> {
+            if (result.isSuccessful())
+                System.out.println(String.format("%s: %s in %.1fs (%.1fx real time)", result.job().output(),
+                        Helpers.getTimeStringFromMilliseconds(result.renderedMillis()), result.elapsedNanos() / 1e9, result.getSpeed()));
+            else
+                logger.log(Level.ERROR, "Rendering of " + result.job().input() + " failed", result.error());
+        });
+
+        long start = System.nanoTime();
+        List<BatchRenderer.Result> results = renderer.render(jobs);
+        long elapsedNanos = System.nanoTime() - start;
+
+        long renderedMillis = 0;
+        int failed = 0;
+        for (BatchRenderer.Result result : results) {
+            renderedMillis += result.renderedMillis();
+            if (!result.isSuccessful()) failed++;
+        }
+        System.out.println(String.format("%d of %d rendered in %.1fs with %d threads (%.1fx real time)", results.size() - failed, results.size(),
+                elapsedNanos / 1e9, batchThreads, (elapsedNanos > 0) ? (renderedMillis * 1000000d) / elapsedNanos : 0d));
+        return failed;
+    }
+
     /**
      * @param args
      */
@@ -286,6 +357,10 @@ public class CommandLine extends JavaModMainBase implements PlayThreadEventListe
             } else {
                 CommandLine me = new CommandLine();
                 me.parseParameters(args);
+                if (me.batchOutputDir != null) {
+                    int failed = me.doBatchRender();
+                    System.exit((failed > 0) ? 1 : 0);
+                }
                 me.loadMultimediaOrPlayListFile(me.modFileName);
                 me.doStartPlaying();
                 while (!me.playerThread.getHasFinishedNormally()) {
@@ -44,7 +44,9 @@ import java.lang.System.Logger.Level;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 import javax.swing.JButton;
 import javax.swing.JDialog;
 import javax.swing.JMenuItem;
@@ -67,6 +69,7 @@ import de.quippy.javamod.main.gui.tools.PlaylistDropListener;
 import de.quippy.javamod.main.gui.tools.PlaylistDropListenerCallBack;
 import de.quippy.javamod.main.playlist.PlayList;
 import de.quippy.javamod.main.playlist.PlayListEntry;
+import de.quippy.javamod.main.playlist.PlayListScanner;
 import de.quippy.javamod.main.playlist.PlaylistChangedListener;
 import de.quippy.javamod.system.Helpers;
 import de.quippy.javamod.system.StringUtils;
@@ -121,6 +124,8 @@ public class PlayListGUI extends JPanel implements PlaylistChangedListener, Play
     private List<DropTarget> dropTargetList;
 
     private PlayListUpdateThread playlistUpdateThread;
+    /** entries scanned since the last update of the list - guarded by itself */
+    private final Set<PlayListEntry> scannedEntries = new LinkedHashSet<>();
 
     private String unmarkColorBackground;
     private String unmarkColorForeground;
@@ -383,6 +388,7 @@ public class PlayListGUI extends JPanel implements PlaylistChangedListener, Play
             scrollPane.setName("scrollPane_TextField");
             scrollPane.setViewportView(getPlaylistTextArea());
             scrollPane.setDoubleBuffered(true);
+            scrollPane.getViewport().addChangeListener(e -> prioritizeVisibleEntries());
         }
         return scrollPane;
     }
@@ -706,6 +712,7 @@ public class PlayListGUI extends JPanel implements PlaylistChangedListener, Play
                 for (PlayListEntry selectedEntry : selectedEntries) {
                     selectedEntry.setSongName(null);
                     selectedEntry.setDuration(null);
+                    PlayListScanner.getInstance().scan(selectedEntry, PlayListScanner.PRIORITY_VISIBLE);
                     updateLine(selectedEntry.getIndexInPlaylist());
                 }
             } finally {
@@ -1161,8 +1168,13 @@ public class PlayListGUI extends JPanel implements PlaylistChangedListener, Play
     public void setNewPlaylist(PlayList playList) {
         playlistUpdateThread.halt();
         try {
+            if (this.playList != null && this.playList != playList) {
+                this.playList.removePlaylistChangedListener(this);
+                PlayListScanner.getInstance().cancel(this.playList);
+            }
             this.playList = playList;
             this.playList.addPlaylistChangedListener(this);
+            PlayListScanner.getInstance().scan(playList);
             createList(0);
         } finally {
             playlistUpdateThread.restart();
@@ -1175,11 +1187,28 @@ public class PlayListGUI extends JPanel implements PlaylistChangedListener, Play
      */
     private void updateLine(int index) {
         PlayListEntry entry = playList.getEntry(index);
-        String text = getFormattedSongName(entry, false);
-        String duration = entry.getDurationString();
+        // entries without infos yet are shown with what is known - the scanner fills them in
+        if (!entry.hasSongInfos()) PlayListScanner.getInstance().scan(entry, PlayListScanner.PRIORITY_BACKGROUND);
+        String text = getFormattedSongName(entry, true);
+        String duration = entry.getQuickDuration();
         EventQueue.invokeLater(() -> setTextDecorationAndColorsFor(entry, text, duration));
     }
 
+    /**
+     * Let the scanner fetch the infos of the entries visible first
+     *
+     * @since 17.10.2026
+     */
+    private void prioritizeVisibleEntries() {
+        if (playList == null) return;
+        Rectangle visible = getPlaylistTextArea().getVisibleRect();
+        if (visible.isEmpty()) return;
+        int first = getSelectedIndexFromPoint(new Point(visible.x, visible.y), true);
+        int last = getSelectedIndexFromPoint(new Point(visible.x, visible.y + visible.height), true);
+        if (first < 0 || last < 0) return;
+        PlayListScanner.getInstance().prioritize(playList, first, last);
+    }
+
     /**
      * @param element
      * @return
@@ -1269,6 +1298,37 @@ public class PlayListGUI extends JPanel implements PlaylistChangedListener, Play
         });
     }
 
+    /**
+     * Entries scanned are collected and updated with one event - the
+     * scanner is faster than the gui
+     *
+     * @param entry
+     * @see de.quippy.javamod.main.playlist.PlaylistChangedListener#songInfosChanged(de.quippy.javamod.main.playlist.PlayListEntry)
+     * @since 17.10.2026
+     */
+    @Override
+    public void songInfosChanged(PlayListEntry entry) {
+        boolean isFirst;
+        synchronized (scannedEntries) {
+            isFirst = scannedEntries.isEmpty();
+            scannedEntries.add(entry);
+        }
+        if (isFirst) EventQueue.invokeLater(this::updateScannedEntries);
+    }
+
+    private void updateScannedEntries() {
+        PlayListEntry[] entries;
+        synchronized (scannedEntries) {
+            entries = scannedEntries.toArray(PlayListEntry[]::new);
+            scannedEntries.clear();
+        }
+        for (PlayListEntry entry : entries) {
+            // ignore entries of a playlist replaced meanwhile
+            if (playList == null || entry.getSavedInPlaylist() != playList) continue;
+            setTextDecorationAndColorsFor(entry, getFormattedSongName(entry, true), entry.getQuickDuration());
+        }
+    }
+
     /**
      * @return the Playlist in the gui
      * @since 08.11.2019
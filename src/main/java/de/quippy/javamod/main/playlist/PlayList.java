@@ -46,6 +46,7 @@ import de.quippy.javamod.main.playlist.cuesheet.CueIndex;
 import de.quippy.javamod.main.playlist.cuesheet.CueSheet;
 import de.quippy.javamod.main.playlist.cuesheet.CueTrack;
 import de.quippy.javamod.multimedia.MultimediaContainerManager;
+import de.quippy.javamod.multimedia.SongInfoIndex;
 import de.quippy.javamod.system.Helpers;
 
 import static java.lang.System.getLogger;
@@ -162,6 +163,16 @@ public class PlayList {
         }
     }
 
+    /**
+     * @param entry
+     * @since 17.10.2026
+     */
+    public synchronized void fireSongInfosChanged(PlayListEntry entry) {
+        for (PlaylistChangedListener listener : listeners) {
+            listener.songInfosChanged(entry);
+        }
+    }
+
     /**
      * @return the repeat
      * @since 22.11.2011
@@ -443,7 +454,12 @@ public class PlayList {
      * @since 08.03.2011
      */
     public synchronized int indexOf(PlayListEntry entry) {
-        return entries.indexOf(entry);
+        // most entries did not move since they were looked up the last time
+        int hint = entry.getIndexHint();
+        if (hint >= 0 && hint < entries.size() && entries.get(hint) == entry) return hint;
+        int index = entries.indexOf(entry);
+        entry.setIndexHint(index);
+        return index;
     }
 
     /**
@@ -821,7 +837,7 @@ public class PlayList {
         if (filesSize > 0) {
             List<PlayListEntry> entries = new ArrayList<>();
             for (CueFile cueFile : cueFiles) {
-                Map<String, Object> infos = MultimediaContainerManager.getSongInfosFor(cueFile.getFile());
+                Map<String, Object> infos = SongInfoIndex.getInstance().getSongInfosFor(cueFile.getFile());
                 long fullDuration = (infos.get("duration") != null) ? (Long) infos.get("duration") : -1;
 
                 List<CueTrack> cueTracks = cueFile.getTracks();
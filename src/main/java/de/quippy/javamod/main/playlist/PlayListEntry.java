@@ -28,6 +28,7 @@ import java.util.Map;
 import java.util.Objects;
 
 import de.quippy.javamod.multimedia.MultimediaContainerManager;
+import de.quippy.javamod.multimedia.SongInfoIndex;
 import de.quippy.javamod.system.Helpers;
 
 
@@ -46,6 +47,8 @@ public class PlayListEntry {
     /** nullable */
     private Long timeIndexInFile;
     private PlayList playList;
+    /** the index this entry was found at in its playList the last time */
+    private volatile int indexHint = -1;
 
     /**
      * Constructor for PlayListEntry
@@ -122,25 +125,51 @@ public class PlayListEntry {
         this.timeIndexInFile = timeIndex;
     }
 
-    public synchronized String getFormattedName() {
-        if (songName == null) {
-            Map<String, Object> infos = MultimediaContainerManager.getSongInfosFor(file);
-            songName = (String) infos.get("songName");
-            if (duration == null) duration = (Long) infos.get("duration");
+    /**
+     * Sets song name and duration from the song infos of a container,
+     * if they are not set already
+     *
+     * @param infos
+     * @since 17.10.2026
+     */
+    public synchronized void setSongInfos(Map<String, Object> infos) {
+        if (songName == null) songName = (String) infos.get("songName");
+        if (duration == null) duration = (Long) infos.getOrDefault("duration", 0L);
+    }
+
+    /**
+     * @return true, if song name and duration are known
+     * @since 17.10.2026
+     */
+    public synchronized boolean hasSongInfos() {
+        return songName != null && duration != null;
+    }
+
+    /**
+     * The song infos are fetched without holding the lock of this entry -
+     * painting an entry must not wait for loading it.
+     */
+    public String getFormattedName() {
+        synchronized (this) {
+            if (songName != null) return songName;
+        }
+        setSongInfos(SongInfoIndex.getInstance().getSongInfosFor(file));
+        synchronized (this) {
+            return songName;
         }
-        return songName;
     }
 
-    public synchronized long getDuration() {
-        if (duration == null) {
-            Map<String, Object> infos = MultimediaContainerManager.getSongInfosFor(file);
-            duration = (Long) infos.getOrDefault("duration", 0L);
-            if (songName == null) songName = (String) infos.get("songName");
+    public long getDuration() {
+        synchronized (this) {
+            if (duration != null) return duration;
+        }
+        setSongInfos(SongInfoIndex.getInstance().getSongInfosFor(file));
+        synchronized (this) {
+            return duration;
         }
-        return duration;
     }
 
-    public synchronized String getDurationString() {
+    public String getDurationString() {
         return Helpers.getTimeStringFromMilliseconds(getDuration());
     }
 
@@ -231,6 +260,22 @@ public class PlayListEntry {
         this.playList = playList;
     }
 
+    int getIndexHint() {
+        return indexHint;
+    }
+
+    void setIndexHint(int indexHint) {
+        this.indexHint = indexHint;
+    }
+
+    /**
+     * @return the playList this entry is in
+     * @since 17.10.2026
+     */
+    public PlayList getSavedInPlaylist() {
+        return playList;
+    }
+
     @Override
     public String toString() {
         return this.file.toString();
@@ -0,0 +1,287 @@
+/*
+ * @(#) PlayListScanner.java
+ *
+ * Created on 17.10.2026 by Daniel Becker
+ *
+ *-----------------------------------------------------------------------
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation; either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, write to the Free Software
+ *  Foundation, Inc., 675 Mass Ave, Cambridge, MA 02139, USA.
+ *----------------------------------------------------------------------
+ */
+
+package de.quippy.javamod.main.playlist;
+
+import java.lang.System.Logger;
+import java.lang.System.Logger.Level;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import de.quippy.javamod.multimedia.SongInfoIndex;
+
+import static java.lang.System.getLogger;
+
+
+/**
+ * Fetches song names and durations of playlist entries in the background
+ * with one thread per core, so a playlist is usable at once and is filled
+ * in progressively. Entries of the same URL are fetched once. The next
+ * entries to play come first, then the entries visible, then all others
+ * in the order of their playlist. The container singletons are asked in
+ * parallel, which is why their getSongInfosFor must not keep any state.
+ * <p>
+ * When the infos of an entry are set, its playlist fires
+ * {@link PlaylistChangedListener#songInfosChanged(PlayListEntry)} - in the
+ * thread of the scanner.
+ *
+ * @author Daniel Becker
+ * @since 17.10.2026
+ */
+public class PlayListScanner {
+
+    private static final Logger logger = getLogger(PlayListScanner.class.getName());
+
+    public static final int PRIORITY_NEXT = 0;
+    public static final int PRIORITY_VISIBLE = 1;
+    public static final int PRIORITY_BACKGROUND = 2;
+
+    /** amount of entries after the active one scanned first */
+    private static final int NEXT_ENTRIES = 3;
+
+    private static PlayListScanner instance;
+
+    /**
+     * All entries of one URL waiting for their infos
+     */
+    private static final class Job {
+
+        private final URL url;
+        private final List<PlayListEntry> entries;
+        private int priority;
+        private boolean running;
+
+        Job(URL url) {
+            this.url = url;
+            this.entries = new ArrayList<>(1);
+            this.priority = Integer.MAX_VALUE;
+        }
+    }
+
+    /**
+     * A job queued with a priority - raising the priority of a job queues
+     * it again, the outdated node is skipped then.
+     * Jobs of the same priority are fetched in the order they were queued,
+     * but the latest visible and next entries are the most urgent ones.
+     */
+    private record Node(Job job, int priority, long sequence) implements Comparable<Node> {
+
+        @Override
+        public int compareTo(Node other) {
+            if (priority != other.priority) return Integer.compare(priority, other.priority);
+            return (priority == PRIORITY_BACKGROUND) ? Long.compare(sequence, other.sequence) : Long.compare(other.sequence, sequence);
+        }
+    }
+
+    /** the pending and running jobs by URL */
+    private final Map<String, Job> jobs;
+    private final PriorityQueue<Node> queue;
+    private final ThreadPoolExecutor executor;
+    private final PlaylistChangedListener nextEntriesListener;
+    private long sequence;
+
+    /**
+     * Constructor for PlayListScanner
+     *
+     * @param threads amount of threads fetching song infos
+     */
+    public PlayListScanner(int threads) {
+        super();
+        if (threads < 1) throw new IllegalArgumentException("At least one thread needed: " + threads);
+        jobs = new HashMap<>();
+        queue = new PriorityQueue<>();
+        executor = new ThreadPoolExecutor(threads, threads, 5L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "PlayListScanner");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        });
+        executor.allowCoreThreadTimeOut(true); // an idle scanner should not keep its threads
+        nextEntriesListener = new PlaylistChangedListener() {
+            @Override
+            public void activeElementChanged(PlayListEntry oldActiveElement, PlayListEntry newActiveElement) {
+                if (newActiveElement != null) prioritizeNext(newActiveElement);
+            }
+
+            @Override
+            public void selectedElementChanged(PlayListEntry oldSelectedElement, PlayListEntry newSelectedElement) {
+                // NOOP
+            }
+        };
+    }
+
+    /**
+     * @return the scanner with one thread per core
+     */
+    public static synchronized PlayListScanner getInstance() {
+        if (instance == null) instance = new PlayListScanner(Runtime.getRuntime().availableProcessors());
+        return instance;
+    }
+
+    /**
+     * Scans all entries of a playlist without infos in the background and
+     * the next entries to play first, whenever the active entry changes.
+     *
+     * @param playList
+     */
+    public void scan(PlayList playList) {
+        playList.addPlaylistChangedListener(nextEntriesListener);
+        PlayListEntry[] entries = playList.getAllEntries();
+        synchronized (this) {
+            for (PlayListEntry entry : entries) schedule(entry, PRIORITY_BACKGROUND);
+        }
+        PlayListEntry current = playList.getCurrentEntry();
+        if (current != null) prioritizeNext(current);
+    }
+
+    /**
+     * Scans one entry, if it has no infos yet - or scans it earlier, if it
+     * is queued already with a lower priority
+     *
+     * @param entry
+     * @param priority one of the PRIORITY constants
+     */
+    public synchronized void scan(PlayListEntry entry, int priority) {
+        schedule(entry, priority);
+    }
+
+    /**
+     * Scans the entries in that range before all others - like the ones
+     * visible
+     *
+     * @param playList
+     * @param fromIndex first index
+     * @param toIndex last index, inclusive
+     */
+    public void prioritize(PlayList playList, int fromIndex, int toIndex) {
+        List<PlayListEntry> entries = new ArrayList<>();
+        for (int index = Math.max(0, fromIndex); index <= toIndex; index++) {
+            PlayListEntry entry = playList.getEntry(index);
+            if (entry == null) break;
+            entries.add(entry);
+        }
+        synchronized (this) {
+            // queue backwards - the latest queued of a priority comes first
+            for (int i = entries.size() - 1; i >= 0; i--) schedule(entries.get(i), PRIORITY_VISIBLE);
+        }
+    }
+
+    private void prioritizeNext(PlayListEntry current) {
+        PlayList playList = current.getSavedInPlaylist();
+        if (playList == null) return;
+        int index = playList.indexOf(current);
+        if (index < 0) return;
+        int size = playList.size();
+        List<PlayListEntry> entries = new ArrayList<>(NEXT_ENTRIES + 1);
+        for (int i = 0; i <= NEXT_ENTRIES && i < size; i++) {
+            PlayListEntry entry = playList.getEntry((index + i) % size);
+            if (entry != null) entries.add(entry);
+        }
+        // the playlist is never locked while holding the lock of the scanner
+        synchronized (this) {
+            for (int i = entries.size() - 1; i >= 0; i--) schedule(entries.get(i), PRIORITY_NEXT);
+        }
+    }
+
+    /**
+     * Removes the entries of that playlist not scanned yet
+     *
+     * @param playList
+     */
+    public void cancel(PlayList playList) {
+        playList.removePlaylistChangedListener(nextEntriesListener);
+        synchronized (this) {
+            Iterator<Job> iter = jobs.values().iterator();
+            while (iter.hasNext()) {
+                Job job = iter.next();
+                job.entries.removeIf(entry -> entry.getSavedInPlaylist() == playList);
+                if (job.entries.isEmpty() && !job.running) iter.remove();
+            }
+        }
+    }
+
+    /**
+     * @return the amount of URLs waiting or being scanned
+     */
+    public synchronized int getPendingCount() {
+        return jobs.size();
+    }
+
+    private void schedule(PlayListEntry entry, int priority) {
+        if (entry.hasSongInfos()) return;
+        String key = entry.getFile().toExternalForm();
+        Job job = jobs.get(key);
+        if (job == null) {
+            job = new Job(entry.getFile());
+            jobs.put(key, job);
+            // one task per job - it runs the most urgent job at that time
+            executor.execute(this::runNext);
+        }
+        if (!job.entries.contains(entry)) job.entries.add(entry);
+        if (!job.running && priority < job.priority) {
+            job.priority = priority;
+            queue.add(new Node(job, priority, sequence++));
+        }
+    }
+
+    private synchronized Job takeNext() {
+        Node node;
+        while ((node = queue.poll()) != null) {
+            Job job = node.job();
+            // skip outdated nodes and canceled jobs
+            if (job.running || node.priority() != job.priority || jobs.get(job.url.toExternalForm()) != job) continue;
+            job.running = true;
+            return job;
+        }
+        return null;
+    }
+
+    private void runNext() {
+        Job job = takeNext();
+        if (job == null) return;
+        Map<String, Object> infos = null;
+        try {
+            infos = SongInfoIndex.getInstance().getSongInfosFor(job.url);
+        } catch (Throwable ex) {
+            logger.log(Level.DEBUG, "Cannot scan " + job.url, ex);
+        }
+        PlayListEntry[] entries;
+        synchronized (this) {
+            jobs.remove(job.url.toExternalForm());
+            entries = job.entries.toArray(PlayListEntry[]::new);
+        }
+        if (infos == null) return;
+        for (PlayListEntry entry : entries) {
+            entry.setSongInfos(infos);
+            PlayList playList = entry.getSavedInPlaylist();
+            if (playList != null) playList.fireSongInfosChanged(entry);
+        }
+    }
+}
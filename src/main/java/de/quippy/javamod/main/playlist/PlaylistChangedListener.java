@@ -31,4 +31,14 @@ public interface PlaylistChangedListener {
     void activeElementChanged(PlayListEntry oldActiveElement, PlayListEntry newActiveElement);
 
     void selectedElementChanged(PlayListEntry oldSelectedElement, PlayListEntry newSelectedElement);
+
+    /**
+     * Song name and duration of an entry are known now - this is called
+     * by the threads of the {@link PlayListScanner}. Does nothing by default.
+     *
+     * @param entry
+     * @since 17.10.2026
+     */
+    default void songInfosChanged(PlayListEntry entry) {
+    }
 }
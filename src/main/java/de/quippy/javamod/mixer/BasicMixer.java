@@ -22,6 +22,8 @@
 
 package de.quippy.javamod.mixer;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.lang.System.Logger;
 import java.lang.System.Logger.Level;
 
@@ -49,6 +51,74 @@ public abstract class BasicMixer extends Mixer {
     private long seekPosition;
     private long stopPosition;
 
+    // pull rendering via the output engine
+    private OutputEngine renderEngine;
+    private RenderTarget renderTarget;
+
+    /**
+     * Receives what the output engine writes: directly into the array of
+     * the current render call - only what does not fit in there is kept
+     * for the next call.
+     *
+     * @since 17.10.2026
+     */
+    private static final class RenderTarget extends OutputStream {
+
+        private byte[] target;
+        private int targetOffset;
+        private int targetLength;
+        private int written;
+        private byte[] pending = new byte[0];
+        private int pendingStart;
+        private int pendingEnd;
+        private boolean closed;
+        private final byte[] single = new byte[1];
+
+        void setTarget(byte[] newTarget, int offset, int length) {
+            target = newTarget;
+            targetOffset = offset;
+            targetLength = length;
+            written = Math.min(pendingEnd - pendingStart, length);
+            if (written > 0) {
+                System.arraycopy(pending, pendingStart, target, targetOffset, written);
+                pendingStart += written;
+            }
+        }
+
+        @Override
+        public void write(int b) {
+            single[0] = (byte) b;
+            write(single, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            int direct = Math.min(len, targetLength - written);
+            if (direct > 0) {
+                System.arraycopy(b, off, target, targetOffset + written, direct);
+                written += direct;
+            }
+            int rest = len - direct;
+            if (rest > 0) {
+                if (pendingStart == pendingEnd) pendingStart = pendingEnd = 0;
+                if (pendingEnd + rest > pending.length) {
+                    byte[] newPending = new byte[pendingEnd - pendingStart + rest];
+                    System.arraycopy(pending, pendingStart, newPending, 0, pendingEnd - pendingStart);
+                    pendingEnd -= pendingStart;
+                    pendingStart = 0;
+                    pending = newPending;
+                }
+                System.arraycopy(b, off + direct, pending, pendingEnd, rest);
+                pendingEnd += rest;
+            }
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+
     /**
      * Constructor for BasicMixer
      */
@@ -287,4 +357,68 @@ public abstract class BasicMixer extends Mixer {
     public OutputEngine getOutputEngine() {
         throw new UnsupportedOperationException();
     }
+
+    /**
+     * Prepare pulling the PCM data with render - instead of the mixer
+     * pushing it to an output stream in its own thread.
+     * <p>
+     * This default implementation is a compatibility shim only: it drives
+     * the output engine of the mixer and copies what the engine writes
+     * into the render buffer, keeping what does not fit for the next
+     * call. Mixers without an output engine cannot be rendered. The mixers
+     * of this project (mod, OPL and SID) override openRendering, render and
+     * closeRendering and mix directly into the buffer - new mixers should
+     * do the same.
+     *
+     * @throws IOException if the mixer does not support rendering
+     * @since 17.10.2026
+     */
+    public void openRendering() throws IOException {
+        OutputEngine engine;
+        try {
+            engine = getOutputEngine();
+        } catch (UnsupportedOperationException ex) {
+            throw new IOException("Rendering is not supported by " + getClass().getSimpleName(), ex);
+        }
+        renderTarget = new RenderTarget();
+        renderEngine = engine;
+        renderEngine.initialize(renderTarget);
+    }
+
+    /**
+     * Render PCM data (in the audio format of the mixer) directly into the
+     * buffer given. The length should be a multiple of the frame size.
+     * See {@link #openRendering()} for what this default implementation does.
+     *
+     * @param buffer
+     * @param offset
+     * @param length maximum amount of bytes
+     * @return the amount of bytes rendered or -1 if the piece is finished
+     * @throws IOException
+     * @since 17.10.2026
+     */
+    public int render(byte[] buffer, int offset, int length) throws IOException {
+        if (renderEngine == null) throw new IOException("Rendering not opened");
+        if (length == 0) return 0;
+        renderTarget.setTarget(buffer, offset, length);
+        while (renderTarget.written == 0 && !renderTarget.closed) renderEngine.execute();
+        int written = renderTarget.written;
+        renderTarget.setTarget(null, 0, 0);
+        return (written == 0) ? -1 : written;
+    }
+
+    /**
+     * Finish pulling the PCM data
+     *
+     * @throws IOException
+     * @since 17.10.2026
+     */
+    public void closeRendering() throws IOException {
+        if (renderEngine != null) {
+            OutputEngine engine = renderEngine;
+            renderEngine = null;
+            renderTarget = null;
+            engine.finish();
+        }
+    }
 }
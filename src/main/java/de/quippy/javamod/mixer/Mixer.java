@@ -29,6 +29,7 @@ import javax.sound.sampled.AudioFormat;
 import de.quippy.javamod.io.SoundOutputStream;
 import de.quippy.javamod.io.SoundOutputStreamImpl;
 import de.quippy.javamod.mixer.dsp.AudioProcessor;
+import de.quippy.javamod.mixer.dsp.iir.filter.Dither;
 import de.quippy.javamod.multimedia.sid.SIDMixer;
 import vavi.io.OutputEngine;
 
@@ -42,6 +43,7 @@ public abstract class Mixer {
     private SoundOutputStream outputStream;
     private AudioProcessor audioProcessor;
     private AudioFormat audioFormat;
+    private Dither outputDither;
     private boolean keepSilent;
     private int sourceLineBufferSize;
 
@@ -74,9 +76,9 @@ public abstract class Mixer {
     }
 
     /**
-     * @return AudioFormat
+     * @return AudioFormat - of mixers not prepared to play yet, this can be null
      */
-    protected AudioFormat getAudioFormat() {
+    public AudioFormat getAudioFormat() {
         return audioFormat;
     }
 
@@ -170,6 +172,31 @@ public abstract class Mixer {
         if (outputStream != null) outputStream.writeSampleData(samples, start, length);
     }
 
+    /**
+     * Write float samples (1.0<=x<=-1.0). They are quantized to the
+     * audio format by the output stream, with the output dither.
+     *
+     * @param samples
+     * @param start
+     * @param length amount of float samples
+     * @since 17.10.2026
+     */
+    protected void writeSampleDataToLine(float[] samples, int start, int length) {
+        if (outputStream != null) outputStream.writeSampleData(samples, start, length);
+    }
+
+    /**
+     * Set the dither the output stream uses to quantize float samples
+     * written with writeSampleDataToLine
+     *
+     * @param newOutputDither the dither or null for none
+     * @since 17.10.2026
+     */
+    protected void setOutputDither(Dither newOutputDither) {
+        outputDither = newOutputDither;
+        if (outputStream != null) outputStream.setDither(outputDither);
+    }
+
     /**
      * @param newPosition
      * @since 27.11.2010
@@ -192,6 +219,7 @@ public abstract class Mixer {
             outputStream.setPlayDuringExport(playDuringExport);
             outputStream.setKeepSilent(keepSilent);
         }
+        outputStream.setDither(outputDither);
         outputStream.setVolume(currentVolume);
         outputStream.setBalance(currentBalance);
         outputStream.open();
@@ -0,0 +1,93 @@
+/*
+ * @(#) MixerAudioInputStream.java
+ *
+ * Created on 17.10.2026 by Daniel Becker
+ *
+ *-----------------------------------------------------------------------
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation; either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, write to the Free Software
+ *  Foundation, Inc., 675 Mass Ave, Cambridge, MA 02139, USA.
+ *----------------------------------------------------------------------
+ */
+
+package de.quippy.javamod.mixer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+
+
+/**
+ * An AudioInputStream pulling the PCM data from a mixer: every read
+ * renders into the array of the caller - no playback thread, no output
+ * engine buffers in between.
+ * The mixer is prepared with the first read and released when the piece
+ * is finished or the stream is closed.
+ *
+ * @author Daniel Becker
+ * @since 17.10.2026
+ */
+public class MixerAudioInputStream extends AudioInputStream {
+
+    /**
+     * The stream behind the AudioInputStream
+     */
+    private static final class RenderInputStream extends InputStream {
+
+        private final BasicMixer mixer;
+        private boolean opened;
+        private boolean finished;
+
+        RenderInputStream(BasicMixer mixer) {
+            super();
+            this.mixer = mixer;
+        }
+
+        @Override
+        public int read() throws IOException {
+            throw new IOException("cannot read a single byte from a mixer");
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (finished) return -1;
+            if (!opened) {
+                mixer.openRendering();
+                opened = true;
+            }
+            int read = mixer.render(b, off, len);
+            if (read < 0) close();
+            return read;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!finished) {
+                finished = true;
+                if (opened) mixer.closeRendering();
+            }
+        }
+    }
+
+    /**
+     * Constructor for MixerAudioInputStream
+     *
+     * @param mixer the mixer to pull from - it is set up by the first read
+     * @param format the audio format the mixer renders
+     * @param length the length in sample frames
+     */
+    public MixerAudioInputStream(BasicMixer mixer, AudioFormat format, long length) {
+        super(new RenderInputStream(mixer), format, length);
+    }
+}
@@ -32,12 +32,13 @@
 
 package de.quippy.javamod.mixer.dsp;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import javax.sound.sampled.AudioFormat;
-import javax.sound.sampled.AudioFormat.Encoding;
 import javax.sound.sampled.SourceDataLine;
 
+import de.quippy.javamod.mixer.dsp.iir.filter.Dither;
+
 
 /**
  * @author Daniel Becker
@@ -45,8 +46,6 @@ import javax.sound.sampled.SourceDataLine;
  */
 public class AudioProcessor {
 
-    private final Object lock = new Object();
-
     private final int desiredBufferSize;
     private final long waitForNanos;
     private final List<DspProcessorCallBack> callBacks;
@@ -56,29 +55,34 @@ public class AudioProcessor {
     private SourceDataLine sourceDataLine;
     private volatile long internalFramePosition;
     private volatile boolean useInternalCounter;
-    private int sampleBufferSize;
-    private float[] sampleBuffer;
+    private volatile FloatRingBuffer sampleRing;
+    private volatile FrameBase frameBase;
     private byte[] resultSampleBuffer;
-    private int currentWritePosition;
+    private int resultSampleBufferLength;
     private ProcessorTask processorThread;
 
     private AudioFormat audioFormat;
-    private boolean isBigEndian;
-    private boolean isSigned;
-    private int bytesPerChannel;
-    private long mask;
-    private long neg_Bit;
-    private long neg_mask;
-    private long minSample;
-    private long maxSample;
+    private SampleConverter sampleConverter;
+    private volatile Dither dither;
 
     private boolean dspEnabled;
 
+    /**
+     * The sequence in the sample ring of a frame position. Frame positions
+     * and sequences only run in parallel till a seek, the line might also
+     * be flushed - so this is set anew then.
+     *
+     * @since 17.10.2026
+     */
+    private record FrameBase(long framePosition, long sequence) {
+    }
+
     private final class ProcessorTask extends Thread {
 
         private final AudioProcessor me;
         private final float[] leftBuffer;
         private final float[] rightBuffer;
+        private final float[] readBuffer;
         private final long nanoWait;
         private volatile boolean process;
         private volatile boolean process_alive;
@@ -87,6 +91,7 @@ public class AudioProcessor {
             this.me = parent;
             this.leftBuffer = new float[me.desiredBufferSize];
             this.rightBuffer = new float[me.desiredBufferSize];
+            this.readBuffer = new float[me.desiredBufferSize << 1];
             this.process = true;
             this.nanoWait = parent.waitForNanos;
             this.setDaemon(true);
@@ -117,22 +122,26 @@ public class AudioProcessor {
             while (process) {
                 long now = System.nanoTime();
 
-                synchronized (lock) {
-                    int channels = me.audioFormat.getChannels();
-                    int currentReadPosition = (int) ((me.getFramePosition() * channels) % me.sampleBufferSize);
-                    for (int i = 0; i < me.desiredBufferSize; i++) {
-                        if (currentReadPosition >= me.sampleBufferSize) currentReadPosition = 0;
+                // no locking here - if the writer overtook us, take the latest samples
+                FloatRingBuffer ring = me.sampleRing;
+                int channels = me.audioFormat.getChannels();
+                int length = me.desiredBufferSize * channels;
+                long sequence = me.toSequence(me.getFramePosition(), channels);
+                if (ring != null && !ring.read(sequence, readBuffer, 0, length))
+                    sequence = ring.readLatest(readBuffer, 0, length);
+
+                if (ring != null && sequence >= 0) {
+                    for (int i = 0, rx = 0; i < me.desiredBufferSize; i++) {
                         if (channels == 2) {
-                            leftBuffer[i] = me.sampleBuffer[currentReadPosition++];
-                            rightBuffer[i] = me.sampleBuffer[currentReadPosition++];
+                            leftBuffer[i] = readBuffer[rx++];
+                            rightBuffer[i] = readBuffer[rx++];
                         } else {
-                            leftBuffer[i] = rightBuffer[i] = me.sampleBuffer[currentReadPosition++];
+                            leftBuffer[i] = rightBuffer[i] = readBuffer[rx++];
                         }
                     }
+                    me.fireCurrentSampleChanged(leftBuffer, rightBuffer);
                 }
 
-                me.fireCurrentSampleChanged(leftBuffer, rightBuffer);
-
                 long stillToWait = nanoWait - (System.nanoTime() - now);
                 if (stillToWait > 0) {
                     try {
@@ -158,8 +167,9 @@ public class AudioProcessor {
         super();
         this.desiredBufferSize = desiredBufferSize;
         this.waitForNanos = 1000000000L / (long) desiredFPS;
-        this.callBacks = new ArrayList<>();
-        this.effectCallBacks = new ArrayList<>();
+        // the lists are iterated by the writing and the processor thread - which must not wait for each other
+        this.callBacks = new CopyOnWriteArrayList<>();
+        this.effectCallBacks = new CopyOnWriteArrayList<>();
         dspEnabled = true;
     }
 
@@ -174,7 +184,7 @@ public class AudioProcessor {
      * @param callBack
      * @since 29.09.2007
      */
-    public synchronized void addListener(DspProcessorCallBack callBack) {
+    public void addListener(DspProcessorCallBack callBack) {
         if (!callBacks.contains(callBack)) callBacks.add(callBack);
     }
 
@@ -182,7 +192,7 @@ public class AudioProcessor {
      * @param callBack
      * @since 29.09.2007
      */
-    public synchronized void removeListener(DspProcessorCallBack callBack) {
+    public void removeListener(DspProcessorCallBack callBack) {
         callBacks.remove(callBack);
     }
 
@@ -191,8 +201,7 @@ public class AudioProcessor {
      * @param rightBuffer
      * @since 06.01.2012
      */
-    private synchronized void fireCurrentSampleChanged(float[] leftBuffer, float[] rightBuffer) {
-        int size = callBacks.size();
+    private void fireCurrentSampleChanged(float[] leftBuffer, float[] rightBuffer) {
         for (DspProcessorCallBack callBack : callBacks) {
             callBack.currentSampleChanged(leftBuffer, rightBuffer);
         }
@@ -202,7 +211,7 @@ public class AudioProcessor {
      * @param effectCallBack
      * @since 15.01.2012
      */
-    public synchronized void addEffectListener(DSPEffect effectCallBack) {
+    public void addEffectListener(DSPEffect effectCallBack) {
         if (!effectCallBacks.contains(effectCallBack)) effectCallBacks.add(effectCallBack);
     }
 
@@ -210,19 +219,17 @@ public class AudioProcessor {
      * @param effectCallBack
      * @since 15.01.2012
      */
-    public synchronized void removeEffectListener(DSPEffect effectCallBack) {
+    public void removeEffectListener(DSPEffect effectCallBack) {
         effectCallBacks.remove(effectCallBack);
     }
 
-    private synchronized void initializeEffects(AudioFormat audioFormat, int sampleBufferLength) {
-        int size = effectCallBacks.size();
+    private void initializeEffects(AudioFormat audioFormat, int sampleBufferLength) {
         for (DSPEffect effectCallBack : effectCallBacks) {
             effectCallBack.initialize(audioFormat, sampleBufferLength);
         }
     }
 
-    private synchronized int callEffects(float[] buffer, int start, int length) {
-        int size = effectCallBacks.size();
+    private int callEffects(float[] buffer, int start, int length) {
         int anzSamples = length;
         for (DSPEffect effectCallBack : effectCallBacks) {
             anzSamples = effectCallBack.doEffect(buffer, start, anzSamples);
@@ -235,6 +242,8 @@ public class AudioProcessor {
      */
     public void setUseInternalCounter(boolean useInternalCounter) {
         this.useInternalCounter = useInternalCounter;
+        // the frame position now comes from a different counter
+        resetFramePosition();
     }
 
     /**
@@ -242,7 +251,36 @@ public class AudioProcessor {
      *                              This is the amount of samples written
      */
     public void setInternalFramePosition(long internalFramePosition) {
+        long oldFramePosition = this.internalFramePosition;
         this.internalFramePosition = internalFramePosition;
+        // a position outside the frames written so far is a seek
+        FloatRingBuffer ring = sampleRing;
+        AudioFormat format = audioFormat;
+        if (ring != null && format != null && (useInternalCounter || sourceDataLine == null) &&
+                (internalFramePosition < oldFramePosition || toSequence(internalFramePosition, format.getChannels()) > ring.getWriteSequence()))
+            frameBase = new FrameBase(internalFramePosition, ring.getWriteSequence());
+    }
+
+    /**
+     * The next sample written will be played at the current frame
+     * position - to be called after the line was flushed or drained.
+     *
+     * @since 17.10.2026
+     */
+    public void resetFramePosition() {
+        FloatRingBuffer ring = sampleRing;
+        if (ring != null) frameBase = new FrameBase(getFramePosition(), ring.getWriteSequence());
+    }
+
+    /**
+     * @param framePosition
+     * @param channels
+     * @return the sequence in the sample ring of the first sample of that frame
+     * @since 17.10.2026
+     */
+    private long toSequence(long framePosition, int channels) {
+        FrameBase base = frameBase;
+        return (base == null) ? framePosition * channels : base.sequence() + (framePosition - base.framePosition()) * channels;
     }
 
     /**
@@ -269,23 +307,15 @@ public class AudioProcessor {
      */
     public void initializeProcessor(AudioFormat audioFormat) {
         this.audioFormat = audioFormat;
+        sampleConverter = new SampleConverter(audioFormat);
 
-        isBigEndian = audioFormat.isBigEndian();
-        isSigned = audioFormat.getEncoding().equals(Encoding.PCM_SIGNED);
-        int sampleSizeInBits = audioFormat.getSampleSizeInBits();
-        bytesPerChannel = sampleSizeInBits >> 3;
-        mask = (1L << sampleSizeInBits) - 1;
-        neg_Bit = 1L << (sampleSizeInBits - 1);
-        maxSample = neg_Bit - 1;
-        minSample = -neg_Bit;
-        neg_mask = 0xffff_ffff ^ mask;
-
-        sampleBufferSize = (sourceDataLine == null) ? SAMPLEBUFFERSIZE : sourceDataLine.getBufferSize();
-        sampleBuffer = new float[sampleBufferSize];
-        resultSampleBuffer = new byte[sampleBufferSize * bytesPerChannel];
-        currentWritePosition = 0;
+        int sampleBufferSize = (sourceDataLine == null) ? SAMPLEBUFFERSIZE : sourceDataLine.getBufferSize();
+        sampleRing = new FloatRingBuffer(sampleBufferSize);
+        resultSampleBuffer = new byte[sampleBufferSize * sampleConverter.getBytesPerChannel()];
+        resultSampleBufferLength = 0;
         internalFramePosition = 0;
         useInternalCounter = false;
+        frameBase = new FrameBase(getFramePosition(), 0);
 
         initializeEffects(audioFormat, sampleBufferSize);
 
@@ -300,7 +330,7 @@ public class AudioProcessor {
         if (processorThread != null) {
             processorThread.stopProcessorTask();
             processorThread = null;
-            sampleBuffer = null;
+            sampleRing = null;
         }
     }
 
@@ -326,62 +356,44 @@ public class AudioProcessor {
     }
 
     /**
-     * @param anzSamples
-     * @return
-     * @since 27.12.2011
+     * @return the amount of valid bytes in the resultSampleBuffer after
+     * the last call of writeSampleData
+     * @since 17.10.2026
      */
-    private int writeIntoFloatArrayBuffer(int anzSamples) {
-        int ox = 0;
-        int wx = currentWritePosition;
-        while (ox < anzSamples) {
-            long sample = 0;
-            if (isBigEndian) {
-                for (int b = bytesPerChannel - 1, s = 0; b >= 0; b--, s += 8)
-                    sample |= ((long) (resultSampleBuffer[ox + b] & 0xff)) << s;
-            } else {
-                for (int b = 0, s = 0; b < bytesPerChannel; b++, s += 8)
-                    sample |= ((long) (resultSampleBuffer[ox + b] & 0xff)) << s;
-            }
-            if (isSigned) {
-                if ((sample & neg_Bit) != 0) sample |= neg_mask;
-            } else {
-                sample = (sample & mask) - neg_Bit;
-            }
-            sampleBuffer[(wx++) % sampleBufferSize] = (float) sample / (float) neg_Bit;
-            ox += bytesPerChannel;
-        }
-        return wx - currentWritePosition;
+    public int getResultSampleBufferLength() {
+        return resultSampleBufferLength;
     }
 
     /**
+     * Set the dither used when float sample data is quantized to the
+     * audio format. Byte sample data is already quantized and is never
+     * dithered again.
+     *
+     * @param dither the dither or null for simple truncation
+     * @since 17.10.2026
+     */
+    public void setDither(Dither dither) {
+        this.dither = dither;
+    }
+
+    /**
+     * The DSP effects might return more samples than they got - claim
+     * some more then to keep readers away from them.
+     *
+     * @param ring
      * @param anzSamples
-     * @return
-     * @since 27.12.2011
+     * @return the amount of samples to claim
+     * @since 17.10.2026
      */
-    private int readFromFloatArrayBuffer(int anzSamples) {
-        int rx = currentWritePosition;
-        int ox = 0;
-        for (int i = 0; i < anzSamples; i++, ox += bytesPerChannel) {
-            long sample = (long) ((sampleBuffer[(rx++) % sampleBufferSize] * (float) neg_Bit));
-
-            if (sample > maxSample) sample = maxSample;
-            else if (sample < minSample) sample = minSample;
-
-            if (!isSigned) sample += neg_Bit;
-            if (isBigEndian) {
-                for (int b = bytesPerChannel - 1, s = 0; b >= 0; b--, s += 8)
-                    resultSampleBuffer[ox + b] = (byte) ((sample >> s) & 0xff);
-            } else {
-                for (int b = 0, s = 0; b < bytesPerChannel; b++, s += 8)
-                    resultSampleBuffer[ox + b] = (byte) ((sample >> s) & 0xff);
-            }
-        }
-        return ox;
+    private int getClaimSize(FloatRingBuffer ring, int anzSamples) {
+        int claim = (dspEnabled) ? anzSamples << 1 : anzSamples;
+        return (claim > ring.getCapacity()) ? ring.getCapacity() : claim;
     }
 
     /**
      * This method will write the sample data to the dsp buffer
      * It will convert all sampledata to a stereo or mono float of 1.0<=x<=-1.0
+     * Only one thread may write - readers of the dsp buffer are never locked.
      *
      * @param newSampleData
      * @param offset
@@ -389,21 +401,73 @@ public class AudioProcessor {
      * @since 23.12.2011
      */
     public int writeSampleData(byte[] newSampleData, int offset, int length) {
-        synchronized (lock) {
-            int chunkSize = (length > resultSampleBuffer.length) ? resultSampleBuffer.length : length;
-            System.arraycopy(newSampleData, offset, resultSampleBuffer, 0, chunkSize);
-            int anzSamples = writeIntoFloatArrayBuffer(chunkSize);
-            if (dspEnabled) {
-                // call the callbacks for digital signal processing
-                // ...
-                anzSamples = callEffects(sampleBuffer, currentWritePosition, anzSamples);
-                // and recalc from the float array...
-                /*int written = */
-                readFromFloatArrayBuffer(anzSamples);
-            }
-            currentWritePosition = (currentWritePosition + anzSamples) % sampleBufferSize;
-            return chunkSize;
+        FloatRingBuffer ring = sampleRing;
+        int chunkSize = (length > resultSampleBuffer.length) ? resultSampleBuffer.length : length;
+        System.arraycopy(newSampleData, offset, resultSampleBuffer, 0, chunkSize);
+        resultSampleBufferLength = chunkSize;
+        int writePosition = ring.claim(getClaimSize(ring, chunkSize / sampleConverter.getBytesPerChannel()));
+        int anzSamples = sampleConverter.toFloat(resultSampleBuffer, 0, chunkSize, ring.getBuffer(), writePosition, ring.getCapacity());
+        if (dspEnabled) {
+            // call the callbacks for digital signal processing
+            // ...
+            anzSamples = callEffects(ring.getBuffer(), writePosition, anzSamples);
+            // and recalc from the float array...
+            sampleConverter.toBytes(ring.getBuffer(), writePosition, ring.getCapacity(), anzSamples, resultSampleBuffer, 0, null);
         }
+        ring.publish(anzSamples);
+        return chunkSize;
+    }
+
+    /**
+     * This method will write float sample data (1.0<=x<=-1.0, L/R or mono)
+     * to the dsp buffer. After the effects are applied the samples are
+     * converted into the audio format - exactly once, with the dither if
+     * one was set. The result is in the resultSampleBuffer, its length is
+     * returned by getResultSampleBufferLength.
+     * Only one thread may write - readers of the dsp buffer are never locked.
+     *
+     * @param newSampleData
+     * @param offset
+     * @param length amount of float samples
+     * @return the amount of float samples consumed
+     * @since 17.10.2026
+     */
+    public int writeSampleData(float[] newSampleData, int offset, int length) {
+        FloatRingBuffer ring = sampleRing;
+        float[] sampleBuffer = ring.getBuffer();
+        int sampleBufferSize = ring.getCapacity();
+        int anzSamples = (length > sampleBufferSize) ? sampleBufferSize : length;
+        int writePosition = ring.claim(getClaimSize(ring, anzSamples));
+        int firstPart = sampleBufferSize - writePosition;
+        if (firstPart >= anzSamples) {
+            System.arraycopy(newSampleData, offset, sampleBuffer, writePosition, anzSamples);
+        } else {
+            System.arraycopy(newSampleData, offset, sampleBuffer, writePosition, firstPart);
+            System.arraycopy(newSampleData, offset + firstPart, sampleBuffer, 0, anzSamples - firstPart);
+        }
+        int consumed = anzSamples;
+        // call the callbacks for digital signal processing
+        if (dspEnabled) anzSamples = callEffects(sampleBuffer, writePosition, anzSamples);
+        resultSampleBufferLength = sampleConverter.toBytes(sampleBuffer, writePosition, sampleBufferSize, anzSamples, resultSampleBuffer, 0, dither);
+        ring.publish(anzSamples);
+        return consumed;
+    }
+
+    /**
+     * Copy the processed float samples starting at a frame position - for
+     * visualizers, meters or exporters. This never blocks the writer.
+     *
+     * @param framePosition the first frame to copy
+     * @param target
+     * @param offset
+     * @param length amount of float samples (frames * channels)
+     * @return false, if these samples are not available (anymore)
+     * @since 17.10.2026
+     */
+    public boolean readSampleData(long framePosition, float[] target, int offset, int length) {
+        FloatRingBuffer ring = sampleRing;
+        AudioFormat format = audioFormat;
+        return ring != null && format != null && ring.read(toSequence(framePosition, format.getChannels()), target, offset, length);
     }
 
     /**
@@ -0,0 +1,183 @@
+/*
+ * @(#) FloatRingBuffer.java
+ *
+ * Created on 17.10.2026 by Daniel Becker
+ *
+ *-----------------------------------------------------------------------
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation; either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, write to the Free Software
+ *  Foundation, Inc., 675 Mass Ave, Cambridge, MA 02139, USA.
+ *----------------------------------------------------------------------
+ */
+
+package de.quippy.javamod.mixer.dsp;
+
+import java.lang.invoke.VarHandle;
+
+
+/**
+ * A ring buffer of float samples with one writer and any amount of
+ * readers - without any locks.
+ * <p>
+ * Samples are addressed by their sequence, which is the amount of samples
+ * written before them. The writer first claims the range it is going to
+ * overwrite, writes the samples (and may process them in place) and then
+ * publishes them. Readers copy the samples of a sequence range and
+ * afterwards check, that the writer did not claim that range in the
+ * meantime - a reader never blocks the writer, it simply gets no data
+ * if it was too slow.
+ * <p>
+ * The buffer array is exposed with its index calculation, because the
+ * DSP effects work in place on the ring.
+ *
+ * @author Daniel Becker
+ * @since 17.10.2026
+ */
+public final class FloatRingBuffer {
+
+    private final float[] buffer;
+    private final int capacity;
+
+    /** all samples below this sequence were written (and processed) */
+    private volatile long writeSequence;
+    /** the writer is currently overwriting samples below this sequence */
+    private volatile long claimSequence;
+
+    /**
+     * Constructor for FloatRingBuffer
+     *
+     * @param capacity amount of float samples in the ring
+     */
+    public FloatRingBuffer(int capacity) {
+        super();
+        if (capacity <= 0) throw new IllegalArgumentException("Capacity must be greater than 0: " + capacity);
+        this.capacity = capacity;
+        this.buffer = new float[capacity];
+    }
+
+    /**
+     * @return the array behind the ring - for processing claimed samples in place
+     */
+    public float[] getBuffer() {
+        return buffer;
+    }
+
+    /**
+     * @return the amount of float samples in the ring
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * @param sequence
+     * @return the index in the buffer of the sample with that sequence
+     */
+    public int indexOf(long sequence) {
+        return (int) (sequence % capacity);
+    }
+
+    /**
+     * @return the sequence of the next sample to publish - or the amount of samples published
+     */
+    public long getWriteSequence() {
+        return writeSequence;
+    }
+
+    /**
+     * Writer only: claim the next samples to be overwritten. Readers of
+     * older samples at the same indices will fail from now on.
+     *
+     * @param amount
+     * @return the index in the buffer to write the samples to
+     */
+    public int claim(int amount) {
+        long sequence = writeSequence;
+        claimSequence = sequence + amount;
+        // a volatile store is no barrier for the stores following it - the claim must be visible before any sample is overwritten
+        VarHandle.storeStoreFence();
+        return indexOf(sequence);
+    }
+
+    /**
+     * Writer only: make the claimed samples visible to the readers
+     *
+     * @param amount the amount of samples written - might differ from the claimed ones
+     */
+    public void publish(int amount) {
+        long sequence = writeSequence + amount;
+        if (claimSequence < sequence) claimSequence = sequence;
+        writeSequence = sequence;
+    }
+
+    /**
+     * Writer only: claim, copy and publish
+     *
+     * @param source
+     * @param offset
+     * @param length not more than the capacity
+     */
+    public void write(float[] source, int offset, int length) {
+        int index = claim(length);
+        int firstPart = capacity - index;
+        if (firstPart >= length) {
+            System.arraycopy(source, offset, buffer, index, length);
+        } else {
+            System.arraycopy(source, offset, buffer, index, firstPart);
+            System.arraycopy(source, offset + firstPart, buffer, 0, length - firstPart);
+        }
+        publish(length);
+    }
+
+    /**
+     * Reader: copy the published samples starting with sequence.
+     *
+     * @param sequence of the first sample
+     * @param target
+     * @param offset
+     * @param length
+     * @return false, if these samples are not yet published or were
+     * overwritten - the target then contains garbage
+     */
+    public boolean read(long sequence, float[] target, int offset, int length) {
+        if (sequence < 0 || length > capacity) return false;
+        long published = writeSequence;
+        if (sequence + length > published || sequence < published - capacity) return false;
+
+        int index = indexOf(sequence);
+        int firstPart = capacity - index;
+        if (firstPart >= length) {
+            System.arraycopy(buffer, index, target, offset, length);
+        } else {
+            System.arraycopy(buffer, index, target, offset, firstPart);
+            System.arraycopy(buffer, 0, target, offset + firstPart, length - firstPart);
+        }
+
+        // the copy must be complete before checking the writer did not overtake us
+        VarHandle.loadLoadFence();
+        return sequence >= claimSequence - capacity;
+    }
+
+    /**
+     * Reader: copy the latest published samples.
+     *
+     * @param target
+     * @param offset
+     * @param length
+     * @return the sequence of the first sample copied or -1 if not enough samples are published
+     */
+    public long readLatest(float[] target, int offset, int length) {
+        long sequence = writeSequence - length;
+        return (read(sequence, target, offset, length)) ? sequence : -1;
+    }
+}
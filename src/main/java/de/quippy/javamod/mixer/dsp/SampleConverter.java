@@ -0,0 +1,170 @@
+/*
+ * @(#) SampleConverter.java
+ *
+ * Created on 17.10.2026 by Daniel Becker
+ *
+ *-----------------------------------------------------------------------
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation; either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, write to the Free Software
+ *  Foundation, Inc., 675 Mass Ave, Cambridge, MA 02139, USA.
+ *----------------------------------------------------------------------
+ */
+
+package de.quippy.javamod.mixer.dsp;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioFormat.Encoding;
+
+import de.quippy.javamod.mixer.dsp.iir.filter.Dither;
+
+
+/**
+ * Converts PCM sample data of an audio format into float samples of
+ * 1.0<=x<=-1.0 and back. Float samples are read from and written to
+ * ring buffers, so the offsets wrap at the given size.
+ * <p>
+ * Converting float samples back into the audio format is the one and
+ * only place where the signal is quantized: with a dither given, the
+ * samples are dithered down to the target bits, without one they are
+ * simply truncated.
+ *
+ * @author Daniel Becker
+ * @since 17.10.2026
+ */
+public class SampleConverter {
+
+    /** full scale of a 32 bit sample - the dither expects those */
+    private static final double SCALE_32BIT = 2147483648d;
+
+    private final AudioFormat audioFormat;
+    private final boolean isBigEndian;
+    private final boolean isSigned;
+    private final int bytesPerChannel;
+    private final int channels;
+    private final long mask;
+    private final long neg_Bit;
+    private final long neg_mask;
+    private final long minSample;
+    private final long maxSample;
+
+    /**
+     * Constructor for SampleConverter
+     *
+     * @param audioFormat
+     */
+    public SampleConverter(AudioFormat audioFormat) {
+        super();
+        this.audioFormat = audioFormat;
+        isBigEndian = audioFormat.isBigEndian();
+        isSigned = audioFormat.getEncoding().equals(Encoding.PCM_SIGNED);
+        int sampleSizeInBits = audioFormat.getSampleSizeInBits();
+        bytesPerChannel = sampleSizeInBits >> 3;
+        channels = audioFormat.getChannels();
+        mask = (1L << sampleSizeInBits) - 1;
+        neg_Bit = 1L << (sampleSizeInBits - 1);
+        maxSample = neg_Bit - 1;
+        minSample = -neg_Bit;
+        neg_mask = 0xffff_ffff ^ mask;
+    }
+
+    /**
+     * @return the audio format this converter was created for
+     */
+    public AudioFormat getAudioFormat() {
+        return audioFormat;
+    }
+
+    /**
+     * @return the amount of bytes of one sample of one channel
+     */
+    public int getBytesPerChannel() {
+        return bytesPerChannel;
+    }
+
+    /**
+     * Convert PCM bytes into float samples
+     *
+     * @param in the PCM data
+     * @param inOffset
+     * @param length amount of bytes to convert
+     * @param out the float ring buffer
+     * @param outOffset
+     * @param outSize the size of the ring buffer
+     * @return the amount of float samples written
+     */
+    public int toFloat(byte[] in, int inOffset, int length, float[] out, int outOffset, int outSize) {
+        int ox = inOffset;
+        int end = inOffset + length;
+        int wx = outOffset;
+        int written = 0;
+        while (ox < end) {
+            long sample = 0;
+            if (isBigEndian) {
+                for (int b = bytesPerChannel - 1, s = 0; b >= 0; b--, s += 8)
+                    sample |= ((long) (in[ox + b] & 0xff)) << s;
+            } else {
+                for (int b = 0, s = 0; b < bytesPerChannel; b++, s += 8)
+                    sample |= ((long) (in[ox + b] & 0xff)) << s;
+            }
+            if (isSigned) {
+                if ((sample & neg_Bit) != 0) sample |= neg_mask;
+            } else {
+                sample = (sample & mask) - neg_Bit;
+            }
+            out[wx++] = (float) sample / (float) neg_Bit;
+            if (wx >= outSize) wx = 0;
+            ox += bytesPerChannel;
+            written++;
+        }
+        return written;
+    }
+
+    /**
+     * Convert float samples into PCM bytes. This is where quantization
+     * takes place - with the dither, if one is given.
+     *
+     * @param in the float ring buffer
+     * @param inOffset
+     * @param inSize the size of the ring buffer
+     * @param anzSamples amount of float samples to convert
+     * @param out the PCM data
+     * @param outOffset
+     * @param dither the dither to use or null to simply truncate
+     * @return the amount of bytes written
+     */
+    public int toBytes(float[] in, int inOffset, int inSize, int anzSamples, byte[] out, int outOffset, Dither dither) {
+        int rx = inOffset;
+        int ox = outOffset;
+        for (int i = 0; i < anzSamples; i++, ox += bytesPerChannel) {
+            long sample;
+            if (dither != null)
+                sample = dither.process((long) ((double) in[rx++] * SCALE_32BIT), i % channels);
+            else
+                sample = (long) ((in[rx++] * (float) neg_Bit));
+            if (rx >= inSize) rx = 0;
+
+            if (sample > maxSample) sample = maxSample;
+            else if (sample < minSample) sample = minSample;
+
+            if (!isSigned) sample += neg_Bit;
+            if (isBigEndian) {
+                for (int b = bytesPerChannel - 1, s = 0; b >= 0; b--, s += 8)
+                    out[ox + b] = (byte) ((sample >> s) & 0xff);
+            } else {
+                for (int b = 0, s = 0; b < bytesPerChannel; b++, s += 8)
+                    out[ox + b] = (byte) ((sample >> s) & 0xff);
+            }
+        }
+        return ox - outOffset;
+    }
+}
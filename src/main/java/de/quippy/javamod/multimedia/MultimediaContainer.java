@@ -148,6 +148,10 @@ public abstract class MultimediaContainer {
     /**
      * This method will only do (!)locally(!) what is needed to pick up
      * the song name String at [0] and time in milliseconds as Long at [1]
+     * <p>
+     * The play list scanner calls this from several threads at once on the
+     * container singleton - so it must not change the state of the
+     * container, use locals only.
      *
      * @param url local source file
      * @return Object [] { String SongName, Long duration }
@@ -155,6 +159,19 @@ public abstract class MultimediaContainer {
      */
     public abstract Map<String, Object> getSongInfosFor(URL url);
 
+    /**
+     * The duration returned by getSongInfosFor can depend on how loops
+     * of a piece are handled - the song info index stores infos per loop
+     * mode. Like getSongInfosFor this is called from several threads.
+     *
+     * @return the loop mode getSongInfosFor currently uses, 0 if the
+     * container has none
+     * @since 17.10.2026
+     */
+    public int getSongInfosLoopMode() {
+        return 0;
+    }
+
     /**
      * Returns true if these mixers supports the export function
      *
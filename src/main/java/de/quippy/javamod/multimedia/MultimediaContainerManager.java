@@ -216,6 +216,21 @@ logger.log(Level.TRACE, getFileExtensionMap());
         return result.substring(lastSlash + 1, dot);
     }
 
+    /**
+     * @param url the local source
+     * @return the loop mode the container of that file takes the song infos with
+     * @since 17.10.2026
+     */
+    public static int getSongInfosLoopMode(URL url) {
+        try {
+            MultimediaContainer container = getMultimediaContainerSingleton(url);
+            if (container != null) return container.getSongInfosLoopMode();
+        } catch (UnsupportedAudioFileException ex) {
+            logger.log(Level.TRACE, "IGNORED", ex);
+        }
+        return 0;
+    }
+
     /**
      * This method will only do (!)locally(!) what is needed to pick up
      * the song name String at [0] and time in milliseconds as Long at [1]
@@ -227,7 +242,11 @@ logger.log(Level.TRACE, getFileExtensionMap());
     public static Map<String, Object> getSongInfosFor(URL url) {
         try {
             MultimediaContainer container = getMultimediaContainerSingleton(url);
-            if (container != null) return container.getSongInfosFor(url);
+            if (container != null) {
+                Map<String, Object> result = container.getSongInfosFor(url);
+                result.putIfAbsent(SongInfoIndex.INFO_FORMAT, container.getName());
+                return result;
+            }
         } catch (UnsupportedAudioFileException ex) {
             logger.log(Level.TRACE, "IGNORED", ex);
         }
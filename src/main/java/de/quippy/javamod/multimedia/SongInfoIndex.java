@@ -0,0 +1,430 @@
+/*
+ * @(#) SongInfoIndex.java
+ *
+ * Created on 17.10.2026 by Daniel Becker
+ *
+ *-----------------------------------------------------------------------
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation; either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, write to the Free Software
+ *  Foundation, Inc., 675 Mass Ave, Cambridge, MA 02139, USA.
+ *----------------------------------------------------------------------
+ */
+
+package de.quippy.javamod.multimedia;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.lang.System.Logger;
+import java.lang.System.Logger.Level;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+import de.quippy.javamod.system.Helpers;
+
+import static java.lang.System.getLogger;
+
+
+/**
+ * A persistent index of song infos (name, duration, time index of the
+ * orders, format and channels) of local files - so a playlist does not
+ * need to probe every file again with every start.
+ * <p>
+ * Files are found by their path and the loop mode of their container
+ * (the duration depends on it), and are valid as long as size and time
+ * of last modification did not change. A file of a path not in the index
+ * is looked up by a hash of its content (start and end of the file) - so
+ * moved files are found as well.
+ * <p>
+ * The index file is a log of binary records - new infos are appended
+ * immediately, a later record of a path and loop mode replaces an
+ * earlier one. The file is compacted when loading, if it contains too
+ * many outdated records. A truncated or malformed record (crash while writing) and all
+ * following ones are ignored.
+ * <p>
+ * This class is thread safe.
+ *
+ * @author Daniel Becker
+ * @since 17.10.2026
+ */
+public class SongInfoIndex {
+
+    private static final Logger logger = getLogger(SongInfoIndex.class.getName());
+
+    /** system property with the path of the index file - an empty value disables the index */
+    public static final String PROPERTY_SONGINFO_INDEX = "javamod.songinfo.index";
+    public static final String DEFAULT_INDEX_FILENAME = ".javamod.songinfo";
+
+    /** keys of the song info maps, besides "songName" and "duration" */
+    public static final String INFO_MS_TIME_INDEX = "msTimeIndex";
+    public static final String INFO_FORMAT = "format";
+    public static final String INFO_CHANNELS = "channels";
+
+    private static final int MAGIC = 0x4A4D5349; // "JMSI"
+    private static final int VERSION = 2;
+    /** bytes at start and end of a file building the content hash */
+    private static final int HASH_BLOCK_SIZE = 0x10000;
+    /** the maximum length of a string in modified UTF-8 - see DataOutputStream.writeUTF */
+    private static final int MAX_UTF_LENGTH = 0xFFFF;
+
+    private static SongInfoIndex instance;
+
+    /**
+     * An entry of the index
+     */
+    private static final class Entry {
+
+        private final String path;
+        private final int loopMode;
+        private final long size;
+        private final long lastModified;
+        private final long contentHash;
+        private final String songName;
+        private final long duration;
+        private final String format;
+        private final int channels;
+        private final long[] msTimeIndex;
+
+        Entry(String path, int loopMode, long size, long lastModified, long contentHash, String songName, long duration, String format, int channels, long[] msTimeIndex) {
+            this.path = path;
+            this.loopMode = loopMode;
+            this.size = size;
+            this.lastModified = lastModified;
+            this.contentHash = contentHash;
+            this.songName = songName;
+            this.duration = duration;
+            this.format = format;
+            this.channels = channels;
+            this.msTimeIndex = msTimeIndex;
+        }
+
+        private Map<String, Object> toSongInfos() {
+            Map<String, Object> result = new HashMap<>();
+            result.put("songName", songName);
+            result.put("duration", duration);
+            if (format != null) result.put(INFO_FORMAT, format);
+            if (channels > 0) result.put(INFO_CHANNELS, channels);
+            if (msTimeIndex != null) result.put(INFO_MS_TIME_INDEX, msTimeIndex.clone());
+            return result;
+        }
+
+        /**
+         * @return true, if all strings fit into a record
+         */
+        private boolean isWritable() {
+            return getUTFLength(path) <= MAX_UTF_LENGTH && getUTFLength(songName) <= MAX_UTF_LENGTH &&
+                    (format == null || getUTFLength(format) <= MAX_UTF_LENGTH);
+        }
+
+        private void write(DataOutputStream out) throws IOException {
+            out.writeUTF(path);
+            out.writeInt(loopMode);
+            out.writeLong(size);
+            out.writeLong(lastModified);
+            out.writeLong(contentHash);
+            out.writeUTF(songName);
+            out.writeLong(duration);
+            out.writeUTF((format != null) ? format : Helpers.EMPTY_STING);
+            out.writeInt(channels);
+            out.writeInt((msTimeIndex != null) ? msTimeIndex.length : -1);
+            if (msTimeIndex != null) for (long ms : msTimeIndex) out.writeLong(ms);
+        }
+
+        private static Entry read(DataInputStream in) throws IOException {
+            String path = in.readUTF();
+            int loopMode = in.readInt();
+            long size = in.readLong();
+            long lastModified = in.readLong();
+            long contentHash = in.readLong();
+            String songName = in.readUTF();
+            long duration = in.readLong();
+            String format = in.readUTF();
+            int channels = in.readInt();
+            int timeIndexLength = in.readInt();
+            if (timeIndexLength < -1 || timeIndexLength > in.available() / Long.BYTES)
+                throw new IOException("Malformed record of " + path);
+            long[] msTimeIndex = null;
+            if (timeIndexLength >= 0) {
+                msTimeIndex = new long[timeIndexLength];
+                for (int i = 0; i < timeIndexLength; i++) msTimeIndex[i] = in.readLong();
+            }
+            return new Entry(path, loopMode, size, lastModified, contentHash, songName, duration, format.isEmpty() ? null : format, channels, msTimeIndex);
+        }
+    }
+
+    private final File indexFile;
+    /** by loop mode and path - see getKey */
+    private final Map<String, Entry> entriesByPath;
+    /** by loop mode and content hash - see getKey */
+    private final Map<String, Entry> entriesByHash;
+    private boolean loaded;
+    private DataOutputStream appender;
+
+    /**
+     * Constructor for SongInfoIndex
+     *
+     * @param indexFile the file to keep the index in - null for an index in memory only
+     */
+    public SongInfoIndex(File indexFile) {
+        super();
+        this.indexFile = indexFile;
+        entriesByPath = new HashMap<>();
+        entriesByHash = new HashMap<>();
+    }
+
+    /**
+     * @return the index used by the playlists - in the home directory or
+     * as set with the system property javamod.songinfo.index
+     */
+    public static synchronized SongInfoIndex getInstance() {
+        if (instance == null) {
+            String fileName = System.getProperty(PROPERTY_SONGINFO_INDEX, Helpers.HOMEDIR + File.separator + DEFAULT_INDEX_FILENAME);
+            instance = new SongInfoIndex((fileName.isEmpty()) ? null : new File(fileName));
+        }
+        return instance;
+    }
+
+    /**
+     * @param value
+     * @return the length of the string in modified UTF-8 - as written by writeUTF
+     */
+    private static int getUTFLength(String value) {
+        int length = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c >= 0x0001 && c <= 0x007F) length++;
+            else if (c <= 0x07FF) length += 2;
+            else length += 3;
+        }
+        return length;
+    }
+
+    private static String getKey(int loopMode, Object pathOrHash) {
+        return loopMode + ":" + pathOrHash;
+    }
+
+    private static File getLocalFile(URL url) {
+        if (url == null || !"file".equalsIgnoreCase(url.getProtocol())) return null;
+        try {
+            return new File(url.toURI());
+        } catch (URISyntaxException | IllegalArgumentException ex) {
+            return new File(url.getPath());
+        }
+    }
+
+    /**
+     * @param file
+     * @param size
+     * @return a CRC of the first and last bytes of the file - with the
+     * size it identifies the content
+     */
+    private static long getContentHash(File file, long size) throws IOException {
+        CRC32 crc = new CRC32();
+        byte[] buffer = new byte[(int) Math.min(HASH_BLOCK_SIZE, size)];
+        try (RandomAccessFile raf = new RandomAccessFile(file, "r")) {
+            raf.readFully(buffer);
+            crc.update(buffer);
+            if (size > HASH_BLOCK_SIZE) {
+                raf.seek(Math.max(HASH_BLOCK_SIZE, size - HASH_BLOCK_SIZE));
+                int rest = (int) (size - raf.getFilePointer());
+                raf.readFully(buffer, 0, rest);
+                crc.update(buffer, 0, rest);
+            }
+        }
+        return (crc.getValue() << 32) ^ size;
+    }
+
+    /**
+     * Returns the song infos of a file: from the index, if the file is
+     * known with the current loop mode and unchanged, otherwise from MultimediaContainerManager.getSongInfosFor
+     * - those are stored then. Only files of an unknown path are looked up
+     * by their content hash, a known file that changed is probed again.
+     * Files that are not local are not indexed.
+     *
+     * @param url
+     * @return the song infos with at least "songName" and "duration"
+     */
+    public Map<String, Object> getSongInfosFor(URL url) {
+        File file = getLocalFile(url);
+        if (file == null || !file.isFile()) return MultimediaContainerManager.getSongInfosFor(url);
+
+        String path = file.getAbsolutePath();
+        int loopMode = MultimediaContainerManager.getSongInfosLoopMode(url);
+        long size = file.length();
+        long lastModified = file.lastModified();
+        long contentHash = 0;
+        boolean isKnownPath;
+        synchronized (this) {
+            load();
+            Entry entry = entriesByPath.get(getKey(loopMode, path));
+            if (entry != null && entry.size == size && entry.lastModified == lastModified) return entry.toSongInfos();
+            isKnownPath = entry != null;
+        }
+        try {
+            contentHash = getContentHash(file, size);
+            if (!isKnownPath) {
+                synchronized (this) {
+                    Entry entry = entriesByHash.get(getKey(loopMode, contentHash));
+                    if (entry != null && entry.size == size) {
+                        // moved - same content
+                        Entry moved = new Entry(path, loopMode, size, lastModified, contentHash, entry.songName, entry.duration, entry.format, entry.channels, entry.msTimeIndex);
+                        add(moved);
+                        return moved.toSongInfos();
+                    }
+                }
+            }
+        } catch (IOException ex) {
+            logger.log(Level.DEBUG, "Cannot hash " + path, ex);
+        }
+
+        // probe outside the lock - this can take a while
+        Map<String, Object> infos = MultimediaContainerManager.getSongInfosFor(url);
+        Object duration = infos.get("duration");
+        if (duration instanceof Long d && d.longValue() >= 0) {
+            Object songName = infos.get("songName");
+            Object format = infos.get(INFO_FORMAT);
+            Object channels = infos.get(INFO_CHANNELS);
+            Object msTimeIndex = infos.get(INFO_MS_TIME_INDEX);
+            Entry entry = new Entry(path, loopMode, size, lastModified, contentHash,
+                    (songName != null) ? songName.toString() : MultimediaContainerManager.getSongNameFromFile(file),
+                    d,
+                    (format != null) ? format.toString() : null,
+                    (channels instanceof Integer c) ? c : -1,
+                    (msTimeIndex instanceof long[] l) ? l.clone() : null);
+            synchronized (this) {
+                add(entry);
+            }
+        }
+        return infos;
+    }
+
+    /**
+     * @return the amount of entries in the index - a file has one per loop mode
+     */
+    public synchronized int size() {
+        load();
+        return entriesByPath.size();
+    }
+
+    /**
+     * Closes the index file - it is opened again when needed
+     */
+    public synchronized void close() {
+        if (appender != null) {
+            try {
+                appender.close();
+            } catch (IOException ex) {
+                logger.log(Level.DEBUG, "IGNORED", ex);
+            }
+            appender = null;
+        }
+    }
+
+    private void put(Entry entry) {
+        entriesByPath.put(getKey(entry.loopMode, entry.path), entry);
+        if (entry.contentHash != 0) entriesByHash.put(getKey(entry.loopMode, entry.contentHash), entry);
+    }
+
+    private void add(Entry entry) {
+        put(entry);
+        if (indexFile == null) return;
+        if (!entry.isWritable()) {
+            logger.log(Level.DEBUG, "Not storing the song info of " + entry.path + " in the index - a name is too long");
+            return;
+        }
+        try {
+            if (appender == null) {
+                boolean isNew = !indexFile.exists() || indexFile.length() == 0;
+                appender = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(indexFile, true)));
+                if (isNew) writeHeader(appender);
+            }
+            entry.write(appender);
+            appender.flush();
+        } catch (IOException ex) {
+            logger.log(Level.WARNING, "Cannot write song info index " + indexFile, ex);
+            close();
+        }
+    }
+
+    private static void writeHeader(DataOutputStream out) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+    }
+
+    /**
+     * Reads the index file once - compacts it, if more than half of
+     * the records are outdated or the last one is broken
+     */
+    private void load() {
+        if (loaded) return;
+        loaded = true;
+        if (indexFile == null || !indexFile.isFile()) return;
+
+        int records = 0;
+        boolean truncated = false;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(indexFile)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                logger.log(Level.INFO, "Ignoring song info index of an unknown version: " + indexFile);
+                entriesByPath.clear();
+                entriesByHash.clear();
+                rewrite();
+                return;
+            }
+            while (in.available() > 0) {
+                try {
+                    put(Entry.read(in));
+                    records++;
+                } catch (IOException ex) {
+                    // truncated (EOFException) or malformed (UTFDataFormatException...) -
+                    // new records must not follow the broken one
+                    logger.log(Level.DEBUG, "Broken record in song info index " + indexFile, ex);
+                    truncated = true;
+                    break;
+                }
+            }
+        } catch (IOException ex) {
+            logger.log(Level.WARNING, "Cannot read song info index " + indexFile, ex);
+            truncated = true;
+        }
+        if (truncated || records > 2 * entriesByPath.size() + 64) rewrite();
+    }
+
+    /**
+     * Writes the current entries into a new index file
+     */
+    private void rewrite() {
+        close();
+        File tempFile = new File(indexFile.getPath() + ".tmp");
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tempFile)))) {
+                writeHeader(out);
+                for (Entry entry : entriesByPath.values()) if (entry.isWritable()) entry.write(out);
+            }
+            Files.move(tempFile.toPath(), indexFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException ex) {
+            logger.log(Level.WARNING, "Cannot compact song info index " + indexFile, ex);
+            tempFile.delete();
+        }
+    }
+}
@@ -40,6 +40,7 @@ import de.quippy.javamod.io.SpiModfileInputStream;
 import de.quippy.javamod.mixer.Mixer;
 import de.quippy.javamod.multimedia.MultimediaContainer;
 import de.quippy.javamod.multimedia.MultimediaContainerManager;
+import de.quippy.javamod.multimedia.SongInfoIndex;
 import de.quippy.javamod.multimedia.SpiMultimediaContainer;
 import de.quippy.javamod.multimedia.midi.MidiContainer;
 import de.quippy.javamod.multimedia.mod.gui.ModInstrumentDialog;
@@ -48,6 +49,7 @@ import de.quippy.javamod.multimedia.mod.gui.ModSampleDialog;
 import de.quippy.javamod.multimedia.mod.gui.SongUpdater;
 import de.quippy.javamod.multimedia.mod.loader.Module;
 import de.quippy.javamod.multimedia.mod.loader.ModuleFactory;
+import de.quippy.javamod.multimedia.mod.loader.instrument.SampleData;
 import de.quippy.javamod.multimedia.mod.midi.ModMidiMixer;
 import de.quippy.javamod.system.Helpers;
 import vavi.sound.sampled.mod.ModEncoding;
@@ -76,6 +78,9 @@ public class ModContainer extends MultimediaContainer implements SpiMultimediaCo
     public static final String PROPERTY_PLAYER_MEGABASS = "javamod.player.megabass";
     public static final String PROPERTY_PLAYER_DCREMOVAL = "javamod.player.dcremoval";
     public static final String PROPERTY_PLAYER_NOLOOPS = "javamod.player.noloops";
+    public static final String PROPERTY_PLAYER_SIMD = "javamod.player.simd";
+    public static final String PROPERTY_PLAYER_MIXTHREADS = "javamod.player.mixthreads";
+    public static final String PROPERTY_PLAYER_SNAPSHOTINTERVAL = "javamod.player.snapshotinterval";
     public static final String PROPERTY_PLAYER_MAXNNACHANNELS = "javamod.player.max_nna_channels";
     public static final String PROPERTY_PLAYER_DITHERFILTER = "javamod.player.ditherfilter";
     public static final String PROPERTY_PLAYER_DITHERTYPE = "javamod.player.dithertype";
@@ -104,6 +109,9 @@ public class ModContainer extends MultimediaContainer implements SpiMultimediaCo
     public static final String DEFAULT_MEGABASS = "true";
     public static final String DEFAULT_DCREMOVAL = "true";
     public static final String DEFAULT_NOLOOPS = "1";
+    public static final String DEFAULT_SIMD = "false";
+    public static final String DEFAULT_MIXTHREADS = "1";
+    public static final String DEFAULT_SNAPSHOTINTERVAL = "10";
     public static final String DEFAULT_MAXNNACHANNELS = "200";
     public static final String DEFAULT_INTERPOLATION_INDEX = "4"; // Integer.toString(ModConstants.INTERPOLATION_WINDOWSFIR);
     public static final String DEFAULT_AMIGAEMULATION_INDEX = "0"; // NONE
@@ -151,7 +159,11 @@ public class ModContainer extends MultimediaContainer implements SpiMultimediaCo
             // loading a new mod - so deregister this mixer and unwire listeners
             if (songUpdater != null) unwireListeners();
 
-            currentMod = ModuleFactory.getInstance(url);
+            // the module played is pinned, so nobody else gets it from the cache
+            Module oldMod = currentMod;
+            currentMod = null;
+            ModuleFactory.releaseInstance(oldMod);
+            currentMod = ModuleFactory.acquireInstance(url);
             if (!MultimediaContainerManager.isHeadlessMode())
                 getInfoPanel().fillInfoPanelWith(currentMod);
         } catch (IOException ex) {
@@ -177,6 +189,7 @@ logger.log(DEBUG, "mod: " + mod.getClass().getName());
      */
     @Override
     public void setInputStream(InputStream stream) throws IOException {
+        ModuleFactory.releaseInstance(currentMod);
         currentMod = ModuleFactory.getModuleFromStream(stream);
         currentMod.loadModFile(new SpiModfileInputStream(stream));
     }
@@ -200,18 +213,21 @@ logger.log(DEBUG, "mod: " + mod.getClass().getName());
         String songName = MultimediaContainerManager.getSongNameFromURL(url);
         long duration = -1;
         try {
-            Module theMod = ModuleFactory.getInstance(url);
+            // the module played has its length already - all others are loaded without their samples
+            URL currentURL = getFileURL();
+            Module theMod = (currentMod != null && currentURL != null && currentURL.sameFile(url)) ? currentMod : ModuleFactory.getHeaderInstance(url);
             String modSongName = theMod.getSongName();
             if (modSongName != null && !modSongName.trim().isEmpty()) songName = modSongName;
             // try to re-use an existing mixer, if its one for the same mod.
             // The "ModMixer::getLengthInMilliseconds" is synchronized to avoid double entry
             ModMixer theMixer = getCurrentMixer();
             if (theMixer == null || !theMixer.getMod().getFileName().equals(theMod.getFileName())) {
-                int loopValue = Integer.parseInt((currentProps != null) ? currentProps.getProperty(PROPERTY_PLAYER_NOLOOPS, DEFAULT_NOLOOPS) : DEFAULT_NOLOOPS);
-                if (loopValue == ModConstants.PLAYER_LOOP_DEACTIVATED) loopValue = ModConstants.PLAYER_LOOP_IGNORE;
-                theMixer = new ModMixer(theMod, 8, 1, 22050, 0, 0, false, false, false, false, loopValue, 0, 500, 0, 0, true);
+                theMixer = new ModMixer(theMod, 8, 1, 22050, 0, 0, false, false, false, false, getSongInfosLoopMode(), 0, 500, 0, 0, true);
             }
             duration = theMixer.getLengthInMilliseconds();
+            result.put(SongInfoIndex.INFO_CHANNELS, theMod.getNChannels());
+            long[] msTimeIndex = theMixer.getMod().getMsTimeIndex();
+            if (msTimeIndex != null) result.put(SongInfoIndex.INFO_MS_TIME_INDEX, msTimeIndex.clone());
         } catch (Throwable ex) {
             /* NOOP */
         }
@@ -220,6 +236,18 @@ logger.log(DEBUG, "mod: " + mod.getClass().getName());
         return result;
     }
 
+    /**
+     * @return the loop value of the configuration - with loops deactivated
+     * the length is taken as if loops are ignored
+     * @since 17.10.2026
+     */
+    @Override
+    public int getSongInfosLoopMode() {
+        int loopValue = Integer.parseInt((currentProps != null) ? currentProps.getProperty(PROPERTY_PLAYER_NOLOOPS, DEFAULT_NOLOOPS) : DEFAULT_NOLOOPS);
+        if (loopValue == ModConstants.PLAYER_LOOP_DEACTIVATED) loopValue = ModConstants.PLAYER_LOOP_IGNORE;
+        return loopValue;
+    }
+
     @Override
     public boolean canExport() {
         return true;
@@ -273,6 +301,9 @@ logger.log(DEBUG, "mod: " + mod.getClass().getName());
         currentProps.setProperty(PROPERTY_PLAYER_MEGABASS, newProps.getProperty(PROPERTY_PLAYER_MEGABASS, DEFAULT_MEGABASS));
         currentProps.setProperty(PROPERTY_PLAYER_MEGABASS, newProps.getProperty(PROPERTY_PLAYER_DCREMOVAL, DEFAULT_DCREMOVAL));
         currentProps.setProperty(PROPERTY_PLAYER_NOLOOPS, newProps.getProperty(PROPERTY_PLAYER_NOLOOPS, DEFAULT_NOLOOPS));
+        currentProps.setProperty(PROPERTY_PLAYER_SIMD, newProps.getProperty(PROPERTY_PLAYER_SIMD, DEFAULT_SIMD));
+        currentProps.setProperty(PROPERTY_PLAYER_MIXTHREADS, newProps.getProperty(PROPERTY_PLAYER_MIXTHREADS, DEFAULT_MIXTHREADS));
+        currentProps.setProperty(PROPERTY_PLAYER_SNAPSHOTINTERVAL, newProps.getProperty(PROPERTY_PLAYER_SNAPSHOTINTERVAL, DEFAULT_SNAPSHOTINTERVAL));
         currentProps.setProperty(PROPERTY_PLAYER_MAXNNACHANNELS, newProps.getProperty(PROPERTY_PLAYER_MAXNNACHANNELS, DEFAULT_MAXNNACHANNELS));
         currentProps.setProperty(PROPERTY_PLAYER_DITHERFILTER, newProps.getProperty(PROPERTY_PLAYER_DITHERFILTER, DEFAULT_DITHERFILTER));
         currentProps.setProperty(PROPERTY_PLAYER_DITHERTYPE, newProps.getProperty(PROPERTY_PLAYER_DITHERTYPE, DEFAULT_DITHERTYPE));
@@ -337,6 +368,9 @@ logger.log(DEBUG, "mod: " + mod.getClass().getName());
             props.setProperty(PROPERTY_PLAYER_MEGABASS, currentProps.getProperty(PROPERTY_PLAYER_MEGABASS, DEFAULT_MEGABASS));
             props.setProperty(PROPERTY_PLAYER_DCREMOVAL, currentProps.getProperty(PROPERTY_PLAYER_DCREMOVAL, DEFAULT_DCREMOVAL));
             props.setProperty(PROPERTY_PLAYER_NOLOOPS, currentProps.getProperty(PROPERTY_PLAYER_NOLOOPS, DEFAULT_NOLOOPS));
+            props.setProperty(PROPERTY_PLAYER_SIMD, currentProps.getProperty(PROPERTY_PLAYER_SIMD, DEFAULT_SIMD));
+            props.setProperty(PROPERTY_PLAYER_MIXTHREADS, currentProps.getProperty(PROPERTY_PLAYER_MIXTHREADS, DEFAULT_MIXTHREADS));
+            props.setProperty(PROPERTY_PLAYER_SNAPSHOTINTERVAL, currentProps.getProperty(PROPERTY_PLAYER_SNAPSHOTINTERVAL, DEFAULT_SNAPSHOTINTERVAL));
             props.setProperty(PROPERTY_PLAYER_MAXNNACHANNELS, currentProps.getProperty(PROPERTY_PLAYER_MAXNNACHANNELS, DEFAULT_MAXNNACHANNELS));
             props.setProperty(PROPERTY_PLAYER_DITHERFILTER, currentProps.getProperty(PROPERTY_PLAYER_DITHERFILTER, DEFAULT_DITHERFILTER));
             props.setProperty(PROPERTY_PLAYER_DITHERTYPE, currentProps.getProperty(PROPERTY_PLAYER_DITHERTYPE, DEFAULT_DITHERTYPE));
@@ -377,6 +411,8 @@ logger.log(DEBUG, "mod: " + mod.getClass().getName());
         boolean megaBass = Boolean.parseBoolean(currentProps.getProperty(PROPERTY_PLAYER_MEGABASS, DEFAULT_MEGABASS));
         boolean dcRemoval = Boolean.parseBoolean(currentProps.getProperty(PROPERTY_PLAYER_DCREMOVAL, DEFAULT_DCREMOVAL));
         int loopValue = Integer.parseInt(currentProps.getProperty(PROPERTY_PLAYER_NOLOOPS, DEFAULT_NOLOOPS));
+        boolean doSIMD = Boolean.parseBoolean(currentProps.getProperty(PROPERTY_PLAYER_SIMD, DEFAULT_SIMD));
+        int mixThreads = Integer.parseInt(currentProps.getProperty(PROPERTY_PLAYER_MIXTHREADS, DEFAULT_MIXTHREADS));
         int maxNNAChannels = Integer.parseInt(currentProps.getProperty(PROPERTY_PLAYER_MAXNNACHANNELS, DEFAULT_MAXNNACHANNELS));
         int msBufferSize = Integer.parseInt(currentProps.getProperty(PROPERTY_PLAYER_MSBUFFERSIZE, DEFAULT_MSBUFFERSIZE));
         int ditherFilter = Integer.parseInt(currentProps.getProperty(PROPERTY_PLAYER_DITHERFILTER, DEFAULT_DITHERFILTER));
@@ -384,6 +420,10 @@ logger.log(DEBUG, "mod: " + mod.getClass().getName());
         boolean ditherByPass = Boolean.parseBoolean(currentProps.getProperty(PROPERTY_PLAYER_DITHERBYPASS, DEFAULT_DITHERBYPASS));
 
         ModMixer newModMixer = new ModMixer(currentMod, bitsPerSample, channels, frequency, isp, amigaEmulation, wideStereoMix, noiseReduction, megaBass, dcRemoval, loopValue, maxNNAChannels, msBufferSize, ditherFilter, ditherType, ditherByPass);
+        if (doSIMD && !SampleData.SIMD_AVAILABLE)
+            logger.log(Level.INFO, "SIMD interpolation requested, but jdk.incubator.vector is not available or its vectors are too narrow - using scalar routines");
+        newModMixer.setDoSIMD(doSIMD);
+        newModMixer.setMixThreads(mixThreads);
 
         // we need to add the midi output - by reading from the midi
         MidiDevice.Info info = getMidiInfo();
@@ -405,6 +445,9 @@ logger.log(DEBUG, "mod: " + mod.getClass().getName());
 
         currentMixer = createNewMixer0();
         if (currentMixer == null) return null;
+        // only the player seeks - snapshots are taken for it alone
+        if (!MultimediaContainerManager.isHeadlessMode())
+            currentMixer.setSnapshotInterval(Integer.parseInt(currentProps.getProperty(PROPERTY_PLAYER_SNAPSHOTINTERVAL, DEFAULT_SNAPSHOTINTERVAL)));
 
         wireListeners();
 
@@ -33,6 +33,7 @@ import de.quippy.javamod.mixer.dsp.iir.filter.Dither;
 import de.quippy.javamod.multimedia.mod.loader.Module;
 import de.quippy.javamod.multimedia.mod.midi.ModMidiMixer;
 import de.quippy.javamod.multimedia.mod.mixer.BasicModMixer;
+import de.quippy.javamod.multimedia.mod.mixer.MixerSnapshot;
 import vavi.io.OutputEngine;
 
 
@@ -61,6 +62,10 @@ public class ModMixer extends BasicMixer {
     private long[] LBuffer;
     private long[] RBuffer;
     private byte[] output;
+    private float[] floatOutput;
+
+    /** 32 bit signed samples to floats of 1.0<=x<=-1.0 */
+    private static final float FLOAT_SCALE = 1.0f / 2147483648.0f;
 
     // Dithering
     private Dither dither;
@@ -76,6 +81,12 @@ public class ModMixer extends BasicMixer {
 
     private long currentSamplesWritten;
 
+    // pull rendering
+    private SampleFrame renderSamples;
+    private long renderAllSamples;
+    /** if set, playback continues at this snapshot instead of the seek position */
+    private MixerSnapshot resumeSnapshot;
+
     private final ModDSP modDSP = new ModDSP();
 
     /**
@@ -111,11 +122,14 @@ public class ModMixer extends BasicMixer {
         int bytesPerSample = sampleSizeInBits >> 3; // DIV 8;
         outputBufferSize *= bytesPerSample;
         output = new byte[outputBufferSize];
+        floatOutput = new float[bufferSize * channels];
         setSourceLineBufferSize(outputBufferSize);
 
         // initialize the dithering for lower sample rates
         // always for maximum channels
         dither = new Dither(2, sampleSizeInBits, ditherFilterType, ditherType, ditherByPass);
+        // the float samples are quantized (and dithered) by the output stream - our maximum needs no dithering
+        setOutputDither((sampleSizeInBits < 32) ? dither : null);
 
         // Clipping and shifting samples to target buffer
         rounds = sampleSizeInBits >> 3;
@@ -184,6 +198,30 @@ public class ModMixer extends BasicMixer {
         modMixer.changeISP(doISP);
     }
 
+    /**
+     * @param doSIMD use the Vector API for interpolation, if available
+     * @since 17.10.2026
+     */
+    public void setDoSIMD(boolean doSIMD) {
+        modMixer.changeDoSIMD(doSIMD);
+    }
+
+    /**
+     * @param mixThreads amount of threads mixing the channels, 1 for the play thread only
+     * @since 17.10.2026
+     */
+    public void setMixThreads(int mixThreads) {
+        modMixer.changeMixThreads(mixThreads);
+    }
+
+    /**
+     * @param snapshotInterval distance of the snapshots taken while mixing in seconds, 0 for none
+     * @since 17.10.2026
+     */
+    public void setSnapshotInterval(int snapshotInterval) {
+        modMixer.changeSnapshotInterval(snapshotInterval);
+    }
+
     /**
      * @param doAmigaEmulation The doAmigaEmulation to set.
      */
@@ -374,6 +412,42 @@ public class ModMixer extends BasicMixer {
         return modMixer;
     }
 
+    /**
+     * Creates a snapshot of the current mixer state. Only call this, when
+     * playback is paused or stopped, or from within the play thread.
+     *
+     * @return the snapshot
+     * @since 17.10.2026
+     */
+    public MixerSnapshot createSnapshot() {
+        return modMixer.createSnapshot();
+    }
+
+    /**
+     * The next playback or rendering does not start at the beginning or
+     * the seek position, but continues exactly at the given snapshot -
+     * e.g. to resume an interrupted rendering.
+     *
+     * @param snapshot a snapshot of a mixer of the same module with the same sample rate
+     * @since 17.10.2026
+     */
+    public void setResumeSnapshot(MixerSnapshot snapshot) {
+        resumeSnapshot = snapshot;
+    }
+
+    /**
+     * Sets the mixer to the start position: the resume snapshot, if any,
+     * or the seek position
+     *
+     * @since 17.10.2026
+     */
+    private void seekToStartPosition() {
+        if (resumeSnapshot != null) {
+            currentSamplesWritten = modMixer.restoreSnapshot(resumeSnapshot);
+            resumeSnapshot = null;
+        } else if (getSeekPosition() > 0) seek(getSeekPosition());
+    }
+
     @Override
     public boolean isSeekSupported() {
         return true;
@@ -435,7 +509,7 @@ public class ModMixer extends BasicMixer {
 
         setIsPlaying();
 
-        if (getSeekPosition() > 0) seek(getSeekPosition());
+        seekToStartPosition();
 
         SampleFrame samples = new SampleFrame();
 
@@ -455,62 +529,11 @@ public class ModMixer extends BasicMixer {
                 // get "count" values of 32 bit signed sample data for mixing
                 count = modMixer.mixIntoBuffer(LBuffer, RBuffer, bufferSize);
                 if (count > 0) {
-                    int ox = 0;
-                    int ix = 0;
-                    while (ix < count) {
-                        // get Sample and reset to zero - the samples are clipped
-                        samples.left = LBuffer[ix];
-                        LBuffer[ix] = 0;
-                        samples.right = RBuffer[ix];
-                        RBuffer[ix] = 0;
-                        ix++;
-
-                        // DC Removal
-                        if (doDCRemoval) modDSP.processDCRemoval(samples);
-
-                        // Noise Reduction with a simple high pass filter:
-                        if (doNoiseReduction) modDSP.processNoiseReduction(samples);
-
-                        // MegaBass
-                        if (doMegaBass) modDSP.processMegaBass(samples);
-
-                        // WideStereo Mixing - but only with stereo
-                        //if (doWideStereoMix && channels>1) modDSP.processWideStereo(samples);
-                        if (doWideStereoMix && channels > 1) modDSP.processStereoSurround(samples);
-
-                        // Reduce to sample size by dithering - if necessary!
-                        if (sampleSizeInBits < 32) { // our maximum - no dithering needed
-                            samples.left = dither.process(samples.left, 0);
-                            samples.right = dither.process(samples.right, 1);
-                        }
-
-                        // Clip the values to target:
-                        if (samples.left > maximum) samples.left = maximum;
-                        else if (samples.left < minimum) samples.left = minimum;
-                        if (samples.right > maximum) samples.right = maximum;
-                        else if (samples.right < minimum) samples.right = minimum;
-
-                        // and after that put them into the output buffer
-                        // to write to the sound stream
-                        if (channels == 2) {
-                            for (int i = 0; i < rounds; i++) {
-                                output[ox] = (byte) samples.left;
-                                output[ox + rounds] = (byte) samples.right;
-                                ox++;
-                                samples.left >>= 8;
-                                samples.right >>= 8;
-                            }
-                            ox += rounds; // skip saved right channel
-                        } else {
-                            long sample = (samples.left + samples.right) >> 1;
-                            for (int i = 0; i < rounds; i++) {
-                                output[ox++] = (byte) sample;
-                                sample >>= 8;
-                            }
-                        }
-                    }
-
-                    writeSampleDataToLine(output, 0, ox);
+                    // float samples carry 24 bits - our maximum of 32 bits keeps the integer path
+                    if (sampleSizeInBits < 32)
+                        writeSampleDataToLine(floatOutput, 0, mixToFloats(samples, count, floatOutput));
+                    else
+                        writeSampleDataToLine(output, 0, mixToBytes(samples, count, output, 0));
 
                     currentSamplesWritten += count;
                     // let's reset the amount of samples written if we did a loop...
@@ -543,12 +566,212 @@ public class ModMixer extends BasicMixer {
             throw new RuntimeException(ex);
         } finally {
             modMixer.setFireUpdates(false);
+            modMixer.stopMixThreads();
             setIsStopped();
             if (modMidiMixer != null) modMidiMixer.closeOutputDevice();
             closeAudioDevice();
         }
     }
 
+    /**
+     * Prepare the mixer for writing to an output engine or for rendering.
+     *
+     * @return the amount of samples of the whole piece or -1 if unknown
+     * @since 17.10.2026
+     */
+    private long startOutput() {
+        initialize();
+        currentSamplesWritten = 0; // not in initialize which is also called at freq. changes
+
+        setIsPlaying();
+
+        seekToStartPosition();
+
+        // If we do export to wave and do not want to play during that, do not fire any updates
+        modMixer.setFireUpdates(exportFile == null || playDuringExport);
+
+        // how many Samples can we write out? We will need that to reset the currentSamplesWritten if MOD is looped.
+        long lengthInMS = getLengthInMilliseconds();
+        return (lengthInMS != -1) ? lengthInMS * sampleRate / 1000L : -1;
+    }
+
+    /**
+     * @since 17.10.2026
+     */
+    private void stopOutput() {
+        modMixer.setFireUpdates(false);
+        modMixer.stopMixThreads();
+        setIsStopped();
+        if (modMidiMixer != null) modMidiMixer.closeOutputDevice();
+    }
+
+    /**
+     * @since 17.10.2026
+     */
+    private void processDSP(SampleFrame samples) {
+        // DC Removal
+        if (doDCRemoval) modDSP.processDCRemoval(samples);
+
+        // Noise Reduction with a simple high pass filter:
+        if (doNoiseReduction) modDSP.processNoiseReduction(samples);
+
+        // MegaBass
+        if (doMegaBass) modDSP.processMegaBass(samples);
+
+        // WideStereo Mixing - but only with stereo
+        //if (doWideStereoMix && channels>1) modDSP.processWideStereo(samples);
+        if (doWideStereoMix && channels > 1) modDSP.processStereoSurround(samples);
+    }
+
+    /**
+     * Run the mixed samples through the DSP and put them into target as
+     * floats - dithering, clipping and conversion to the line format is
+     * done only once by the sound stream, after its DSP effects.
+     *
+     * @param samples
+     * @param count amount of samples in the mixing buffers
+     * @param target
+     * @return the amount of floats written to target
+     * @since 17.10.2026
+     */
+    private int mixToFloats(SampleFrame samples, int count, float[] target) {
+        int ox = 0;
+        int ix = 0;
+        while (ix < count) {
+            // get Sample and reset to zero - the samples are clipped
+            samples.left = LBuffer[ix];
+            LBuffer[ix] = 0;
+            samples.right = RBuffer[ix];
+            RBuffer[ix] = 0;
+            ix++;
+
+            processDSP(samples);
+
+            if (channels == 2) {
+                target[ox++] = (float) samples.left * FLOAT_SCALE;
+                target[ox++] = (float) samples.right * FLOAT_SCALE;
+            } else {
+                target[ox++] = (float) ((samples.left + samples.right) >> 1) * FLOAT_SCALE;
+            }
+        }
+        return ox;
+    }
+
+    /**
+     * Run the mixed samples through the DSP, dither and clip them and
+     * write them as PCM data of our audio format.
+     *
+     * @param samples
+     * @param count amount of samples in the mixing buffers
+     * @param target
+     * @param offset
+     * @return the amount of bytes written to target
+     * @since 17.10.2026
+     */
+    private int mixToBytes(SampleFrame samples, int count, byte[] target, int offset) {
+        int ox = offset;
+        int ix = 0;
+        while (ix < count) {
+            // get Sample and reset to zero - the samples are clipped
+            samples.left = LBuffer[ix];
+            LBuffer[ix] = 0;
+            samples.right = RBuffer[ix];
+            RBuffer[ix] = 0;
+            ix++;
+
+            processDSP(samples);
+
+            // Reduce to sample size by dithering - if necessary!
+            if (sampleSizeInBits < 32) { // our maximum - no dithering needed
+                samples.left = dither.process(samples.left, 0);
+                samples.right = dither.process(samples.right, 1);
+            }
+
+            // Clip the values to target:
+            if (samples.left > maximum) samples.left = maximum;
+            else if (samples.left < minimum) samples.left = minimum;
+            if (samples.right > maximum) samples.right = maximum;
+            else if (samples.right < minimum) samples.right = minimum;
+
+            // and after that put them into the output buffer
+            // to write to the sound stream
+            if (channels == 2) {
+                for (int i = 0; i < rounds; i++) {
+                    target[ox] = (byte) samples.left;
+                    target[ox + rounds] = (byte) samples.right;
+                    ox++;
+                    samples.left >>= 8;
+                    samples.right >>= 8;
+                }
+                ox += rounds; // skip saved right channel
+            } else {
+                long sample = (samples.left + samples.right) >> 1;
+                for (int i = 0; i < rounds; i++) {
+                    target[ox++] = (byte) sample;
+                    sample >>= 8;
+                }
+            }
+        }
+        return ox - offset;
+    }
+
+    /**
+     * @since 17.10.2026
+     */
+    @Override
+    public void openRendering() throws IOException {
+        renderSamples = new SampleFrame();
+        renderAllSamples = startOutput();
+    }
+
+    /**
+     * Mixes exactly the frames requested (at most one mixing buffer full)
+     * directly into the buffer given - no output engine, no copying.
+     *
+     * @since 17.10.2026
+     */
+    @Override
+    public int render(byte[] buffer, int offset, int length) throws IOException {
+        if (renderSamples == null) throw new IOException("Rendering not opened");
+        if (isStopping() || stopPositionIsReached()) {
+            setIsStopping();
+            return -1;
+        }
+
+        int frames = length / (rounds * channels);
+        if (frames > bufferSize) frames = bufferSize;
+        if (hasStopPosition()) {
+            long samplesLeft = getStopPosition() * (long) sampleRate / 1000L - currentSamplesWritten;
+            if (samplesLeft <= 0) {
+                setIsStopping();
+                return -1;
+            }
+            if (frames > samplesLeft) frames = (int) samplesLeft;
+        }
+        if (frames <= 0) return 0;
+
+        int count = modMixer.mixIntoBuffer(LBuffer, RBuffer, frames);
+        if (count <= 0) return -1;
+        int written = mixToBytes(renderSamples, count, buffer, offset);
+
+        currentSamplesWritten += count;
+        // let's reset the amount of samples written if we did a loop...
+        if (renderAllSamples != -1 && currentSamplesWritten > renderAllSamples)
+            currentSamplesWritten -= renderAllSamples;
+        return written;
+    }
+
+    /**
+     * @since 17.10.2026
+     */
+    @Override
+    public void closeRendering() throws IOException {
+        if (renderSamples != null) {
+            renderSamples = null;
+            stopOutput();
+        }
+    }
+
     @Override
     public OutputEngine getOutputEngine() {
         return new OutputEngine() {
@@ -568,22 +791,8 @@ public class ModMixer extends BasicMixer {
                     throw new IOException("Already initialized");
                 } else {
                     this.out = out;
-
-                    ModMixer.this.initialize();
-                    currentSamplesWritten = 0; // not in initialize which is also called at freq. changes
-
-                    setIsPlaying();
-
-                    if (getSeekPosition() > 0) seek(getSeekPosition());
-
                     samples = new SampleFrame();
-
-                    // how many Samples can we write out? We will need that to reset the currentSamplesWritten if MOD is looped.
-                    long lengthInMS = getLengthInMilliseconds();
-                    allSamplesWritten = (lengthInMS != -1) ? lengthInMS * sampleRate / 1000L : -1;
-
-                    // If we do export to wave and do not want to play during that, do not fire any updates
-                    modMixer.setFireUpdates(exportFile == null || playDuringExport);
+                    allSamplesWritten = startOutput();
                 }
             }
 
@@ -596,61 +805,7 @@ public class ModMixer extends BasicMixer {
                         // get "count" values of 32 bit signed sample data for mixing
                         count = modMixer.mixIntoBuffer(LBuffer, RBuffer, bufferSize);
                         if (count > 0) {
-                            int ox = 0;
-                            int ix = 0;
-                            while (ix < count) {
-                                // get Sample and reset to zero - the samples are clipped
-                                samples.left = LBuffer[ix];
-                                LBuffer[ix] = 0;
-                                samples.right = RBuffer[ix];
-                                RBuffer[ix] = 0;
-                                ix++;
-
-                                // DC Removal
-                                if (doDCRemoval) modDSP.processDCRemoval(samples);
-
-                                // Noise Reduction with a simple high pass filter:
-                                if (doNoiseReduction) modDSP.processNoiseReduction(samples);
-
-                                // MegaBass
-                                if (doMegaBass) modDSP.processMegaBass(samples);
-
-                                // WideStereo Mixing - but only with stereo
-                                //if (doWideStereoMix && channels>1) modDSP.processWideStereo(samples);
-                                if (doWideStereoMix && channels > 1) modDSP.processStereoSurround(samples);
-
-                                // Reduce to sample size by dithering - if necessary!
-                                if (sampleSizeInBits < 32) { // our maximum - no dithering needed
-                                    samples.left = dither.process(samples.left, 0);
-                                    samples.right = dither.process(samples.right, 1);
-                                }
-
-                                // Clip the values to target:
-                                if (samples.left > maximum) samples.left = maximum;
-                                else if (samples.left < minimum) samples.left = minimum;
-                                if (samples.right > maximum) samples.right = maximum;
-                                else if (samples.right < minimum) samples.right = minimum;
-
-                                // and after that put them into the output buffer
-                                // to write to the sound stream
-                                if (channels == 2) {
-                                    for (int i = 0; i < rounds; i++) {
-                                        output[ox] = (byte) samples.left;
-                                        output[ox + rounds] = (byte) samples.right;
-                                        ox++;
-                                        samples.left >>= 8;
-                                        samples.right >>= 8;
-                                    }
-                                    ox += rounds; // skip saved right channel
-                                } else {
-                                    long sample = (samples.left + samples.right) >> 1;
-                                    for (int i = 0; i < rounds; i++) {
-                                        output[ox++] = (byte) sample;
-                                        sample >>= 8;
-                                    }
-                                }
-                            }
-
+                            int ox = mixToBytes(samples, count, output, 0);
                             out.write(output, 0, ox);
 
                             currentSamplesWritten += count;
@@ -674,9 +829,7 @@ public class ModMixer extends BasicMixer {
 
             @Override
             public void finish() throws IOException {
-                modMixer.setFireUpdates(false);
-                setIsStopped();
-                if (modMidiMixer != null) modMidiMixer.closeOutputDevice();
+                stopOutput();
             }
         };
     }
@@ -32,14 +32,31 @@ import de.quippy.javamod.system.Helpers;
  */
 public interface ModUpdateListener {
 
+    /**
+     * The SongUpdater fills the same instances again for every event - so
+     * do not keep them after the call of the listener.
+     */
     class TimedInformation {
 
-        public final long samplesMixed;
-        public final long timeCode;
+        public long samplesMixed;
+        public long timeCode;
 
         public TimedInformation(int sampleRate, long samplesMixed) {
             this.samplesMixed = samplesMixed;
-            this.timeCode = (samplesMixed * 1000L) / (long) sampleRate;
+            this.timeCode = getTimeCode(sampleRate, samplesMixed);
+        }
+
+        TimedInformation() {
+        }
+
+        /**
+         * @param sampleRate
+         * @param samplesMixed
+         * @return the milliseconds of samplesMixed
+         * @since 17.10.2026
+         */
+        public static long getTimeCode(int sampleRate, long samplesMixed) {
+            return (samplesMixed * 1000L) / (long) sampleRate;
         }
 
         public String toString() {
@@ -50,8 +67,8 @@ public interface ModUpdateListener {
     class PatternPositionInformation extends TimedInformation {
 
         public boolean active;
-        public final int patternIndex;
-        public final int patternRow;
+        public int patternIndex;
+        public int patternRow;
 
         public PatternPositionInformation(int sampleRate, long samplesMixed, long position) {
             super(sampleRate, samplesMixed);
@@ -59,6 +76,16 @@ public interface ModUpdateListener {
             this.patternRow = (int) ((position >> 16) & 0xffFF);
         }
 
+        PatternPositionInformation() {
+        }
+
+        void set(long samplesMixed, long timeCode, long position) {
+            this.samplesMixed = samplesMixed;
+            this.timeCode = timeCode;
+            this.patternIndex = (int) ((position >> 48) & 0xffFF);
+            this.patternRow = (int) ((position >> 16) & 0xffFF);
+        }
+
         public String toString() {
             return super.toString() + "-->Position: " + ModConstants.getAsHex(patternIndex, 2) + "/" + ModConstants.getAsHex(patternRow, 2);
         }
@@ -66,11 +93,11 @@ public interface ModUpdateListener {
 
     class PeekInformation extends TimedInformation {
 
-        public final int channel;
-        public final int actPeekLeft;
-        public final int actPeekRight;
-        public final boolean isSurround;
-        public final boolean isMidiAdlib;
+        public int channel;
+        public int actPeekLeft;
+        public int actPeekRight;
+        public boolean isSurround;
+        public boolean isMidiAdlib;
 
         public PeekInformation(int sampleRate, long samplesMixed, int channel, int actPeekLeft, int actPeekRight, boolean isSurround, boolean isMidiAdlib) {
             super(sampleRate, samplesMixed);
@@ -85,6 +112,19 @@ public interface ModUpdateListener {
             this(sampleRate, samplesMixed, channel, actPeekLeft, actPeekRight, isSurround, false);
         }
 
+        PeekInformation() {
+        }
+
+        void set(long samplesMixed, long timeCode, int channel, int actPeekLeft, int actPeekRight, boolean isSurround, boolean isMidiAdlib) {
+            this.samplesMixed = samplesMixed;
+            this.timeCode = timeCode;
+            this.channel = channel;
+            this.actPeekLeft = actPeekLeft;
+            this.actPeekRight = actPeekRight;
+            this.isSurround = isSurround;
+            this.isMidiAdlib = isMidiAdlib;
+        }
+
         public String toString() {
             return super.toString() + "-->Peek: " + channel + ": " + actPeekLeft + "/" + actPeekRight + ((isSurround) ? " is surround" : Helpers.EMPTY_STING) + ((isMidiAdlib) ? " is Midi / Adlib " : Helpers.EMPTY_STING);
         }
@@ -130,6 +170,40 @@ public interface ModUpdateListener {
      */
     void getPeekInformation(ModUpdateListener.PeekInformation infoObject);
 
+    /**
+     * Called by the mixer for a row change instead of
+     * {@link #getPatternPositionInformation(PatternPositionInformation)}.
+     * This default creates the information object - listeners that can
+     * take the values directly override it, so the mixer does not allocate
+     * anything per event.
+     *
+     * @param sampleRate
+     * @param samplesMixed
+     * @param position
+     * @since 17.10.2026
+     */
+    default void pushPatternPosition(int sampleRate, long samplesMixed, long position) {
+        getPatternPositionInformation(new PatternPositionInformation(sampleRate, samplesMixed, position));
+    }
+
+    /**
+     * Called by the mixer for a peek instead of
+     * {@link #getPeekInformation(PeekInformation)}. This default creates
+     * the information object - see {@link #pushPatternPosition(int, long, long)}
+     *
+     * @param sampleRate
+     * @param samplesMixed
+     * @param channel
+     * @param actPeekLeft
+     * @param actPeekRight
+     * @param isSurround
+     * @param isMidiAdlib
+     * @since 17.10.2026
+     */
+    default void pushPeek(int sampleRate, long samplesMixed, int channel, int actPeekLeft, int actPeekRight, boolean isSurround, boolean isMidiAdlib) {
+        getPeekInformation(new PeekInformation(sampleRate, samplesMixed, channel, actPeekLeft, actPeekRight, isSurround, isMidiAdlib));
+    }
+
     /**
      * This method will inform any listener, that status informations will
      * be send (status==true) - or not (status==false). This is somewhat equal
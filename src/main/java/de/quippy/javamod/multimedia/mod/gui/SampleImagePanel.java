@@ -29,6 +29,7 @@ import javax.swing.JComponent;
 
 import de.quippy.javamod.multimedia.mod.ModConstants;
 import de.quippy.javamod.multimedia.mod.loader.instrument.Sample;
+import de.quippy.javamod.multimedia.mod.loader.instrument.SampleData;
 
 
 /**
@@ -54,7 +55,7 @@ public class SampleImagePanel extends JComponent {
         setDoubleBuffered(true);
     }
 
-    private void drawSample(Graphics g, int top, int left, int width, int height, int loopStart, int loopEnd, int sustainStart, int sustainEnd, long[] buffer) {
+    private void drawSample(Graphics g, int top, int left, int width, int height, int loopStart, int loopEnd, int sustainStart, int sustainEnd, SampleData buffer) {
         int halfHeight = height >> 1;
         g.setColor(LINE_COLOR);
         g.drawLine(left, top + halfHeight, left + width, top + halfHeight);
@@ -67,7 +68,7 @@ public class SampleImagePanel extends JComponent {
             g.setColor(WAVE_COLOR);
             for (int i = 0; i <= anzSamples; i++) {
                 int xp = (int) (((long) i * (long) width) / (long) anzSamples);
-                int yp = halfHeight - (int) ((buffer[i + Sample.INTERPOLATION_LOOK_AHEAD] * (long) halfHeight) >> 31);
+                int yp = halfHeight - (int) ((buffer.get(i + Sample.INTERPOLATION_LOOK_AHEAD) * (long) halfHeight) >> 31);
 
                 if (xp < 0) xp = 0;
                 else if (xp > width) xp = width;
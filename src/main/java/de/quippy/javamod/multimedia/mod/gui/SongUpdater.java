@@ -31,8 +31,7 @@ package de.quippy.javamod.multimedia.mod.gui;
 
 import java.util.ArrayList;
 import java.util.List;
-
-import de.quippy.javamod.system.CircularBuffer;
+import java.util.concurrent.locks.LockSupport;
 
 
 /**
@@ -67,8 +66,12 @@ public class SongUpdater implements ModUpdateListener {
     private class SongFollower extends Thread {
 
         private static final int INITIAL_SIZE = 0x1000; // 64 channel with 750ms sound buffer needs a push buffer of approximately 0xF00 size.
-        //		private static final int GROW_BY_SIZE = 0x100;
-        private final CircularBuffer<TimedInformation> buffer;
+        private static final long MAX_PARK_NANOS = 10000000L;
+        // the events are written into arrays - no object per event, as 128 channels at small buffer sizes produce several hundred thousand per second
+        private final UpdateEventRing ring;
+        // and handed to the listeners with these - refilled for every event
+        private final PatternPositionInformation patternPositionInformation;
+        private final PeekInformation peekInformation;
 
         private volatile boolean running;
         private volatile boolean hasStopped;
@@ -76,33 +79,76 @@ public class SongUpdater implements ModUpdateListener {
         private volatile boolean paused;
         private volatile boolean isPaused;
         private volatile boolean drain;
+        private volatile boolean waiting;
 
         public SongFollower() {
             super();
-            buffer = new CircularBuffer<>(INITIAL_SIZE);
+            ring = new UpdateEventRing(INITIAL_SIZE);
+            patternPositionInformation = new PatternPositionInformation();
+            peekInformation = new PeekInformation();
             running = true;
             hasStopped = false;
             updating = false;
             paused = isPaused = false;
             drain = false;
+            waiting = false;
             setName("InformerThread");
             setDaemon(true);
 //			try { this.setPriority(Thread.MAX_PRIORITY); } catch (SecurityException ex) { /*NOOP*/ }
         }
 
         /**
-         * Add an event from outside
+         * Add a pattern position event from outside
          *
-         * @param information
-         * @since 13.11.2023
+         * @param samplesMixed
+         * @param timeCode
+         * @param position
+         * @since 17.10.2026
+         */
+        public void pushPatternPosition(long samplesMixed, long timeCode, long position) {
+            waitForDrain();
+            // If events cannot be pushed, forget them!
+            if (running && ring.putPatternPosition(samplesMixed, timeCode, position)) wakeUp();
+        }
+
+        /**
+         * Add a peek event from outside
+         *
+         * @param samplesMixed
+         * @param timeCode
+         * @param channel
+         * @param actPeekLeft
+         * @param actPeekRight
+         * @param isSurround
+         * @param isMidiAdlib
+         * @since 17.10.2026
          */
-        public void push(TimedInformation information) {
+        public void pushPeek(long samplesMixed, long timeCode, int channel, int actPeekLeft, int actPeekRight, boolean isSurround, boolean isMidiAdlib) {
+            waitForDrain();
+            if (running && ring.putPeek(samplesMixed, timeCode, channel, actPeekLeft, actPeekRight, isSurround, isMidiAdlib)) wakeUp();
+        }
+
+        private void waitForDrain() {
             while (drain) try {
                 Thread.sleep(10L);
             } catch (InterruptedException ex) { /*NOOP*/ }
-            if (running) {
-//				if (buffer.isFull()) buffer.growBy(GROW_BY_SIZE); // we do not want to grow as that is not thread safe. If events cannot be pushed, forget them!
-                buffer.push(information);
+        }
+
+        private void wakeUp() {
+            if (waiting) LockSupport.unpark(this);
+        }
+
+        /**
+         * Park till an event is pushed or we are stopped
+         *
+         * @since 17.10.2026
+         */
+        private void waitForEvents() {
+            while (ring.isEmpty() && running) {
+                waiting = true;
+                // check again - a push before waiting was set did not unpark us
+                if (ring.isEmpty() && running) LockSupport.parkNanos(this, MAX_PARK_NANOS);
+                waiting = false;
             }
         }
 
@@ -112,7 +158,7 @@ public class SongUpdater implements ModUpdateListener {
          * @since 24.11.2023
          */
         public void flush() {
-            buffer.flush();
+            ring.flush();
             while (updating) try {
                 Thread.sleep(10L);
             } catch (InterruptedException ex) { /*NOOP*/ }
@@ -127,7 +173,7 @@ public class SongUpdater implements ModUpdateListener {
          */
         public void drain() {
             drain = true;
-            while (!buffer.isEmpty()) try {
+            while (!ring.isEmpty()) try {
                 Thread.sleep(10L);
             } catch (InterruptedException ex) { /*NOOP*/ }
             drain = false;
@@ -141,6 +187,7 @@ public class SongUpdater implements ModUpdateListener {
          */
         public void stopMe() {
             running = false;
+            LockSupport.unpark(this);
             flush();
             while (!hasStopped) try {
                 Thread.sleep(10L);
@@ -160,6 +207,23 @@ public class SongUpdater implements ModUpdateListener {
             } catch (InterruptedException ex) { /*NOOP*/ }
         }
 
+        /**
+         * Hand the event of that sequence to the listeners
+         *
+         * @param sequence
+         * @since 17.10.2026
+         */
+        private void fireEvent(long sequence) {
+            if (ring.getType(sequence) == UpdateEventRing.TYPE_PATTERN_POSITION) {
+                patternPositionInformation.set(ring.getSamplesMixed(sequence), ring.getTimeCode(sequence), ring.getPosition(sequence));
+                if (ring.isValid(sequence)) SongUpdater.this.firePatternPositionInformation(patternPositionInformation);
+            } else {
+                peekInformation.set(ring.getSamplesMixed(sequence), ring.getTimeCode(sequence), ring.getChannel(sequence),
+                        ring.getPeekLeft(sequence), ring.getPeekRight(sequence), ring.isSurround(sequence), ring.isMidiAdlib(sequence));
+                if (ring.isValid(sequence)) SongUpdater.this.firePeekInformation(peekInformation);
+            }
+        }
+
         @Override
         public void run() {
             long additionalWait = 0;
@@ -168,34 +232,31 @@ public class SongUpdater implements ModUpdateListener {
 
             while (running) {
                 // wait for the first event to appear
-                while (buffer.isEmpty() && running) try {
-                    Thread.sleep(1L);
-                } catch (InterruptedException ex) { /*NOOP*/ }
+                waitForEvents();
                 if (!running) break; // if we got stopped meanwhile, let's drop out...
 
-                while (!buffer.isEmpty()) {
+                while (!ring.isEmpty()) {
                     long startNanoTime = System.nanoTime();
 
-                    TimedInformation information = buffer.peek(0);
+                    long timeCode = ring.getTimeCode(ring.nextSequence());
 
-                    long nanoWait = ((information.timeCode - lastTimeCode) * 1000000L) - additionalWait;
-                    lastTimeCode = information.timeCode;
+                    long nanoWait = ((timeCode - lastTimeCode) * 1000000L) - additionalWait;
+                    lastTimeCode = timeCode;
                     if (nanoWait > 0)
                         try {
                             Thread.sleep(nanoWait / 1000000L);
                         } catch (InterruptedException ex) { /*NOOP*/ }
 
                     updating = true;
-                    while (!buffer.isEmpty() && buffer.peek(0).timeCode <= lastTimeCode) {
-                        information = buffer.pop();
-                        if (information != null) SongUpdater.this.fireTimedInformation(information);
+                    long sequence;
+                    while (ring.isAvailable(sequence = ring.nextSequence()) && ring.getTimeCode(sequence) <= lastTimeCode) {
+                        fireEvent(sequence);
+                        ring.release(sequence + 1);
                     }
                     updating = false;
 
                     // if this was the last event in the queue, wait for the next one - typically this is a pattern delay...
-                    while (buffer.isEmpty() && running) try {
-                        Thread.sleep(1L);
-                    } catch (InterruptedException ex) { /*NOOP*/ }
+                    waitForEvents();
 
                     if (paused) { // if we should pause updates, wait here...
                         isPaused = true;
@@ -300,15 +361,6 @@ public class SongUpdater implements ModUpdateListener {
         }
     }
 
-    private void fireTimedInformation(TimedInformation information) {
-        if (information != null) {
-            if (information instanceof PatternPositionInformation)
-                firePatternPositionInformation((PatternPositionInformation) information);
-            else if (information instanceof PeekInformation)
-                firePeekInformation((PeekInformation) information);
-        }
-    }
-
     public void fireInformationUpdate(StatusInformation information) {
         if (listeners != null && information != null) {
             for (ModUpdateListener listener : listeners) {
@@ -323,7 +375,7 @@ public class SongUpdater implements ModUpdateListener {
      */
     @Override
     public void getPatternPositionInformation(PatternPositionInformation infoObject) {
-        if (songFollower != null && infoObject != null) songFollower.push(infoObject);
+        if (songFollower != null && infoObject != null) songFollower.pushPatternPosition(infoObject.samplesMixed, infoObject.timeCode, ((long) infoObject.patternIndex << 48) | ((long) infoObject.patternRow << 16));
     }
 
     /**
@@ -332,7 +384,42 @@ public class SongUpdater implements ModUpdateListener {
      */
     @Override
     public void getPeekInformation(PeekInformation infoObject) {
-        if (songFollower != null && infoObject != null) songFollower.push(infoObject);
+        if (songFollower != null && infoObject != null)
+            songFollower.pushPeek(infoObject.samplesMixed, infoObject.timeCode, infoObject.channel, infoObject.actPeekLeft, infoObject.actPeekRight, infoObject.isSurround, infoObject.isMidiAdlib);
+    }
+
+    /**
+     * Same as {@link #getPatternPositionInformation(PatternPositionInformation)}
+     * without an information object
+     *
+     * @param sampleRate
+     * @param samplesMixed
+     * @param position
+     * @since 17.10.2026
+     */
+    @Override
+    public void pushPatternPosition(int sampleRate, long samplesMixed, long position) {
+        SongFollower follower = songFollower;
+        if (follower != null) follower.pushPatternPosition(samplesMixed, TimedInformation.getTimeCode(sampleRate, samplesMixed), position);
+    }
+
+    /**
+     * Same as {@link #getPeekInformation(PeekInformation)} without an
+     * information object
+     *
+     * @param sampleRate
+     * @param samplesMixed
+     * @param channel
+     * @param actPeekLeft
+     * @param actPeekRight
+     * @param isSurround
+     * @param isMidiAdlib
+     * @since 17.10.2026
+     */
+    @Override
+    public void pushPeek(int sampleRate, long samplesMixed, int channel, int actPeekLeft, int actPeekRight, boolean isSurround, boolean isMidiAdlib) {
+        SongFollower follower = songFollower;
+        if (follower != null) follower.pushPeek(samplesMixed, TimedInformation.getTimeCode(sampleRate, samplesMixed), channel, actPeekLeft, actPeekRight, isSurround, isMidiAdlib);
     }
 
     /**
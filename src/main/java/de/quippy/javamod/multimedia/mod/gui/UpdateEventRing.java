@@ -0,0 +1,221 @@
+/*
+ * @(#) UpdateEventRing.java
+ *
+ * Created on 17.10.2026 by Daniel Becker
+ *
+ *-----------------------------------------------------------------------
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation; either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, write to the Free Software
+ *  Foundation, Inc., 675 Mass Ave, Cambridge, MA 02139, USA.
+ *----------------------------------------------------------------------
+ */
+
+package de.quippy.javamod.multimedia.mod.gui;
+
+import java.lang.invoke.VarHandle;
+
+/**
+ * A ring of a fixed capacity for the update events of the mixer - one
+ * array per field instead of one object per event, so pushing and popping
+ * does not allocate anything.<br>
+ * Events are addressed by sequence numbers counting up forever, the slot
+ * of a sequence is <code>sequence &amp; mask</code>. Exactly one thread
+ * writes (the mixer) and one thread reads (the song follower). The write
+ * sequence is published after the slot is filled, the read sequence after
+ * the slot is consumed - so no locks are needed.<br>
+ * If the ring is full, events are dropped - the mixer must never wait
+ * for the GUI.
+ *
+ * @author Daniel Becker
+ * @since 17.10.2026
+ */
+final class UpdateEventRing {
+
+    static final int TYPE_PATTERN_POSITION = 0;
+    static final int TYPE_PEEK = 1;
+
+    private static final int FLAG_SURROUND = 0x01;
+    private static final int FLAG_MIDI_ADLIB = 0x02;
+
+    private final int mask;
+
+    private final int[] types;
+    private final long[] samplesMixed;
+    private final long[] timeCodes;
+    private final long[] positions;
+    private final int[] channels;
+    private final int[] peeksLeft;
+    private final int[] peeksRight;
+    private final int[] flags;
+
+    /** next sequence to write - written by the mixer only */
+    private volatile long writeSequence;
+    /** next sequence to read - written by the follower only */
+    private volatile long readSequence;
+    /** all sequences below are invalid - set by flush from any thread */
+    private volatile long flushSequence;
+
+    /**
+     * Constructor for UpdateEventRing
+     *
+     * @param capacity will be rounded up to a power of two
+     */
+    UpdateEventRing(int capacity) {
+        super();
+        int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        mask = size - 1;
+        types = new int[size];
+        samplesMixed = new long[size];
+        timeCodes = new long[size];
+        positions = new long[size];
+        channels = new int[size];
+        peeksLeft = new int[size];
+        peeksRight = new int[size];
+        flags = new int[size];
+    }
+
+    /**
+     * @param samplesMixedAt
+     * @param timeCode in milliseconds
+     * @param position pattern position of the mixer
+     * @return false, if the ring was full and the event was dropped
+     */
+    boolean putPatternPosition(long samplesMixedAt, long timeCode, long position) {
+        long sequence = writeSequence;
+        if (isFull(sequence)) return false;
+        int slot = (int) sequence & mask;
+        types[slot] = TYPE_PATTERN_POSITION;
+        samplesMixed[slot] = samplesMixedAt;
+        timeCodes[slot] = timeCode;
+        positions[slot] = position;
+        writeSequence = sequence + 1;
+        return true;
+    }
+
+    /**
+     * @param samplesMixedAt
+     * @param timeCode in milliseconds
+     * @param channel
+     * @param peekLeft
+     * @param peekRight
+     * @param isSurround
+     * @param isMidiAdlib
+     * @return false, if the ring was full and the event was dropped
+     */
+    boolean putPeek(long samplesMixedAt, long timeCode, int channel, int peekLeft, int peekRight, boolean isSurround, boolean isMidiAdlib) {
+        long sequence = writeSequence;
+        if (isFull(sequence)) return false;
+        int slot = (int) sequence & mask;
+        types[slot] = TYPE_PEEK;
+        samplesMixed[slot] = samplesMixedAt;
+        timeCodes[slot] = timeCode;
+        channels[slot] = channel;
+        peeksLeft[slot] = peekLeft;
+        peeksRight[slot] = peekRight;
+        flags[slot] = ((isSurround) ? FLAG_SURROUND : 0) | ((isMidiAdlib) ? FLAG_MIDI_ADLIB : 0);
+        writeSequence = sequence + 1;
+        return true;
+    }
+
+    private boolean isFull(long sequence) {
+        return sequence - Math.max(readSequence, flushSequence) > mask;
+    }
+
+    /**
+     * @return the sequence of the next event to read - skipping flushed ones
+     */
+    long nextSequence() {
+        return Math.max(readSequence, flushSequence);
+    }
+
+    /**
+     * @param sequence
+     * @return true, if an event of that sequence was written
+     */
+    boolean isAvailable(long sequence) {
+        return sequence < writeSequence;
+    }
+
+    /**
+     * Call this after reading the slot of the sequence. The fence keeps the
+     * reads of the slot before the read of flushSequence - otherwise they
+     * could see values written after a flush.
+     *
+     * @param sequence
+     * @return true, if the event of that sequence was not flushed meanwhile
+     * - its slot may have been overwritten then
+     */
+    boolean isValid(long sequence) {
+        VarHandle.loadLoadFence();
+        return sequence >= flushSequence;
+    }
+
+    /**
+     * Hands the slots up to that sequence back to the writer
+     *
+     * @param sequence the sequence of the next event to read
+     */
+    void release(long sequence) {
+        readSequence = sequence;
+    }
+
+    /**
+     * @return true, if there are no events to read
+     */
+    boolean isEmpty() {
+        return !isAvailable(nextSequence());
+    }
+
+    /**
+     * Invalidate all events written so far - can be called by any thread
+     */
+    void flush() {
+        flushSequence = writeSequence;
+    }
+
+    int getType(long sequence) {
+        return types[(int) sequence & mask];
+    }
+
+    long getSamplesMixed(long sequence) {
+        return samplesMixed[(int) sequence & mask];
+    }
+
+    long getTimeCode(long sequence) {
+        return timeCodes[(int) sequence & mask];
+    }
+
+    long getPosition(long sequence) {
+        return positions[(int) sequence & mask];
+    }
+
+    int getChannel(long sequence) {
+        return channels[(int) sequence & mask];
+    }
+
+    int getPeekLeft(long sequence) {
+        return peeksLeft[(int) sequence & mask];
+    }
+
+    int getPeekRight(long sequence) {
+        return peeksRight[(int) sequence & mask];
+    }
+
+    boolean isSurround(long sequence) {
+        return (flags[(int) sequence & mask] & FLAG_SURROUND) != 0;
+    }
+
+    boolean isMidiAdlib(long sequence) {
+        return (flags[(int) sequence & mask] & FLAG_MIDI_ADLIB) != 0;
+    }
+}
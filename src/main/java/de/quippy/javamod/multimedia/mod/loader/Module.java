@@ -26,8 +26,13 @@ import java.awt.Color;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InterruptedIOException;
 import java.net.URL;
 import java.util.Arrays;
+import java.util.BitSet;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.IntConsumer;
 
 import de.quippy.javamod.io.ModfileInputStream;
 import de.quippy.javamod.io.RandomAccessInputStream;
@@ -35,6 +40,7 @@ import de.quippy.javamod.multimedia.mod.ModConstants;
 import de.quippy.javamod.multimedia.mod.loader.instrument.Instrument;
 import de.quippy.javamod.multimedia.mod.loader.instrument.InstrumentsContainer;
 import de.quippy.javamod.multimedia.mod.loader.instrument.Sample;
+import de.quippy.javamod.multimedia.mod.loader.instrument.SampleData;
 import de.quippy.javamod.multimedia.mod.loader.pattern.PatternContainer;
 import de.quippy.javamod.multimedia.mod.midi.MidiMacros;
 import de.quippy.javamod.multimedia.mod.mixer.BasicModMixer;
@@ -46,6 +52,11 @@ import de.quippy.javamod.multimedia.mod.mixer.BasicModMixer;
  */
 public abstract class Module {
 
+    /** system property with the amount of threads decoding compressed samples */
+    public static final String PROPERTY_SAMPLE_DECODING_PARALLELISM = "javamod.mod.loader.parallelism";
+    /** amount of threads decoding compressed samples - 1 decodes them one after another */
+    private static volatile int sampleDecodingParallelism = Math.max(1, Integer.getInteger(PROPERTY_SAMPLE_DECODING_PARALLELISM, Runtime.getRuntime().availableProcessors()));
+
     // Flags for readExtendedFlags
     private static final int dFdd_VOLUME = 0x0001;
     private static final int dFdd_VOLSUSTAIN = 0x0002;
@@ -91,6 +102,10 @@ public abstract class Module {
     private int mixingPreAmp;
     /** 0..256 like mixingPreAmp but for synth Channels */
     private int synthMixingPreAmp;
+    /** created with the first sample loaded */
+    private SampleDecoder sampleDecoder;
+    /** loaded without sample data - see loadModHeader */
+    private boolean headerOnly;
 
     protected int songFlags;
 
@@ -234,7 +249,7 @@ public abstract class Module {
         private byte[] sourceBuffer;
         private int sourceIndex;
         // Destination (24Bit signed mono!)
-        private final long[] destBuffer;
+        private final SampleData destBuffer;
         private int destIndex;
         /** Samples to fill */
         private int anzSamples;
@@ -242,9 +257,12 @@ public abstract class Module {
         private int bitsRemain;
         /** true, if we have IT Version >2.15 packed Data */
         private final boolean isIT215;
+        /** hands out the reusable block buffer */
+        private final SampleDecoder decoder;
 
-        public ITDeCompressor(long[] buffer, int length, boolean isIT215, RandomAccessInputStream inputStream) {
+        public ITDeCompressor(SampleData buffer, int length, boolean isIT215, RandomAccessInputStream inputStream, SampleDecoder decoder) {
             this.input = inputStream;
+            this.decoder = decoder;
             this.sourceBuffer = null;
             this.sourceIndex = 0;
             this.bitsRemain = 0;
@@ -311,7 +329,8 @@ public abstract class Module {
             if (size == 0) return false;
             if (input.available() < size) size = input.available(); // Dirty Hack - should never happen
 
-            sourceBuffer = new byte[size];
+            // reused for all blocks - the buffer might be larger than size
+            sourceBuffer = decoder.getITBlockBuffer(size);
             input.read(sourceBuffer, 0, size);
             sourceIndex = 0;
             bitsRemain = 8;
@@ -383,7 +402,7 @@ public abstract class Module {
                     d2 += d1;
 
                     // ... and store it into the buffer
-                    this.destBuffer[destIndex++] = ModConstants.promoteSigned8BitToSigned32Bit((isIT215) ? d2 : d1);
+                    this.destBuffer.set(destIndex++, ModConstants.promoteSigned8BitToSigned32Bit((isIT215) ? d2 : d1));
                     blkpos++;
                 }
 
@@ -458,7 +477,7 @@ public abstract class Module {
                     d2 += d1;
 
                     // ... and store it into the buffer
-                    this.destBuffer[destIndex++] = ModConstants.promoteSigned16BitToSigned32Bit((isIT215) ? d2 : d1);
+                    this.destBuffer.set(destIndex++, ModConstants.promoteSigned16BitToSigned32Bit((isIT215) ? d2 : d1));
                     blkpos++;
                 }
 
@@ -527,7 +546,7 @@ public abstract class Module {
      */
     public void loadModFile(ModfileInputStream inputStream) throws IOException {
         this.fileName = inputStream.getFileName();
-        loadModFileInternal(inputStream);
+        loadModFile((RandomAccessInputStream) inputStream);
     }
 
     /**
@@ -535,7 +554,114 @@ public abstract class Module {
      * @since 3.9.6
      */
     public void loadModFile(RandomAccessInputStream inputStream) throws IOException {
-        loadModFileInternal(inputStream);
+        load(inputStream, false);
+    }
+
+    /**
+     * Loads everything of a module but its sample data: song name, tracker,
+     * channels, order list, patterns, instruments and sample headers. No
+     * memory for sample data is allocated - the sample lengths stay set,
+     * the samples simply have no data.
+     * Such a module is good for song infos and the length calculation
+     * (which only needs the patterns) but cannot be played.
+     *
+     * @param inputStream by mod file input stream
+     * @throws IOException when an io error occurs
+     * @since 17.10.2026
+     */
+    public void loadModHeader(ModfileInputStream inputStream) throws IOException {
+        this.fileName = inputStream.getFileName();
+        load(inputStream, true);
+    }
+
+    private void load(RandomAccessInputStream inputStream, boolean headerOnly) throws IOException {
+        this.headerOnly = headerOnly;
+        try {
+            loadModFileInternal(inputStream);
+        } finally {
+            sampleDecoder = null; // buffers are only needed while loading
+        }
+    }
+
+    /**
+     * @return true, if this module was loaded without sample data
+     * @since 17.10.2026
+     */
+    public boolean isHeaderOnly() {
+        return headerOnly;
+    }
+
+    /**
+     * @return the amount of threads decoding compressed samples
+     * @since 17.10.2026
+     */
+    public static int getSampleDecodingParallelism() {
+        return sampleDecodingParallelism;
+    }
+
+    /**
+     * Set the amount of threads decoding compressed samples (MP3, Ogg, FLAC...)
+     * while loading. 1 decodes them one after another in the loading thread.
+     *
+     * @param parallelism amount of threads, at least 1
+     * @since 17.10.2026
+     */
+    public static void setSampleDecodingParallelism(int parallelism) {
+        if (parallelism < 1) throw new IllegalArgumentException("Parallelism must be at least 1: " + parallelism);
+        sampleDecodingParallelism = parallelism;
+    }
+
+    /**
+     * Calls the decoder for every index from 0 to count - spread over up to
+     * {@link #getSampleDecodingParallelism()} virtual threads. The decodes must
+     * be independent of each other. Returns, when all are done - so the results
+     * are visible to the caller.
+     *
+     * @param count amount of samples to decode
+     * @param decoder decodes the sample of the index given
+     * @throws IOException when interrupted while waiting
+     * @since 17.10.2026
+     */
+    protected static void decodeSamples(int count, IntConsumer decoder) throws IOException {
+        int threads = Math.min(sampleDecodingParallelism, count);
+        if (threads <= 1) {
+            for (int i = 0; i < count; i++) decoder.accept(i);
+            return;
+        }
+
+        AtomicInteger nextIndex = new AtomicInteger();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Runnable worker = () -> {
+            int index;
+            while (failure.get() == null && (index = nextIndex.getAndIncrement()) < count) {
+                try {
+                    decoder.accept(index);
+                } catch (Throwable ex) {
+                    failure.compareAndSet(null, ex);
+                }
+            }
+        };
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) workers[t] = Thread.ofVirtual().name("SampleDecoder-", t).start(worker);
+        try {
+            for (Thread thread : workers) thread.join();
+        } catch (InterruptedException ex) {
+            failure.compareAndSet(null, ex); // let the workers stop with their current sample
+            Thread.currentThread().interrupt();
+            throw (InterruptedIOException) new InterruptedIOException("Interrupted while decoding samples").initCause(ex);
+        }
+        Throwable ex = failure.get();
+        if (ex instanceof RuntimeException rex) throw rex;
+        if (ex instanceof Error err) throw err;
+    }
+
+    /**
+     * @return the decoder with the reusable buffers for loading the samples
+     * @since 17.10.2026
+     */
+    private SampleDecoder getSampleDecoder() {
+        if (sampleDecoder == null) sampleDecoder = new SampleDecoder();
+        return sampleDecoder;
     }
 
     /**
@@ -553,88 +679,85 @@ public abstract class Module {
         boolean isBigEndian = (flags & ModConstants.SM_BigEndian) != 0;
 //        current.setStereo(isStereo); // just to be sure...
 
+        if (headerOnly) {
+            if (current.sampleLength > 0) skipSampleData(current, inputStream);
+            return;
+        }
         if (current.sampleLength > 0) {
             current.allocSampleData();
             if ((flags & ModConstants.SM_IT214) != 0 || (flags & ModConstants.SM_IT215) != 0) {
                 boolean isIT215 = (flags & ModConstants.SM_IT215) != 0;
-                ITDeCompressor reader = new ITDeCompressor(current.sampleL, current.sampleLength, isIT215, inputStream);
+                ITDeCompressor reader = new ITDeCompressor(current.sampleL, current.sampleLength, isIT215, inputStream, getSampleDecoder());
                 if (is16Bit)
                     reader.decompress16();
                 else
                     reader.decompress8();
                 if (isStereo) {
-                    ITDeCompressor reader2 = new ITDeCompressor(current.sampleR, current.sampleLength, isIT215, inputStream);
+                    ITDeCompressor reader2 = new ITDeCompressor(current.sampleR, current.sampleLength, isIT215, inputStream, getSampleDecoder());
                     if (is16Bit)
                         reader2.decompress16();
                     else
                         reader.decompress8();
                 }
-            } else if ((flags & ModConstants.SM_ADPCM) != 0) {
-                byte[] deltaLUT = new byte[16];
-                inputStream.read(deltaLUT);
-
-                int length = (current.sampleLength + 1) >> 1;
-                byte currentSample = 0;
-                for (int i = 0, s = 0; i < length; i++) {
-                    int nibble = inputStream.read();
-
-                    currentSample += deltaLUT[nibble & 0x0F];
-                    current.sampleL[s++] = ModConstants.promoteSigned8BitToSigned32Bit(currentSample);
-
-                    currentSample += deltaLUT[nibble >> 4];
-                    current.sampleL[s++] = ModConstants.promoteSigned8BitToSigned32Bit(currentSample);
-                }
-            } else if ((flags & ModConstants.SM_PCMD) != 0 || (flags & ModConstants.SM_PTM8Dto16) != 0) {
-                if (is16Bit && (flags & ModConstants.SM_PTM8Dto16) == 0) {
-                    short delta = 0;
-                    for (int s = 0; s < current.sampleLength; s++) {
-                        current.sampleL[s] = ModConstants.promoteSigned16BitToSigned32Bit(
-                                delta += (isBigEndian) ? inputStream.readMotorolaWord() : inputStream.readIntelWord());
-                    }
-                    if (isStereo) {
-                        delta = 0;
-                        for (int s = 0; s < current.sampleLength; s++) {
-                            current.sampleR[s] = ModConstants.promoteSigned16BitToSigned32Bit(
-                                    delta += (isBigEndian) ? inputStream.readMotorolaWord() : inputStream.readIntelWord());
-                        }
-                    }
-                } else { // PTM8Dto16 means 8 bit deltas to promote to 16 Bit samples
-                    byte delta = 0;
-                    for (int s = 0; s < current.sampleLength; s++)
-                        current.sampleL[s] = ModConstants.promoteSigned8BitToSigned32Bit(delta += inputStream.readByte());
-                    if (isStereo) {
-                        delta = 0;
-                        for (int s = 0; s < current.sampleLength; s++)
-                            current.sampleR[s] = ModConstants.promoteSigned8BitToSigned32Bit(delta += inputStream.readByte());
-                    }
-                }
-            } else if ((flags & ModConstants.SM_16BIT) != 0) { // 16 Bit PCM Samples
-                for (int s = 0; s < current.sampleLength; s++) {
-                    short sample = (isBigEndian) ? inputStream.readMotorolaWord() : inputStream.readIntelWord();
-                    current.sampleL[s] = (isUnsigned) ? ModConstants.promoteUnsigned16BitToSigned32Bit(sample) : ModConstants.promoteSigned16BitToSigned32Bit(sample);
-                }
-                if (isStereo) {
-                    for (int s = 0; s < current.sampleLength; s++) {
-                        short sample = (isBigEndian) ? inputStream.readMotorolaWord() : inputStream.readIntelWord();
-                        current.sampleR[s] = (isUnsigned) ? ModConstants.promoteUnsigned16BitToSigned32Bit(sample) : ModConstants.promoteSigned16BitToSigned32Bit(sample);
-                    }
-                }
-            } else { // 8 Bit Samples, singed or unsigned
-                for (int s = 0; s < current.sampleLength; s++) {
-                    byte sample = inputStream.readByte();
-                    current.sampleL[s] = (isUnsigned) ? ModConstants.promoteUnsigned8BitToSigned32Bit(sample) : ModConstants.promoteSigned8BitToSigned32Bit(sample);
-                }
-                if (isStereo) {
-                    for (int s = 0; s < current.sampleLength; s++) {
-                        byte sample = inputStream.readByte();
-                        current.sampleR[s] = (isUnsigned) ? ModConstants.promoteUnsigned8BitToSigned32Bit(sample) : ModConstants.promoteSigned8BitToSigned32Bit(sample);
+            } else {
+                SampleDecoder decoder = getSampleDecoder();
+                if ((flags & ModConstants.SM_ADPCM) != 0) {
+                    decoder.readADPCM(inputStream, current.sampleL, current.sampleLength);
+                } else if ((flags & ModConstants.SM_PCMD) != 0 || (flags & ModConstants.SM_PTM8Dto16) != 0) {
+                    if (is16Bit && (flags & ModConstants.SM_PTM8Dto16) == 0) {
+                        decoder.read16Bit(inputStream, current.sampleL, current.sampleLength, false, isBigEndian, true);
+                        if (isStereo) decoder.read16Bit(inputStream, current.sampleR, current.sampleLength, false, isBigEndian, true);
+                    } else { // PTM8Dto16 means 8 bit deltas to promote to 16 Bit samples
+                        decoder.read8Bit(inputStream, current.sampleL, current.sampleLength, false, true);
+                        if (isStereo) decoder.read8Bit(inputStream, current.sampleR, current.sampleLength, false, true);
                     }
+                } else if ((flags & ModConstants.SM_16BIT) != 0) { // 16 Bit PCM Samples
+                    decoder.read16Bit(inputStream, current.sampleL, current.sampleLength, isUnsigned, isBigEndian, false);
+                    if (isStereo) decoder.read16Bit(inputStream, current.sampleR, current.sampleLength, isUnsigned, isBigEndian, false);
+                } else { // 8 Bit Samples, singed or unsigned
+                    decoder.read8Bit(inputStream, current.sampleL, current.sampleLength, isUnsigned, false);
+                    if (isStereo) decoder.read8Bit(inputStream, current.sampleR, current.sampleLength, isUnsigned, false);
                 }
             }
             current.fixSampleLoops(getModType());
         }
     }
 
+    /**
+     * Skips the sample data readSampleData would read
+     *
+     * @param current sample
+     * @param inputStream {@link RandomAccessInputStream}
+     * @since 17.10.2026
+     */
+    private void skipSampleData(Sample current, RandomAccessInputStream inputStream) throws IOException {
+        int flags = current.sampleType;
+        int channels = ((flags & ModConstants.SM_STEREO) != 0) ? 2 : 1;
+        boolean is16Bit = (flags & ModConstants.SM_16BIT) != 0;
+        long length = current.sampleLength;
+        long position = inputStream.getFilePointer();
+        if ((flags & ModConstants.SM_IT214) != 0 || (flags & ModConstants.SM_IT215) != 0) {
+            // every compressed block starts with its size
+            int blockLength = (is16Bit) ? 0x4000 : 0x8000;
+            long blocks = channels * ((length + blockLength - 1) / blockLength);
+            for (long block = 0; block < blocks && inputStream.available() > 0; block++) {
+                int size = inputStream.readIntelUnsignedWord();
+                if (size == 0) break;
+                position = inputStream.getFilePointer() + size;
+                // a block running past the end is cut off - as the samples read below
+                inputStream.seek(Math.min(position, inputStream.getLength()));
+            }
+            return;
+        } else if ((flags & ModConstants.SM_ADPCM) != 0) {
+            position += 16 + ((length + 1) >> 1);
+        } else if (is16Bit && (flags & ModConstants.SM_PTM8Dto16) == 0) {
+            position += length * 2 * channels;
+        } else {
+            position += length * channels;
+        }
+        inputStream.seek(Math.min(position, inputStream.getLength()));
+    }
+
     /**
      * Return true, if this mod allows for Amiga Paula emulation
      * @since 28.04.2026
@@ -797,6 +920,33 @@ public abstract class Module {
         arrangementPositionPlayed[position] = true;
     }
 
+    /**
+     * The complete state of the loop recognition: the arrangement positions
+     * played followed by the rows played of all patterns.
+     *
+     * @return the state as a BitSet
+     * @since 17.10.2026
+     */
+    public BitSet getLoopRecognitionState() {
+        BitSet state = new BitSet();
+        for (int i = 0; i < arrangementPositionPlayed.length; i++)
+            if (arrangementPositionPlayed[i]) state.set(i);
+        getPatternContainer().getRowsPlayed(state, arrangementPositionPlayed.length);
+        return state;
+    }
+
+    /**
+     * Restores a state retrieved with getLoopRecognitionState
+     *
+     * @param state
+     * @since 17.10.2026
+     */
+    public void setLoopRecognitionState(BitSet state) {
+        for (int i = 0; i < arrangementPositionPlayed.length; i++)
+            arrangementPositionPlayed[i] = state.get(i);
+        getPatternContainer().setRowsPlayed(state, arrangementPositionPlayed.length);
+    }
+
     /**
      * @return Returns the bPMSpeed.
      */
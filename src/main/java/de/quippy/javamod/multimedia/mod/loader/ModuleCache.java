@@ -0,0 +1,289 @@
+/*
+ * @(#) ModuleCache.java
+ *
+ * Created on 17.10.2026 by Daniel Becker
+ *
+ *-----------------------------------------------------------------------
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation; either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, write to the Free Software
+ *  Foundation, Inc., 675 Mass Ave, Cambridge, MA 02139, USA.
+ *----------------------------------------------------------------------
+ */
+
+package de.quippy.javamod.multimedia.mod.loader;
+
+import java.io.File;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import de.quippy.javamod.multimedia.mod.loader.instrument.InstrumentsContainer;
+import de.quippy.javamod.multimedia.mod.loader.instrument.Sample;
+import de.quippy.javamod.multimedia.mod.loader.instrument.SampleData;
+
+
+/**
+ * A least recently used cache of loaded modules, limited by the memory
+ * of their sample data. Modules are identified by their URL and the time
+ * of the last modification of local files.
+ * <p>
+ * A module holds the state of the mixer playing it (rows played for the
+ * loop recognition), so it must not be played by two mixers at once.
+ * Modules in use are pinned: they are neither evicted nor handed out
+ * again until released.
+ * <p>
+ * This class is thread safe.
+ *
+ * @author Daniel Becker
+ * @since 17.10.2026
+ */
+public class ModuleCache {
+
+    /** system property with the maximum size of the sample data cached in MB */
+    public static final String PROPERTY_MODULE_CACHE_SIZE = "javamod.mod.loader.cachesize";
+    /** default maximum size of the sample data cached */
+    public static final long DEFAULT_MAX_WEIGHT = 256L * 1024L * 1024L;
+
+    /**
+     * Identifies a file in a certain version
+     */
+    static final class Key {
+
+        private final String url;
+        private final long lastModified;
+
+        Key(URL url) {
+            this.url = url.toExternalForm();
+            this.lastModified = getLastModified(url);
+        }
+
+        private static long getLastModified(URL url) {
+            if (!"file".equalsIgnoreCase(url.getProtocol())) return 0;
+            try {
+                return new File(url.toURI()).lastModified();
+            } catch (URISyntaxException | IllegalArgumentException ex) {
+                return new File(url.getPath()).lastModified();
+            }
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) return true;
+            if (!(obj instanceof Key other)) return false;
+            return lastModified == other.lastModified && url.equals(other.url);
+        }
+
+        @Override
+        public int hashCode() {
+            return url.hashCode() * 31 + Long.hashCode(lastModified);
+        }
+
+        @Override
+        public String toString() {
+            return url + '@' + lastModified;
+        }
+    }
+
+    private static final class Entry {
+
+        private final Key key;
+        private final Module mod;
+        private final long weight;
+        private int pins;
+
+        Entry(Key key, Module mod, long weight) {
+            this.key = key;
+            this.mod = mod;
+            this.weight = weight;
+        }
+    }
+
+    /** in access order - the eldest is the least recently used */
+    private final LinkedHashMap<Key, Entry> entries;
+    private final Map<Module, Entry> entriesByModule;
+    private long maxWeight;
+    private long weight;
+
+    /**
+     * Constructor for ModuleCache
+     *
+     * @param maxWeight maximum amount of bytes of sample data cached
+     */
+    public ModuleCache(long maxWeight) {
+        super();
+        if (maxWeight < 0) throw new IllegalArgumentException("Maximum weight must not be negative: " + maxWeight);
+        this.maxWeight = maxWeight;
+        entries = new LinkedHashMap<>(16, 0.75f, true);
+        entriesByModule = new IdentityHashMap<>();
+    }
+
+    /**
+     * @param mod
+     * @return the amount of bytes of sample data of this module - samples
+     * shared by instruments count once
+     */
+    public static long getWeight(Module mod) {
+        InstrumentsContainer instrumentContainer = mod.getInstrumentContainer();
+        Sample[] samples = (instrumentContainer != null) ? instrumentContainer.getSamples() : null;
+        if (samples == null) return 0;
+        Set<SampleData> counted = Collections.newSetFromMap(new IdentityHashMap<>());
+        long result = 0;
+        for (Sample sample : samples) {
+            if (sample == null) continue;
+            if (sample.sampleL != null && counted.add(sample.sampleL)) result += sample.sampleL.getByteLength();
+            if (sample.sampleR != null && counted.add(sample.sampleR)) result += sample.sampleR.getByteLength();
+        }
+        return result;
+    }
+
+    /**
+     * Returns the cached module of that key, if it is not pinned
+     *
+     * @param key
+     * @param pin pin the module returned
+     * @return the module or null
+     */
+    synchronized Module get(Key key, boolean pin) {
+        Entry entry = entries.get(key);
+        if (entry == null || entry.pins > 0) return null;
+        if (pin) entry.pins++;
+        return entry.mod;
+    }
+
+    /**
+     * Caches a freshly loaded module - if there is no module with that
+     * key and it fits into the cache at all. Unpinned modules are evicted
+     * till the maximum weight is reached again.
+     *
+     * @param key
+     * @param mod
+     * @param pin pin the module
+     */
+    synchronized void put(Key key, Module mod, boolean pin) {
+        if (entries.containsKey(key)) return;
+        long modWeight = getWeight(mod);
+        if (modWeight > maxWeight) return;
+        Entry entry = new Entry(key, mod, modWeight);
+        if (pin) entry.pins++;
+        entries.put(key, entry);
+        entriesByModule.put(mod, entry);
+        weight += modWeight;
+        evict();
+    }
+
+    private void evict() {
+        Iterator<Entry> iter = entries.values().iterator();
+        while (weight > maxWeight && iter.hasNext()) {
+            Entry entry = iter.next();
+            if (entry.pins > 0) continue;
+            iter.remove();
+            entriesByModule.remove(entry.mod);
+            weight -= entry.weight;
+        }
+    }
+
+    /**
+     * Pins a module, if it is cached
+     *
+     * @param mod
+     */
+    public synchronized void pin(Module mod) {
+        Entry entry = entriesByModule.get(mod);
+        if (entry != null) entry.pins++;
+    }
+
+    /**
+     * Releases a pin on a module - it can be handed out again and evicted.
+     * Modules not cached are ignored.
+     *
+     * @param mod
+     */
+    public synchronized void release(Module mod) {
+        Entry entry = entriesByModule.get(mod);
+        if (entry == null || entry.pins == 0) return;
+        entry.pins--;
+        if (entry.pins == 0) evict();
+    }
+
+    /**
+     * @param mod
+     * @return true, if this module is cached and pinned
+     */
+    public synchronized boolean isPinned(Module mod) {
+        Entry entry = entriesByModule.get(mod);
+        return entry != null && entry.pins > 0;
+    }
+
+    /**
+     * Removes all modules of that URL - pinned ones stay in use but are
+     * not cached anymore
+     *
+     * @param url
+     */
+    public synchronized void remove(URL url) {
+        String externalForm = url.toExternalForm();
+        Iterator<Entry> iter = entries.values().iterator();
+        while (iter.hasNext()) {
+            Entry entry = iter.next();
+            if (entry.key.url.equals(externalForm)) {
+                iter.remove();
+                entriesByModule.remove(entry.mod);
+                weight -= entry.weight;
+            }
+        }
+    }
+
+    /**
+     * Removes all modules
+     */
+    public synchronized void clear() {
+        entries.clear();
+        entriesByModule.clear();
+        weight = 0;
+    }
+
+    /**
+     * @return the amount of modules cached
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * @return the amount of bytes of sample data cached
+     */
+    public synchronized long getWeight() {
+        return weight;
+    }
+
+    /**
+     * @return the maximum amount of bytes of sample data cached
+     */
+    public synchronized long getMaxWeight() {
+        return maxWeight;
+    }
+
+    /**
+     * @param maxWeight the maximum amount of bytes of sample data cached - 0 disables caching
+     */
+    public synchronized void setMaxWeight(long maxWeight) {
+        if (maxWeight < 0) throw new IllegalArgumentException("Maximum weight must not be negative: " + maxWeight);
+        this.maxWeight = maxWeight;
+        evict();
+    }
+}
@@ -28,7 +28,10 @@ import java.io.InputStream;
 import java.lang.System.Logger;
 import java.lang.System.Logger.Level;
 import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.ServiceLoader;
 import java.util.Set;
@@ -40,6 +43,11 @@ import static java.lang.System.getLogger;
 
 /**
  * Returns the appropriate ModuleClass for the desired ModFile
+ * <p>
+ * Every module loaded is a new instance of its loader class, so modules
+ * can be loaded concurrently. Loaded modules are kept in a {@link ModuleCache}
+ * - a module in use should be acquired and released afterwards, so it
+ * is not handed out to anybody else meanwhile.
  *
  * @author Daniel Becker
  * @since 21.04.2006
@@ -48,18 +56,24 @@ public class ModuleFactory {
 
     private static final Logger logger = getLogger(ModuleFactory.class.getName());
 
-    private static Map<String, Module> fileExtensionMap;
-    private static ServiceLoader<Module> modules;
+    /** one instance per loader - only used to check, never loaded into */
+    private static final List<Module> modules;
+    private static final Map<String, Module> fileExtensionMap;
 
-    // A cache of the last loaded MOD for getInstance
-    private static Module lastLoadedMod;
-    private static URL lastLoadedModURL;
+    private static final ModuleCache moduleCache;
 
     static {
-        for (Module mod : getModules()) {
-            String[] extensions = mod.getFileExtensionList();
-            for (String extension : extensions) getFileExtensionMap().put(extension, mod);
+        List<Module> loaders = new ArrayList<>();
+        Map<String, Module> extensions = new HashMap<>();
+        for (Module mod : ServiceLoader.load(Module.class)) {
+            loaders.add(mod);
+            for (String extension : mod.getFileExtensionList()) extensions.put(extension, mod);
         }
+        modules = Collections.unmodifiableList(loaders);
+        fileExtensionMap = Collections.unmodifiableMap(extensions);
+
+        long cacheSize = Long.getLong(ModuleCache.PROPERTY_MODULE_CACHE_SIZE, -1);
+        moduleCache = new ModuleCache((cacheSize < 0) ? ModuleCache.DEFAULT_MAX_WEIGHT : cacheSize * 1024L * 1024L);
     }
 
     /**
@@ -70,37 +84,39 @@ public class ModuleFactory {
     }
 
     /**
-     * Lazy instantiation access method
-     *
-     * @since 04.01.2010
+     * @return the cache of the modules loaded
+     * @since 17.10.2026
      */
-    private static Map<String, Module> getFileExtensionMap() {
-        if (fileExtensionMap == null)
-            fileExtensionMap = new HashMap<>();
-
-        return fileExtensionMap;
-    }
-
-    /**
-     * Lazy instantiation access method
-     *
-     * @since 04.01.2010
-     */
-    private static ServiceLoader<Module> getModules() {
-        if (modules == null) {
-            modules = ServiceLoader.load(Module.class);
-        }
-        return modules;
+    public static ModuleCache getModuleCache() {
+        return moduleCache;
     }
 
     public static String[] getSupportedFileExtensions() {
-        Set<String> keys = getFileExtensionMap().keySet();
+        Set<String> keys = fileExtensionMap.keySet();
         String[] result = new String[keys.size()];
         return keys.toArray(result);
     }
 
+    /**
+     * @param extension
+     * @return a new, empty module of the loader for that extension or null
+     */
     public static Module getModuleFromExtension(String extension) {
-        return getFileExtensionMap().get(extension.toLowerCase());
+        Module mod = fileExtensionMap.get(extension.toLowerCase());
+        return (mod != null) ? newInstance(mod) : null;
+    }
+
+    /**
+     * @param loader
+     * @return a new, empty module of the same class as loader
+     * @since 17.10.2026
+     */
+    private static Module newInstance(Module loader) {
+        try {
+            return loader.getClass().getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException ex) {
+            throw new IllegalStateException("Cannot create a new " + loader.getClass().getName(), ex);
+        }
     }
 
     /**
@@ -109,9 +125,9 @@ public class ModuleFactory {
      * @since 04.01.2010
      */
     private static Module getModuleFromStreamByID(ModfileInputStream input) {
-        for (Module mod : getModules()) {
+        for (Module mod : modules) {
             try {
-                if (mod.checkLoadingPossible(input)) return mod;
+                if (mod.checkLoadingPossible(input)) return newInstance(mod);
             } catch (IOException ex) {
                 /* Ignoring */
             }
@@ -121,6 +137,7 @@ public class ModuleFactory {
 
     /**
      * factory for javax.sound.spi
+     * @return a new, empty module of the loader for that stream
      * @throws IllegalArgumentException no suitable module for the inout stream
      * @throws IllegalArgumentException mark must be supported
      * @since 3.9.6
@@ -129,10 +146,10 @@ public class ModuleFactory {
         if (!input.markSupported()) {
             throw new IllegalArgumentException("mark must be supported");
         }
-        for (Module mod : getModules()) {
+        for (Module mod : modules) {
             try {
                 input.mark(8192);
-                if (mod.checkLoadingPossible(input)) return mod;
+                if (mod.checkLoadingPossible(input)) return newInstance(mod);
             } catch (IOException ex) {
                 /* Ignoring */
             } finally {
@@ -151,13 +168,20 @@ logger.log(Level.TRACE, e);
      *
      * @since 13.06.2010
      */
-    private static Module getModuleFromStream(ModfileInputStream input) {
-        for (Module mod : getModules()) {
+    private static Module getModuleFromStream(ModfileInputStream input, boolean headerOnly) {
+        for (Module loader : modules) {
             try {
-                mod.loadModFile(input);
+                Module mod = newInstance(loader);
+                if (headerOnly)
+                    mod.loadModHeader(input);
+                else
+                    mod.loadModFile(input);
                 input.seek(0);
                 return mod; // <-- here this loading was a success!
             } catch (Throwable ignore) {
+                try {
+                    input.seek(0);
+                } catch (IOException ex) { /* NOOP */ }
             }
         }
         return null;
@@ -185,30 +209,86 @@ logger.log(Level.TRACE, e);
 
     /**
      * Uses the File-Extension to find a suitable loader.
+     * A cached module is returned, if it is not in use - the module
+     * is not pinned, so use acquireInstance for playing it.
      *
      * @param url URL-Instance of the path to the modfile
      * @return null, if fails
      */
     public static Module getInstance(URL url) throws IOException {
-        // return last loaded MOD, if same instance is requested again
-        if (lastLoadedMod != null && lastLoadedModURL != null && lastLoadedModURL.sameFile(url)) return lastLoadedMod;
+        return getInstance(url, false);
+    }
+
+    /**
+     * Like getInstance, but the module returned is pinned in the cache:
+     * it is not handed out again till it is released with releaseInstance
+     *
+     * @param url URL-Instance of the path to the modfile
+     * @return the module
+     * @since 17.10.2026
+     */
+    public static Module acquireInstance(URL url) throws IOException {
+        return getInstance(url, true);
+    }
+
+    /**
+     * Releases a module acquired with acquireInstance
+     *
+     * @param mod the module - null is ignored
+     * @since 17.10.2026
+     */
+    public static void releaseInstance(Module mod) {
+        if (mod != null) moduleCache.release(mod);
+    }
+
+    private static Module getInstance(URL url, boolean pin) throws IOException {
+        ModuleCache.Key key = new ModuleCache.Key(url);
+        Module mod = moduleCache.get(key, pin);
+        if (mod != null) return mod;
 
+        mod = loadModule(url, false);
+        moduleCache.put(key, mod, pin);
+        return mod;
+    }
+
+    /**
+     * Loads a module without its sample data (see Module.loadModHeader) -
+     * for song infos and the length calculation. These modules are not
+     * cached and cannot be played.
+     *
+     * @param url URL-Instance of the path to the modfile
+     * @return the module
+     * @since 17.10.2026
+     */
+    public static Module getHeaderInstance(URL url) throws IOException {
+        return loadModule(url, true);
+    }
+
+    /**
+     * Loads the module into a new instance of the loader found
+     *
+     * @since 17.10.2026
+     */
+    private static Module loadModule(URL url, boolean headerOnly) throws IOException {
         ModfileInputStream inputStream = null;
         try {
-            inputStream = new ModfileInputStream(url);
+            // local files are memory mapped - the loaders read them without any copying
+            inputStream = new ModfileInputStream(url, true);
             Module mod = getModuleFromStreamByID(inputStream);
             // If the header gives no infos, it's obviously a Noise Tracker file
             // So let's try all loaders
             if (mod == null) {
-                mod = getModuleFromStream(inputStream);
+                mod = getModuleFromStream(inputStream, headerOnly);
                 if (mod == null)
                     throw new IOException("Unsupported MOD-Type: " + inputStream.getFileName());
             }
 
-            mod.loadModFile(inputStream); // TODO location
+            if (headerOnly)
+                mod.loadModHeader(inputStream);
+            else
+                mod.loadModFile(inputStream); // TODO location
 
-            lastLoadedModURL = url;
-            return lastLoadedMod = mod;
+            return mod;
         } catch (Throwable ex) {
             throw new IOException("[ModuleFactory] Failed with loading of " + url.toString(), ex);
         } finally {
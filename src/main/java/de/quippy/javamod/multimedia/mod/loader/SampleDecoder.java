@@ -0,0 +1,169 @@
+/*
+ * @(#) SampleDecoder.java
+ *
+ * Created on 17.10.2026 by Daniel Becker
+ *
+ *-----------------------------------------------------------------------
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation; either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, write to the Free Software
+ *  Foundation, Inc., 675 Mass Ave, Cambridge, MA 02139, USA.
+ *----------------------------------------------------------------------
+ */
+
+package de.quippy.javamod.multimedia.mod.loader;
+
+import java.io.IOException;
+
+import de.quippy.javamod.io.RandomAccessInputStream;
+import de.quippy.javamod.multimedia.mod.loader.instrument.SampleData;
+
+
+/**
+ * Reads sample data in blocks into reusable buffers and converts it with
+ * tight loops - instead of reading every sample point with its own call.
+ * The results are the same as reading them one by one: missing data at the
+ * end of a file is read as -1, like readByte and readIntelWord deliver.
+ * <p>
+ * Not thread safe - one decoder per loading module.
+ *
+ * @author Daniel Becker
+ * @since 17.10.2026
+ */
+final class SampleDecoder {
+
+    /** amount of sample points converted per block */
+    private static final int BLOCK_SIZE = 0x10000;
+
+    private final byte[] byteBuffer;
+    private final short[] wordBuffer;
+    /** buffer for the compressed IT blocks */
+    private byte[] itBlockBuffer;
+
+    SampleDecoder() {
+        super();
+        byteBuffer = new byte[BLOCK_SIZE];
+        wordBuffer = new short[BLOCK_SIZE];
+    }
+
+    /**
+     * @param size
+     * @return a buffer of at least size bytes for a compressed IT block
+     */
+    byte[] getITBlockBuffer(int size) {
+        if (itBlockBuffer == null || itBlockBuffer.length < size) itBlockBuffer = new byte[Math.max(size, 0x10000)];
+        return itBlockBuffer;
+    }
+
+    /**
+     * @return the amount of bytes read - the rest is filled with -1
+     */
+    private int readBytes(RandomAccessInputStream input, int length) throws IOException {
+        int read = 0;
+        while (read < length) {
+            int count = input.read(byteBuffer, read, length - read);
+            if (count <= 0) break;
+            read += count;
+        }
+        for (int i = read; i < length; i++) byteBuffer[i] = -1;
+        return read;
+    }
+
+    /**
+     * @return the amount of words read - the rest is filled with -1
+     */
+    private int readWords(RandomAccessInputStream input, int length, boolean isBigEndian) throws IOException {
+        int read = (isBigEndian) ? input.readMotorolaWords(wordBuffer, 0, length) : input.readIntelWords(wordBuffer, 0, length);
+        for (int i = read; i < length; i++) wordBuffer[i] = -1;
+        return read;
+    }
+
+    /**
+     * Read 8 bit sample data
+     *
+     * @param input
+     * @param target
+     * @param length amount of sample points
+     * @param isUnsigned
+     * @param isDelta the values are deltas to the previous sample point
+     * @throws IOException
+     */
+    void read8Bit(RandomAccessInputStream input, SampleData target, int length, boolean isUnsigned, boolean isDelta) throws IOException {
+        byte delta = 0;
+        for (int s = 0; s < length; s += BLOCK_SIZE) {
+            int block = Math.min(BLOCK_SIZE, length - s);
+            readBytes(input, block);
+            if (isDelta) {
+                for (int i = 0; i < block; i++) byteBuffer[i] = delta += byteBuffer[i];
+            } else if (isUnsigned) {
+                for (int i = 0; i < block; i++) byteBuffer[i] ^= (byte) 0x80;
+            }
+            target.setSigned8(byteBuffer, 0, s, block);
+        }
+    }
+
+    /**
+     * Read 16 bit sample data
+     *
+     * @param input
+     * @param target
+     * @param length amount of sample points
+     * @param isUnsigned
+     * @param isBigEndian
+     * @param isDelta the values are deltas to the previous sample point
+     * @throws IOException
+     */
+    void read16Bit(RandomAccessInputStream input, SampleData target, int length, boolean isUnsigned, boolean isBigEndian, boolean isDelta) throws IOException {
+        short delta = 0;
+        for (int s = 0; s < length; s += BLOCK_SIZE) {
+            int block = Math.min(BLOCK_SIZE, length - s);
+            readWords(input, block, isBigEndian);
+            if (isDelta) {
+                for (int i = 0; i < block; i++) wordBuffer[i] = delta += wordBuffer[i];
+            } else if (isUnsigned) {
+                for (int i = 0; i < block; i++) wordBuffer[i] ^= (short) 0x8000;
+            }
+            target.setSigned16(wordBuffer, 0, s, block);
+        }
+    }
+
+    /**
+     * Read 4 bit ADPCM sample data with its 16 byte delta table
+     *
+     * @param input
+     * @param target
+     * @param length amount of sample points
+     * @throws IOException
+     */
+    void readADPCM(RandomAccessInputStream input, SampleData target, int length) throws IOException {
+        byte[] deltaLUT = new byte[16];
+        input.read(deltaLUT);
+
+        int bytes = (length + 1) >> 1;
+        byte currentSample = 0;
+        int half = BLOCK_SIZE >> 1;
+        for (int b = 0, s = 0; b < bytes; b += half) {
+            int block = Math.min(half, bytes - b);
+            readBytes(input, block);
+            // expand backwards, so no nibble is overwritten before it is used
+            for (int i = block - 1; i >= 0; i--) {
+                int nibble = byteBuffer[i] & 0xff;
+                byteBuffer[(i << 1) + 1] = (byte) (nibble >> 4);
+                byteBuffer[i << 1] = (byte) (nibble & 0x0F);
+            }
+            int points = block << 1;
+            for (int i = 0; i < points; i++) byteBuffer[i] = currentSample += deltaLUT[byteBuffer[i]];
+            target.setSigned8(byteBuffer, 0, s, points);
+            s += points;
+        }
+    }
+}
@@ -118,10 +118,11 @@ public class Sample {
 
     public static final int INTERPOLATION_LOOK_AHEAD = 16;
 
-    // The sample data, already converted to signed 32 bit (always)
+    // The sample data, stored in its native width but always
+    // read and written as signed 32 bit (see SampleData)
     // 8Bit: 0..127,128-255; 16Bit: -32768..0..+32767
-    public long[] sampleL;
-    public long[] sampleR;
+    public SampleData sampleL;
+    public SampleData sampleR;
 
     /**
      * Constructor for Sample
@@ -131,17 +132,53 @@ public class Sample {
     }
 
     /**
-     * Allocate the sample data inclusive interpolation look ahead buffers
+     * Allocate the sample data inclusive interpolation look ahead buffers.
+     * The storage width is derived from the sample type (SM_16BIT)
      *
      * @since 03.07.2020
      */
     public void allocSampleData() {
-        int alloc = sampleLength + ((1 + 1 + 4 + 4) * INTERPOLATION_LOOK_AHEAD);
-        sampleL = new long[alloc];
-        if (isStereo) sampleR = new long[alloc];
+        allocSampleData(((sampleType & ModConstants.SM_16BIT) != 0) ? 16 : 8);
+    }
+
+    /**
+     * Allocate the sample data inclusive interpolation look ahead buffers
+     * with an explicit storage width. Use this, if the data written does not
+     * correspond to the sample type (decoded mp3/ogg, 24 bit or amplified data)
+     *
+     * @param bitsPerSample 8, 16 or 32
+     * @since 17.10.2026
+     */
+    public void allocSampleData(int bitsPerSample) {
+        int alloc = getAllocLength(sampleLength);
+        sampleL = SampleData.create(bitsPerSample, alloc);
+        if (isStereo) sampleR = SampleData.create(bitsPerSample, alloc);
         else sampleR = null;
     }
 
+    /**
+     * @param sampleLength the amount of sample points
+     * @return the length of the sample data allocated for sampleLength,
+     * inclusive interpolation look ahead buffers
+     * @since 17.10.2026
+     */
+    public static int getAllocLength(int sampleLength) {
+        return sampleLength + ((1 + 1 + 4 + 4) * INTERPOLATION_LOOK_AHEAD);
+    }
+
+    /**
+     * Effects changing the sample data while playing (ProTracker funk repeat
+     * and Karplus-Strong) calculate with the promoted values - the native
+     * width would truncate their results. So the data is widened to 32 bit
+     * before, once.
+     *
+     * @since 17.10.2026
+     */
+    public void widenSampleData() {
+        if (sampleL != null) sampleL = sampleL.widen();
+        if (sampleR != null) sampleR = sampleR.widen();
+    }
+
     /**
      * Fits the loop-data given in instruments loaded
      * These values are often not correct
@@ -197,8 +234,8 @@ public class Sample {
         int readIncrement = writeIncrement;
 
         for (int i = 0; i < numSamples; i++) {
-            sampleL[destIndex] = sampleL[sourceIndex + readPosition];
-            if (sampleR != null) sampleR[destIndex] = sampleR[sourceIndex + readPosition];
+            sampleL.set(destIndex, sampleL.get(sourceIndex + readPosition));
+            if (sampleR != null) sampleR.set(destIndex, sampleR.get(sourceIndex + readPosition));
             destIndex += writeIncrement;
 
             if (readPosition == loopEnd - 1 && readIncrement > 0) {
@@ -230,19 +267,17 @@ public class Sample {
         interpolationStopSustain = interpolationStopLoop + (4 * INTERPOLATION_LOOK_AHEAD);
 
         // First move sampleData out of the way, as it is loaded at index 0
-        for (int pos = sampleLength - 1; pos >= 0; pos--) {
-            sampleL[startSampleData + pos] = sampleL[pos];
-            if (sampleR != null) sampleR[startSampleData + pos] = sampleR[pos];
-        }
+        sampleL.move(0, startSampleData, sampleLength);
+        if (sampleR != null) sampleR.move(0, startSampleData, sampleLength);
 
         // now add sample data in PRE and POST
         for (int pos = 0; pos < INTERPOLATION_LOOK_AHEAD; pos++) {
-            sampleL[afterSampleData + pos] = sampleL[afterSampleData - 1];
-            if (sampleR != null) sampleR[afterSampleData + pos] = sampleR[afterSampleData - 1];
+            sampleL.set(afterSampleData + pos, sampleL.get(afterSampleData - 1));
+            if (sampleR != null) sampleR.set(afterSampleData + pos, sampleR.get(afterSampleData - 1));
             //sampleL[pos] = sampleL[startSampleData];
             // Add inverted data at the front, for a possible ping pong loop start at 0 - do not repeat the sample on index 0
-            sampleL[INTERPOLATION_LOOK_AHEAD - pos - 1] = sampleL[startSampleData + pos + 1]; // Ping Pong Loops like this - and a sample start does not seem to be affected...
-            if (sampleR != null) sampleR[pos] = sampleR[startSampleData];
+            sampleL.set(INTERPOLATION_LOOK_AHEAD - pos - 1, sampleL.get(startSampleData + pos + 1)); // Ping Pong Loops like this - and a sample start does not seem to be affected...
+            if (sampleR != null) sampleR.set(pos, sampleR.get(startSampleData));
         }
 
         if ((loopType & ModConstants.LOOP_ON) != 0) {
@@ -291,7 +326,7 @@ public class Sample {
      * @since 12.03.2024
      */
     public boolean hasSampleData() {
-        return (sampleL != null && sampleL.length > 0);
+        return (sampleL != null && sampleL.length() > 0);
     }
 
     @Override
@@ -348,23 +383,8 @@ public class Sample {
      * @since 06.06.2006
      */
     private void getLinearInterpolated(SampleFrame result, int currentSamplePos, int currentTuningPos, boolean isBackwards) {
-        long s1 = sampleL[currentSamplePos] << ModConstants.SAMPLE_SHIFT;
-        long s2 = (isBackwards) ?
-                (sampleL[currentSamplePos - 1]) << ModConstants.SAMPLE_SHIFT
-                :
-                (sampleL[currentSamplePos + 1]) << ModConstants.SAMPLE_SHIFT;
-
-        result.left = (s1 + (((s2 - s1) * (currentTuningPos)) >> ModConstants.SHIFT)) / (1L << ModConstants.SAMPLE_SHIFT);
-
-        if (sampleR != null) {
-            s1 = sampleR[currentSamplePos] << ModConstants.SAMPLE_SHIFT;
-            s2 = (isBackwards) ?
-                    (sampleR[currentSamplePos - 1]) << ModConstants.SAMPLE_SHIFT
-                    :
-                    (sampleR[currentSamplePos + 1]) << ModConstants.SAMPLE_SHIFT;
-            result.right = (s1 + (((s2 - s1) * (currentTuningPos)) >> ModConstants.SHIFT)) / (1L << ModConstants.SAMPLE_SHIFT);
-        } else
-            result.right = result.left;
+        result.left = sampleL.getLinear(currentSamplePos, currentTuningPos, isBackwards);
+        result.right = (sampleR != null) ? sampleR.getLinear(currentSamplePos, currentTuningPos, isBackwards) : result.left;
     }
 
     /**
@@ -378,31 +398,10 @@ public class Sample {
     private void getCubicInterpolated(SampleFrame result, int currentSamplePos, int currentTuningPos, boolean isBackwards) {
         int poslo = (currentTuningPos >> CubicSpline.SPLINE_FRACSHIFT) & CubicSpline.SPLINE_FRACMASK;
 
-        long v1 = (isBackwards) ?
-                (CubicSpline.lut[poslo] * sampleL[currentSamplePos + 1]) +
-                (CubicSpline.lut[poslo + 1] * sampleL[currentSamplePos]) +
-                (CubicSpline.lut[poslo + 2] * sampleL[currentSamplePos - 1]) +
-                (CubicSpline.lut[poslo + 3] * sampleL[currentSamplePos - 2])
-                :
-                (CubicSpline.lut[poslo] * sampleL[currentSamplePos - 1]) +
-                (CubicSpline.lut[poslo + 1] * sampleL[currentSamplePos]) +
-                (CubicSpline.lut[poslo + 2] * sampleL[currentSamplePos + 1]) +
-                (CubicSpline.lut[poslo + 3] * sampleL[currentSamplePos + 2]);
-        result.left = v1 / (1L << CubicSpline.SPLINE_QUANTBITS);
-
-        if (sampleR != null) {
-            v1 = (isBackwards) ?
-                    (CubicSpline.lut[poslo] * sampleR[currentSamplePos + 1]) +
-                    (CubicSpline.lut[poslo + 1] * sampleR[currentSamplePos]) +
-                    (CubicSpline.lut[poslo + 2] * sampleR[currentSamplePos - 1]) +
-                    (CubicSpline.lut[poslo + 3] * sampleR[currentSamplePos - 2])
-                    :
-                    (CubicSpline.lut[poslo] * sampleR[currentSamplePos - 1]) +
-                    (CubicSpline.lut[poslo + 1] * sampleR[currentSamplePos]) +
-                    (CubicSpline.lut[poslo + 2] * sampleR[currentSamplePos + 1]) +
-                    (CubicSpline.lut[poslo + 3] * sampleR[currentSamplePos + 2]);
-            result.right = v1 / (1L << CubicSpline.SPLINE_QUANTBITS);
-        } else
+        result.left = sampleL.getCubic(currentSamplePos, poslo, isBackwards) / (1L << CubicSpline.SPLINE_QUANTBITS);
+        if (sampleR != null)
+            result.right = sampleR.getCubic(currentSamplePos, poslo, isBackwards) / (1L << CubicSpline.SPLINE_QUANTBITS);
+        else
             result.right = result.left;
     }
 
@@ -418,49 +417,10 @@ public class Sample {
         int poslo = ((currentTuningPos >> Kaiser.SINC_FRACSHIFT) & Kaiser.SINC_MASK) * 8;
         int[] sinc = (currentTuning > Kaiser.gDownsample13x_Limit) ? (currentTuning > Kaiser.gDownsample2x_Limit) ? Kaiser.gDownsample2x_8 : Kaiser.gDownsample13x_8 : Kaiser.gKaiserSinc_8;
 
-        long s1 = (isBackwards) ?
-                (sinc[poslo] * sampleL[currentSamplePos + 3]) +
-                (sinc[poslo + 1] * sampleL[currentSamplePos + 2]) +
-                (sinc[poslo + 2] * sampleL[currentSamplePos + 1]) +
-                (sinc[poslo + 3] * sampleL[currentSamplePos]) +
-                (sinc[poslo + 4] * sampleL[currentSamplePos - 1]) +
-                (sinc[poslo + 5] * sampleL[currentSamplePos - 2]) +
-                (sinc[poslo + 6] * sampleL[currentSamplePos - 3]) +
-                (sinc[poslo + 7] * sampleL[currentSamplePos - 4])
-                :
-                (sinc[poslo] * sampleL[currentSamplePos - 3]) +
-                (sinc[poslo + 1] * sampleL[currentSamplePos - 2]) +
-                (sinc[poslo + 2] * sampleL[currentSamplePos - 1]) +
-                (sinc[poslo + 3] * sampleL[currentSamplePos]) +
-                (sinc[poslo + 4] * sampleL[currentSamplePos + 1]) +
-                (sinc[poslo + 5] * sampleL[currentSamplePos + 2]) +
-                (sinc[poslo + 6] * sampleL[currentSamplePos + 3]) +
-                (sinc[poslo + 7] * sampleL[currentSamplePos + 4]);
-
-        result.left = s1 / (1L << Kaiser.SINC_QUANTSHIFT);
-
-        if (sampleR != null) {
-            s1 = (isBackwards) ?
-                    (sinc[poslo] * sampleR[currentSamplePos + 3]) +
-                    (sinc[poslo + 1] * sampleR[currentSamplePos + 2]) +
-                    (sinc[poslo + 2] * sampleR[currentSamplePos + 1]) +
-                    (sinc[poslo + 3] * sampleR[currentSamplePos]) +
-                    (sinc[poslo + 4] * sampleR[currentSamplePos - 1]) +
-                    (sinc[poslo + 5] * sampleR[currentSamplePos - 2]) +
-                    (sinc[poslo + 6] * sampleR[currentSamplePos - 3]) +
-                    (sinc[poslo + 7] * sampleR[currentSamplePos - 4])
-                    :
-                    (sinc[poslo] * sampleR[currentSamplePos - 3]) +
-                    (sinc[poslo + 1] * sampleR[currentSamplePos - 2]) +
-                    (sinc[poslo + 2] * sampleR[currentSamplePos - 1]) +
-                    (sinc[poslo + 3] * sampleR[currentSamplePos]) +
-                    (sinc[poslo + 4] * sampleR[currentSamplePos + 1]) +
-                    (sinc[poslo + 5] * sampleR[currentSamplePos + 2]) +
-                    (sinc[poslo + 6] * sampleR[currentSamplePos + 3]) +
-                    (sinc[poslo + 7] * sampleR[currentSamplePos + 4]);
-
-            result.right = s1 / (1L << Kaiser.SINC_QUANTSHIFT);
-        } else
+        result.left = sampleL.getSinc8(sinc, poslo, currentSamplePos, isBackwards) / (1L << Kaiser.SINC_QUANTSHIFT);
+        if (sampleR != null)
+            result.right = sampleR.getSinc8(sinc, poslo, currentSamplePos, isBackwards) / (1L << Kaiser.SINC_QUANTSHIFT);
+        else
             result.right = result.left;
     }
 
@@ -475,81 +435,10 @@ public class Sample {
         int poslo = ((currentTuningPos >> Kaiser.SINC_FRACSHIFT) & Kaiser.SINC_MASK) * 16;
         int[] sinc = (currentTuning > Kaiser.gDownsample13x_Limit) ? (currentTuning > Kaiser.gDownsample2x_Limit) ? Kaiser.gDownsample2x_16 : Kaiser.gDownsample13x_16 : Kaiser.gKaiserSinc_16;
 
-        long s1 = (isBackwards) ?
-                (sinc[poslo] * sampleL[currentSamplePos + 7]) +
-                (sinc[poslo + 1] * sampleL[currentSamplePos + 6]) +
-                (sinc[poslo + 2] * sampleL[currentSamplePos + 5]) +
-                (sinc[poslo + 3] * sampleL[currentSamplePos + 4]) +
-                (sinc[poslo + 4] * sampleL[currentSamplePos + 3]) +
-                (sinc[poslo + 5] * sampleL[currentSamplePos + 2]) +
-                (sinc[poslo + 6] * sampleL[currentSamplePos + 1]) +
-                (sinc[poslo + 7] * sampleL[currentSamplePos]) +
-                (sinc[poslo + 8] * sampleL[currentSamplePos - 1]) +
-                (sinc[poslo + 9] * sampleL[currentSamplePos - 2]) +
-                (sinc[poslo + 10] * sampleL[currentSamplePos - 3]) +
-                (sinc[poslo + 11] * sampleL[currentSamplePos - 4]) +
-                (sinc[poslo + 12] * sampleL[currentSamplePos - 5]) +
-                (sinc[poslo + 13] * sampleL[currentSamplePos - 6]) +
-                (sinc[poslo + 14] * sampleL[currentSamplePos - 7]) +
-                (sinc[poslo + 15] * sampleL[currentSamplePos - 8])
-                :
-                (sinc[poslo] * sampleL[currentSamplePos - 7]) +
-                (sinc[poslo + 1] * sampleL[currentSamplePos - 6]) +
-                (sinc[poslo + 2] * sampleL[currentSamplePos - 5]) +
-                (sinc[poslo + 3] * sampleL[currentSamplePos - 4]) +
-                (sinc[poslo + 4] * sampleL[currentSamplePos - 3]) +
-                (sinc[poslo + 5] * sampleL[currentSamplePos - 2]) +
-                (sinc[poslo + 6] * sampleL[currentSamplePos - 1]) +
-                (sinc[poslo + 7] * sampleL[currentSamplePos]) +
-                (sinc[poslo + 8] * sampleL[currentSamplePos + 1]) +
-                (sinc[poslo + 9] * sampleL[currentSamplePos + 2]) +
-                (sinc[poslo + 10] * sampleL[currentSamplePos + 3]) +
-                (sinc[poslo + 11] * sampleL[currentSamplePos + 4]) +
-                (sinc[poslo + 12] * sampleL[currentSamplePos + 5]) +
-                (sinc[poslo + 13] * sampleL[currentSamplePos + 6]) +
-                (sinc[poslo + 14] * sampleL[currentSamplePos + 7]) +
-                (sinc[poslo + 15] * sampleL[currentSamplePos + 8]);
-
-        result.left = s1 / (1L << Kaiser.SINC_QUANTSHIFT);
-
-        if (sampleR != null) {
-            s1 = (isBackwards) ?
-                    (sinc[poslo] * sampleR[currentSamplePos + 7]) +
-                    (sinc[poslo + 1] * sampleR[currentSamplePos + 6]) +
-                    (sinc[poslo + 2] * sampleR[currentSamplePos + 5]) +
-                    (sinc[poslo + 3] * sampleR[currentSamplePos + 4]) +
-                    (sinc[poslo + 4] * sampleR[currentSamplePos + 3]) +
-                    (sinc[poslo + 5] * sampleR[currentSamplePos + 2]) +
-                    (sinc[poslo + 6] * sampleR[currentSamplePos + 1]) +
-                    (sinc[poslo + 7] * sampleR[currentSamplePos]) +
-                    (sinc[poslo + 8] * sampleR[currentSamplePos - 1]) +
-                    (sinc[poslo + 9] * sampleR[currentSamplePos - 2]) +
-                    (sinc[poslo + 10] * sampleR[currentSamplePos - 3]) +
-                    (sinc[poslo + 11] * sampleR[currentSamplePos - 4]) +
-                    (sinc[poslo + 12] * sampleR[currentSamplePos - 5]) +
-                    (sinc[poslo + 13] * sampleR[currentSamplePos - 6]) +
-                    (sinc[poslo + 14] * sampleR[currentSamplePos - 7]) +
-                    (sinc[poslo + 15] * sampleR[currentSamplePos - 8])
-                    :
-                    (sinc[poslo] * sampleR[currentSamplePos - 7]) +
-                    (sinc[poslo + 1] * sampleR[currentSamplePos - 6]) +
-                    (sinc[poslo + 2] * sampleR[currentSamplePos - 5]) +
-                    (sinc[poslo + 3] * sampleR[currentSamplePos - 4]) +
-                    (sinc[poslo + 4] * sampleR[currentSamplePos - 3]) +
-                    (sinc[poslo + 5] * sampleR[currentSamplePos - 2]) +
-                    (sinc[poslo + 6] * sampleR[currentSamplePos - 1]) +
-                    (sinc[poslo + 7] * sampleR[currentSamplePos]) +
-                    (sinc[poslo + 8] * sampleR[currentSamplePos + 1]) +
-                    (sinc[poslo + 9] * sampleR[currentSamplePos + 2]) +
-                    (sinc[poslo + 10] * sampleR[currentSamplePos + 3]) +
-                    (sinc[poslo + 11] * sampleR[currentSamplePos + 4]) +
-                    (sinc[poslo + 12] * sampleR[currentSamplePos + 5]) +
-                    (sinc[poslo + 13] * sampleR[currentSamplePos + 6]) +
-                    (sinc[poslo + 14] * sampleR[currentSamplePos + 7]) +
-                    (sinc[poslo + 15] * sampleR[currentSamplePos + 8]);
-
-            result.right = s1 / (1L << Kaiser.SINC_QUANTSHIFT);
-        } else
+        result.left = sampleL.getSinc16(sinc, poslo, currentSamplePos, isBackwards) / (1L << Kaiser.SINC_QUANTSHIFT);
+        if (sampleR != null)
+            result.right = sampleR.getSinc16(sinc, poslo, currentSamplePos, isBackwards) / (1L << Kaiser.SINC_QUANTSHIFT);
+        else
             result.right = result.left;
     }
 
@@ -564,49 +453,10 @@ public class Sample {
         int poslo = ((currentTuningPos >> WindowedFIR.SINC_FRACSHIFT) & WindowedFIR.SINC_MASK) * WindowedFIR.WFIR_WIDTH;
         int[] sinc = (currentTuning > WindowedFIR.gDownsample13x_Limit) ? (currentTuning > WindowedFIR.gDownsample2x_Limit) ? WindowedFIR.gDownsample2x_8 : WindowedFIR.gDownsample13x_8 : WindowedFIR.gWfirSinc_8;
 
-        long s1 = (isBackwards) ?
-                (sinc[poslo] * sampleL[currentSamplePos + 3]) +
-                (sinc[poslo + 1] * sampleL[currentSamplePos + 2]) +
-                (sinc[poslo + 2] * sampleL[currentSamplePos + 1]) +
-                (sinc[poslo + 3] * sampleL[currentSamplePos]) +
-                (sinc[poslo + 4] * sampleL[currentSamplePos - 1]) +
-                (sinc[poslo + 5] * sampleL[currentSamplePos - 2]) +
-                (sinc[poslo + 6] * sampleL[currentSamplePos - 3]) +
-                (sinc[poslo + 7] * sampleL[currentSamplePos - 4])
-                :
-                (sinc[poslo] * sampleL[currentSamplePos - 3]) +
-                (sinc[poslo + 1] * sampleL[currentSamplePos - 2]) +
-                (sinc[poslo + 2] * sampleL[currentSamplePos - 1]) +
-                (sinc[poslo + 3] * sampleL[currentSamplePos]) +
-                (sinc[poslo + 4] * sampleL[currentSamplePos + 1]) +
-                (sinc[poslo + 5] * sampleL[currentSamplePos + 2]) +
-                (sinc[poslo + 6] * sampleL[currentSamplePos + 3]) +
-                (sinc[poslo + 7] * sampleL[currentSamplePos + 4]);
-
-        result.left = s1 / (1L << WindowedFIR.WFIR_QUANTBITS);
-
-        if (sampleR != null) {
-            s1 = (isBackwards) ?
-                    (sinc[poslo] * sampleR[currentSamplePos + 3]) +
-                    (sinc[poslo + 1] * sampleR[currentSamplePos + 2]) +
-                    (sinc[poslo + 2] * sampleR[currentSamplePos + 1]) +
-                    (sinc[poslo + 3] * sampleR[currentSamplePos]) +
-                    (sinc[poslo + 4] * sampleR[currentSamplePos - 1]) +
-                    (sinc[poslo + 5] * sampleR[currentSamplePos - 2]) +
-                    (sinc[poslo + 6] * sampleR[currentSamplePos - 3]) +
-                    (sinc[poslo + 7] * sampleR[currentSamplePos - 4])
-                    :
-                    (sinc[poslo] * sampleR[currentSamplePos - 3]) +
-                    (sinc[poslo + 1] * sampleR[currentSamplePos - 2]) +
-                    (sinc[poslo + 2] * sampleR[currentSamplePos - 1]) +
-                    (sinc[poslo + 3] * sampleR[currentSamplePos]) +
-                    (sinc[poslo + 4] * sampleR[currentSamplePos + 1]) +
-                    (sinc[poslo + 5] * sampleR[currentSamplePos + 2]) +
-                    (sinc[poslo + 6] * sampleR[currentSamplePos + 3]) +
-                    (sinc[poslo + 7] * sampleR[currentSamplePos + 4]);
-
-            result.right = s1 / (1L << WindowedFIR.WFIR_QUANTBITS);
-        } else
+        result.left = sampleL.getSinc8(sinc, poslo, currentSamplePos, isBackwards) / (1L << WindowedFIR.WFIR_QUANTBITS);
+        if (sampleR != null)
+            result.right = sampleR.getSinc8(sinc, poslo, currentSamplePos, isBackwards) / (1L << WindowedFIR.WFIR_QUANTBITS);
+        else
             result.right = result.left;
     }
 
@@ -624,8 +474,8 @@ public class Sample {
             // Now return correct sample
             switch (doISP) {
                 case ModConstants.INTERPOLATION_NONE:
-                    result.left = sampleL[sampleIndex];
-                    result.right = (sampleR != null) ? sampleR[sampleIndex] : result.left;
+                    result.left = sampleL.get(sampleIndex);
+                    result.right = (sampleR != null) ? sampleR.get(sampleIndex) : result.left;
                     break;
                 case ModConstants.INTERPOLATION_LINEAR:
                     getLinearInterpolated(result, sampleIndex, currentTuningPos, isBackwards);
@@ -648,6 +498,57 @@ public class Sample {
             result.left = result.right = 0;
     }
 
+    /**
+     * Block version of getInterpolatedSample. Renders count frames with the
+     * desired interpolation into left (and right, if this is a stereo
+     * sample - otherwise right is untouched).
+     * The caller must guarantee, that within these frames no loop border
+     * is reached and no interpolation magic is needed.
+     *
+     * @param left destination for the left (or mono) channel
+     * @param right destination for the right channel
+     * @param offset first index in left / right
+     * @param count frames to render
+     * @param doSIMD use the Vector API kernels for the windowed sinc interpolations (if available)
+     * @since 17.10.2026
+     */
+    public void getInterpolatedSamples(long[] left, long[] right, int offset, int count, int doISP, int currentTuning, int currentSamplePos, int currentTuningPos, boolean isBackwards, boolean doSIMD) {
+        int sampleIndex = currentSamplePos + INTERPOLATION_LOOK_AHEAD;
+        switch (doISP) {
+            case ModConstants.INTERPOLATION_NONE:
+                sampleL.getNone(left, offset, count, sampleIndex, currentTuningPos, currentTuning, isBackwards);
+                if (sampleR != null) sampleR.getNone(right, offset, count, sampleIndex, currentTuningPos, currentTuning, isBackwards);
+                break;
+            case ModConstants.INTERPOLATION_LINEAR:
+                sampleL.getLinear(left, offset, count, sampleIndex, currentTuningPos, currentTuning, isBackwards);
+                if (sampleR != null) sampleR.getLinear(right, offset, count, sampleIndex, currentTuningPos, currentTuning, isBackwards);
+                break;
+            case ModConstants.INTERPOLATION_CUBIC:
+                sampleL.getCubic(left, offset, count, sampleIndex, currentTuningPos, currentTuning, isBackwards);
+                if (sampleR != null) sampleR.getCubic(right, offset, count, sampleIndex, currentTuningPos, currentTuning, isBackwards);
+                break;
+            case ModConstants.INTERPOLATION_KAISER_8: {
+                int[] sinc = (currentTuning > Kaiser.gDownsample13x_Limit) ? (currentTuning > Kaiser.gDownsample2x_Limit) ? Kaiser.gDownsample2x_8 : Kaiser.gDownsample13x_8 : Kaiser.gKaiserSinc_8;
+                sampleL.getSinc8(left, offset, count, sinc, Kaiser.SINC_FRACSHIFT, Kaiser.SINC_MASK, Kaiser.SINC_QUANTSHIFT, sampleIndex, currentTuningPos, currentTuning, isBackwards, doSIMD);
+                if (sampleR != null) sampleR.getSinc8(right, offset, count, sinc, Kaiser.SINC_FRACSHIFT, Kaiser.SINC_MASK, Kaiser.SINC_QUANTSHIFT, sampleIndex, currentTuningPos, currentTuning, isBackwards, doSIMD);
+                break;
+            }
+            case ModConstants.INTERPOLATION_WINDOWSFIR: {
+                int[] sinc = (currentTuning > WindowedFIR.gDownsample13x_Limit) ? (currentTuning > WindowedFIR.gDownsample2x_Limit) ? WindowedFIR.gDownsample2x_8 : WindowedFIR.gDownsample13x_8 : WindowedFIR.gWfirSinc_8;
+                sampleL.getSinc8(left, offset, count, sinc, WindowedFIR.SINC_FRACSHIFT, WindowedFIR.SINC_MASK, WindowedFIR.WFIR_QUANTBITS, sampleIndex, currentTuningPos, currentTuning, isBackwards, doSIMD);
+                if (sampleR != null) sampleR.getSinc8(right, offset, count, sinc, WindowedFIR.SINC_FRACSHIFT, WindowedFIR.SINC_MASK, WindowedFIR.WFIR_QUANTBITS, sampleIndex, currentTuningPos, currentTuning, isBackwards, doSIMD);
+                break;
+            }
+            default:
+            case ModConstants.INTERPOLATION_KAISER_16: {
+                int[] sinc = (currentTuning > Kaiser.gDownsample13x_Limit) ? (currentTuning > Kaiser.gDownsample2x_Limit) ? Kaiser.gDownsample2x_16 : Kaiser.gDownsample13x_16 : Kaiser.gKaiserSinc_16;
+                sampleL.getSinc16(left, offset, count, sinc, Kaiser.SINC_FRACSHIFT, Kaiser.SINC_MASK, Kaiser.SINC_QUANTSHIFT, sampleIndex, currentTuningPos, currentTuning, isBackwards, doSIMD);
+                if (sampleR != null) sampleR.getSinc16(right, offset, count, sinc, Kaiser.SINC_FRACSHIFT, Kaiser.SINC_MASK, Kaiser.SINC_QUANTSHIFT, sampleIndex, currentTuningPos, currentTuning, isBackwards, doSIMD);
+                break;
+            }
+        }
+    }
+
     /**
      * @param newCues the cues to set
      */
@@ -0,0 +1,606 @@
+/*
+ * @(#) SampleData.java
+ *
+ * Created on 17.10.2026 by Daniel Becker
+ *
+ *-----------------------------------------------------------------------
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation; either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, write to the Free Software
+ *  Foundation, Inc., 675 Mass Ave, Cambridge, MA 02139, USA.
+ *----------------------------------------------------------------------
+ */
+
+package de.quippy.javamod.multimedia.mod.loader.instrument;
+
+import de.quippy.javamod.multimedia.mod.ModConstants;
+import de.quippy.javamod.multimedia.mod.mixer.interpolation.CubicSpline;
+
+
+/**
+ * Storage of one channel of sample data in its native width.
+ * <p>
+ * The mixer always works with signed 32 bit values (8 bit samples are
+ * promoted with &lt;&lt;24, 16 bit samples with &lt;&lt;16). Keeping all
+ * of those in a long[] costs 8 bytes per sample point, so we store the
+ * original bits only and promote while reading. {@link #get(int)} and
+ * {@link #set(int, long)} work with the promoted values, so loaders do not
+ * need to care about the storage width.
+ * <p>
+ * The interpolation kernels are implemented once, on the stored values
+ * ({@link #raw(int)}) - the sums are promoted after summing up. All kernels
+ * return exactly the same values as if the data was held promoted in a
+ * long[].
+ *
+ * @author Daniel Becker
+ * @since 17.10.2026
+ */
+public abstract class SampleData {
+
+    /** the SIMD kernels - null, if they cannot be used */
+    private static final SincKernels SIMD = loadSIMD();
+
+    /**
+     * true, if the Vector API (jdk.incubator.vector) was added to the boot
+     * layer (--add-modules jdk.incubator.vector), its preferred vectors are
+     * wide enough and the SIMD kernels can be used
+     */
+    public static final boolean SIMD_AVAILABLE = SIMD != null;
+
+    private static SincKernels loadSIMD() {
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) return null;
+        try {
+            SincKernels kernels = (SincKernels) Class.forName(SampleData.class.getPackageName() + ".VectorInterpolation").getDeclaredConstructor().newInstance();
+            return (kernels.isSupported()) ? kernels : null;
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return null;
+        }
+    }
+
+    /** the shift promoting a stored value to signed 32 bit */
+    private final int promoteShift;
+
+    /**
+     * @param promoteShift the shift promoting a stored value to signed 32 bit
+     */
+    SampleData(int promoteShift) {
+        this.promoteShift = promoteShift;
+    }
+
+    /**
+     * Create a sample data buffer
+     *
+     * @param bitsPerSample 8, 16 or 32 - everything else will result in 32 bit
+     * @param length the length in sample points
+     * @return the new buffer
+     * @since 17.10.2026
+     */
+    public static SampleData create(int bitsPerSample, int length) {
+        return switch (bitsPerSample) {
+            case 8 -> new SampleData8(length);
+            case 16 -> new SampleData16(length);
+            default -> new SampleData32(length);
+        };
+    }
+
+    /**
+     * @return the amount of sample points
+     */
+    public abstract int length();
+
+    /**
+     * @return the bits used to store one sample point (8, 16, 32)
+     */
+    public abstract int getBitsPerSample();
+
+    /**
+     * @return the amount of bytes used for the sample data
+     */
+    public int getByteLength() {
+        return length() * (getBitsPerSample() >> 3);
+    }
+
+    /**
+     * @param index sample point index
+     * @return the sample as stored, not promoted
+     * @since 17.10.2026
+     */
+    abstract int raw(int index);
+
+    /**
+     * @param index sample point index
+     * @return the sample, promoted to signed 32 bit
+     */
+    public long get(int index) {
+        return ((long) raw(index)) << promoteShift;
+    }
+
+    /**
+     * @param index sample point index
+     * @param value the sample, promoted to signed 32 bit
+     */
+    public abstract void set(int index, long value);
+
+    /**
+     * @return this buffer, if it is 32 bit already, otherwise a 32 bit
+     * copy - which keeps every promoted value written exactly
+     * @since 17.10.2026
+     */
+    public SampleData widen() {
+        if (getBitsPerSample() == 32) return this;
+        SampleData32 result = new SampleData32(length());
+        for (int i = 0; i < result.data.length; i++) result.data[i] = (int) get(i);
+        return result;
+    }
+
+    /**
+     * @param length the length of the copy in sample points
+     * @return a copy of this buffer in the same width, truncated or
+     * padded with silence to length
+     * @since 17.10.2026
+     */
+    public SampleData copyOf(int length) {
+        SampleData result = create(getBitsPerSample(), length);
+        for (int i = Math.min(length, length()) - 1; i >= 0; i--) result.set(i, get(i));
+        return result;
+    }
+
+    /**
+     * Copy sample data from a promoted long buffer
+     *
+     * @param source the source
+     * @param srcIndex start index in source
+     * @param destIndex start index in this buffer
+     * @param length sample points to copy
+     * @since 17.10.2026
+     */
+    public void set(long[] source, int srcIndex, int destIndex, int length) {
+        for (int i = 0; i < length; i++) set(destIndex + i, source[srcIndex + i]);
+    }
+
+    /**
+     * Copy signed 8 bit sample data - promoted like
+     * ModConstants.promoteSigned8BitToSigned32Bit does
+     *
+     * @param source the source
+     * @param srcIndex start index in source
+     * @param destIndex start index in this buffer
+     * @param length sample points to copy
+     * @since 17.10.2026
+     */
+    public void setSigned8(byte[] source, int srcIndex, int destIndex, int length) {
+        for (int i = 0; i < length; i++) set(destIndex + i, ((long) source[srcIndex + i]) << 24);
+    }
+
+    /**
+     * Copy signed 16 bit sample data - promoted like
+     * ModConstants.promoteSigned16BitToSigned32Bit does
+     *
+     * @param source the source
+     * @param srcIndex start index in source
+     * @param destIndex start index in this buffer
+     * @param length sample points to copy
+     * @since 17.10.2026
+     */
+    public void setSigned16(short[] source, int srcIndex, int destIndex, int length) {
+        for (int i = 0; i < length; i++) set(destIndex + i, ((long) source[srcIndex + i]) << 16);
+    }
+
+    /**
+     * Copy sample points inside this buffer. Overlapping regions are
+     * handled like System.arraycopy does.
+     *
+     * @param srcIndex source index
+     * @param destIndex destination index
+     * @param length sample points to move
+     * @since 17.10.2026
+     */
+    public abstract void move(int srcIndex, int destIndex, int length);
+
+    /**
+     * Linear interpolation. Returns the same as the
+     * linear interpolation on promoted long values
+     *
+     * @param pos index of the sample point
+     * @param tuningPos fraction (ModConstants.SHIFT)
+     * @param isBackwards interpolation direction
+     * @return the interpolated sample
+     */
+    public long getLinear(int pos, int tuningPos, boolean isBackwards) {
+        return linear(raw(pos), raw((isBackwards) ? pos - 1 : pos + 1), tuningPos);
+    }
+
+    /**
+     * @param first the stored value at the position
+     * @param second the stored value of the next sample point in play direction
+     * @param tuningPos fraction (ModConstants.SHIFT)
+     * @return the linear interpolation of the promoted values
+     * @since 17.10.2026
+     */
+    private long linear(int first, int second, int tuningPos) {
+        long s1 = ((long) first) << (promoteShift + ModConstants.SAMPLE_SHIFT);
+        long s2 = ((long) second) << (promoteShift + ModConstants.SAMPLE_SHIFT);
+        return (s1 + (((s2 - s1) * tuningPos) >> ModConstants.SHIFT)) / (1L << ModConstants.SAMPLE_SHIFT);
+    }
+
+    /**
+     * Cubic spline interpolation
+     *
+     * @param pos index of the sample point
+     * @param poslo index into the CubicSpline lut
+     * @param isBackwards interpolation direction
+     * @return the sum of products, not yet divided by the quantisation
+     */
+    public long getCubic(int pos, int poslo, boolean isBackwards) {
+        return cubic(poslo, pos, (isBackwards) ? -1 : 1) << promoteShift;
+    }
+
+    /**
+     * @param poslo index into the CubicSpline lut
+     * @param pos index of the sample point
+     * @param direction 1 or -1
+     * @return the sum of products of the stored values - not promoted
+     * @since 17.10.2026
+     */
+    private long cubic(int poslo, int pos, int direction) {
+        int[] lut = CubicSpline.lut;
+        return ((long) lut[poslo] * raw(pos - direction)) +
+                ((long) lut[poslo + 1] * raw(pos)) +
+                ((long) lut[poslo + 2] * raw(pos + direction)) +
+                ((long) lut[poslo + 3] * raw(pos + (direction << 1)));
+    }
+
+    /**
+     * 8 taps windowed sinc interpolation (Kaiser8 or WindowedFIR)
+     *
+     * @param sinc the sinc table
+     * @param poslo index into the sinc table
+     * @param pos index of the sample point
+     * @param isBackwards interpolation direction
+     * @return the sum of products, not yet divided by the quantisation
+     */
+    public long getSinc8(int[] sinc, int poslo, int pos, boolean isBackwards) {
+        return sinc(sinc, poslo, 8, pos, (isBackwards) ? -1 : 1) << promoteShift;
+    }
+
+    /**
+     * 16 taps windowed sinc interpolation (Kaiser16)
+     *
+     * @param sinc the sinc table
+     * @param poslo index into the sinc table
+     * @param pos index of the sample point
+     * @param isBackwards interpolation direction
+     * @return the sum of products, not yet divided by the quantisation
+     */
+    public long getSinc16(int[] sinc, int poslo, int pos, boolean isBackwards) {
+        return sinc(sinc, poslo, 16, pos, (isBackwards) ? -1 : 1) << promoteShift;
+    }
+
+    /**
+     * @param sinc the sinc table
+     * @param poslo index into the sinc table
+     * @param taps 8 or 16
+     * @param pos index of the sample point
+     * @param direction 1 or -1
+     * @return the sum of products of the stored values - not promoted
+     * @since 17.10.2026
+     */
+    private long sinc(int[] sinc, int poslo, int taps, int pos, int direction) {
+        int first = pos - ((taps >> 1) - 1) * direction;
+        long sum = 0;
+        for (int t = 0; t < taps; t++) sum += (long) sinc[poslo + t] * raw(first + t * direction);
+        return sum;
+    }
+
+    /**
+     * Block version of the interpolations: renders count frames into out
+     * starting with the given sample and tuning position, advancing by
+     * tuning per frame. The caller must make sure, that no loop border
+     * (including the interpolation look ahead) is crossed within the block.
+     * All block kernels return the final (divided) values, i.e. exactly
+     * what Sample.getInterpolatedSample would deliver for each frame.
+     *
+     * @param out the destination
+     * @param offset first index in out
+     * @param count frames to render
+     * @param pos index of the first sample point
+     * @param tuningPos the fraction of the first sample point
+     * @param tuning the increment per frame (ModConstants.SHIFT)
+     * @param isBackwards play direction
+     * @since 17.10.2026
+     */
+    public void getNone(long[] out, int offset, int count, int pos, int tuningPos, int tuning, boolean isBackwards) {
+        int direction = (isBackwards) ? -1 : 1;
+        for (int i = offset, end = offset + count; i < end; i++) {
+            out[i] = ((long) raw(pos)) << promoteShift;
+            tuningPos += tuning;
+            pos += direction * (tuningPos >> ModConstants.SHIFT);
+            tuningPos &= ModConstants.SHIFT_MASK;
+        }
+    }
+
+    /**
+     * @see #getNone(long[], int, int, int, int, int, boolean)
+     * @since 17.10.2026
+     */
+    public void getLinear(long[] out, int offset, int count, int pos, int tuningPos, int tuning, boolean isBackwards) {
+        int direction = (isBackwards) ? -1 : 1;
+        for (int i = offset, end = offset + count; i < end; i++) {
+            out[i] = linear(raw(pos), raw(pos + direction), tuningPos);
+            tuningPos += tuning;
+            pos += direction * (tuningPos >> ModConstants.SHIFT);
+            tuningPos &= ModConstants.SHIFT_MASK;
+        }
+    }
+
+    /**
+     * @see #getNone(long[], int, int, int, int, int, boolean)
+     * @since 17.10.2026
+     */
+    public void getCubic(long[] out, int offset, int count, int pos, int tuningPos, int tuning, boolean isBackwards) {
+        int direction = (isBackwards) ? -1 : 1;
+        for (int i = offset, end = offset + count; i < end; i++) {
+            int poslo = (tuningPos >> CubicSpline.SPLINE_FRACSHIFT) & CubicSpline.SPLINE_FRACMASK;
+            out[i] = (cubic(poslo, pos, direction) << promoteShift) / (1L << CubicSpline.SPLINE_QUANTBITS);
+            tuningPos += tuning;
+            pos += direction * (tuningPos >> ModConstants.SHIFT);
+            tuningPos &= ModConstants.SHIFT_MASK;
+        }
+    }
+
+    /**
+     * 8 taps windowed sinc interpolation as block
+     *
+     * @param sinc the sinc table
+     * @param fracShift shift of the tuning position to get the phase
+     * @param phaseMask mask of the phase
+     * @param quantShift quantisation of the sinc table
+     * @see #getNone(long[], int, int, int, int, int, boolean)
+     * @since 17.10.2026
+     */
+    public void getSinc8(long[] out, int offset, int count, int[] sinc, int fracShift, int phaseMask, int quantShift, int pos, int tuningPos, int tuning, boolean isBackwards) {
+        getSinc(out, offset, count, sinc, 8, fracShift, phaseMask, quantShift, pos, tuningPos, tuning, isBackwards);
+    }
+
+    /**
+     * 16 taps windowed sinc interpolation as block
+     *
+     * @see #getSinc8(long[], int, int, int[], int, int, int, int, int, int, boolean)
+     * @since 17.10.2026
+     */
+    public void getSinc16(long[] out, int offset, int count, int[] sinc, int fracShift, int phaseMask, int quantShift, int pos, int tuningPos, int tuning, boolean isBackwards) {
+        getSinc(out, offset, count, sinc, 16, fracShift, phaseMask, quantShift, pos, tuningPos, tuning, isBackwards);
+    }
+
+    /**
+     * @param taps 8 or 16
+     * @see #getSinc8(long[], int, int, int[], int, int, int, int, int, int, boolean)
+     * @since 17.10.2026
+     */
+    private void getSinc(long[] out, int offset, int count, int[] sinc, int taps, int fracShift, int phaseMask, int quantShift, int pos, int tuningPos, int tuning, boolean isBackwards) {
+        int direction = (isBackwards) ? -1 : 1;
+        int tapsShift = (taps == 16) ? 4 : 3;
+        for (int i = offset, end = offset + count; i < end; i++) {
+            int poslo = ((tuningPos >> fracShift) & phaseMask) << tapsShift;
+            out[i] = (sinc(sinc, poslo, taps, pos, direction) << promoteShift) / (1L << quantShift);
+            tuningPos += tuning;
+            pos += direction * (tuningPos >> ModConstants.SHIFT);
+            tuningPos &= ModConstants.SHIFT_MASK;
+        }
+    }
+
+    /**
+     * Same as {@link #getSinc8(long[], int, int, int[], int, int, int, int, int, int, boolean)}
+     * but computed with the SIMD kernels, if doSIMD is set and the Vector API
+     * is available. 32 bit data is always processed by the scalar kernel.
+     *
+     * @param doSIMD use the Vector API
+     * @since 17.10.2026
+     */
+    public void getSinc8(long[] out, int offset, int count, int[] sinc, int fracShift, int phaseMask, int quantShift, int pos, int tuningPos, int tuning, boolean isBackwards, boolean doSIMD) {
+        getSinc8(out, offset, count, sinc, fracShift, phaseMask, quantShift, pos, tuningPos, tuning, isBackwards);
+    }
+
+    /**
+     * @see #getSinc8(long[], int, int, int[], int, int, int, int, int, int, boolean, boolean)
+     * @since 17.10.2026
+     */
+    public void getSinc16(long[] out, int offset, int count, int[] sinc, int fracShift, int phaseMask, int quantShift, int pos, int tuningPos, int tuning, boolean isBackwards, boolean doSIMD) {
+        getSinc16(out, offset, count, sinc, fracShift, phaseMask, quantShift, pos, tuningPos, tuning, isBackwards);
+    }
+
+    /**
+     * 8 bit signed samples
+     *
+     * @since 17.10.2026
+     */
+    static final class SampleData8 extends SampleData {
+
+        private static final int PROMOTE_SHIFT = 24;
+
+        private final byte[] data;
+
+        SampleData8(int length) {
+            super(PROMOTE_SHIFT);
+            data = new byte[length];
+        }
+
+        @Override
+        public int length() {
+            return data.length;
+        }
+
+        @Override
+        public int getBitsPerSample() {
+            return 8;
+        }
+
+        @Override
+        int raw(int index) {
+            return data[index];
+        }
+
+        @Override
+        public void set(int index, long value) {
+            data[index] = (byte) (value >> PROMOTE_SHIFT);
+        }
+
+        @Override
+        public void setSigned8(byte[] source, int srcIndex, int destIndex, int length) {
+            System.arraycopy(source, srcIndex, data, destIndex, length);
+        }
+
+        @Override
+        public void setSigned16(short[] source, int srcIndex, int destIndex, int length) {
+            for (int i = 0; i < length; i++) data[destIndex + i] = (byte) (source[srcIndex + i] >> 8);
+        }
+
+        @Override
+        public void move(int srcIndex, int destIndex, int length) {
+            System.arraycopy(data, srcIndex, data, destIndex, length);
+        }
+
+        @Override
+        public void getSinc8(long[] out, int offset, int count, int[] sinc, int fracShift, int phaseMask, int quantShift, int pos, int tuningPos, int tuning, boolean isBackwards, boolean doSIMD) {
+            if (doSIMD && SIMD != null)
+                SIMD.getSinc8(data, PROMOTE_SHIFT, out, offset, count, sinc, fracShift, phaseMask, quantShift, pos, tuningPos, tuning, isBackwards);
+            else
+                getSinc8(out, offset, count, sinc, fracShift, phaseMask, quantShift, pos, tuningPos, tuning, isBackwards);
+        }
+
+        @Override
+        public void getSinc16(long[] out, int offset, int count, int[] sinc, int fracShift, int phaseMask, int quantShift, int pos, int tuningPos, int tuning, boolean isBackwards, boolean doSIMD) {
+            if (doSIMD && SIMD != null)
+                SIMD.getSinc16(data, PROMOTE_SHIFT, out, offset, count, sinc, fracShift, phaseMask, quantShift, pos, tuningPos, tuning, isBackwards);
+            else
+                getSinc16(out, offset, count, sinc, fracShift, phaseMask, quantShift, pos, tuningPos, tuning, isBackwards);
+        }
+    }
+
+    /**
+     * 16 bit signed samples
+     *
+     * @since 17.10.2026
+     */
+    static final class SampleData16 extends SampleData {
+
+        private static final int PROMOTE_SHIFT = 16;
+
+        private final short[] data;
+
+        SampleData16(int length) {
+            super(PROMOTE_SHIFT);
+            data = new short[length];
+        }
+
+        @Override
+        public int length() {
+            return data.length;
+        }
+
+        @Override
+        public int getBitsPerSample() {
+            return 16;
+        }
+
+        @Override
+        int raw(int index) {
+            return data[index];
+        }
+
+        @Override
+        public void set(int index, long value) {
+            data[index] = (short) (value >> PROMOTE_SHIFT);
+        }
+
+        @Override
+        public void setSigned8(byte[] source, int srcIndex, int destIndex, int length) {
+            for (int i = 0; i < length; i++) data[destIndex + i] = (short) (source[srcIndex + i] << 8);
+        }
+
+        @Override
+        public void setSigned16(short[] source, int srcIndex, int destIndex, int length) {
+            System.arraycopy(source, srcIndex, data, destIndex, length);
+        }
+
+        @Override
+        public void move(int srcIndex, int destIndex, int length) {
+            System.arraycopy(data, srcIndex, data, destIndex, length);
+        }
+
+        @Override
+        public void getSinc8(long[] out, int offset, int count, int[] sinc, int fracShift, int phaseMask, int quantShift, int pos, int tuningPos, int tuning, boolean isBackwards, boolean doSIMD) {
+            if (doSIMD && SIMD != null)
+                SIMD.getSinc8(data, PROMOTE_SHIFT, out, offset, count, sinc, fracShift, phaseMask, quantShift, pos, tuningPos, tuning, isBackwards);
+            else
+                getSinc8(out, offset, count, sinc, fracShift, phaseMask, quantShift, pos, tuningPos, tuning, isBackwards);
+        }
+
+        @Override
+        public void getSinc16(long[] out, int offset, int count, int[] sinc, int fracShift, int phaseMask, int quantShift, int pos, int tuningPos, int tuning, boolean isBackwards, boolean doSIMD) {
+            if (doSIMD && SIMD != null)
+                SIMD.getSinc16(data, PROMOTE_SHIFT, out, offset, count, sinc, fracShift, phaseMask, quantShift, pos, tuningPos, tuning, isBackwards);
+            else
+                getSinc16(out, offset, count, sinc, fracShift, phaseMask, quantShift, pos, tuningPos, tuning, isBackwards);
+        }
+    }
+
+    /**
+     * 32 bit signed samples (already promoted, e.g. 24 bit or amplified sources)
+     *
+     * @since 17.10.2026
+     */
+    static final class SampleData32 extends SampleData {
+
+        private final int[] data;
+
+        SampleData32(int length) {
+            super(0);
+            data = new int[length];
+        }
+
+        @Override
+        public int length() {
+            return data.length;
+        }
+
+        @Override
+        public int getBitsPerSample() {
+            return 32;
+        }
+
+        @Override
+        int raw(int index) {
+            return data[index];
+        }
+
+        @Override
+        public void set(int index, long value) {
+            data[index] = (int) value;
+        }
+
+        @Override
+        public void setSigned8(byte[] source, int srcIndex, int destIndex, int length) {
+            for (int i = 0; i < length; i++) data[destIndex + i] = source[srcIndex + i] << 24;
+        }
+
+        @Override
+        public void setSigned16(short[] source, int srcIndex, int destIndex, int length) {
+            for (int i = 0; i < length; i++) data[destIndex + i] = source[srcIndex + i] << 16;
+        }
+
+        @Override
+        public void move(int srcIndex, int destIndex, int length) {
+            System.arraycopy(data, srcIndex, data, destIndex, length);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * @(#) SincKernels.java
+ *
+ * Created on 17.10.2026 by Daniel Becker
+ *
+ *-----------------------------------------------------------------------
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation; either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, write to the Free Software
+ *  Foundation, Inc., 675 Mass Ave, Cambridge, MA 02139, USA.
+ *----------------------------------------------------------------------
+ */
+
+package de.quippy.javamod.multimedia.mod.loader.instrument;
+
+/**
+ * Block kernels of the windowed sinc interpolation working on the native
+ * sample arrays. {@link VectorInterpolation} implements them with the
+ * Vector API - it is compiled separately and only loaded by name, so
+ * nothing else depends on the jdk.incubator.vector module.
+ *
+ * @author Daniel Becker
+ * @since 17.10.2026
+ */
+interface SincKernels {
+
+    /**
+     * @return true, if the kernels are faster than the scalar ones on this
+     * machine
+     */
+    boolean isSupported();
+
+    void getSinc8(byte[] data, int promoteShift, long[] out, int offset, int count, int[] sinc, int fracShift, int phaseMask, int quantShift, int pos, int tuningPos, int tuning, boolean isBackwards);
+
+    void getSinc8(short[] data, int promoteShift, long[] out, int offset, int count, int[] sinc, int fracShift, int phaseMask, int quantShift, int pos, int tuningPos, int tuning, boolean isBackwards);
+
+    void getSinc16(byte[] data, int promoteShift, long[] out, int offset, int count, int[] sinc, int fracShift, int phaseMask, int quantShift, int pos, int tuningPos, int tuning, boolean isBackwards);
+
+    void getSinc16(short[] data, int promoteShift, long[] out, int offset, int count, int[] sinc, int fracShift, int phaseMask, int quantShift, int pos, int tuningPos, int tuning, boolean isBackwards);
+}
@@ -0,0 +1,149 @@
+/*
+ * @(#) VectorInterpolation.java
+ *
+ * Created on 17.10.2026 by Daniel Becker
+ *
+ *-----------------------------------------------------------------------
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation; either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, write to the Free Software
+ *  Foundation, Inc., 675 Mass Ave, Cambridge, MA 02139, USA.
+ *----------------------------------------------------------------------
+ */
+
+package de.quippy.javamod.multimedia.mod.loader.instrument;
+
+import de.quippy.javamod.multimedia.mod.ModConstants;
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.ShortVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShuffle;
+import jdk.incubator.vector.VectorSpecies;
+
+
+/**
+ * SIMD versions of the windowed sinc block kernels (Kaiser 8/16 taps and
+ * windowed FIR) using the Java Vector API.
+ * <p>
+ * Every tap of the filter is one int lane: the sample points are widened
+ * from their native width, multiplied with the sinc table row and summed
+ * up. With 8 or 16 bit sources the sums always fit into an int
+ * (|sample| * sum(|sinc|) &lt; 2^31 for all tables), so the results are
+ * identical to the scalar kernels in {@link SampleData}.
+ * <p>
+ * The kernels need eight int lanes per vector, so they are only used, if
+ * the preferred species of this machine is at least that wide - emulated
+ * or split vectors are slower than the scalar loops.
+ * <p>
+ * Never touch this class directly - it can only be loaded, if the
+ * jdk.incubator.vector module is present. It is compiled in its own
+ * step and instantiated by {@link SampleData} through {@link SincKernels}.
+ *
+ * @author Daniel Becker
+ * @since 17.10.2026
+ */
+final class VectorInterpolation implements SincKernels {
+
+    private static final VectorSpecies<Integer> TAPS = IntVector.SPECIES_256;
+    private static final VectorSpecies<Byte> BYTE_TAPS = ByteVector.SPECIES_64;
+    private static final VectorSpecies<Short> SHORT_TAPS = ShortVector.SPECIES_128;
+    private static final VectorShuffle<Integer> REVERSE = VectorShuffle.fromOp(TAPS, i -> TAPS.length() - 1 - i);
+
+    VectorInterpolation() {
+    }
+
+    @Override
+    public boolean isSupported() {
+        return IntVector.SPECIES_PREFERRED.vectorBitSize() >= TAPS.vectorBitSize();
+    }
+
+    private static IntVector load(byte[] data, int index) {
+        return (IntVector) ByteVector.fromArray(BYTE_TAPS, data, index).convertShape(VectorOperators.B2I, TAPS, 0);
+    }
+
+    private static IntVector load(short[] data, int index) {
+        return (IntVector) ShortVector.fromArray(SHORT_TAPS, data, index).convertShape(VectorOperators.S2I, TAPS, 0);
+    }
+
+    @Override
+    public void getSinc8(byte[] data, int promoteShift, long[] out, int offset, int count, int[] sinc, int fracShift, int phaseMask, int quantShift, int pos, int tuningPos, int tuning, boolean isBackwards) {
+        int direction = (isBackwards) ? -1 : 1;
+        for (int i = offset, end = offset + count; i < end; i++) {
+            int poslo = ((tuningPos >> fracShift) & phaseMask) << 3;
+            IntVector s = (isBackwards) ? load(data, pos - 4).rearrange(REVERSE) : load(data, pos - 3);
+            long sum = s.mul(IntVector.fromArray(TAPS, sinc, poslo)).reduceLanes(VectorOperators.ADD);
+            out[i] = (sum << promoteShift) / (1L << quantShift);
+            tuningPos += tuning;
+            pos += direction * (tuningPos >> ModConstants.SHIFT);
+            tuningPos &= ModConstants.SHIFT_MASK;
+        }
+    }
+
+    @Override
+    public void getSinc8(short[] data, int promoteShift, long[] out, int offset, int count, int[] sinc, int fracShift, int phaseMask, int quantShift, int pos, int tuningPos, int tuning, boolean isBackwards) {
+        int direction = (isBackwards) ? -1 : 1;
+        for (int i = offset, end = offset + count; i < end; i++) {
+            int poslo = ((tuningPos >> fracShift) & phaseMask) << 3;
+            IntVector s = (isBackwards) ? load(data, pos - 4).rearrange(REVERSE) : load(data, pos - 3);
+            long sum = s.mul(IntVector.fromArray(TAPS, sinc, poslo)).reduceLanes(VectorOperators.ADD);
+            out[i] = (sum << promoteShift) / (1L << quantShift);
+            tuningPos += tuning;
+            pos += direction * (tuningPos >> ModConstants.SHIFT);
+            tuningPos &= ModConstants.SHIFT_MASK;
+        }
+    }
+
+    @Override
+    public void getSinc16(byte[] data, int promoteShift, long[] out, int offset, int count, int[] sinc, int fracShift, int phaseMask, int quantShift, int pos, int tuningPos, int tuning, boolean isBackwards) {
+        int direction = (isBackwards) ? -1 : 1;
+        for (int i = offset, end = offset + count; i < end; i++) {
+            int poslo = ((tuningPos >> fracShift) & phaseMask) << 4;
+            IntVector s1, s2;
+            if (isBackwards) {
+                s1 = load(data, pos).rearrange(REVERSE);
+                s2 = load(data, pos - 8).rearrange(REVERSE);
+            } else {
+                s1 = load(data, pos - 7);
+                s2 = load(data, pos + 1);
+            }
+            IntVector v = s1.mul(IntVector.fromArray(TAPS, sinc, poslo)).add(s2.mul(IntVector.fromArray(TAPS, sinc, poslo + 8)));
+            long sum = v.reduceLanes(VectorOperators.ADD);
+            out[i] = (sum << promoteShift) / (1L << quantShift);
+            tuningPos += tuning;
+            pos += direction * (tuningPos >> ModConstants.SHIFT);
+            tuningPos &= ModConstants.SHIFT_MASK;
+        }
+    }
+
+    @Override
+    public void getSinc16(short[] data, int promoteShift, long[] out, int offset, int count, int[] sinc, int fracShift, int phaseMask, int quantShift, int pos, int tuningPos, int tuning, boolean isBackwards) {
+        int direction = (isBackwards) ? -1 : 1;
+        for (int i = offset, end = offset + count; i < end; i++) {
+            int poslo = ((tuningPos >> fracShift) & phaseMask) << 4;
+            IntVector s1, s2;
+            if (isBackwards) {
+                s1 = load(data, pos).rearrange(REVERSE);
+                s2 = load(data, pos - 8).rearrange(REVERSE);
+            } else {
+                s1 = load(data, pos - 7);
+                s2 = load(data, pos + 1);
+            }
+            IntVector v = s1.mul(IntVector.fromArray(TAPS, sinc, poslo)).add(s2.mul(IntVector.fromArray(TAPS, sinc, poslo + 8)));
+            long sum = v.reduceLanes(VectorOperators.ADD);
+            out[i] = (sum << promoteShift) / (1L << quantShift);
+            tuningPos += tuning;
+            pos += direction * (tuningPos >> ModConstants.SHIFT);
+            tuningPos &= ModConstants.SHIFT_MASK;
+        }
+    }
+}
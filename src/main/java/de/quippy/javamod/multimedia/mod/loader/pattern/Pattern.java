@@ -27,6 +27,9 @@ import de.quippy.javamod.multimedia.mod.loader.Module;
 
 
 /**
+ * A pattern - all its elements are stored packed in one {@link PatternData}
+ * instead of one object per element.
+ *
  * @author Daniel Becker
  * @since 28.04.2006
  */
@@ -35,6 +38,8 @@ public class Pattern {
     protected final Module parentMod;
     protected final PatternContainer parentPatternContainer;
     protected PatternRow[] patternRows;
+    final PatternData data;
+    protected int patternIndex;
 
     protected String patternName;
     protected final int[] tempoSwing = null;
@@ -47,13 +52,15 @@ public class Pattern {
     public Pattern(Module newParentMod, PatternContainer newParentPatternContainer, int rows) {
         super();
         patternRows = new PatternRow[rows];
+        data = new PatternData(rows);
         parentMod = newParentMod;
         parentPatternContainer = newParentPatternContainer;
     }
 
     public Pattern(Module parentMod, PatternContainer parentPatternContainer, int rows, int channels) {
         this(parentMod, parentPatternContainer, rows);
-        for (int i = 0; i < rows; i++) patternRows[i] = new PatternRow(parentMod, this, channels);
+        data.setChannels(channels);
+        for (int i = 0; i < rows; i++) patternRows[i] = new PatternRow(parentMod, this, i, channels);
     }
 
     @Override
@@ -92,12 +99,29 @@ public class Pattern {
      * @since 24.11.2023
      */
     public void setToChannels(int patternIndex, int nChannels) {
+        data.setChannels(nChannels);
         for (int row = 0; row < patternRows.length; row++) {
-            if (patternRows[row] == null) patternRows[row] = new PatternRow(parentMod, this, nChannels);
+            if (patternRows[row] == null) patternRows[row] = new PatternRow(parentMod, this, row, nChannels);
             patternRows[row].setToChannels(patternIndex, row, nChannels);
         }
     }
 
+    /**
+     * @return the index of this pattern in its container
+     * @since 17.10.2026
+     */
+    public int getPatternIndex() {
+        return patternIndex;
+    }
+
+    /**
+     * @param patternIndex
+     * @since 17.10.2026
+     */
+    public void setPatternIndex(int patternIndex) {
+        this.patternIndex = patternIndex;
+    }
+
     /**
      * @return
      * @since 23.08.2008
@@ -147,26 +171,66 @@ public class Pattern {
     }
 
     /**
-     * @param patternRow The patternRows to set.
+     * Creates an empty row - a row only stores its elements in the
+     * pattern it was created for
+     *
+     * @param row
+     * @param channels
+     * @return the new row
+     * @since 17.10.2026
+     */
+    public PatternRow createPatternRow(int row, int channels) {
+        PatternRow patternRow = new PatternRow(parentMod, this, row, channels);
+        patternRows[row] = patternRow;
+        return patternRow;
+    }
+
+    /**
+     * Copies the elements of the given rows into this pattern
+     *
+     * @param patternRows the rows to copy, rows beyond this pattern are ignored
+     * @deprecated the elements are stored in the pattern - use
+     * {@link #createPatternRow(int, int)} and {@link #setPatternElement(int, int, PatternElement)}
      */
-    public void setPatternRow(PatternRow[] patternRow) {
-        this.patternRows = patternRow;
+    @Deprecated
+    public void setPatternRow(PatternRow[] patternRows) {
+        int rows = Math.min(patternRows.length, this.patternRows.length);
+        for (int row = 0; row < rows; row++) setPatternRow(row, patternRows[row]);
     }
 
     /**
-     * @param patternRow The patternRows to set.
+     * Copies the elements of patternRow into that row of this pattern
+     *
+     * @param patternRow the row to copy, null to clear that row
+     * @deprecated the elements are stored in the pattern - use
+     * {@link #createPatternRow(int, int)} and {@link #setPatternElement(int, int, PatternElement)}
      */
+    @Deprecated
     public void setPatternRow(int row, PatternRow patternRow) {
-        this.patternRows[row] = patternRow;
+        if (patternRow == this.patternRows[row]) return;
+        int channels = (patternRow != null) ? patternRow.getChannels() : getChannels();
+        PatternRow target = this.patternRows[row];
+        if (target == null) target = createPatternRow(row, channels);
+        else if (target.getChannels() < channels) target.setToChannels(patternIndex, row, channels);
+        for (int channel = 0; channel < target.getChannels(); channel++)
+            target.setPatternElement(channel, (patternRow != null && channel < channels) ? patternRow.getPatternElement(channel) : null);
     }
 
     /**
-     * @param patternElement The patternElement to set.
+     * @param patternElement The patternElement to set - its values are copied.
      */
     public void setPatternElement(int row, int channel, PatternElement patternElement) {
         this.patternRows[row].setPatternElement(channel, patternElement);
     }
 
+    /**
+     * @return a view on the new, empty patternElement
+     * @since 17.10.2026
+     */
+    public PatternElement createPatternElement(int row, int channel) {
+        return patternRows[row].createPatternElement(channel);
+    }
+
     public int getRowsPerBeat() {
         if (rowsPerBeat <= 0) return parentMod.getRowsPerBeat();
         return rowsPerBeat;
@@ -23,6 +23,7 @@
 package de.quippy.javamod.multimedia.mod.loader.pattern;
 
 import java.awt.Color;
+import java.util.BitSet;
 
 import de.quippy.javamod.multimedia.mod.ModConstants;
 import de.quippy.javamod.multimedia.mod.loader.Module;
@@ -30,6 +31,9 @@ import de.quippy.javamod.system.Helpers;
 
 
 /**
+ * The patterns of a module. Pattern elements are stored packed per
+ * pattern, all PatternElement instances handed out are views on them.
+ *
  * @author Daniel Becker
  * @since 28.04.2006
  */
@@ -119,6 +123,51 @@ public class PatternContainer {
         for (Pattern pattern : patterns) if (pattern != null) pattern.resetRowsPlayed();
     }
 
+    /**
+     * Stores the "row played" flags of all rows of all patterns into
+     * the given BitSet, starting at bit fromIndex
+     *
+     * @param rowsPlayed
+     * @param fromIndex
+     * @return the index behind the last row stored
+     * @since 17.10.2026
+     */
+    public int getRowsPlayed(BitSet rowsPlayed, int fromIndex) {
+        for (Pattern pattern : patterns) {
+            if (pattern == null) continue;
+            for (PatternRow row : pattern.getPatternRows()) {
+                if (row != null && row.isRowPlayed()) rowsPlayed.set(fromIndex);
+                fromIndex++;
+            }
+        }
+        return fromIndex;
+    }
+
+    /**
+     * Restores the "row played" flags of all rows of all patterns
+     * saved with getRowsPlayed
+     *
+     * @param rowsPlayed
+     * @param fromIndex
+     * @return the index behind the last row restored
+     * @since 17.10.2026
+     */
+    public int setRowsPlayed(BitSet rowsPlayed, int fromIndex) {
+        for (Pattern pattern : patterns) {
+            if (pattern == null) continue;
+            for (PatternRow row : pattern.getPatternRows()) {
+                if (row != null) {
+                    if (rowsPlayed.get(fromIndex))
+                        row.setRowPlayed();
+                    else
+                        row.resetRowPlayed();
+                }
+                fromIndex++;
+            }
+        }
+        return fromIndex;
+    }
+
     /**
      * @return Returns the patterns.
      */
@@ -154,6 +203,7 @@ public class PatternContainer {
      */
     public void setPatterns(Pattern[] newPatterns) {
         patterns = newPatterns;
+        for (int i = 0; i < patterns.length; i++) if (patterns[i] != null) patterns[i].setPatternIndex(i);
     }
 
     /**
@@ -161,50 +211,48 @@ public class PatternContainer {
      */
     public void setPattern(int patternIndex, Pattern newPattern) {
         patterns[patternIndex] = newPattern;
+        if (newPattern != null) newPattern.setPatternIndex(patternIndex);
     }
 
     public Pattern createPattern(int patternIndex, int rows) {
         Pattern newPattern = new Pattern(parentMod, this, rows);
-        patterns[patternIndex] = newPattern;
+        setPattern(patternIndex, newPattern);
         return newPattern;
     }
 
     public Pattern createPattern(int patternIndex, int rows, int channels) {
         Pattern newPattern = new Pattern(parentMod, this, rows, channels);
-        patterns[patternIndex] = newPattern;
+        setPattern(patternIndex, newPattern);
         return newPattern;
     }
 
+    public PatternRow createPatternRow(int patternIndex, int row, int channels) {
+        return getPattern(patternIndex).createPatternRow(row, channels);
+    }
+
     /**
-     * @param patternRow The patterns to set.
+     * @param patternRow The row to set - its elements are copied.
+     * @deprecated use {@link #createPatternRow(int, int, int)} and
+     * {@link #setPatternElement(int, int, int, PatternElement)}
      */
+    @Deprecated
     public void setPatternRow(int patternIndex, int row, PatternRow patternRow) {
         patterns[patternIndex].setPatternRow(row, patternRow);
     }
 
-    public PatternRow createPatternRow(int patternIndex, int row, int channels) {
-        Pattern currentPattern = getPattern(patternIndex);
-        currentPattern.setPatternRow(row, new PatternRow(parentMod, currentPattern, channels));
-        return getPatternRow(patternIndex, row);
-    }
-
     /**
-     * @param patternElement The patterns to set.
+     * @param patternElement The patterns to set - its values are copied.
      */
     public void setPatternElement(int patternIndex, int row, int channel, PatternElement patternElement) {
         patterns[patternIndex].setPatternElement(row, channel, patternElement);
     }
 
     public PatternElement createPatternElement(int patternIndex, int row, int channel) {
-        PatternRow currentPatternRow = getPatternRow(patternIndex, row);
-        boolean isImpulseTracker = (parentMod.getModType() & ModConstants.MODTYPE_IMPULSETRACKER) != 0;
-        PatternElement newElement = (isImpulseTracker) ? new PatternElementIT(parentMod, currentPatternRow, patternIndex, row, channel) : new PatternElementXM(parentMod, currentPatternRow, patternIndex, row, channel);
-        currentPatternRow.setPatternElement(channel, newElement);
-        return newElement;
+        return patterns[patternIndex].createPatternElement(row, channel);
     }
 
     /**
-     * @param patternElement The patterns to set.
+     * @param patternElement The patterns to set - its values are copied.
      */
     public void setPatternElement(PatternElement patternElement) {
         patterns[patternElement.getPatternIndex()].setPatternElement(patternElement.getRow(), patternElement.getChannel(), patternElement);
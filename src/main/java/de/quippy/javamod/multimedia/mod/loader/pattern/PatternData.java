@@ -0,0 +1,234 @@
+/*
+ * @(#) PatternData.java
+ *
+ * Created on 17.10.2026 by Daniel Becker
+ *
+ *-----------------------------------------------------------------------
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation; either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, write to the Free Software
+ *  Foundation, Inc., 675 Mass Ave, Cambridge, MA 02139, USA.
+ *----------------------------------------------------------------------
+ */
+
+package de.quippy.javamod.multimedia.mod.loader.pattern;
+
+import java.util.Arrays;
+
+
+/**
+ * The cells of one pattern packed into one int array - row after row,
+ * channel after channel, four ints per cell:
+ * <pre>
+ * [0] period
+ * [1] noteIndex (upper 16 bit) | instrument (lower 16 bit)
+ * [2] effect (upper 16 bit) | effectOp (lower 16 bit)
+ * [3] volumeEffect (upper 16 bit) | volumeEffectOp (lower 16 bit)
+ * </pre>
+ * All 16 bit values are signed, as note indices can be negative (key off,
+ * note cut, note fade) - values not fitting are rejected instead of being
+ * cut off. A bitset marks the cells that were created - the
+ * mixers and the GUI distinguish between an empty and a missing element.
+ * <p>
+ * The channel stride grows with the rows created, so loaders creating
+ * rows with more channels than used are compacted with setChannels.
+ *
+ * @author Daniel Becker
+ * @since 17.10.2026
+ */
+final class PatternData {
+
+    private static final int PERIOD = 0;
+    private static final int NOTE_INSTRUMENT = 1;
+    private static final int EFFECT = 2;
+    private static final int VOLUME_EFFECT = 3;
+    private static final int CELL_SIZE = 4;
+
+    private final int rows;
+    private int channels;
+    private int[] cells;
+    private long[] present;
+
+    PatternData(int rows) {
+        super();
+        this.rows = rows;
+        this.channels = 0;
+        this.cells = new int[0];
+        this.present = new long[0];
+    }
+
+    /**
+     * Re-layout the cells with a new channel stride - cells of
+     * channels not fitting anymore are dropped.
+     *
+     * @param newChannels
+     */
+    void setChannels(int newChannels) {
+        if (newChannels == channels) return;
+        int[] newCells = new int[rows * newChannels * CELL_SIZE];
+        long[] newPresent = new long[((rows * newChannels) + 63) >> 6];
+        int copyChannels = Math.min(channels, newChannels);
+        for (int row = 0; row < rows; row++) {
+            System.arraycopy(cells, row * channels * CELL_SIZE, newCells, row * newChannels * CELL_SIZE, copyChannels * CELL_SIZE);
+            for (int channel = 0; channel < copyChannels; channel++) {
+                int oldCell = row * channels + channel;
+                if ((present[oldCell >> 6] & (1L << oldCell)) != 0) {
+                    int newCell = row * newChannels + channel;
+                    newPresent[newCell >> 6] |= 1L << newCell;
+                }
+            }
+        }
+        cells = newCells;
+        present = newPresent;
+        channels = newChannels;
+    }
+
+    /**
+     * @return the channel stride
+     */
+    int getChannels() {
+        return channels;
+    }
+
+    /**
+     * Make sure a row can hold that many channels and clear it
+     *
+     * @param row
+     * @param rowChannels
+     */
+    void initRow(int row, int rowChannels) {
+        if (rowChannels > channels) setChannels(rowChannels);
+        for (int channel = 0; channel < channels; channel++) remove(row, channel);
+    }
+
+    private int cell(int row, int channel) {
+        return row * channels + channel;
+    }
+
+    boolean isPresent(int row, int channel) {
+        int cell = cell(row, channel);
+        return (present[cell >> 6] & (1L << cell)) != 0;
+    }
+
+    /**
+     * Marks a cell as present with all values 0
+     *
+     * @param row
+     * @param channel
+     */
+    void create(int row, int channel) {
+        int cell = cell(row, channel);
+        present[cell >> 6] |= 1L << cell;
+        Arrays.fill(cells, cell * CELL_SIZE, (cell + 1) * CELL_SIZE, 0);
+    }
+
+    /**
+     * Marks a cell as present - keeps the values
+     *
+     * @param row
+     * @param channel
+     */
+    void ensure(int row, int channel) {
+        int cell = cell(row, channel);
+        present[cell >> 6] |= 1L << cell;
+    }
+
+    void remove(int row, int channel) {
+        int cell = cell(row, channel);
+        present[cell >> 6] &= ~(1L << cell);
+        Arrays.fill(cells, cell * CELL_SIZE, (cell + 1) * CELL_SIZE, 0);
+    }
+
+    private int index(int row, int channel, int field) {
+        return (cell(row, channel) * CELL_SIZE) + field;
+    }
+
+    private int getHigh(int row, int channel, int field) {
+        return cells[index(row, channel, field)] >> 16;
+    }
+
+    private int getLow(int row, int channel, int field) {
+        return (short) cells[index(row, channel, field)];
+    }
+
+    private static void checkRange(int value) {
+        if (value < Short.MIN_VALUE || value > Short.MAX_VALUE) throw new IllegalArgumentException("Pattern value out of 16 bit range: " + value);
+    }
+
+    private void setHigh(int row, int channel, int field, int value) {
+        checkRange(value);
+        int index = index(row, channel, field);
+        cells[index] = (value << 16) | (cells[index] & 0xFFFF);
+    }
+
+    private void setLow(int row, int channel, int field, int value) {
+        checkRange(value);
+        int index = index(row, channel, field);
+        cells[index] = (cells[index] & 0xFFFF0000) | (value & 0xFFFF);
+    }
+
+    int getPeriod(int row, int channel) {
+        return cells[index(row, channel, PERIOD)];
+    }
+
+    void setPeriod(int row, int channel, int period) {
+        cells[index(row, channel, PERIOD)] = period;
+    }
+
+    int getNoteIndex(int row, int channel) {
+        return getHigh(row, channel, NOTE_INSTRUMENT);
+    }
+
+    void setNoteIndex(int row, int channel, int noteIndex) {
+        setHigh(row, channel, NOTE_INSTRUMENT, noteIndex);
+    }
+
+    int getInstrument(int row, int channel) {
+        return getLow(row, channel, NOTE_INSTRUMENT);
+    }
+
+    void setInstrument(int row, int channel, int instrument) {
+        setLow(row, channel, NOTE_INSTRUMENT, instrument);
+    }
+
+    int getEffect(int row, int channel) {
+        return getHigh(row, channel, EFFECT);
+    }
+
+    void setEffect(int row, int channel, int effect) {
+        setHigh(row, channel, EFFECT, effect);
+    }
+
+    int getEffectOp(int row, int channel) {
+        return getLow(row, channel, EFFECT);
+    }
+
+    void setEffectOp(int row, int channel, int effectOp) {
+        setLow(row, channel, EFFECT, effectOp);
+    }
+
+    int getVolumeEffect(int row, int channel) {
+        return getHigh(row, channel, VOLUME_EFFECT);
+    }
+
+    void setVolumeEffect(int row, int channel, int volumeEffect) {
+        setHigh(row, channel, VOLUME_EFFECT, volumeEffect);
+    }
+
+    int getVolumeEffectOp(int row, int channel) {
+        return getLow(row, channel, VOLUME_EFFECT);
+    }
+
+    void setVolumeEffectOp(int row, int channel, int volumeEffectOp) {
+        setLow(row, channel, VOLUME_EFFECT, volumeEffectOp);
+    }
+}
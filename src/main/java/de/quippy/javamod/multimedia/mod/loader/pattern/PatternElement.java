@@ -27,6 +27,11 @@ import de.quippy.javamod.multimedia.mod.loader.Module;
 
 
 /**
+ * A pattern element is a view on one cell of the packed pattern data
+ * (see {@link PatternData}) - it holds no values of its own, so any
+ * amount of views on the same cell can exist. Two views are equal, if
+ * they show the same cell.
+ *
  * @author Daniel Becker
  * @since 28.04.2006
  */
@@ -43,16 +48,11 @@ public abstract class PatternElement {
     protected final Module parentMod;
     protected final PatternRow parentPatternRow;
 
+    private final PatternData data;
+
     protected int patternIndex;
     protected int row;
     protected int channel;
-    protected int period;
-    protected int noteIndex;
-    protected int instrument;
-    protected int effect;
-    protected int effectOp;
-    protected int volumeEffect;
-    protected int volumeEffectOp;
 
     /**
      * Constructor for PatternElement
@@ -64,13 +64,7 @@ public abstract class PatternElement {
         this.channel = channel;
         this.parentMod = parentMod;
         this.parentPatternRow = parentPatternRow;
-        this.period = 0;
-        this.noteIndex = 0;
-        this.instrument = 0;
-        this.volumeEffect = 0;
-        this.volumeEffectOp = 0;
-        this.effect = 0;
-        this.effectOp = 0;
+        this.data = parentPatternRow.parentPattern.data;
     }
 
     /**
@@ -123,6 +117,12 @@ public abstract class PatternElement {
      * @since 22.12.2023
      */
     public void addToStringBuilder(StringBuilder sb) {
+        int noteIndex = getNoteIndex();
+        int instrument = getInstrument();
+        int volumeEffect = getVolumeEffect();
+        int volumeEffectOp = getVolumeEffectOp();
+        int effect = getEffect();
+        int effectOp = getEffectOp();
         sb.append(ModConstants.getNoteNameForIndex(noteIndex)).append(' ');
         if (instrument == 0)
             sb.append("..");
@@ -177,56 +177,56 @@ public abstract class PatternElement {
      * @return Returns the effect.
      */
     public int getEffect() {
-        return effect;
+        return data.getEffect(row, channel);
     }
 
     /**
      * @param effect The effect to set.
      */
     public void setEffect(int effect) {
-        this.effect = effect;
+        data.setEffect(row, channel, effect);
     }
 
     /**
      * @return Returns the effectOp.
      */
     public int getEffectOp() {
-        return effectOp;
+        return data.getEffectOp(row, channel);
     }
 
     /**
      * @param effectOp The effectOp to set.
      */
     public void setEffectOp(int effectOp) {
-        this.effectOp = effectOp;
+        data.setEffectOp(row, channel, effectOp);
     }
 
     /**
      * @return Returns the instrument.
      */
     public int getInstrument() {
-        return instrument;
+        return data.getInstrument(row, channel);
     }
 
     /**
      * @param instrument The instrument to set.
      */
     public void setInstrument(int instrument) {
-        this.instrument = instrument;
+        data.setInstrument(row, channel, instrument);
     }
 
     /**
      * @return Returns the noteIndex.
      */
     public int getNoteIndex() {
-        return noteIndex;
+        return data.getNoteIndex(row, channel);
     }
 
     /**
      * @param noteIndex The noteIndex to set.
      */
     public void setNoteIndex(int noteIndex) {
-        this.noteIndex = noteIndex;
+        data.setNoteIndex(row, channel, noteIndex);
     }
 
     /**
@@ -247,14 +247,14 @@ public abstract class PatternElement {
      * @return Returns the period.
      */
     public int getPeriod() {
-        return period;
+        return data.getPeriod(row, channel);
     }
 
     /**
      * @param period The period to set.
      */
     public void setPeriod(int period) {
-        this.period = period;
+        data.setPeriod(row, channel, period);
     }
 
     /**
@@ -275,27 +275,46 @@ public abstract class PatternElement {
      * @return Returns the volume.
      */
     public int getVolumeEffect() {
-        return volumeEffect;
+        return data.getVolumeEffect(row, channel);
     }
 
     /**
      * @param volumeEffect The volume to set.
      */
     public void setVolumeEffect(int volumeEffect) {
-        this.volumeEffect = volumeEffect;
+        data.setVolumeEffect(row, channel, volumeEffect);
     }
 
     /**
      * @return Returns the assignedVolumeEffectOp.
      */
     public int getVolumeEffectOp() {
-        return volumeEffectOp;
+        return data.getVolumeEffectOp(row, channel);
     }
 
     /**
      * @param volumeEffectOp The assignedVolumeEffectOp to set.
      */
     public void setVolumeEffectOp(int volumeEffectOp) {
-        this.volumeEffectOp = volumeEffectOp;
+        data.setVolumeEffectOp(row, channel, volumeEffectOp);
+    }
+
+    /**
+     * @return true, if the other element shows the same cell of the same pattern
+     * @since 17.10.2026
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (!(obj instanceof PatternElement other)) return false;
+        return data == other.data && row == other.row && channel == other.channel;
+    }
+
+    /**
+     * @since 17.10.2026
+     */
+    @Override
+    public int hashCode() {
+        return (System.identityHashCode(data) * 31 + row) * 31 + channel;
     }
 }
@@ -47,6 +47,8 @@ public class PatternElementIT extends PatternElement {
 
     @Override
     public char getEffectChar() {
+        int effect = getEffect();
+        int effectOp = getEffectOp();
         return switch (effect) {
             case 0x1B -> '#';
             case 0x1C -> '\\';
@@ -59,6 +61,8 @@ public class PatternElementIT extends PatternElement {
 
     @Override
     public String getEffectName() {
+        int effect = getEffect();
+        int effectOp = getEffectOp();
         switch (effect) {
             case 0x00:
                 return Helpers.EMPTY_STING;
@@ -218,6 +222,8 @@ public class PatternElementIT extends PatternElement {
 
     @Override
     public int getEffectCategory() {
+        int effect = getEffect();
+        int effectOp = getEffectOp();
         switch (effect) {
             case 0x00:
                 return (effectOp == 0) ? EFFECT_NORMAL : EFFECT_NONE;
@@ -371,6 +377,7 @@ public class PatternElementIT extends PatternElement {
      */
     @Override
     public char getVolumeColumEffectChar() {
+        int volumeEffect = getVolumeEffect();
         return switch (volumeEffect) {
             case 0x01 -> 'v';
             case 0x02 -> 'd';
@@ -397,6 +404,8 @@ public class PatternElementIT extends PatternElement {
      */
     @Override
     public String getVolEffectName() {
+        int volumeEffect = getVolumeEffect();
+        int volumeEffectOp = getVolumeEffectOp();
         switch (volumeEffect) {
             case 0x00:
                 return Helpers.EMPTY_STING;
@@ -440,6 +449,7 @@ public class PatternElementIT extends PatternElement {
      */
     @Override
     public int getVolEffectCategory() {
+        int volumeEffect = getVolumeEffect();
         return switch (volumeEffect) {
             case 0x00 -> EFFECT_NORMAL;
             case 0x01 -> EFFECT_VOLUME;
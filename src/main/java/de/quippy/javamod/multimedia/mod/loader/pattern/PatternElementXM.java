@@ -51,6 +51,7 @@ public class PatternElementXM extends PatternElement {
      */
     @Override
     public char getEffectChar() {
+        int effect = getEffect();
         if (effect <= 0x0F)
             return ModConstants.numbers[effect];
         else if (effect == 0x24)
@@ -67,6 +68,8 @@ public class PatternElementXM extends PatternElement {
      */
     @Override
     public String getEffectName() {
+        int effect = getEffect();
+        int effectOp = getEffectOp();
         switch (effect) {
             case 0x00:
                 return (effectOp == 0) ? Helpers.EMPTY_STING : "Arpeggio";
@@ -211,6 +214,8 @@ public class PatternElementXM extends PatternElement {
      */
     @Override
     public int getEffectCategory() {
+        int effect = getEffect();
+        int effectOp = getEffectOp();
         switch (effect) {
             case 0x00:
                 return (effectOp == 0) ? EFFECT_NORMAL : EFFECT_PITCH;
@@ -350,6 +355,7 @@ public class PatternElementXM extends PatternElement {
      */
     @Override
     public char getVolumeColumEffectChar() {
+        int volumeEffect = getVolumeEffect();
         return switch (volumeEffect) {
             case 0x01 -> 'v';
             case 0x02 -> 'd';
@@ -377,6 +383,8 @@ public class PatternElementXM extends PatternElement {
      */
     @Override
     public String getVolEffectName() {
+        int volumeEffect = getVolumeEffect();
+        int volumeEffectOp = getVolumeEffectOp();
         switch (volumeEffect) {
             case 0x00:
                 return Helpers.EMPTY_STING;
@@ -418,6 +426,7 @@ public class PatternElementXM extends PatternElement {
      */
     @Override
     public int getVolEffectCategory() {
+        int volumeEffect = getVolumeEffect();
         return switch (volumeEffect) {
             case 0x00 -> EFFECT_NORMAL;
             case 0x01 -> EFFECT_VOLUME;
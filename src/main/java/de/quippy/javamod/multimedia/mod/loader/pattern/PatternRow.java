@@ -22,10 +22,16 @@
 
 package de.quippy.javamod.multimedia.mod.loader.pattern;
 
+import de.quippy.javamod.multimedia.mod.ModConstants;
 import de.quippy.javamod.multimedia.mod.loader.Module;
 
 
 /**
+ * A row of a pattern. The elements of the row are stored packed in the
+ * pattern - getPatternElement hands out views on them. Views hold no
+ * values of their own, so a new one is handed out on every call and
+ * nothing is kept for the cells of the row.
+ *
  * @author Daniel Becker
  * @since 28.04.2006
  */
@@ -33,17 +39,20 @@ public class PatternRow {
 
     protected final Module parentMod;
     protected final Pattern parentPattern;
-    protected PatternElement[] patternElements;
+    protected final int row;
+    protected int channels;
     protected boolean rowPlayed;
 
     /**
-     * Constructor for PatternRow
+     * Constructor for PatternRow - the row starts without any elements
      */
-    public PatternRow(Module parentMod, Pattern parentPattern, int channels) {
+    public PatternRow(Module parentMod, Pattern parentPattern, int row, int channels) {
         super();
-        patternElements = new PatternElement[channels];
         this.parentMod = parentMod;
         this.parentPattern = parentPattern;
+        this.row = row;
+        this.channels = channels;
+        parentPattern.data.initRow(row, channels);
         resetRowPlayed();
     }
 
@@ -65,7 +74,8 @@ public class PatternRow {
      * @since 22.12.2023
      */
     public void addToStringBuilder(StringBuilder sb) {
-        for (PatternElement patternElement : patternElements) {
+        for (int channel = 0; channel < channels; channel++) {
+            PatternElement patternElement = getPatternElement(channel);
             if (patternElement != null) patternElement.addToStringBuilder(sb);
             sb.append("|");
         }
@@ -78,14 +88,9 @@ public class PatternRow {
      * @since 24.11.2023
      */
     public void setToChannels(int patternIndex, int row, int channels) {
-        PatternElement[] oldPatternElements = patternElements;
-        patternElements = new PatternElement[channels];
-        for (int channel = 0; channel < channels; channel++) {
-            if (channel < oldPatternElements.length && oldPatternElements[channel] != null)
-                patternElements[channel] = oldPatternElements[channel];
-            else
-                parentPattern.parentPatternContainer.createPatternElement(patternIndex, row, channel);
-        }
+        if (channels > parentPattern.data.getChannels()) parentPattern.data.setChannels(channels);
+        this.channels = channels;
+        for (int channel = 0; channel < channels; channel++) parentPattern.data.ensure(this.row, channel);
     }
 
     /**
@@ -107,7 +112,7 @@ public class PatternRow {
      * @since 27.11.2023
      */
     public int getChannels() {
-        return (patternElements != null) ? patternElements.length : 0;
+        return channels;
     }
 
     /**
@@ -133,30 +138,81 @@ public class PatternRow {
     }
 
     /**
-     * @return Returns the patternElements.
+     * @return the index of this row in its pattern
+     * @since 17.10.2026
+     */
+    public int getRow() {
+        return row;
+    }
+
+    /**
+     * @return Returns the patternElements - null for missing elements
      */
     public PatternElement[] getPatternElements() {
+        PatternElement[] patternElements = new PatternElement[channels];
+        for (int channel = 0; channel < channels; channel++) patternElements[channel] = getPatternElement(channel);
         return patternElements;
     }
 
     /**
-     * @return Returns the patternElements.
+     * @return a view on the patternElement or null, if there is none
      */
     public PatternElement getPatternElement(int channel) {
-        return patternElements[channel];
+        if (channel < 0 || channel >= channels) throw new ArrayIndexOutOfBoundsException(channel);
+        return (parentPattern.data.isPresent(row, channel)) ? getView(channel) : null;
     }
 
     /**
-     * @param patternElement The patternElements to set.
+     * Creates an empty element in that channel
+     *
+     * @param channel
+     * @return a view on the new element
+     * @since 17.10.2026
      */
-    public void setPatternElement(PatternElement[] patternElement) {
-        this.patternElements = patternElement;
+    PatternElement createPatternElement(int channel) {
+        if (channel < 0 || channel >= channels) throw new ArrayIndexOutOfBoundsException(channel);
+        parentPattern.data.create(row, channel);
+        return getView(channel);
     }
 
     /**
-     * @param patternElement The patternElements to set.
+     * @param channel
+     * @return a new view on that cell
+     * @since 17.10.2026
+     */
+    private PatternElement getView(int channel) {
+        int patternIndex = parentPattern.getPatternIndex();
+        boolean isImpulseTracker = (parentMod.getModType() & ModConstants.MODTYPE_IMPULSETRACKER) != 0;
+        return (isImpulseTracker) ? new PatternElementIT(parentMod, this, patternIndex, row, channel) : new PatternElementXM(parentMod, this, patternIndex, row, channel);
+    }
+
+    /**
+     * Copies the values of patternElement into that channel
+     *
+     * @param patternElement The patternElement to set, null to remove it.
      */
     public void setPatternElement(int channel, PatternElement patternElement) {
-        this.patternElements[channel] = patternElement;
+        if (channel < 0 || channel >= channels) throw new ArrayIndexOutOfBoundsException(channel);
+        if (patternElement == null) {
+            parentPattern.data.remove(row, channel);
+            return;
+        }
+        if (patternElement.equals(getPatternElement(channel))) return;
+        // read all values before writing - the source could share the storage
+        int period = patternElement.getPeriod();
+        int noteIndex = patternElement.getNoteIndex();
+        int instrument = patternElement.getInstrument();
+        int effect = patternElement.getEffect();
+        int effectOp = patternElement.getEffectOp();
+        int volumeEffect = patternElement.getVolumeEffect();
+        int volumeEffectOp = patternElement.getVolumeEffectOp();
+        PatternElement target = createPatternElement(channel);
+        target.setPeriod(period);
+        target.setNoteIndex(noteIndex);
+        target.setInstrument(instrument);
+        target.setEffect(effect);
+        target.setEffectOp(effectOp);
+        target.setVolumeEffect(volumeEffect);
+        target.setVolumeEffectOp(volumeEffectOp);
     }
 }
@@ -405,10 +405,10 @@ public class ArtOfNoiseMod extends ProTrackerMod {
         current.defaultPanning = 128;
         current.sampleType = ModConstants.SM_PCMS;
 
-        if (length > 0) {
+        if (length > 0 && !isHeaderOnly()) {
             current.allocSampleData();
             for (int s = 0; s < length; s++)
-                current.sampleL[s] = ModConstants.promoteSigned8BitToSigned32Bit(wave[startOffset + s]);
+                current.sampleL.set(s, ModConstants.promoteSigned8BitToSigned32Bit(wave[startOffset + s]));
             current.fixSampleLoops(getModType());
         }
 
@@ -14,6 +14,7 @@
 package de.quippy.javamod.multimedia.mod.loader.tracker;
 
 import de.quippy.javamod.multimedia.mod.ModConstants;
+import de.quippy.javamod.multimedia.mod.loader.instrument.SampleData;
 
 
 /**
@@ -126,7 +127,7 @@ public class MO3Decompressor {
         return dst;
     }
 
-    public static void unpackDelta8(byte[] src, int[] srcOffset, long[] dstL, long[] dstR, int length, int numChannels, boolean prediction) {
+    public static void unpackDelta8(byte[] src, int[] srcOffset, SampleData dstL, SampleData dstR, int length, int numChannels, boolean prediction) {
         BitState state = new BitState();
         state.srcIdx = srcOffset[0];
 
@@ -136,7 +137,7 @@ public class MO3Decompressor {
         int next = 0;
 
         for (int chn = 0; chn < numChannels; chn++) {
-            long[] dst = (chn == 0) ? dstL : dstR;
+            SampleData dst = (chn == 0) ? dstL : dstR;
 
             for (int s = 0; s < length; s++) {
                 int val = 0;
@@ -171,7 +172,7 @@ public class MO3Decompressor {
                 if (prediction) {
                     int delta = (byte) val;
                     val = (val + (next & 0xFF)) & 0xFF;
-                    dst[s] = ModConstants.promoteSigned8BitToSigned32Bit((byte) val);
+                    dst.set(s, ModConstants.promoteSigned8BitToSigned32Bit((byte) val));
                     int sval = (byte) val;
                     next = (sval * 2) + (delta >> 1) - previous;
                     if (next > 127) next = 127;
@@ -179,7 +180,7 @@ public class MO3Decompressor {
                     previous = sval;
                 } else {
                     val = (val + previous) & 0xFF;
-                    dst[s] = ModConstants.promoteSigned8BitToSigned32Bit((byte) val);
+                    dst.set(s, ModConstants.promoteSigned8BitToSigned32Bit((byte) val));
                     previous = (byte) val;
                 }
             }
@@ -187,7 +188,7 @@ public class MO3Decompressor {
         srcOffset[0] = state.srcIdx;
     }
 
-    public static void unpackDelta16(byte[] src, int[] srcOffset, long[] dstL, long[] dstR, int length, int numChannels, boolean prediction) {
+    public static void unpackDelta16(byte[] src, int[] srcOffset, SampleData dstL, SampleData dstR, int length, int numChannels, boolean prediction) {
         BitState state = new BitState();
         state.srcIdx = srcOffset[0];
 
@@ -197,7 +198,7 @@ public class MO3Decompressor {
         int next = 0;
 
         for (int chn = 0; chn < numChannels; chn++) {
-            long[] dst = (chn == 0) ? dstL : dstR;
+            SampleData dst = (chn == 0) ? dstL : dstR;
 
             for (int s = 0; s < length; s++) {
                 int val = 0;
@@ -242,7 +243,7 @@ public class MO3Decompressor {
                 if (prediction) {
                     int delta = (short) val;
                     val = (val + (next & 0xFFFF)) & 0xFFFF;
-                    dst[s] = ModConstants.promoteSigned16BitToSigned32Bit((short) val);
+                    dst.set(s, ModConstants.promoteSigned16BitToSigned32Bit((short) val));
                     int sval = (short) val;
                     next = (sval * 2) + (delta >> 1) - previous;
                     if (next > 32767) next = 32767;
@@ -250,7 +251,7 @@ public class MO3Decompressor {
                     previous = sval;
                 } else {
                     val = (val + previous) & 0xFFFF;
-                    dst[s] = ModConstants.promoteSigned16BitToSigned32Bit((short) val);
+                    dst.set(s, ModConstants.promoteSigned16BitToSigned32Bit((short) val));
                     previous = (short) val;
                 }
             }
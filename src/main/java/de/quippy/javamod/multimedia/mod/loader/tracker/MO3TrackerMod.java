@@ -852,29 +852,6 @@ public class MO3TrackerMod extends Module {
         }
 
         // Samples
-        class MO3SampleHeader {
-            String name;
-            String filename;
-            int freqFinetune;
-            int transpose;
-            int defaultVolume;
-            int panning;
-            int length;
-            int loopStart;
-            int loopEnd;
-            int flags;
-            int vibType;
-            int vibSweep;
-            int vibDepth;
-            int vibRate;
-            int globalVol;
-            int sustainStart;
-            int sustainEnd;
-            int compressedSize;
-            int encoderDelay;
-            int sharedOggHeader;
-        }
-
         MO3SampleHeader[] sampleHeaders = new MO3SampleHeader[numSamples];
         for (int smp = 0; smp < numSamples; smp++) {
             MO3SampleHeader sh = new MO3SampleHeader();
@@ -1079,72 +1056,90 @@ public class MO3TrackerMod extends Module {
                     readSampleData(sample, inputStream);
                 }
             } else if (sh.compressedSize > 0) {
-                byte[] compData = new byte[sh.compressedSize];
-                readFully(inputStream, compData);
-                sampleCompressedData[smp] = compData;
+                if (isHeaderOnly()) {
+                    inputStream.seek(Math.min(inputStream.getFilePointer() + sh.compressedSize, inputStream.getLength()));
+                } else {
+                    byte[] compData = new byte[sh.compressedSize];
+                    readFully(inputStream, compData);
+                    sampleCompressedData[smp] = compData;
+                }
             }
         }
 
-        // Pass 2: Decompress sample data
+        // Pass 2: Decompress sample data - the samples are independent of each other
+        if (!isHeaderOnly())
+            decodeSamples(numSamples, smp -> decodeSample(smp, instrumentContainer.getSample(smp), sampleHeaders[smp], sampleCompressedData));
+
+        // Pass 3: Samples sharing the data of a previous one
         for (int smp = 0; smp < numSamples; smp++) {
-            Sample sample = instrumentContainer.getSample(smp);
             MO3SampleHeader sh = sampleHeaders[smp];
-
             if (sh.compressedSize < 0) {
                 int sourceIdx = smp + sh.compressedSize;
                 if (sourceIdx >= 0 && sourceIdx < numSamples) {
+                    Sample sample = instrumentContainer.getSample(smp);
                     Sample source = instrumentContainer.getSample(sourceIdx);
                     sample.sampleL = source.sampleL;
                     sample.sampleR = source.sampleR;
                     sample.sampleLength = source.sampleLength;
                     sample.byteLength = source.byteLength;
                 }
-                continue;
             }
+        }
 
-            if (sh.length <= 0 || sh.compressedSize <= 0) continue;
-
-            byte[] compressedData = sampleCompressedData[smp];
-            boolean is16Bit = (sh.flags & 0x01) != 0;
-            int compression = sh.flags & 0xF000;
+        removeEndOfArrangement();
+    }
 
-            if (compression == 0x2000 || compression == 0x4000) { // smpDeltaCompression / smpDeltaPrediction
-                boolean prediction = compression == 0x4000;
-                sample.allocSampleData();
-                int[] offset = { 0 };
-                try {
-                    if (is16Bit) {
-                        MO3Decompressor.unpackDelta16(compressedData, offset, sample.sampleL, sample.sampleR, sample.sampleLength, sample.isStereo ? 2 : 1, prediction);
-                    } else {
-                        MO3Decompressor.unpackDelta8(compressedData, offset, sample.sampleL, sample.sampleR, sample.sampleLength, sample.isStereo ? 2 : 1, prediction);
-                    }
-                } catch (ArrayIndexOutOfBoundsException e) {
-                    logger.log(Level.ERROR, "Truncated delta compressed sample: " + sample.name, e);
-                }
-            } else if (compression == 0x1000) { // smpCompressionMPEG (MP3)
-                try {
-                    decodeMp3Sample(compressedData, sample, sh.encoderDelay & 0xFFFF);
-                } catch (Exception e) {
-                    logger.log(Level.ERROR, "Failed to decode MP3 sample: " + sample.name, e);
+    /**
+     * Decompress the data of one sample. Is called in parallel for the
+     * samples, so must not touch anything but that sample.
+     *
+     * @param smp index of the sample
+     * @param sample
+     * @param sh its header
+     * @param sampleCompressedData the compressed data of all samples
+     * @since 17.10.2026
+     */
+    private void decodeSample(int smp, Sample sample, MO3SampleHeader sh, byte[][] sampleCompressedData) {
+        if (sh.length <= 0 || sh.compressedSize <= 0) return;
+
+        byte[] compressedData = sampleCompressedData[smp];
+        boolean is16Bit = (sh.flags & 0x01) != 0;
+        int compression = sh.flags & 0xF000;
+
+        if (compression == 0x2000 || compression == 0x4000) { // smpDeltaCompression / smpDeltaPrediction
+            boolean prediction = compression == 0x4000;
+            sample.allocSampleData();
+            int[] offset = { 0 };
+            try {
+                if (is16Bit) {
+                    MO3Decompressor.unpackDelta16(compressedData, offset, sample.sampleL, sample.sampleR, sample.sampleLength, sample.isStereo ? 2 : 1, prediction);
+                } else {
+                    MO3Decompressor.unpackDelta8(compressedData, offset, sample.sampleL, sample.sampleR, sample.sampleLength, sample.isStereo ? 2 : 1, prediction);
                 }
-            } else if (compression == 0x3000 || compression == 0x7000) { // smpCompressionOgg or smpSharedOgg
-                try {
-                    if (compression == 0x7000) {
-                        int sharedIdx = smp + sh.sharedOggHeader;
-                        byte[] headerData = sampleCompressedData[sharedIdx];
-                        int headerSize = sh.encoderDelay & 0xFFFF;
-                        decodeOggSample(compressedData, headerData, headerSize, sample);
-                    } else {
-                        decodeOggSample(compressedData, null, 0, sample);
-                    }
-                } catch (Exception e) {
-                    logger.log(Level.ERROR, "Failed to decode Ogg Vorbis sample: " + sample.name, e);
+            } catch (ArrayIndexOutOfBoundsException e) {
+                logger.log(Level.ERROR, "Truncated delta compressed sample: " + sample.name, e);
+            }
+        } else if (compression == 0x1000) { // smpCompressionMPEG (MP3)
+            try {
+                decodeMp3Sample(compressedData, sample, sh.encoderDelay & 0xFFFF);
+            } catch (Exception e) {
+                logger.log(Level.ERROR, "Failed to decode MP3 sample: " + sample.name, e);
+            }
+        } else if (compression == 0x3000 || compression == 0x7000) { // smpCompressionOgg or smpSharedOgg
+            try {
+                if (compression == 0x7000) {
+                    int sharedIdx = smp + sh.sharedOggHeader;
+                    byte[] headerData = sampleCompressedData[sharedIdx];
+                    int headerSize = sh.encoderDelay & 0xFFFF;
+                    decodeOggSample(compressedData, headerData, headerSize, sample);
+                } else {
+                    decodeOggSample(compressedData, null, 0, sample);
                 }
+            } catch (Exception e) {
+                logger.log(Level.ERROR, "Failed to decode Ogg Vorbis sample: " + sample.name, e);
             }
-            sample.fixSampleLoops(getModType());
         }
-
-        removeEndOfArrangement();
+        sample.fixSampleLoops(getModType());
     }
 
     private static Envelope convertEnvelope(int flags, int numNodes, int sustainStart, int sustainEnd, int loopStart, int loopEnd, int[][] points, Envelope.EnvelopeType envType, boolean isXM, int envShift) {
@@ -1188,7 +1183,7 @@ public class MO3TrackerMod extends Module {
         java.io.ByteArrayInputStream bais = new java.io.ByteArrayInputStream(mp3Data);
         Bitstream bitstream = new Bitstream(bais);
         javazoom.jl.decoder.Decoder decoder = new javazoom.jl.decoder.Decoder();
-        sample.allocSampleData();
+        sample.allocSampleData(16); // decoded output is always 16 bit
 
         int channels = sample.isStereo ? 2 : 1;
         int skipSamples = encoderDelay / (2 * channels); // decoded output is 16 bit
@@ -1209,10 +1204,10 @@ public class MO3TrackerMod extends Module {
                         continue;
                     }
                     if (destLIdx < sample.sampleLength) {
-                        sample.sampleL[destLIdx++] = ModConstants.promoteSigned16BitToSigned32Bit(buffer[i]);
+                        sample.sampleL.set(destLIdx++, ModConstants.promoteSigned16BitToSigned32Bit(buffer[i]));
                     }
                     if (channels == 2 && destRIdx < sample.sampleLength) {
-                        sample.sampleR[destRIdx++] = ModConstants.promoteSigned16BitToSigned32Bit(buffer[i + 1]);
+                        sample.sampleR.set(destRIdx++, ModConstants.promoteSigned16BitToSigned32Bit(buffer[i + 1]));
                     }
                 }
             } else {
@@ -1222,9 +1217,9 @@ public class MO3TrackerMod extends Module {
                         continue;
                     }
                     if (destLIdx < sample.sampleLength) {
-                        sample.sampleL[destLIdx++] = ModConstants.promoteSigned16BitToSigned32Bit(buffer[i]);
+                        sample.sampleL.set(destLIdx++, ModConstants.promoteSigned16BitToSigned32Bit(buffer[i]));
                         if (channels == 2 && destRIdx < sample.sampleLength) {
-                            sample.sampleR[destRIdx++] = ModConstants.promoteSigned16BitToSigned32Bit(buffer[i]);
+                            sample.sampleR.set(destRIdx++, ModConstants.promoteSigned16BitToSigned32Bit(buffer[i]));
                         }
                     }
                 }
@@ -1297,7 +1292,7 @@ public class MO3TrackerMod extends Module {
         boolean eos = false;
         int state = 0;
 
-        sample.allocSampleData();
+        sample.allocSampleData(16); // decoded output is always 16 bit
         int destLIdx = 0;
         int destRIdx = 0;
         int channels = sample.isStereo ? 2 : 1;
@@ -1371,7 +1366,7 @@ public class MO3TrackerMod extends Module {
                                 else if (valueL < -32768) valueL = -32768;
 
                                 if (destLIdx < sample.sampleLength) {
-                                    sample.sampleL[destLIdx++] = ModConstants.promoteSigned16BitToSigned32Bit((short) valueL);
+                                    sample.sampleL.set(destLIdx++, ModConstants.promoteSigned16BitToSigned32Bit((short) valueL));
                                 }
 
                                 if (vorbisInfo.channels > 1) {
@@ -1381,11 +1376,11 @@ public class MO3TrackerMod extends Module {
                                     else if (valueR < -32768) valueR = -32768;
 
                                     if (destRIdx < sample.sampleLength) {
-                                        sample.sampleR[destRIdx++] = ModConstants.promoteSigned16BitToSigned32Bit((short) valueR);
+                                        sample.sampleR.set(destRIdx++, ModConstants.promoteSigned16BitToSigned32Bit((short) valueR));
                                     }
                                 } else if (channels == 2) {
                                     if (destRIdx < sample.sampleLength) {
-                                        sample.sampleR[destRIdx++] = ModConstants.promoteSigned16BitToSigned32Bit((short) valueL);
+                                        sample.sampleR.set(destRIdx++, ModConstants.promoteSigned16BitToSigned32Bit((short) valueL));
                                     }
                                 }
                             }
@@ -1432,6 +1427,29 @@ public class MO3TrackerMod extends Module {
         return crc;
     }
 
+    private static class MO3SampleHeader {
+        String name;
+        String filename;
+        int freqFinetune;
+        int transpose;
+        int defaultVolume;
+        int panning;
+        int length;
+        int loopStart;
+        int loopEnd;
+        int flags;
+        int vibType;
+        int vibSweep;
+        int vibDepth;
+        int vibRate;
+        int globalVol;
+        int sustainStart;
+        int sustainEnd;
+        int compressedSize;
+        int encoderDelay;
+        int sharedOggHeader;
+    }
+
     private static class MemoryReader {
         byte[] data;
         int ptr = 0;
@@ -29,17 +29,20 @@ import java.io.InputStream;
 import java.lang.System.Logger;
 import java.lang.System.Logger.Level;
 import java.util.ArrayList;
-import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Map;
+import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
-import java.util.zip.ZipEntry;
-import java.util.zip.ZipInputStream;
 import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 
 import de.quippy.javamod.io.ModfileInputStream;
 import de.quippy.javamod.io.RandomAccessInputStream;
+import de.quippy.javamod.io.RandomAccessZipFile;
 import de.quippy.javamod.multimedia.mod.ModConstants;
 import de.quippy.javamod.multimedia.mod.loader.Module;
 import de.quippy.javamod.multimedia.mod.loader.instrument.Envelope;
@@ -47,6 +50,7 @@ import de.quippy.javamod.multimedia.mod.loader.instrument.Envelope.EnvelopeType;
 import de.quippy.javamod.multimedia.mod.loader.instrument.Instrument;
 import de.quippy.javamod.multimedia.mod.loader.instrument.InstrumentsContainer;
 import de.quippy.javamod.multimedia.mod.loader.instrument.Sample;
+import de.quippy.javamod.multimedia.mod.loader.instrument.SampleData;
 import de.quippy.javamod.multimedia.mod.loader.pattern.PatternContainer;
 import de.quippy.javamod.multimedia.mod.loader.pattern.PatternElement;
 import de.quippy.javamod.multimedia.mod.midi.MidiMacros;
@@ -88,6 +92,8 @@ public class RenoiseTrackerMod extends Module {
     private static final String[] MODFILEEXTENSION = { "xrns" };
 
     private static final String SONG_XML = "Song.xml";
+    /** never read by the loader, but potentially huge */
+    private static final Set<String> SKIPPED_SONG_ELEMENTS = Set.of("ParameterChunk");
     /** with Renoise 2.8 (doc_version 37) the numeric effect commands became letters */
     private static final int DOC_VERSION_LETTER_FX = 37;
     /** old numeric effects 00..0F in the order of their new letter representation */
@@ -173,10 +179,11 @@ public class RenoiseTrackerMod extends Module {
     public boolean checkLoadingPossible(ModfileInputStream inputStream) throws IOException {
         boolean result = false;
         if (inputStream.readIntelDWord() == 0x04034b50) { // "PK\3\4"
-            inputStream.seek(0);
-            byte[] all = new byte[(int) inputStream.getLength()];
-            readFully(inputStream, all);
-            result = zipContainsSongXML(all);
+            try {
+                result = new RandomAccessZipFile(inputStream).getEntry(SONG_XML) != null;
+            } catch (IOException ex) {
+                /* NOOP */
+            }
         }
         inputStream.seek(0);
         return result;
@@ -202,54 +209,21 @@ public class RenoiseTrackerMod extends Module {
         return name.equals(SONG_XML) || name.startsWith("SampleData/") || name.equals("Icon.png") || name.equals("CoverArt.png");
     }
 
-    private static boolean zipContainsSongXML(byte[] zipData) {
-        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(zipData))) {
-            ZipEntry entry;
-            int checked = 0;
-            while ((entry = zip.getNextEntry()) != null && checked++ < 512) {
-                if (entry.getName().equals(SONG_XML)) return true;
-            }
-        } catch (IOException ex) {
-            /* NOOP */
-        }
-        return false;
-    }
-
-    private static void readFully(RandomAccessInputStream inputStream, byte[] buffer) throws IOException {
-        int offset = 0;
-        while (offset < buffer.length) {
-            int read = inputStream.read(buffer, offset, buffer.length - offset);
-            if (read < 0) throw new IOException("Unexpected end of stream");
-            offset += read;
-        }
-    }
-
     @Override
     protected void loadModFileInternal(RandomAccessInputStream inputStream) throws IOException {
-        byte[] all = new byte[(int) inputStream.getLength()];
-        readFully(inputStream, all);
-
-        // unpack the archive: Song.xml plus all sample files
-        byte[] songXML = null;
-        Map<String, byte[]> sampleFiles = new LinkedHashMap<>();
-        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(all))) {
-            ZipEntry entry;
-            while ((entry = zip.getNextEntry()) != null) {
-                if (entry.isDirectory()) continue;
-                String name = entry.getName();
-                if (name.equals(SONG_XML))
-                    songXML = zip.readAllBytes();
-                else if (name.startsWith("SampleData/"))
-                    sampleFiles.put(name, zip.readAllBytes());
-            }
+        // only the central directory is read - Song.xml is parsed while
+        // inflating, the sample files are inflated one by one when decoded
+        RandomAccessZipFile zip = new RandomAccessZipFile(inputStream);
+        RandomAccessZipFile.Entry songEntry = zip.getEntry(SONG_XML);
+        if (songEntry == null) throw new IOException("Unsupported XRNS: no " + SONG_XML + " found");
+        List<RandomAccessZipFile.Entry> sampleFiles = new ArrayList<>();
+        for (RandomAccessZipFile.Entry entry : zip.getEntries()) {
+            if (!entry.isDirectory() && entry.getName().startsWith("SampleData/")) sampleFiles.add(entry);
         }
-        if (songXML == null) throw new IOException("Unsupported XRNS: no " + SONG_XML + " found");
 
         Document document;
-        try {
-            document = DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(new ByteArrayInputStream(songXML));
-        } catch (Exception ex) {
-            throw new IOException("Unsupported XRNS: broken " + SONG_XML, ex);
+        try (InputStream songXML = zip.getInputStream(songEntry)) {
+            document = readSongXML(songXML);
         }
 
         Element song = document.getDocumentElement();
@@ -298,12 +272,82 @@ public class RenoiseTrackerMod extends Module {
         setNChannels(numChannels);
 
         readArrangement(song);
-        readInstruments(song, sampleFiles);
+        readInstruments(song, zip, sampleFiles);
         readPatterns(song, noteColumnsOfTrack);
 
         removeEndOfArrangement();
     }
 
+    /**
+     * Streams Song.xml into a document holding only what the loader
+     * navigates: no comments, no whitespace between elements and no
+     * (base64 encoded) plugin data chunks, which can make up most of
+     * a Song.xml.
+     *
+     * @since 17.10.2026
+     */
+    private static Document readSongXML(InputStream songXML) throws IOException {
+        try {
+            XMLInputFactory factory = XMLInputFactory.newFactory();
+            factory.setProperty(XMLInputFactory.SUPPORT_DTD, Boolean.FALSE);
+            factory.setProperty(XMLInputFactory.IS_COALESCING, Boolean.TRUE);
+            XMLStreamReader reader = factory.createXMLStreamReader(songXML);
+            Document document = DocumentBuilderFactory.newInstance().newDocumentBuilder().newDocument();
+            Node current = document;
+            StringBuilder text = new StringBuilder();
+            try {
+                while (reader.hasNext()) {
+                    switch (reader.next()) {
+                        case XMLStreamConstants.START_ELEMENT:
+                            if (SKIPPED_SONG_ELEMENTS.contains(reader.getLocalName())) {
+                                skipElement(reader);
+                                break;
+                            }
+                            if (!text.toString().isBlank()) current.appendChild(document.createTextNode(text.toString()));
+                            text.setLength(0);
+                            Element element = document.createElement(reader.getLocalName());
+                            for (int i = 0; i < reader.getAttributeCount(); i++)
+                                element.setAttribute(reader.getAttributeLocalName(i), reader.getAttributeValue(i));
+                            current.appendChild(element);
+                            current = element;
+                            break;
+                        case XMLStreamConstants.CHARACTERS:
+                        case XMLStreamConstants.CDATA:
+                            text.append(reader.getText());
+                            break;
+                        case XMLStreamConstants.END_ELEMENT:
+                            // keep the text of leaf elements, even if it is blank
+                            if (!text.isEmpty() && (current.getFirstChild() == null || !text.toString().isBlank()))
+                                current.appendChild(document.createTextNode(text.toString()));
+                            text.setLength(0);
+                            current = current.getParentNode();
+                            break;
+                        default:
+                            break;
+                    }
+                }
+            } finally {
+                reader.close();
+            }
+            if (document.getDocumentElement() == null) throw new IOException("Unsupported XRNS: empty " + SONG_XML);
+            return document;
+        } catch (XMLStreamException | ParserConfigurationException ex) {
+            throw new IOException("Unsupported XRNS: broken " + SONG_XML, ex);
+        }
+    }
+
+    /**
+     * @param reader positioned at the start of the element to skip
+     */
+    private static void skipElement(XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) depth++;
+            else if (event == XMLStreamConstants.END_ELEMENT) depth--;
+        }
+    }
+
     /* ------------------------------- XML helpers ------------------------------- */
 
     private static Element child(Element parent, String name) {
@@ -401,7 +445,7 @@ public class RenoiseTrackerMod extends Module {
         return child(instrument, "Samples"); // up to Renoise 2.7
     }
 
-    private void readInstruments(Element song, Map<String, byte[]> sampleFiles) {
+    private void readInstruments(Element song, RandomAccessZipFile zip, List<RandomAccessZipFile.Entry> sampleFiles) throws IOException {
         List<Element> instruments = children(child(song, "Instruments"), "Instrument");
         int numInstruments = instruments.size();
         setNInstruments(numInstruments);
@@ -417,6 +461,7 @@ public class RenoiseTrackerMod extends Module {
         keyMaps = new int[numInstruments][];
         sampleFrames = new int[numInstruments][];
 
+        List<SampleToDecode> samplesToDecode = new ArrayList<>(totalSamples);
         int globalSampleIndex = 0;
         for (int ins = 0; ins < numInstruments; ins++) {
             Element instrumentElement = instruments.get(ins);
@@ -446,14 +491,19 @@ public class RenoiseTrackerMod extends Module {
 
             sampleFrames[ins] = new int[samples.size()];
             for (int smp = 0; smp < samples.size(); smp++) {
-                Sample sample = readSample(samples.get(smp), ins, smp, sampleFiles);
-                sampleFrames[ins][smp] = sample.sampleLength;
-                instrumentContainer.setSample(globalSampleIndex + smp, sample);
+                SampleToDecode toDecode = readSample(samples.get(smp), ins, smp);
+                samplesToDecode.add(toDecode);
+                instrumentContainer.setSample(globalSampleIndex + smp, toDecode.sample);
             }
             globalSampleIndex += samples.size();
 
             instrumentContainer.setInstrument(ins, currentIns);
         }
+
+        // the sample files are independent of each other - the DOM is not touched anymore
+        decodeSamples(samplesToDecode.size(), i -> decodeSample(samplesToDecode.get(i), zip, sampleFiles));
+        for (SampleToDecode toDecode : samplesToDecode)
+            sampleFrames[toDecode.instrumentIndex][toDecode.sampleIndex] = toDecode.sample.sampleLength;
     }
 
     private static int[] readKeyMap(Element instrumentElement, List<Element> samples) {
@@ -481,7 +531,33 @@ public class RenoiseTrackerMod extends Module {
         return keyMap;
     }
 
-    private Sample readSample(Element sampleElement, int instrumentIndex, int sampleIndex, Map<String, byte[]> sampleFiles) {
+    /**
+     * A sample with the settings read from the song, whose sample file is
+     * not yet decoded
+     *
+     * @since 17.10.2026
+     */
+    private static class SampleToDecode {
+        final Sample sample;
+        final int instrumentIndex;
+        final int sampleIndex;
+        final int baseNote;
+        final int transpose;
+        final int fineTune;
+        final float volumeFactor;
+
+        SampleToDecode(Sample sample, int instrumentIndex, int sampleIndex, int baseNote, int transpose, int fineTune, float volumeFactor) {
+            this.sample = sample;
+            this.instrumentIndex = instrumentIndex;
+            this.sampleIndex = sampleIndex;
+            this.baseNote = baseNote;
+            this.transpose = transpose;
+            this.fineTune = fineTune;
+            this.volumeFactor = volumeFactor;
+        }
+    }
+
+    private static SampleToDecode readSample(Element sampleElement, int instrumentIndex, int sampleIndex) {
         Sample current = new Sample();
         current.name = getText(sampleElement, "Name", "").trim();
         current.globalVolume = ModConstants.MAXSAMPLEVOLUME;
@@ -498,22 +574,6 @@ public class RenoiseTrackerMod extends Module {
         int fineTune = getInt(sampleElement, "Finetune", 0);
         float volumeFactor = getFloat(sampleElement, "Volume", 1.0f);
 
-        DecodedSample decoded = decodeSampleFile(instrumentIndex, sampleIndex, sampleFiles);
-        int sampleRate = ModConstants.BASEFREQUENCY;
-        if (decoded != null) {
-            sampleRate = decoded.sampleRate;
-            current.sampleLength = decoded.frames;
-            current.byteLength = decoded.frames << 1;
-            current.isStereo = decoded.channels > 1;
-            current.sampleType = ModConstants.SM_16BIT | ((current.isStereo) ? ModConstants.SM_STEREO : 0);
-            current.allocSampleData();
-            System.arraycopy(decoded.left, 0, current.sampleL, 0, decoded.frames);
-            if (current.isStereo) System.arraycopy(decoded.right, 0, current.sampleR, 0, decoded.frames);
-            if (volumeFactor != 1.0f) scaleSampleData(current, volumeFactor);
-        }
-
-        setSampleProperties(current, baseNote, transpose, fineTune, sampleRate);
-
         String loopMode = getText(sampleElement, "LoopMode", "Off");
         int loopStart = getInt(sampleElement, "LoopStart", 0);
         int loopEnd = getInt(sampleElement, "LoopEnd", 0);
@@ -530,14 +590,43 @@ public class RenoiseTrackerMod extends Module {
         current.sustainLoopStop = 0;
         current.sustainLoopLength = 0;
 
+        return new SampleToDecode(current, instrumentIndex, sampleIndex, baseNote, transpose, fineTune, volumeFactor);
+    }
+
+    /**
+     * Decodes the sample file of a sample. Is called in parallel for the
+     * samples, so must not touch anything but that sample.
+     *
+     * @since 17.10.2026
+     */
+    private void decodeSample(SampleToDecode toDecode, RandomAccessZipFile zip, List<RandomAccessZipFile.Entry> sampleFiles) {
+        Sample current = toDecode.sample;
+        // without sample data the sample files are not even inflated
+        // scaled data needs the full precision, otherwise the decoded width will do
+        boolean fullPrecision = toDecode.volumeFactor != 1.0f;
+        DecodedSample decoded = (isHeaderOnly()) ? null : decodeSampleFile(toDecode.instrumentIndex, toDecode.sampleIndex, fullPrecision, zip, sampleFiles);
+        int sampleRate = ModConstants.BASEFREQUENCY;
+        if (decoded != null) {
+            sampleRate = decoded.sampleRate;
+            current.sampleLength = decoded.frames;
+            current.byteLength = decoded.frames << 1;
+            current.isStereo = decoded.channels > 1;
+            current.sampleType = ModConstants.SM_16BIT | ((current.isStereo) ? ModConstants.SM_STEREO : 0);
+            // decoded with the look ahead buffers already
+            current.sampleL = decoded.left;
+            current.sampleR = decoded.right;
+            if (fullPrecision) scaleSampleData(current, toDecode.volumeFactor);
+        }
+
+        setSampleProperties(current, toDecode.baseNote, toDecode.transpose, toDecode.fineTune, sampleRate);
+
         current.fixSampleLoops(getModType());
-        return current;
     }
 
     private static void scaleSampleData(Sample sample, float factor) {
         for (int i = 0; i < sample.sampleLength; i++) {
-            sample.sampleL[i] = clampSample((long) (sample.sampleL[i] * factor));
-            if (sample.sampleR != null) sample.sampleR[i] = clampSample((long) (sample.sampleR[i] * factor));
+            sample.sampleL.set(i, clampSample((long) (sample.sampleL.get(i) * factor)));
+            if (sample.sampleR != null) sample.sampleR.set(i, clampSample((long) (sample.sampleR.get(i) * factor)));
         }
     }
 
@@ -1388,65 +1477,84 @@ public class RenoiseTrackerMod extends Module {
         int sampleRate;
         int channels;
         int frames;
-        long[] left, right;
+        /** sized for Sample#allocSampleData, right is null for mono */
+        SampleData left, right;
     }
 
-    /** growable buffer for decoders that do not know the amount of frames upfront */
-    private static class PCMBuffer {
+    /**
+     * Collects the decoded frames straight into sample data of the decoded
+     * width (8, 16 or 32 bit). Sized from the header if the decoder knows
+     * the amount of frames upfront, otherwise it grows.
+     */
+    private static class SampleCollector {
 
-        long[] left = new long[65536];
-        long[] right = new long[65536];
+        final int channels;
+        SampleData left, right;
         int frames;
 
+        SampleCollector(int channels, int bitsPerSample, boolean fullPrecision, int expectedFrames) {
+            this.channels = channels;
+            int width = (fullPrecision) ? 32 : (bitsPerSample <= 8) ? 8 : (bitsPerSample <= 16) ? 16 : 32;
+            int length = Sample.getAllocLength((expectedFrames > 0) ? expectedFrames : 65536);
+            left = SampleData.create(width, length);
+            right = (channels > 1) ? SampleData.create(width, length) : null;
+        }
+
         void addFrame(long leftSample, long rightSample) {
-            if (frames >= left.length) {
-                left = java.util.Arrays.copyOf(left, left.length << 1);
-                right = java.util.Arrays.copyOf(right, right.length << 1);
-            }
-            left[frames] = leftSample;
-            right[frames] = rightSample;
+            if (frames >= left.length()) resize(left.length() << 1);
+            left.set(frames, leftSample);
+            if (right != null) right.set(frames, rightSample);
             frames++;
         }
 
-        DecodedSample toDecodedSample(int sampleRate, int channels) {
+        private void resize(int length) {
+            left = left.copyOf(length);
+            if (right != null) right = right.copyOf(length);
+        }
+
+        DecodedSample toDecodedSample(int sampleRate) {
+            int length = Sample.getAllocLength(frames);
+            if (left.length() != length) resize(length);
             DecodedSample result = new DecodedSample();
             result.sampleRate = sampleRate;
             result.channels = channels;
             result.frames = frames;
             result.left = left;
-            result.right = (channels > 1) ? right : null;
+            result.right = right;
             return result;
         }
     }
 
-    private DecodedSample decodeSampleFile(int instrumentIndex, int sampleIndex, Map<String, byte[]> sampleFiles) {
+    private DecodedSample decodeSampleFile(int instrumentIndex, int sampleIndex, boolean fullPrecision, RandomAccessZipFile zip, List<RandomAccessZipFile.Entry> sampleFiles) {
         Pattern entryPattern = Pattern.compile(
                 String.format("SampleData/Instrument%02d.*/Sample%02d.*\\.(wav|aiff?|ogg|flac|mp3)$", instrumentIndex, sampleIndex),
                 Pattern.CASE_INSENSITIVE);
-        for (Map.Entry<String, byte[]> file : sampleFiles.entrySet()) {
-            Matcher matcher = entryPattern.matcher(file.getKey());
+        for (RandomAccessZipFile.Entry file : sampleFiles) {
+            Matcher matcher = entryPattern.matcher(file.getName());
             if (!matcher.find()) continue;
             String extension = matcher.group(1).toLowerCase();
             try {
+                // inflated just now - and garbage as soon as it is decoded
+                byte[] data = zip.readAllBytes(file);
                 switch (extension) {
                     case "flac":
-                        return decodeFlac(file.getValue());
+                        return decodeFlac(data, fullPrecision);
                     case "ogg":
-                        return decodeOgg(file.getValue());
+                        return decodeOgg(data, fullPrecision);
                     case "mp3":
-                        return decodeMp3(file.getValue());
+                        return decodeMp3(data, fullPrecision);
                     default: // wav, aif, aiff
-                        return decodeWithAudioSystem(file.getValue());
+                        return decodeWithAudioSystem(data, fullPrecision);
                 }
             } catch (Throwable ex) {
-                logger.log(Level.ERROR, "[RenoiseTrackerMod] failed decoding sample " + file.getKey(), ex);
+                logger.log(Level.ERROR, "[RenoiseTrackerMod] failed decoding sample " + file.getName(), ex);
                 return null;
             }
         }
         return null; // sample without audio data
     }
 
-    private static DecodedSample decodeFlac(byte[] data) throws IOException {
+    private static DecodedSample decodeFlac(byte[] data, boolean fullPrecision) throws IOException {
         FLACDecoder decoder = new FLACDecoder(new ByteArrayInputStream(data));
         decoder.readMetadata();
         int channels = decoder.getStreamInfo().getChannels();
@@ -1454,7 +1562,7 @@ public class RenoiseTrackerMod extends Module {
         int bytesPerSample = (bits + 7) >> 3;
         int frameSize = bytesPerSample * channels;
 
-        PCMBuffer pcm = new PCMBuffer();
+        SampleCollector pcm = new SampleCollector(channels, bits, fullPrecision, (int) decoder.getStreamInfo().getTotalSamples());
         while (!decoder.isEOF()) {
             ByteData byteData;
             try {
@@ -1475,7 +1583,7 @@ public class RenoiseTrackerMod extends Module {
                 pcm.addFrame(leftSample, rightSample);
             }
         }
-        return pcm.toDecodedSample(decoder.getStreamInfo().getSampleRate(), channels);
+        return pcm.toDecodedSample(decoder.getStreamInfo().getSampleRate());
     }
 
     /** little endian PCM to 32 bit signed - 8 bit data is unsigned */
@@ -1489,7 +1597,7 @@ public class RenoiseTrackerMod extends Module {
     }
 
     /** wav and aiff (8/16/24/32 bit and float) are handled by javax.sound */
-    private static DecodedSample decodeWithAudioSystem(byte[] data) throws Exception {
+    private static DecodedSample decodeWithAudioSystem(byte[] data, boolean fullPrecision) throws Exception {
         javax.sound.sampled.AudioInputStream audioInputStream =
                 javax.sound.sampled.AudioSystem.getAudioInputStream(new ByteArrayInputStream(data));
         javax.sound.sampled.AudioFormat format = audioInputStream.getFormat();
@@ -1510,13 +1618,13 @@ public class RenoiseTrackerMod extends Module {
         int frameSize = bytesPerSample * channels;
         boolean bigEndian = format.isBigEndian();
 
-        PCMBuffer pcm = new PCMBuffer();
+        SampleCollector pcm = new SampleCollector(channels, format.getSampleSizeInBits(), fullPrecision, pcmData.length / frameSize);
         for (int offset = 0; offset + frameSize <= pcmData.length; offset += frameSize) {
             long leftSample = readJavaSoundSample(pcmData, offset, bytesPerSample, bigEndian);
             long rightSample = (channels > 1) ? readJavaSoundSample(pcmData, offset + bytesPerSample, bytesPerSample, bigEndian) : leftSample;
             pcm.addFrame(leftSample, rightSample);
         }
-        return pcm.toDecodedSample((int) format.getSampleRate(), channels);
+        return pcm.toDecodedSample((int) format.getSampleRate());
     }
 
     private static long readJavaSoundSample(byte[] buffer, int offset, int bytesPerSample, boolean bigEndian) {
@@ -1527,18 +1635,19 @@ public class RenoiseTrackerMod extends Module {
         return (long) value << 16;
     }
 
-    private static DecodedSample decodeMp3(byte[] data) throws Exception {
+    private static DecodedSample decodeMp3(byte[] data, boolean fullPrecision) throws Exception {
         Bitstream bitstream = new Bitstream(new ByteArrayInputStream(data));
         javazoom.jl.decoder.Decoder decoder = new javazoom.jl.decoder.Decoder();
 
-        PCMBuffer pcm = new PCMBuffer();
+        SampleCollector pcm = null;
         int sampleRate = ModConstants.BASEFREQUENCY;
-        int channels = 1;
         Header header;
         while ((header = bitstream.readFrame()) != null) {
             SampleBuffer sampleBuffer = (SampleBuffer) decoder.decodeFrame(header, bitstream);
             sampleRate = sampleBuffer.getSampleFrequency();
-            channels = decoder.getOutputChannels();
+            int channels = decoder.getOutputChannels();
+            // the length is not known before the last frame
+            if (pcm == null) pcm = new SampleCollector(channels, 16, fullPrecision, -1);
             short[] buffer = sampleBuffer.getBuffer();
             int length = sampleBuffer.getBufferLength();
             if (channels == 2) {
@@ -1550,10 +1659,11 @@ public class RenoiseTrackerMod extends Module {
             }
             bitstream.closeFrame();
         }
-        return pcm.toDecodedSample(sampleRate, channels);
+        if (pcm == null) pcm = new SampleCollector(1, 16, fullPrecision, 0);
+        return pcm.toDecodedSample(sampleRate);
     }
 
-    private static DecodedSample decodeOgg(byte[] data) throws Exception {
+    private static DecodedSample decodeOgg(byte[] data, boolean fullPrecision) throws Exception {
         ByteArrayInputStream input = new ByteArrayInputStream(data);
         com.jcraft.jogg.SyncState oggSyncState = new com.jcraft.jogg.SyncState();
         com.jcraft.jogg.StreamState oggStreamState = new com.jcraft.jogg.StreamState();
@@ -1567,7 +1677,7 @@ public class RenoiseTrackerMod extends Module {
 
         oggSyncState.init();
 
-        PCMBuffer pcm = new PCMBuffer();
+        SampleCollector pcm = null;
         boolean eos = false;
         int state = 0;
 
@@ -1610,6 +1720,8 @@ public class RenoiseTrackerMod extends Module {
                     }
                     vorbisDSPState.synthesis_init(vorbisInfo);
                     vorbisBlock.init(vorbisDSPState);
+                    // the length is not known before the last page
+                    pcm = new SampleCollector(vorbisInfo.channels, 16, fullPrecision, -1);
                     state = 1;
                 } else {
                     if (oggStreamState.pagein(oggPage) < 0) continue;
@@ -1635,12 +1747,12 @@ public class RenoiseTrackerMod extends Module {
             }
         }
         int sampleRate = vorbisInfo.rate;
-        int channels = vorbisInfo.channels;
         oggStreamState.clear();
         vorbisBlock.clear();
         vorbisDSPState.clear();
         vorbisInfo.clear();
-        return pcm.toDecodedSample(sampleRate, channels);
+        if (pcm == null) throw new IOException("No Vorbis audio data");
+        return pcm.toDecodedSample(sampleRate);
     }
 
     private static long oggFloatToSample(float value) {
@@ -211,6 +211,8 @@ public class ModMidiMixer {
     public void openOutputDevice() {
         try {
             if (midiOutput != null) closeOutputDevice();
+            // without a device (like when rendering) all midi events are dropped
+            if (outputDeviceInfo == null) return;
 
             midiOutput = MidiSystem.getMidiDevice(outputDeviceInfo);
             if (!midiOutput.isOpen()) midiOutput.open();
@@ -26,13 +26,18 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import de.quippy.javamod.multimedia.mod.ModConstants;
 import de.quippy.javamod.multimedia.mod.SampleFrame;
 import de.quippy.javamod.multimedia.mod.gui.ModUpdateListener;
-import de.quippy.javamod.multimedia.mod.gui.ModUpdateListener.PatternPositionInformation;
-import de.quippy.javamod.multimedia.mod.gui.ModUpdateListener.PeekInformation;
 import de.quippy.javamod.multimedia.mod.gui.ModUpdateListener.StatusInformation;
 import de.quippy.javamod.multimedia.mod.loader.Module;
 import de.quippy.javamod.multimedia.mod.loader.instrument.Envelope;
@@ -62,8 +67,32 @@ public abstract class BasicModMixer {
 
     protected Random swinger;
 
-    // out sample frame buffer
-    private final SampleFrame samples = new SampleFrame();
+    /** the maximum amount of frames rendered in one block by mixChannelBlock */
+    private static final int MIX_BLOCK_SIZE = 1024;
+
+    /**
+     * The buffers a thread needs to mix a channel. The play thread has its
+     * own, every mix worker as well.
+     *
+     * @since 17.10.2026
+     */
+    private static final class MixWorkspace {
+        // out sample frame buffer
+        private final SampleFrame samples = new SampleFrame();
+        // interpolation buffers for the block mixing
+        private final long[] blockBufferLeft = new long[MIX_BLOCK_SIZE];
+        private final long[] blockBufferRight = new long[MIX_BLOCK_SIZE];
+    }
+
+    private final MixWorkspace workspace = new MixWorkspace();
+
+    // parallel channel mixing - null, if mixing is done in the play thread only
+    private List<MixWorker> mixWorkers;
+    // created with the first parallel mix, shut down by stopMixThreads
+    private ExecutorService mixExecutor;
+    private final List<Future<Void>> mixResults = new ArrayList<>();
+    private final AtomicInteger nextMixChannel = new AtomicInteger();
+    private boolean[] channelWasActive;
 
     // Global FilterMode:
     protected boolean globalFilterMode;
@@ -86,6 +115,8 @@ public abstract class BasicModMixer {
     protected int leftOverSamplesPerTick;
     /** the whole amount of samples mixed - as a time index for events */
     protected long samplesMixed;
+    /** the position in the song in samples - mixed or skipped by seeking */
+    protected long samplePosition;
 
     protected int patternDelayCount, patternTicksDelayCount;
     protected Pattern currentPattern;
@@ -109,6 +140,8 @@ public abstract class BasicModMixer {
     protected int doAmigaEmulation;
     /** activates infinite loop recognition */
     protected int doNoLoops;
+    /** use the Vector API for the windowed sinc interpolations */
+    protected boolean doSIMD;
 
     protected boolean modFinished;
 
@@ -117,6 +150,28 @@ public abstract class BasicModMixer {
     protected boolean doLoopingGlobalFadeout;
     protected int loopingFadeOutValue;
 
+    /** only the timing (tempo, BPM, jumps, breaks, loops and delays) is simulated - see getLengthInMilliseconds */
+    private boolean timingOnly = false;
+
+    // Checkpoints for seeking: snapshots of the mixer, ordered by their sample position
+    /** minimum distance of two seek checkpoints in seconds */
+    private static final int SEEK_CHECKPOINT_DISTANCE = 2;
+    private final List<MixerSnapshot> seekCheckpoints = new ArrayList<>();
+    // Snapshots taken while mixing - these are exact, also for the voices playing
+    /** seeking mixes at most this amount of seconds from a snapshot to the target */
+    private static final int SEEK_MIX_DISTANCE = 10;
+    /** distance of two snapshots while mixing in seconds, 0 for none - set by the players that seek */
+    private int snapshotInterval = 0;
+    /** if there are more snapshots, every second one is dropped and the distance doubled */
+    private static final int MAX_SNAPSHOTS = 64;
+    private final List<MixerSnapshot> snapshots = new ArrayList<>();
+    /** the snapshot distance is snapshotInterval &lt;&lt; snapshotThinning */
+    private int snapshotThinning;
+    // the buffers skip mixes into - allocated with the first seek
+    private long[] skipBufferLeft, skipBufferRight;
+    /** false, if the channels were not mixed, e.g. after seeking by timing only - no exact snapshots then */
+    private boolean mixedExact;
+
     // The listeners for update events - so far only one known off
     private final List<ModUpdateListener> listeners;
     private boolean fireUpdates = false;
@@ -124,6 +179,8 @@ public abstract class BasicModMixer {
     // LUT for resonance
     private double[] cutOffToFreq;
     private double[] resonanceTable;
+    private int filterLUTSampleRate;
+    private boolean filterLUTExFilterRange;
 
     // What type of Mod is it?
     protected boolean isFastTrackerFamily, isScreamTrackerFamily, isMOD, isXM, isSTM, isS3M, isIT, isModPlug;
@@ -156,6 +213,7 @@ public abstract class BasicModMixer {
      */
     public void changeSampleRate(int newSampleRate) {
         sampleRate = newSampleRate;
+        clearSnapshots();
         calculateSamplesPerTick();
         calculateGlobalTuning();
         setPaula(doAmigaEmulation, sampleRate, maxChannels);
@@ -180,9 +238,85 @@ public abstract class BasicModMixer {
      */
     public void changeAmigaEmulation(final int newAmigaEmulation) {
         this.doAmigaEmulation = newAmigaEmulation;
+        clearSnapshots();
         setPaula(doAmigaEmulation, sampleRate, maxChannels);
     }
 
+    /**
+     * Switches the SIMD (Vector API) interpolation on or off. This can be
+     * done at any time. If the module jdk.incubator.vector is not present,
+     * the scalar routines are used anyway.
+     *
+     * @param newDoSIMD
+     * @since 17.10.2026
+     */
+    public void changeDoSIMD(boolean newDoSIMD) {
+        this.doSIMD = newDoSIMD;
+    }
+
+    /**
+     * Sets the amount of threads used to mix the channels. With 1 (or less)
+     * all channels are mixed in the play thread. Otherwise the channels are
+     * distributed over a set of worker threads, each mixing into its own
+     * buffers, which are summed up afterwards. Row and tick events are
+     * always processed in the play thread.
+     * BE SHURE TO STOP PLAYBACK! Changing this during playback may (will!)
+     * cause crappy playback!
+     *
+     * @param newMixThreads
+     * @since 17.10.2026
+     */
+    public void changeMixThreads(int newMixThreads) {
+        stopMixThreads();
+        mixWorkers = null;
+        if (newMixThreads > 1) {
+            List<MixWorker> workers = new ArrayList<>(newMixThreads);
+            for (int i = 0; i < newMixThreads; i++) workers.add(new MixWorker());
+            mixWorkers = workers;
+        }
+    }
+
+    /**
+     * Shuts the threads mixing the channels down - they are started again
+     * with the next parallel mix. Call this, when the mixer stops.
+     *
+     * @since 17.10.2026
+     */
+    public void stopMixThreads() {
+        if (mixExecutor != null) {
+            mixExecutor.shutdown();
+            mixExecutor = null;
+        }
+    }
+
+    private ExecutorService getMixExecutor() {
+        if (mixExecutor == null) {
+            int threads = mixWorkers.size();
+            // the workers mix for the calling thread - so they get its priority
+            int priority = Thread.currentThread().getPriority();
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 5L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+                Thread thread = new Thread(runnable, "ModMixer channel mixing");
+                thread.setDaemon(true);
+                thread.setPriority(priority);
+                return thread;
+            });
+            executor.allowCoreThreadTimeOut(true); // paused mixers should not keep their threads
+            mixExecutor = executor;
+        }
+        return mixExecutor;
+    }
+
+    /**
+     * Sets the distance of the snapshots taken while mixing. These are
+     * used for seeking and can be retrieved with getSnapshots.
+     *
+     * @param newSnapshotInterval in seconds, 0 for no snapshots
+     * @since 17.10.2026
+     */
+    public void changeSnapshotInterval(int newSnapshotInterval) {
+        snapshotInterval = (newSnapshotInterval < 0) ? 0 : newSnapshotInterval;
+    }
+
     /**
      * Changes the interpolation routine. This can be done at any time
      *
@@ -191,6 +325,7 @@ public abstract class BasicModMixer {
      */
     public void changeDoNoLoops(int newDoNoLoops) {
         this.doNoLoops = newDoNoLoops;
+        clearSnapshots();
     }
 
     /**
@@ -202,6 +337,7 @@ public abstract class BasicModMixer {
      */
     public void changeMaxNNAChannels(int newMaxNNAChannels) {
         maxNNAChannels = newMaxNNAChannels;
+        clearSnapshots();
         int nChannels = mod.getNChannels();
         int newMaxChannels = nChannels;
         if (isIT)
@@ -245,6 +381,8 @@ public abstract class BasicModMixer {
         modFinished = false;
 
         // to be a bit faster, we do some pre-calculations
+        // (the tuning depends on the frequency table - not the one of a previous initialization)
+        frequencyTableType = mod.getFrequencyTable();
         calculateGlobalTuning();
 
         // get boolean values once for faster checks
@@ -262,7 +400,6 @@ public abstract class BasicModMixer {
         if (mod.getResampling() > -1) doISP = mod.getResampling();
 
         // get Mod specific values
-        frequencyTableType = mod.getFrequencyTable();
         currentTempo = mod.getTempo();
         currentBPM = mod.getBPMSpeed();
 
@@ -283,6 +420,8 @@ public abstract class BasicModMixer {
         calculateSamplesPerTick();
         leftOverSamplesPerTick = 0;
         samplesMixed = 0;
+        samplePosition = 0;
+        mixedExact = true;
 
         globalVolume = mod.getBaseVolume();
         globalFilterMode = false; // IT default: every note resets filter to current values set - flattens the filter envelope
@@ -446,6 +585,12 @@ public abstract class BasicModMixer {
      * @since 29.05.2026
      */
     private void initFilterLUTs() {
+        // seek and the length calculation re-initialize the mixer a lot - so only re-calculate, if needed
+        boolean exFilterRange = (mod.getSongFlags() & ModConstants.SONG_EXFILTERRANGE) != 0;
+        if (cutOffToFreq != null && filterLUTSampleRate == sampleRate && filterLUTExFilterRange == exFilterRange) return;
+        filterLUTSampleRate = sampleRate;
+        filterLUTExFilterRange = exFilterRange;
+
         // Init the LUT for cutoffFrequency
         final int cutOffMax = (0x7F * 0x200) + 1; // let's support index 0xFE00 as the very maximum
         cutOffToFreq = new double[cutOffMax];
@@ -453,7 +598,7 @@ public abstract class BasicModMixer {
             double frequency;
 //            if ((mod.getModType() & ModConstants.MODTYPE_IMF) == 0) { // for later use
             // IT and others
-            frequency = 110.0d * Math.pow(2.0d, 0.25d + ((double) cutOff / ((mod.getSongFlags() & ModConstants.SONG_EXFILTERRANGE) != 0 ? 20.0d * 512.0d : 24.0d * 512.0d)));
+            frequency = 110.0d * Math.pow(2.0d, 0.25d + ((double) cutOff / (exFilterRange ? 20.0d * 512.0d : 24.0d * 512.0d)));
             // Without envModifier of ModPlug we would only need 0x7F entries and needed the following formula:
             //frequency = 110.0d * Math.pow(2.0d, 0.25d + ((double)cutOff * (128.0d / ((mod.getSongFlags()&ModConstants.SONG_EXFILTERRANGE)!=0 ? 20.0d * 256.0d : 24.0d * 256.0d))));
 //            } else {
@@ -475,7 +620,16 @@ public abstract class BasicModMixer {
     }
 
     /**
-     * Does only a forward seek, so starts from the beginning
+     * Does only a forward seek. If there is a snapshot taken while mixing
+     * not more than SEEK_MIX_DISTANCE seconds before the target, that one
+     * is restored and the rest is mixed (and thrown away) up to the
+     * target. That is sample accurate and all voices continue playing.
+     * Otherwise starts at the nearest checkpoint before the target - or
+     * from the beginning, if there is none yet - and only the events are
+     * processed. As the channels are not mixed then, all channels are
+     * silenced afterwards. While seeking like that, new checkpoints are
+     * recorded at every new arrangement position (at most every
+     * SEEK_CHECKPOINT_DISTANCE seconds).
      *
      * @since 25.07.2020
      */
@@ -485,13 +639,34 @@ public abstract class BasicModMixer {
         try {
             setFireUpdates(false);
             initializeMixer(true);
-            long currentMilliseconds = 0;
+
+            long targetPosition = milliseconds * (long) sampleRate / 1000L;
+            MixerSnapshot snapshot = getSnapshot(targetPosition);
+            long mixFrom = (snapshot != null) ? snapshot.samplePosition : 0;
+            if (targetPosition - mixFrom <= (long) SEEK_MIX_DISTANCE * sampleRate) {
+                if (snapshot != null) restoreState(snapshot);
+                skip(targetPosition - mixFrom);
+                return samplePosition;
+            }
+
+            MixerSnapshot checkpoint = getSeekCheckpoint(milliseconds);
+            if (checkpoint != null) {
+                restoreState(checkpoint);
+                fullLength = checkpoint.samplePosition;
+            }
+            mixedExact = false; // the channels are not mixed - so from now on no exact snapshots
+            long currentMilliseconds = fullLength * 1000L / (long) sampleRate;
             long stopAt = 60L * 60L * sampleRate; // Just in case...
             boolean finished = false;
+            int arrangementIndex = currentArrangement;
             while (fullLength < stopAt && currentMilliseconds < milliseconds && !finished) {
                 fullLength += samplesPerTick;
                 currentMilliseconds = fullLength * 1000L / (long) sampleRate;
                 finished = doRowAndTickEvents();
+                if (!finished && currentArrangement != arrangementIndex) {
+                    arrangementIndex = currentArrangement;
+                    addSeekCheckpoint(fullLength);
+                }
             }
             // Silence all and everything to avoid clicks and arbitrary sounds...
             for (int c = 0; c < maxChannels; c++) {
@@ -499,12 +674,36 @@ public abstract class BasicModMixer {
                 aktMemo.actVolumeLeft = aktMemo.actVolumeRight = aktMemo.currentVolume =
                         aktMemo.actRampVolLeft = aktMemo.actRampVolRight = 0;
             }
+            samplePosition = fullLength;
         } finally {
             setFireUpdates(fireUpdateStatus);
         }
         return fullLength;
     }
 
+    /**
+     * Mixes the given amount of samples without output - and without
+     * update events, if the caller switched those off
+     *
+     * @param samples
+     * @since 17.10.2026
+     */
+    private void skip(long samples) {
+        if (skipBufferLeft == null) {
+            skipBufferLeft = new long[MIX_BLOCK_SIZE];
+            skipBufferRight = new long[MIX_BLOCK_SIZE];
+        }
+        long[] leftBuffer = skipBufferLeft;
+        long[] rightBuffer = skipBufferRight;
+        while (samples > 0) {
+            int count = mixIntoBuffer(leftBuffer, rightBuffer, (samples > MIX_BLOCK_SIZE) ? MIX_BLOCK_SIZE : (int) samples);
+            if (count <= 0) break;
+            samples -= count;
+            Arrays.fill(leftBuffer, 0, count, 0);
+            Arrays.fill(rightBuffer, 0, count, 0);
+        }
+    }
+
     /**
      * @return length
      * @since 25.07.2020
@@ -518,9 +717,11 @@ public abstract class BasicModMixer {
                 int oldDoNoLoops = doNoLoops;
                 int oldSampleRate = sampleRate;
 
-                changeDoNoLoops(ModConstants.PLAYER_LOOP_FADEOUT);
+                // we do not use changeDoNoLoops here - the seek checkpoints stay valid
+                doNoLoops = ModConstants.PLAYER_LOOP_FADEOUT;
                 sampleRate = 44100;
                 initializeMixer(false);
+                timingOnly = true;
 
                 long[] msTimeIndex = mod.getMsTimeIndex();
                 msTimeIndex[0] = 0;
@@ -538,16 +739,232 @@ public abstract class BasicModMixer {
                 mod.setLengthInMilliseconds(fullLength * 1000L / sampleRate);
 
                 // revert changes
+                timingOnly = false;
                 sampleRate = oldSampleRate;
-                changeDoNoLoops(oldDoNoLoops);
+                doNoLoops = oldDoNoLoops;
                 initializeMixer(false);
             } finally {
+                timingOnly = false;
                 setFireUpdates(fireUpdateStatus);
             }
         }
         return mod.getLengthInMilliseconds();
     }
 
+    /**
+     * Creates a snapshot of the current player state. Do not call this
+     * while mixing is in progress in another thread.
+     *
+     * @return the snapshot
+     * @since 17.10.2026
+     */
+    public MixerSnapshot createSnapshot() {
+        return createSnapshot(samplePosition);
+    }
+
+    /**
+     * Restores a snapshot created with createSnapshot of this or another
+     * mixer of the same module with the same sample rate. The mute status
+     * of the channels is kept. Do not call this while mixing is in
+     * progress in another thread.
+     *
+     * @param snapshot
+     * @return the position in samples of the snapshot
+     * @throws IllegalArgumentException if the snapshot does not fit to this mixer
+     * @since 17.10.2026
+     */
+    public long restoreSnapshot(MixerSnapshot snapshot) {
+        if (!snapshot.belongsTo(mod)) throw new IllegalArgumentException("Snapshot was not taken from " + mod.getSongName());
+        if (snapshot.sampleRate != sampleRate) throw new IllegalArgumentException("Snapshot was taken at " + snapshot.sampleRate + "Hz, mixer runs at " + sampleRate + "Hz");
+        initializeMixer(true);
+        if (snapshot.channelMemory.length != maxChannels) throw new IllegalArgumentException("Snapshot has " + snapshot.channelMemory.length + " channels, mixer has " + maxChannels);
+        snapshot.resolveReferences(mod);
+        restoreState(snapshot);
+        return samplePosition;
+    }
+
+    /**
+     * @return a copy of the list of snapshots taken while mixing so far, ordered by their position
+     * @since 17.10.2026
+     */
+    public List<MixerSnapshot> getSnapshots() {
+        synchronized (snapshots) {
+            return new ArrayList<>(snapshots);
+        }
+    }
+
+    /**
+     * Drops all snapshots and checkpoints - as they do not fit
+     * anymore after a change of mixer settings
+     *
+     * @since 17.10.2026
+     */
+    private void clearSnapshots() {
+        seekCheckpoints.clear();
+        synchronized (snapshots) {
+            snapshots.clear();
+            snapshotThinning = 0;
+        }
+    }
+
+    /**
+     * Creates a copy of the current player state
+     *
+     * @param samplePosition the current position in samples
+     * @return the snapshot
+     * @since 17.10.2026
+     */
+    private MixerSnapshot createSnapshot(long samplePosition) {
+        MixerSnapshot snapshot = new MixerSnapshot(mod, sampleRate);
+        snapshot.samplePosition = samplePosition;
+        snapshot.exact = mixedExact;
+        snapshot.currentTempo = currentTempo;
+        snapshot.currentBPM = currentBPM;
+        snapshot.modSpeedSet = modSpeedSet;
+        snapshot.globalVolume = globalVolume;
+        snapshot.globalFilterMode = globalFilterMode;
+        snapshot.currentTick = currentTick;
+        snapshot.currentRow = currentRow;
+        snapshot.currentArrangement = currentArrangement;
+        snapshot.currentPatternIndex = currentPatternIndex;
+        snapshot.currentPattern = currentPattern;
+        snapshot.samplesPerTick = samplesPerTick;
+        snapshot.leftOverSamplesPerTick = leftOverSamplesPerTick;
+        snapshot.bufferDiff = bufferDiff;
+        snapshot.samplesMixed = samplesMixed;
+        snapshot.patternDelayCount = patternDelayCount;
+        snapshot.patternTicksDelayCount = patternTicksDelayCount;
+        snapshot.patternBreakRowIndex = patternBreakRowIndex;
+        snapshot.patternBreakPatternIndex = patternBreakPatternIndex;
+        snapshot.patternJumpRowIndex = patternJumpRowIndex;
+        snapshot.patternBreakSet = patternBreakSet;
+        snapshot.patternJumpSet = patternJumpSet;
+        snapshot.modFinished = modFinished;
+        snapshot.doLoopingGlobalFadeout = doLoopingGlobalFadeout;
+        snapshot.loopingFadeOutValue = loopingFadeOutValue;
+        snapshot.channelMemory = new ChannelMemory[maxChannels];
+        for (int c = 0; c < maxChannels; c++) {
+            (snapshot.channelMemory[c] = new ChannelMemory()).copyFrom(channelMemory[c]);
+        }
+        if (paulaFilter != null) snapshot.paula = new Paula(paulaFilter);
+        snapshot.loopRecognition = mod.getLoopRecognitionState();
+        return snapshot;
+    }
+
+    /**
+     * Restores a player state created with createSnapshot. The mute status
+     * of the channels is kept.
+     *
+     * @param snapshot
+     * @since 17.10.2026
+     */
+    private void restoreState(MixerSnapshot snapshot) {
+        samplePosition = snapshot.samplePosition;
+        mixedExact = snapshot.exact;
+        currentTempo = snapshot.currentTempo;
+        currentBPM = snapshot.currentBPM;
+        modSpeedSet = snapshot.modSpeedSet;
+        globalVolume = snapshot.globalVolume;
+        globalFilterMode = snapshot.globalFilterMode;
+        currentTick = snapshot.currentTick;
+        currentRow = snapshot.currentRow;
+        currentArrangement = snapshot.currentArrangement;
+        currentPatternIndex = snapshot.currentPatternIndex;
+        currentPattern = snapshot.currentPattern;
+        samplesPerTick = snapshot.samplesPerTick;
+        leftOverSamplesPerTick = snapshot.leftOverSamplesPerTick;
+        bufferDiff = snapshot.bufferDiff;
+        samplesMixed = snapshot.samplesMixed;
+        patternDelayCount = snapshot.patternDelayCount;
+        patternTicksDelayCount = snapshot.patternTicksDelayCount;
+        patternBreakRowIndex = snapshot.patternBreakRowIndex;
+        patternBreakPatternIndex = snapshot.patternBreakPatternIndex;
+        patternJumpRowIndex = snapshot.patternJumpRowIndex;
+        patternBreakSet = snapshot.patternBreakSet;
+        patternJumpSet = snapshot.patternJumpSet;
+        modFinished = snapshot.modFinished;
+        doLoopingGlobalFadeout = snapshot.doLoopingGlobalFadeout;
+        loopingFadeOutValue = snapshot.loopingFadeOutValue;
+        for (int c = 0; c < maxChannels; c++) {
+            ChannelMemory aktMemo = channelMemory[c];
+            boolean muted = aktMemo.muted;
+            aktMemo.copyFrom(snapshot.channelMemory[c]);
+            aktMemo.muted = muted;
+        }
+        if (paulaFilter != null && snapshot.paula != null) paulaFilter = new Paula(snapshot.paula);
+        mod.setLoopRecognitionState(snapshot.loopRecognition);
+    }
+
+    /**
+     * @param position
+     * @return the last snapshot taken while mixing at or before position or null, if there is none
+     * @since 17.10.2026
+     */
+    private MixerSnapshot getSnapshot(long position) {
+        MixerSnapshot result = null;
+        synchronized (snapshots) {
+            for (MixerSnapshot snapshot : snapshots) {
+                if (snapshot.samplePosition > position) break;
+                result = snapshot;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Takes a snapshot while mixing, if there is none
+     * closer than snapshotInterval seconds. If there are more than
+     * MAX_SNAPSHOTS afterwards, every second one is dropped and the
+     * distance for new ones is doubled - so long songs keep snapshots
+     * over their full length with a bounded amount of memory.
+     *
+     * @since 17.10.2026
+     */
+    private void addSnapshot() {
+        synchronized (snapshots) {
+            long distance = ((long) snapshotInterval * sampleRate) << snapshotThinning;
+            int index = 0;
+            while (index < snapshots.size() && snapshots.get(index).samplePosition <= samplePosition) index++;
+            if (index > 0 && samplePosition - snapshots.get(index - 1).samplePosition < distance) return;
+            if (index < snapshots.size() && snapshots.get(index).samplePosition - samplePosition < distance) return;
+            snapshots.add(index, createSnapshot(samplePosition));
+            if (snapshots.size() > MAX_SNAPSHOTS) {
+                for (int i = snapshots.size() - 1; i > 0; i--) {
+                    if ((i & 1) != 0) snapshots.remove(i);
+                }
+                snapshotThinning++;
+            }
+        }
+    }
+
+    /**
+     * @param milliseconds
+     * @return the last seek checkpoint before milliseconds or null, if there is none
+     * @since 17.10.2026
+     */
+    private MixerSnapshot getSeekCheckpoint(long milliseconds) {
+        MixerSnapshot checkpoint = null;
+        for (MixerSnapshot snapshot : seekCheckpoints) {
+            if (snapshot.samplePosition * 1000L / (long) sampleRate >= milliseconds) break;
+            checkpoint = snapshot;
+        }
+        return checkpoint;
+    }
+
+    /**
+     * Records a seek checkpoint, if this position is far enough behind the
+     * last one recorded
+     *
+     * @param samplePosition
+     * @since 17.10.2026
+     */
+    private void addSeekCheckpoint(long samplePosition) {
+        if (samplePosition <= 0) return;
+        if (!seekCheckpoints.isEmpty() && samplePosition - seekCheckpoints.get(seekCheckpoints.size() - 1).samplePosition < (long) SEEK_CHECKPOINT_DISTANCE * sampleRate)
+            return;
+        seekCheckpoints.add(createSnapshot(samplePosition));
+    }
+
     /**
      * Will create a long representing current
      * positions. Form is as follows:<br>
@@ -856,6 +1273,26 @@ public abstract class BasicModMixer {
      */
     protected abstract void processTickEffects(ChannelMemory aktMemo);
 
+    /**
+     * Timing only simulation: do those row effects, that change the
+     * speed, BPM or the song position (jumps, breaks, loops and delays)
+     * and keep the effect memories they rely on up to date.
+     * All other effects are ignored.
+     *
+     * @param aktMemo memory
+     * @since 17.10.2026
+     */
+    protected abstract void doTimingRowEffects(ChannelMemory aktMemo);
+
+    /**
+     * Timing only simulation: do those tick effects, that change the
+     * speed or BPM (like tempo slides)
+     *
+     * @param aktMemo memory
+     * @since 17.10.2026
+     */
+    protected abstract void doTimingTickEffects(ChannelMemory aktMemo);
+
     /**
      * Do the auto vibrato
      *
@@ -1881,6 +2318,10 @@ public abstract class BasicModMixer {
      * @since 18.09.2010
      */
     protected void processEffectsInTick(ChannelMemory aktMemo) {
+        if (timingOnly) {
+            if (!aktMemo.isNNA) doTimingTickEffects(aktMemo);
+            return;
+        }
         if (!aktMemo.isNNA) { // no effects for NNA Channel, only envelopes
             // XM is weird: current Tick effects are performed during a note delay.
             // First vol column, than effect column (that is then the note delay, which is evaluated there)
@@ -1953,6 +2394,11 @@ public abstract class BasicModMixer {
 
         patternRow.setRowPlayed();
 
+        if (timingOnly) {
+            doTimingRowEvents(patternRow);
+            return;
+        }
+
         // inform listeners, that we are in a new row!
         firePatternPositionUpdate(getCurrentPatternPosition());
 
@@ -2032,6 +2478,35 @@ public abstract class BasicModMixer {
         }
     }
 
+    /**
+     * The row events of the timing only simulation: only the effect
+     * column is read and handed to doTimingRowEffects. No instruments,
+     * notes or envelopes are processed.
+     *
+     * @param patternRow
+     * @since 17.10.2026
+     */
+    private void doTimingRowEvents(PatternRow patternRow) {
+        for (int c = 0; c < maxChannels; c++) {
+            ChannelMemory aktMemo = channelMemory[c];
+            if (aktMemo.isNNA) continue;
+
+            PatternElement element = aktMemo.currentElement = patternRow.getPatternElement(c);
+            aktMemo.currentAssignedEffect = element.getEffect();
+            aktMemo.currentAssignedEffectParam = element.getEffectOp();
+
+            // S00 effect memory with Impulse Tracker
+            if (isIT) {
+                if (aktMemo.currentAssignedEffect != 0 && aktMemo.currentAssignedEffectParam == 0)
+                    aktMemo.currentAssignedEffectParam = getEffectOpMemory(aktMemo, aktMemo.currentAssignedEffect, aktMemo.currentAssignedEffectParam);
+            }
+
+            aktMemo.assignedEffect = aktMemo.currentAssignedEffect;
+            aktMemo.assignedEffectParam = aktMemo.currentAssignedEffectParam;
+            doTimingRowEffects(aktMemo);
+        }
+    }
+
     /**
      * when stepping to a new Pattern - Position needs new set...
      * During pattern transition: S3M resets
@@ -2267,6 +2742,16 @@ public abstract class BasicModMixer {
      * @since 18.06.2006
      */
     protected void mixChannelIntoBuffers(long[] leftBuffer, long[] rightBuffer, int startIndex, int endIndex, ChannelMemory aktMemo, boolean isRampDown) {
+        mixChannelIntoBuffers(leftBuffer, rightBuffer, startIndex, endIndex, aktMemo, isRampDown, workspace);
+    }
+
+    /**
+     * Fill the buffers with channel data using the buffers of the given
+     * workspace
+     *
+     * @since 17.10.2026
+     */
+    private void mixChannelIntoBuffers(long[] leftBuffer, long[] rightBuffer, int startIndex, int endIndex, ChannelMemory aktMemo, boolean isRampDown, MixWorkspace workspace) {
         Sample sample = aktMemo.currentSample;
         if (sample == null || sample.sampleLength <= 0) return;
 
@@ -2289,8 +2774,22 @@ public abstract class BasicModMixer {
         }
 
         int doISPhere = (paulaFilter != null) ? 0 : (aktMemo.assignedInstrument != null && aktMemo.assignedInstrument.resampling > -1) ? aktMemo.assignedInstrument.resampling : doISP;
+        // Paula, resonance filters and ramping down need every frame on its own
+        boolean blockMixAllowed = paulaFilter == null && !aktMemo.filterOn && !isRampDown;
+        SampleFrame samples = workspace.samples;
 
         for (int i = startIndex; i < endIndex; i++) {
+            // First try to render as many frames as possible as one block
+            if (blockMixAllowed && aktMemo.deltaVolLeft == 0 && aktMemo.deltaVolRight == 0 &&
+                    aktMemo.interpolationMagic == 0 && aktMemo.currentTuning > 0 && sample.hasSampleData()) {
+                int frames = getBlockLength(aktMemo, loopStart, loopEnd, inLoop, endIndex - i);
+                if (frames > 0) {
+                    mixChannelBlock(leftBuffer, rightBuffer, i, frames, aktMemo, sample, doISPhere, workspace);
+                    i += frames;
+                    if (i >= endIndex) break;
+                }
+            }
+
             // Retrieve the sample data for this point (interpolated, if necessary)
             // the array "samples" is created with 2 elements per default
             // we will receive 2 long values even with mono samples
@@ -2461,6 +2960,201 @@ public abstract class BasicModMixer {
         }
     }
 
+    /**
+     * Calculates the amount of frames that can be mixed from the current
+     * sample position on without reaching a loop border, the end of the
+     * sample or a position that would need interpolation magic.
+     *
+     * @param aktMemo memory
+     * @param loopStart current loop start
+     * @param loopEnd current loop end (or sample end)
+     * @param inLoop the loop type we are in (0 for none)
+     * @param maxFrames maximum frames wanted
+     * @return frames that can be mixed as one block, 0 if none
+     * @since 17.10.2026
+     */
+    private static int getBlockLength(ChannelMemory aktMemo, int loopStart, int loopEnd, int inLoop, int maxFrames) {
+        int border = (inLoop != 0) ? loopEnd - Sample.INTERPOLATION_LOOK_AHEAD : loopEnd;
+        long distance; // sample points we can move until a border is reached
+        if (aktMemo.isForwardDirection)
+            distance = border - aktMemo.currentSamplePos;
+        else if (aktMemo.currentSamplePos < border)
+            distance = aktMemo.currentSamplePos - loopStart;
+        else
+            return 0;
+        if (distance <= 0) return 0;
+
+        // the position after the last frame of the block must still be inside
+        long frames = ((distance << ModConstants.SHIFT) - aktMemo.currentTuningPos - 1) / aktMemo.currentTuning;
+        if (frames > maxFrames) frames = maxFrames;
+        if (frames > MIX_BLOCK_SIZE) frames = MIX_BLOCK_SIZE;
+        return (int) frames;
+    }
+
+    /**
+     * Mixes a block of frames with constant volume and without any loop
+     * handling. See getBlockLength for the preconditions.
+     *
+     * @param leftBuffer
+     * @param rightBuffer
+     * @param startIndex
+     * @param frames
+     * @param aktMemo memory
+     * @param sample the current sample
+     * @param doISPhere the interpolation to use
+     * @param workspace the interpolation buffers to use
+     * @since 17.10.2026
+     */
+    private void mixChannelBlock(long[] leftBuffer, long[] rightBuffer, int startIndex, int frames, ChannelMemory aktMemo, Sample sample, int doISPhere, MixWorkspace workspace) {
+        if (!aktMemo.muted) {
+            long[] blockBufferLeft = workspace.blockBufferLeft;
+            long[] blockBufferRight = workspace.blockBufferRight;
+            sample.getInterpolatedSamples(blockBufferLeft, blockBufferRight, 0, frames, doISPhere, aktMemo.currentTuning, aktMemo.currentSamplePos, aktMemo.currentTuningPos, !aktMemo.isForwardDirection, doSIMD);
+            long[] sourceRight = (sample.sampleR != null) ? blockBufferRight : blockBufferLeft;
+
+            long volL = aktMemo.actRampVolLeft;
+            long volR = aktMemo.actRampVolRight;
+            long bigSampleLeft = aktMemo.bigSampleLeft;
+            long bigSampleRight = aktMemo.bigSampleRight;
+            for (int i = 0; i < frames; i++) {
+                long sampleL = (blockBufferLeft[i] * volL) / (1 << (ModConstants.MAXVOLUMESHIFT + ModConstants.VOLRAMPLEN_FRAC));
+                long sampleR = (sourceRight[i] * volR) / (1 << (ModConstants.MAXVOLUMESHIFT + ModConstants.VOLRAMPLEN_FRAC));
+
+                leftBuffer[startIndex + i] += sampleL;
+                rightBuffer[startIndex + i] += sampleR;
+
+                if (sampleL < 0) sampleL = -sampleL;
+                if (sampleL > bigSampleLeft) bigSampleLeft = sampleL;
+                if (sampleR < 0) sampleR = -sampleR;
+                if (sampleR > bigSampleRight) bigSampleRight = sampleR;
+            }
+            aktMemo.bigSampleLeft = bigSampleLeft;
+            aktMemo.bigSampleRight = bigSampleRight;
+        }
+
+        // and move on to the new sample position
+        long tuningPos = aktMemo.currentTuningPos + ((long) aktMemo.currentTuning * frames);
+        int addToSamplePos = (int) (tuningPos >> ModConstants.SHIFT);
+        aktMemo.currentTuningPos = (int) (tuningPos & ModConstants.SHIFT_MASK);
+        if (aktMemo.isForwardDirection)
+            aktMemo.currentSamplePos += addToSamplePos;
+        else
+            aktMemo.currentSamplePos -= addToSamplePos;
+    }
+
+    /**
+     * Mixes one channel including its ramp down channel
+     *
+     * @param leftBuffer
+     * @param rightBuffer
+     * @param startIndex
+     * @param endIndex
+     * @param aktMemo memory
+     * @param workspace the buffers to use
+     * @return true, if the channel was active before mixing
+     * @since 17.10.2026
+     */
+    private boolean mixChannel(long[] leftBuffer, long[] rightBuffer, int startIndex, int endIndex, ChannelMemory aktMemo, MixWorkspace workspace) {
+        // Ramp Down for this channel
+        ChannelMemory rampDownMemo = aktMemo.rampDownMemory;
+        if (rampDownMemo.actRampVolLeft <= 0 && rampDownMemo.actRampVolRight <= 0)
+            rampDownMemo.instrumentFinished = true;
+        if (rampDownMemo.currentTuning == 0 && !rampDownMemo.instrumentFinished) rampDownMemo.currentTuning = 1;
+        if (rampDownMemo.isChannelActive())
+            mixChannelIntoBuffers(leftBuffer, rightBuffer, startIndex, endIndex, rampDownMemo, true, workspace);
+
+        boolean channelIsActive = aktMemo.isChannelActive();
+        aktMemo.bigSampleLeft = aktMemo.bigSampleRight = 0;
+
+        // Mix this channel?
+        if (channelIsActive && !aktMemo.hasMidiOutput())
+            mixChannelIntoBuffers(leftBuffer, rightBuffer, startIndex, endIndex, aktMemo, false, workspace);
+
+        return channelIsActive;
+    }
+
+    /**
+     * Mixes all channels with the mix workers. Every worker takes the next
+     * free channel and mixes it into its own buffers. Those are added to
+     * leftBuffer / rightBuffer afterwards. As we only add longs, the result
+     * is the same as with mixing in the play thread.
+     *
+     * @param leftBuffer
+     * @param rightBuffer
+     * @param startIndex
+     * @param endIndex
+     * @since 17.10.2026
+     */
+    private void mixChannelsParallel(long[] leftBuffer, long[] rightBuffer, int startIndex, int endIndex) {
+        if (channelWasActive == null || channelWasActive.length < maxChannels) channelWasActive = new boolean[maxChannels];
+        nextMixChannel.set(0);
+        for (MixWorker worker : mixWorkers) worker.prepare(startIndex, endIndex, leftBuffer.length);
+
+        ExecutorService executor = getMixExecutor();
+        mixResults.clear();
+        for (MixWorker worker : mixWorkers) mixResults.add(executor.submit(worker));
+        // The channels are half mixed, if we stop waiting now. As a block
+        // takes milliseconds only, the mix is finished first and the
+        // interrupt is passed on afterwards.
+        boolean interrupted = false;
+        try {
+            for (Future<Void> result : mixResults) {
+                while (true) {
+                    try {
+                        result.get();
+                        break;
+                    } catch (InterruptedException ex) {
+                        interrupted = true;
+                    }
+                }
+            }
+        } catch (ExecutionException ex) {
+            throw new RuntimeException(ex.getCause());
+        } finally {
+            if (interrupted) Thread.currentThread().interrupt();
+        }
+
+        for (MixWorker worker : mixWorkers) {
+            long[] workerLeft = worker.leftBuffer;
+            long[] workerRight = worker.rightBuffer;
+            for (int i = startIndex; i < endIndex; i++) {
+                leftBuffer[i] += workerLeft[i];
+                rightBuffer[i] += workerRight[i];
+            }
+        }
+    }
+
+    /**
+     * A worker mixing channels for mixChannelsParallel
+     *
+     * @since 17.10.2026
+     */
+    private final class MixWorker implements Callable<Void> {
+
+        private final MixWorkspace workspace = new MixWorkspace();
+        private long[] leftBuffer, rightBuffer;
+        private int startIndex, endIndex;
+
+        private void prepare(int startIndex, int endIndex, int bufferSize) {
+            if (leftBuffer == null || leftBuffer.length < bufferSize) {
+                leftBuffer = new long[bufferSize];
+                rightBuffer = new long[bufferSize];
+            }
+            this.startIndex = startIndex;
+            this.endIndex = endIndex;
+        }
+
+        @Override
+        public Void call() {
+            Arrays.fill(leftBuffer, startIndex, endIndex, 0);
+            Arrays.fill(rightBuffer, startIndex, endIndex, 0);
+            int c;
+            while ((c = nextMixChannel.getAndIncrement()) < maxChannels)
+                channelWasActive[c] = mixChannel(leftBuffer, rightBuffer, startIndex, endIndex, channelMemory[c], workspace);
+            return null;
+        }
+    }
+
     /**
      * Will mix #count 32bit signed samples in stereo into the two buffer.
      * The buffers will contain 32Bit signed samples.
@@ -2478,6 +3172,8 @@ public abstract class BasicModMixer {
 
         while (endIndex < bufferSize && !modFinished) {
             if (leftOverSamplesPerTick <= 0) {
+                // take a snapshot for seeking from time to time
+                if (snapshotInterval > 0 && mixedExact) addSnapshot();
                 // now do the events
                 modFinished = doRowAndTickEvents();
                 leftOverSamplesPerTick = samplesPerTick; // a speed change also changes samplesPerTick - so reset after doTickEvents!
@@ -2488,24 +3184,15 @@ public abstract class BasicModMixer {
             endIndex += mixAmount;
             leftOverSamplesPerTick -= mixAmount;
 
+            // Paula keeps the state of all channels in one filter - so no parallel mixing with it
+            boolean mixParallel = mixWorkers != null && paulaFilter == null;
+            if (mixParallel) mixChannelsParallel(leftBuffer, rightBuffer, startIndex, endIndex);
+
             for (int c = 0; c < maxChannels; c++) {
                 ChannelMemory aktMemo = channelMemory[c];
 
-                // Ramp Down for this channel
-                ChannelMemory rampDownMemo = aktMemo.rampDownMemory;
-                if (rampDownMemo.actRampVolLeft <= 0 && rampDownMemo.actRampVolRight <= 0)
-                    rampDownMemo.instrumentFinished = true;
-                if (rampDownMemo.currentTuning == 0 && !rampDownMemo.instrumentFinished) rampDownMemo.currentTuning = 1;
-                if (rampDownMemo.isChannelActive())
-                    mixChannelIntoBuffers(leftBuffer, rightBuffer, startIndex, endIndex, rampDownMemo, true);
-
-                boolean channelIsActive = aktMemo.isChannelActive();
+                boolean channelIsActive = (mixParallel) ? channelWasActive[c] : mixChannel(leftBuffer, rightBuffer, startIndex, endIndex, aktMemo, workspace);
                 boolean isPlayingMidi = aktMemo.hasMidiOutput();
-                aktMemo.bigSampleLeft = aktMemo.bigSampleRight = 0;
-
-                // Mix this channel?
-                if (channelIsActive && !isPlayingMidi)
-                    mixChannelIntoBuffers(leftBuffer, rightBuffer, startIndex, endIndex, aktMemo, false);
 
                 // Now for some eye-candy
                 if (isPlayingMidi) {
@@ -2542,6 +3229,7 @@ public abstract class BasicModMixer {
 
             startIndex += mixAmount;
             samplesMixed += mixAmount;
+            samplePosition += mixAmount;
         }
 
         return startIndex;
@@ -2671,10 +3359,8 @@ public abstract class BasicModMixer {
      */
     public void firePatternPositionUpdate(long position) {
         if (listeners != null && fireUpdates) {
-            PatternPositionInformation information = new PatternPositionInformation(sampleRate, samplesMixed, position);
-            for (ModUpdateListener listener : listeners) {
-                listener.getPatternPositionInformation(information);
-            }
+            for (int i = 0; i < listeners.size(); i++) // no iterator
+                listeners.get(i).pushPatternPosition(sampleRate, samplesMixed, position);
         }
     }
 
@@ -2688,10 +3374,8 @@ public abstract class BasicModMixer {
      */
     public void firePeekUpdate(int channel, int actPeekLeft, int actPeekRight, boolean isSurround) {
         if (listeners != null && fireUpdates) {
-            PeekInformation information = new PeekInformation(sampleRate, samplesMixed, channel, actPeekLeft, actPeekRight, isSurround);
-            for (ModUpdateListener listener : listeners) {
-                listener.getPeekInformation(information);
-            }
+            for (int i = 0; i < listeners.size(); i++)
+                listeners.get(i).pushPeek(sampleRate, samplesMixed, channel, actPeekLeft, actPeekRight, isSurround, false);
         }
     }
 
@@ -2702,10 +3386,8 @@ public abstract class BasicModMixer {
      */
     public void fireMidiPeekUpdate(int channel, int actPeekLeft, int aktPeekRight) {
         if (listeners != null && fireUpdates) {
-            PeekInformation information = new PeekInformation(sampleRate, samplesMixed, channel, actPeekLeft, aktPeekRight, false, true);
-            for (ModUpdateListener listener : listeners) {
-                listener.getPeekInformation(information);
-            }
+            for (int i = 0; i < listeners.size(); i++)
+                listeners.get(i).pushPeek(sampleRate, samplesMixed, channel, actPeekLeft, aktPeekRight, false, true);
         }
     }
 
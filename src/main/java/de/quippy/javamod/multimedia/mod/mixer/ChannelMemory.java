@@ -22,6 +22,8 @@
 
 package de.quippy.javamod.multimedia.mod.mixer;
 
+import java.io.Serializable;
+
 import de.quippy.javamod.multimedia.mod.ModConstants;
 import de.quippy.javamod.multimedia.mod.loader.instrument.Instrument;
 import de.quippy.javamod.multimedia.mod.loader.instrument.Sample;
@@ -29,33 +31,39 @@ import de.quippy.javamod.multimedia.mod.loader.pattern.PatternElement;
 
 
 /**
+ * The references into the module (samples, instruments and the current
+ * pattern element) are transient - a serialized {@link MixerSnapshot}
+ * stores them as indices.
+ *
  * @author Daniel Becker
  * @since 10.06.2026
  */
-public class ChannelMemory {
+public class ChannelMemory implements Serializable {
+
+    private static final long serialVersionUID = 3407742551294520127L;
 
     public int channelNumber;
     public boolean muted, muteWasITforced;
     public boolean isNNA;
     public ChannelMemory rampDownMemory; // will store last seen values for a short ramp down
 
-    public PatternElement currentElement;
+    public transient PatternElement currentElement;
 
     // These currents* are a fresh copy from the current pattern. Only needed as interim memory for NNA, PatternDelay and NoteDelay
     public int currentAssignedNotePeriod, currentAssignedNoteIndex, currentAssignedEffect, currentAssignedEffectParam, currentAssignedVolumeEffect, currentAssignedVolumeEffectOp, currentAssignedInstrumentIndex;
-    public Instrument currentAssignedInstrument;
+    public transient Instrument currentAssignedInstrument;
 
     // The assigned* are those from the pattern, when ready to be copied and processed
     // for instance: if no instrument was set in pattern, current* / assigend* instrument is used (as the last instrument set)
     public int assignedNotePeriod, assignedNoteIndex, assignedEffect, assignedEffectParam, assignedVolumeEffect, assignedVolumeEffectOp, assignedInstrumentIndex;
-    public Instrument assignedInstrument;
-    public Sample assignedSample;
+    public transient Instrument assignedInstrument;
+    public transient Sample assignedSample;
 
     // currentNoteperiod and these down here are then the values to handle with
     public int currentNotePeriod, currentFinetuneFrequency;
     public int currentNotePeriodSet; // used to save the current note period set with "setNewPlayerTuningFor"
     public int currentFineTune, currentTranspose;
-    public Sample currentSample;
+    public transient Sample currentSample;
     public int currentTuning, currentTuningPos, currentSamplePos, interpolationMagic;
     public boolean isForwardDirection;
     public int volEnvTick, panEnvTick, pitchEnvTick;
@@ -279,6 +287,183 @@ public class ChannelMemory {
         prepareRampDown();
     }
 
+    /**
+     * Creates a complete 1:1 copy of fromMe - in contrast to setUpFrom,
+     * which copies only what a new NNA channel needs. Arrays and the
+     * rampDownMemory are copied, not shared. Samples, instruments and
+     * pattern elements are part of the module and therefore shared.
+     * Like setUpFrom, keep this in sync with the fields above!
+     *
+     * @param fromMe
+     * @since 17.10.2026
+     */
+    protected void copyFrom(final ChannelMemory fromMe) {
+        channelNumber = fromMe.channelNumber;
+        muted = fromMe.muted;
+        muteWasITforced = fromMe.muteWasITforced;
+        isNNA = fromMe.isNNA;
+        currentElement = fromMe.currentElement;
+        currentAssignedNotePeriod = fromMe.currentAssignedNotePeriod;
+        currentAssignedNoteIndex = fromMe.currentAssignedNoteIndex;
+        currentAssignedEffect = fromMe.currentAssignedEffect;
+        currentAssignedEffectParam = fromMe.currentAssignedEffectParam;
+        currentAssignedVolumeEffect = fromMe.currentAssignedVolumeEffect;
+        currentAssignedVolumeEffectOp = fromMe.currentAssignedVolumeEffectOp;
+        currentAssignedInstrumentIndex = fromMe.currentAssignedInstrumentIndex;
+        currentAssignedInstrument = fromMe.currentAssignedInstrument;
+        assignedNotePeriod = fromMe.assignedNotePeriod;
+        assignedNoteIndex = fromMe.assignedNoteIndex;
+        assignedEffect = fromMe.assignedEffect;
+        assignedEffectParam = fromMe.assignedEffectParam;
+        assignedVolumeEffect = fromMe.assignedVolumeEffect;
+        assignedVolumeEffectOp = fromMe.assignedVolumeEffectOp;
+        assignedInstrumentIndex = fromMe.assignedInstrumentIndex;
+        assignedInstrument = fromMe.assignedInstrument;
+        assignedSample = fromMe.assignedSample;
+        currentNotePeriod = fromMe.currentNotePeriod;
+        currentFinetuneFrequency = fromMe.currentFinetuneFrequency;
+        currentNotePeriodSet = fromMe.currentNotePeriodSet;
+        currentFineTune = fromMe.currentFineTune;
+        currentTranspose = fromMe.currentTranspose;
+        currentSample = fromMe.currentSample;
+        currentTuning = fromMe.currentTuning;
+        currentTuningPos = fromMe.currentTuningPos;
+        currentSamplePos = fromMe.currentSamplePos;
+        interpolationMagic = fromMe.interpolationMagic;
+        isForwardDirection = fromMe.isForwardDirection;
+        volEnvTick = fromMe.volEnvTick;
+        panEnvTick = fromMe.panEnvTick;
+        pitchEnvTick = fromMe.pitchEnvTick;
+        volXMEnvPos = fromMe.volXMEnvPos;
+        panXMEnvPos = fromMe.panXMEnvPos;
+        instrumentFinished = fromMe.instrumentFinished;
+        keyOff = fromMe.keyOff;
+        noteCut = fromMe.noteCut;
+        noteFade = fromMe.noteFade;
+        tempNNAAction = fromMe.tempNNAAction;
+        tempVolEnv = fromMe.tempVolEnv;
+        tempPanEnv = fromMe.tempPanEnv;
+        tempPitchEnv = fromMe.tempPitchEnv;
+        keyOffCounter = fromMe.keyOffCounter;
+        currentVolume = fromMe.currentVolume;
+        currentInstrumentVolume = fromMe.currentInstrumentVolume;
+        channelVolume = fromMe.channelVolume;
+        fadeOutVolume = fromMe.fadeOutVolume;
+        panning = fromMe.panning;
+        currentInstrumentPanning = fromMe.currentInstrumentPanning;
+        actVolumeLeft = fromMe.actVolumeLeft;
+        actVolumeRight = fromMe.actVolumeRight;
+        actRampVolLeft = fromMe.actRampVolLeft;
+        actRampVolRight = fromMe.actRampVolRight;
+        deltaVolLeft = fromMe.deltaVolLeft;
+        deltaVolRight = fromMe.deltaVolRight;
+        doFastVolRamp = fromMe.doFastVolRamp;
+        channelVolumeSlideValue = fromMe.channelVolumeSlideValue;
+        doSurround = fromMe.doSurround;
+        autoVibratoTablePos = fromMe.autoVibratoTablePos;
+        autoVibratoAmplitude = fromMe.autoVibratoAmplitude;
+        autoVibratoSweep = fromMe.autoVibratoSweep;
+        activeMidiMacro = fromMe.activeMidiMacro;
+        lastZxxParam = fromMe.lastZxxParam;
+        midiVULeft = fromMe.midiVULeft;
+        midiVURight = fromMe.midiVURight;
+        lastMidiNoteWithoutArp = fromMe.lastMidiNoteWithoutArp;
+        arpeggioLastNote = fromMe.arpeggioLastNote;
+        mictroTuning = fromMe.mictroTuning;
+        calculatedVolume = fromMe.calculatedVolume;
+        calculatedPanning = fromMe.calculatedPanning;
+        filterOn = fromMe.filterOn;
+        filterMode = fromMe.filterMode;
+        resonance = fromMe.resonance;
+        cutOff = fromMe.cutOff;
+        swingVolume = fromMe.swingVolume;
+        swingPanning = fromMe.swingPanning;
+        swingResonance = fromMe.swingResonance;
+        swingCutOff = fromMe.swingCutOff;
+        filter_A0 = fromMe.filter_A0;
+        filter_B0 = fromMe.filter_B0;
+        filter_B1 = fromMe.filter_B1;
+        filter_HP = fromMe.filter_HP;
+        filter_Y1 = fromMe.filter_Y1;
+        filter_Y2 = fromMe.filter_Y2;
+        filter_Y3 = fromMe.filter_Y3;
+        filter_Y4 = fromMe.filter_Y4;
+        glissando = fromMe.glissando;
+        arpeggioIndex = fromMe.arpeggioIndex;
+        System.arraycopy(fromMe.arpeggioNote, 0, arpeggioNote, 0, arpeggioNote.length);
+        arpeggioParam = fromMe.arpeggioParam;
+        portaStepUp = fromMe.portaStepUp;
+        portaStepUpEnd = fromMe.portaStepUpEnd;
+        portaStepDown = fromMe.portaStepDown;
+        portaStepDownEnd = fromMe.portaStepDownEnd;
+        finePortaUp = fromMe.finePortaUp;
+        finePortaDown = fromMe.finePortaDown;
+        finePortaUpEx = fromMe.finePortaUpEx;
+        finePortaDownEx = fromMe.finePortaDownEx;
+        portaNoteStep = fromMe.portaNoteStep;
+        portaTargetNotePeriod = fromMe.portaTargetNotePeriod;
+        portamentoDirection_PT_FT = fromMe.portamentoDirection_PT_FT;
+        volumSlideValue = fromMe.volumSlideValue;
+        globalVolumSlideValue = fromMe.globalVolumSlideValue;
+        XMFineVolSlideUp = fromMe.XMFineVolSlideUp;
+        XMFineVolSlideDown = fromMe.XMFineVolSlideDown;
+        panningSlideValue = fromMe.panningSlideValue;
+        vibratoTablePos = fromMe.vibratoTablePos;
+        vibratoStep = fromMe.vibratoStep;
+        vibratoAmplitude = fromMe.vibratoAmplitude;
+        vibratoType = fromMe.vibratoType;
+        vibratoOn = fromMe.vibratoOn;
+        vibratoVolOn = fromMe.vibratoVolOn;
+        vibratoNoRetrig = fromMe.vibratoNoRetrig;
+        tremoloTablePos = fromMe.tremoloTablePos;
+        tremoloStep = fromMe.tremoloStep;
+        tremoloAmplitude = fromMe.tremoloAmplitude;
+        tremoloType = fromMe.tremoloType;
+        tremoloOn = fromMe.tremoloOn;
+        tremoloNoRetrig = fromMe.tremoloNoRetrig;
+        panbrelloTablePos = fromMe.panbrelloTablePos;
+        panbrelloStep = fromMe.panbrelloStep;
+        panbrelloAmplitude = fromMe.panbrelloAmplitude;
+        panbrelloType = fromMe.panbrelloType;
+        panbrelloRandomMemory = fromMe.panbrelloRandomMemory;
+        panbrelloOn = fromMe.panbrelloOn;
+        panbrelloNoRetrig = fromMe.panbrelloNoRetrig;
+        tremorOntime = fromMe.tremorOntime;
+        tremorOfftime = fromMe.tremorOfftime;
+        tremorOntimeSet = fromMe.tremorOntimeSet;
+        tremorOfftimeSet = fromMe.tremorOfftimeSet;
+        tremorWasActive = fromMe.tremorWasActive;
+        retrigCount = fromMe.retrigCount;
+        retrigMemo = fromMe.retrigMemo;
+        retrigVolSlide = fromMe.retrigVolSlide;
+        FT2AllowRetriggerQuirk = fromMe.FT2AllowRetriggerQuirk;
+        FT2_oldVolume = fromMe.FT2_oldVolume;
+        FT2_oldPanning = fromMe.FT2_oldPanning;
+        sampleOffset = fromMe.sampleOffset;
+        highSampleOffset = fromMe.highSampleOffset;
+        prevSampleOffset = fromMe.prevSampleOffset;
+        oldTempoParameter = fromMe.oldTempoParameter;
+        S_Effect_Memory = fromMe.S_Effect_Memory;
+        IT_EFG = fromMe.IT_EFG;
+        EFxSpeed = fromMe.EFxSpeed;
+        EFxDelay = fromMe.EFxDelay;
+        EFxOffset = fromMe.EFxOffset;
+        jumpLoopPatternRow = fromMe.jumpLoopPatternRow;
+        jumpLoopRepeatCount = fromMe.jumpLoopRepeatCount;
+        jumpLoopITLastRow = fromMe.jumpLoopITLastRow;
+        noteDelayCount = fromMe.noteDelayCount;
+        noteCutCount = fromMe.noteCutCount;
+        bigSampleLeft = fromMe.bigSampleLeft;
+        bigSampleRight = fromMe.bigSampleRight;
+
+        if (fromMe.rampDownMemory == null)
+            rampDownMemory = null;
+        else {
+            if (rampDownMemory == null) rampDownMemory = new ChannelMemory();
+            rampDownMemory.copyFrom(fromMe.rampDownMemory);
+        }
+    }
+
     /**
      * start the ramp down
      *
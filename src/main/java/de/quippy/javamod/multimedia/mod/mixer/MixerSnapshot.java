@@ -0,0 +1,249 @@
+/*
+ * @(#) MixerSnapshot.java
+ *
+ * Created on 17.10.2026 by Daniel Becker
+ *
+ *-----------------------------------------------------------------------
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation; either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, write to the Free Software
+ *  Foundation, Inc., 675 Mass Ave, Cambridge, MA 02139, USA.
+ *----------------------------------------------------------------------
+ */
+
+package de.quippy.javamod.multimedia.mod.mixer;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.BitSet;
+
+import de.quippy.javamod.multimedia.mod.loader.Module;
+import de.quippy.javamod.multimedia.mod.loader.instrument.Instrument;
+import de.quippy.javamod.multimedia.mod.loader.instrument.InstrumentsContainer;
+import de.quippy.javamod.multimedia.mod.loader.instrument.Sample;
+import de.quippy.javamod.multimedia.mod.loader.pattern.Pattern;
+import de.quippy.javamod.multimedia.mod.loader.pattern.PatternContainer;
+import de.quippy.javamod.multimedia.mod.loader.pattern.PatternElement;
+import de.quippy.javamod.multimedia.mod.mixer.interpolation.Paula;
+
+
+/**
+ * A copy of the complete player state of a BasicModMixer at a certain
+ * position of the song: the global values (tempo, BPM, volume, pattern
+ * position, jumps, breaks and delays), all channels including the NNA
+ * channels and their resonance filters, the Paula emulation and the loop
+ * recognition of the module.
+ * <p>
+ * Restoring such a snapshot continues the song exactly as if it was
+ * played up to that position - sustained voices included. The mixer uses
+ * these as checkpoints for seeking, they can also be used to resume an
+ * interrupted rendering.
+ * <p>
+ * A snapshot is serializable. The samples, instruments and pattern
+ * elements referenced by the channels are written as indices into the
+ * module, so a serialized snapshot can only be restored with a mixer of
+ * a module loaded from the same file at the same sample rate.
+ *
+ * @author Daniel Becker
+ * @since 17.10.2026
+ */
+public final class MixerSnapshot implements Serializable {
+
+    private static final long serialVersionUID = -4482160395871532956L;
+
+    /** amount of ints written per channel memory for the references */
+    private static final int REFERENCE_SIZE = 7;
+
+    // to identify the module and mixer this belongs to
+    private transient Module mod;
+    /** the file or URL the module was loaded from, null if unknown */
+    String fileName;
+    int songLength, nChannels;
+    int sampleRate;
+
+    /** the position in samples (at the sample rate of the mixer) this snapshot was taken at */
+    long samplePosition;
+    /** false, if the channels were not mixed up to here (seek by timing only) */
+    boolean exact;
+
+    int currentTempo, currentBPM, modSpeedSet;
+    int globalVolume;
+    boolean globalFilterMode;
+    int currentTick, currentRow, currentArrangement, currentPatternIndex;
+    transient Pattern currentPattern;
+    int samplesPerTick, leftOverSamplesPerTick;
+    double bufferDiff;
+    long samplesMixed;
+    int patternDelayCount, patternTicksDelayCount;
+    int patternBreakRowIndex, patternBreakPatternIndex, patternJumpRowIndex;
+    boolean patternBreakSet, patternJumpSet;
+    boolean modFinished;
+    boolean doLoopingGlobalFadeout;
+    int loopingFadeOutValue;
+
+    ChannelMemory[] channelMemory;
+    Paula paula;
+    BitSet loopRecognition;
+
+    /** the references of the channels, after this was read from a stream and not yet resolved */
+    private transient int[] references;
+
+    /**
+     * Constructor for MixerSnapshot
+     *
+     * @param mod the module this snapshot is taken from
+     * @param sampleRate the sample rate of the mixer
+     */
+    MixerSnapshot(Module mod, int sampleRate) {
+        super();
+        this.mod = mod;
+        this.fileName = mod.getFileName();
+        this.songLength = mod.getSongLength();
+        this.nChannels = mod.getNChannels();
+        this.sampleRate = sampleRate;
+    }
+
+    /**
+     * @return the position in samples this snapshot was taken at
+     */
+    public long getSamplePosition() {
+        return samplePosition;
+    }
+
+    /**
+     * @return the sample rate of the mixer this snapshot was taken from
+     */
+    public int getSampleRate() {
+        return sampleRate;
+    }
+
+    /**
+     * @return the position in milliseconds this snapshot was taken at
+     */
+    public long getMillisecondPosition() {
+        return samplePosition * 1000L / (long) sampleRate;
+    }
+
+    /**
+     * @return the arrangement position this snapshot was taken at
+     */
+    public int getArrangementPosition() {
+        return currentArrangement;
+    }
+
+    /**
+     * @return the pattern row this snapshot was taken at
+     */
+    public int getRow() {
+        return currentRow;
+    }
+
+    /**
+     * @param otherMod
+     * @return true, if this snapshot was taken from that module or, after
+     * de-serialization, from a module loaded from the same file
+     */
+    boolean belongsTo(Module otherMod) {
+        if (mod != null) return mod == otherMod;
+        return fileName != null && fileName.equals(otherMod.getFileName()) &&
+                songLength == otherMod.getSongLength() &&
+                nChannels == otherMod.getNChannels();
+    }
+
+    /**
+     * After de-serialization the samples, instruments and pattern elements
+     * of the channels are only indices. Resolve them with the module
+     * of the mixer.
+     *
+     * @param otherMod
+     */
+    void resolveReferences(Module otherMod) {
+        if (references != null) {
+            InstrumentsContainer instrumentsContainer = otherMod.getInstrumentContainer();
+            PatternContainer patternContainer = otherMod.getPatternContainer();
+            int index = 0;
+            for (ChannelMemory channel : channelMemory) {
+                for (ChannelMemory memo = channel; memo != null; memo = memo.rampDownMemory) {
+                    memo.currentElement = (references[index] < 0) ? null : patternContainer.getPatternElement(references[index], references[index + 1], references[index + 2]);
+                    memo.currentAssignedInstrument = getInstrument(instrumentsContainer, references[index + 3]);
+                    memo.assignedInstrument = getInstrument(instrumentsContainer, references[index + 4]);
+                    memo.assignedSample = getSample(instrumentsContainer, references[index + 5]);
+                    memo.currentSample = getSample(instrumentsContainer, references[index + 6]);
+                    index += REFERENCE_SIZE;
+                }
+            }
+            references = null;
+        }
+        if (currentPattern == null && currentPatternIndex >= 0)
+            currentPattern = otherMod.getPatternContainer().getPattern(currentPatternIndex);
+        mod = otherMod;
+    }
+
+    private static Instrument getInstrument(InstrumentsContainer container, int index) {
+        Instrument[] instruments = (index < 0) ? null : container.getInstruments();
+        return (instruments != null && index < instruments.length) ? instruments[index] : null;
+    }
+
+    private static Sample getSample(InstrumentsContainer container, int index) {
+        Sample[] samples = (index < 0) ? null : container.getSamples();
+        return (samples != null && index < samples.length) ? samples[index] : null;
+    }
+
+    private static int indexOf(Object[] array, Object element) {
+        if (array != null && element != null) {
+            for (int i = 0; i < array.length; i++) {
+                if (array[i] == element) return i;
+            }
+        }
+        return -1;
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        if (mod == null) throw new IOException("Snapshot not resolved with a module - restore it first");
+        out.defaultWriteObject();
+
+        Instrument[] instruments = mod.getInstrumentContainer().getInstruments();
+        Sample[] samples = mod.getInstrumentContainer().getSamples();
+        PatternContainer patternContainer = mod.getPatternContainer();
+        for (ChannelMemory channel : channelMemory) {
+            for (ChannelMemory memo = channel; memo != null; memo = memo.rampDownMemory) {
+                PatternElement element = memo.currentElement;
+                if (element != null && element.equals(patternContainer.getPatternElement(element.getPatternIndex(), element.getRow(), element.getChannel()))) {
+                    out.writeInt(element.getPatternIndex());
+                    out.writeInt(element.getRow());
+                    out.writeInt(element.getChannel());
+                } else {
+                    out.writeInt(-1);
+                    out.writeInt(-1);
+                    out.writeInt(-1);
+                }
+                out.writeInt(indexOf(instruments, memo.currentAssignedInstrument));
+                out.writeInt(indexOf(instruments, memo.assignedInstrument));
+                out.writeInt(indexOf(samples, memo.assignedSample));
+                out.writeInt(indexOf(samples, memo.currentSample));
+            }
+        }
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+
+        int memories = 0;
+        for (ChannelMemory channel : channelMemory) {
+            for (ChannelMemory memo = channel; memo != null; memo = memo.rampDownMemory) memories++;
+        }
+        references = new int[memories * REFERENCE_SIZE];
+        for (int i = 0; i < references.length; i++) references[i] = in.readInt();
+    }
+}
@@ -1522,7 +1522,8 @@ public class ProTrackerMixer extends BasicModMixer {
             if (++aktMemo.EFxOffset >= sample.loopLength) aktMemo.EFxOffset = 0;
 
             int sampleIndex = sample.loopStart + aktMemo.EFxOffset + Sample.INTERPOLATION_LOOK_AHEAD;
-            sample.sampleL[sampleIndex] = ~sample.sampleL[sampleIndex];
+            sample.widenSampleData();
+            sample.sampleL.set(sampleIndex, ~sample.sampleL.get(sampleIndex));
             //sample.addInterpolationLookAheadData();
         }
     }
@@ -1544,13 +1545,14 @@ public class ProTrackerMixer extends BasicModMixer {
         if (sample == null || sample.sampleL == null || (sample.loopType & (ModConstants.LOOP_ON | ModConstants.LOOP_SUSTAIN_ON)) == 0)
             return;
 
+        sample.widenSampleData();
         int sampleIndexStart = sample.loopStart + Sample.INTERPOLATION_LOOK_AHEAD;
         int sampleIndex = sampleIndexStart;
         int loopLength = sample.loopLength & 0xFFFF; // already samples (no *2) and as we will do the warp around in the loop, no " - 2"
         do {
-            long a = sample.sampleL[sampleIndex];
-            long b = sample.sampleL[(loopLength == 1) ? sampleIndexStart : sampleIndex + 1]; // Wrap around
-            sample.sampleL[sampleIndex++] = (a + b) >> 1;
+            long a = sample.sampleL.get(sampleIndex);
+            long b = sample.sampleL.get((loopLength == 1) ? sampleIndexStart : sampleIndex + 1); // Wrap around
+            sample.sampleL.set(sampleIndex++, (a + b) >> 1);
         }
         while (--loopLength >= 0);
     }
@@ -1950,4 +1952,29 @@ public class ProTrackerMixer extends BasicModMixer {
             doRowEffects(aktMemo);
         }
     }
+
+    @Override
+    protected void doTimingRowEffects(ChannelMemory aktMemo) {
+        switch (aktMemo.assignedEffect) {
+            case 0x0B:            // Pattern position jump
+            case 0x0D:            // Pattern break
+            case 0x0F:            // SET SPEED / BPM
+                doRowEffects(aktMemo);
+                break;
+            case 0x0E:
+                int effectOpEx = aktMemo.assignedEffectParam >> 4;
+                if (effectOpEx == 0x6 || effectOpEx == 0xE) // JumpLoop, Pattern Delay
+                    doRowEffects(aktMemo);
+                break;
+            case 0x21:
+                if ((aktMemo.assignedEffectParam >> 4) == 0x6) // Fine Pattern Delay
+                    doRowEffects(aktMemo);
+                break;
+        }
+    }
+
+    @Override
+    protected void doTimingTickEffects(ChannelMemory aktMemo) {
+        // no tick effects change the timing with MOD and XM
+    }
 }
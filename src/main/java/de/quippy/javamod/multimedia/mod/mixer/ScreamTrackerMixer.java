@@ -2153,4 +2153,48 @@ public class ScreamTrackerMixer extends BasicModMixer {
         doVolumeColumnRowEffect(aktMemo);
         if (isAfterEffect) doRowEffects(aktMemo);
     }
+
+    @Override
+    protected void doTimingRowEffects(ChannelMemory aktMemo) {
+        if (isS3M) {
+            if (aktMemo.muteWasITforced) return; // no effects in muted channels with S3Ms
+            if (!isModPlug && aktMemo.assignedEffect > 0x16) return; // Effects not implemented in S3Ms
+        }
+        if (isSTM && aktMemo.assignedEffect > 0x0A) return;
+        if (aktMemo.assignedEffect == 0) return;
+
+        switch (aktMemo.assignedEffect) {
+            case 0x01:            // SET SPEED
+            case 0x02:            // Pattern position jump
+            case 0x03:            // Pattern break
+            case 0x14:            // set Tempo
+                doRowEffects(aktMemo);
+                return;
+            case 0x13:            // Extended
+                int effectParam = (aktMemo.assignedEffectParam == 0) ? aktMemo.S_Effect_Memory : aktMemo.assignedEffectParam;
+                switch (effectParam >> 4) {
+                    case 0x6:    // Pattern Delay Frame
+                    case 0xB:    // JumpLoop
+                    case 0xE:    // Pattern Delay
+                        doRowEffects(aktMemo);
+                        return;
+                }
+                break;
+        }
+
+        // all other effects are ignored - but their parameters still feed the effect memory
+        if (isS3M) {
+            if (aktMemo.assignedEffectParam != 0) setS3MParameterMemory(aktMemo, aktMemo.assignedEffectParam);
+        } else if (aktMemo.assignedEffect == 0x13 && aktMemo.assignedEffectParam != 0)
+            aktMemo.S_Effect_Memory = aktMemo.assignedEffectParam;
+    }
+
+    @Override
+    protected void doTimingTickEffects(ChannelMemory aktMemo) {
+        if (isS3M) {
+            if (aktMemo.muteWasITforced) return; // no effects in muted channels with S3Ms
+            if (!isModPlug && aktMemo.assignedEffect > 0x16) return; // Effects not implemented in S3Ms
+        }
+        if (aktMemo.assignedEffect == 0x14) doTickEffects(aktMemo); // Tempo slides
+    }
 }
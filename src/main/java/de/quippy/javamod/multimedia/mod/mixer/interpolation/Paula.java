@@ -22,6 +22,8 @@
 
 package de.quippy.javamod.multimedia.mod.mixer.interpolation;
 
+import java.io.Serializable;
+
 import de.quippy.javamod.multimedia.mod.ModConstants;
 
 
@@ -32,7 +34,9 @@ import de.quippy.javamod.multimedia.mod.ModConstants;
  * @author Daniel Becker
  * @since 24.04.2026
  */
-public class Paula {
+public class Paula implements Serializable {
+
+    private static final long serialVersionUID = -2915209464436871021L;
 
     private static final double SMALL_NUMBER = (1E-4);
 
@@ -45,7 +49,9 @@ public class Paula {
      * 1-pole RC low-pass/high-pass filter, based on:
      * https://www.musicdsp.org/en/latest/Filters/116-one-pole-lp-and-hp.html
      */
-    public static class OnePoleFilter {
+    public static class OnePoleFilter implements Serializable {
+
+        private static final long serialVersionUID = 4622135985497853702L;
 
         private long tmpL, tmpR, a1, a2;
 
@@ -54,6 +60,20 @@ public class Paula {
             initialize(audioRate, cutOff);
         }
 
+        /**
+         * Copy constructor - including the current filter state
+         *
+         * @param fromMe
+         * @since 17.10.2026
+         */
+        public OnePoleFilter(OnePoleFilter fromMe) {
+            super();
+            tmpL = fromMe.tmpL;
+            tmpR = fromMe.tmpR;
+            a1 = fromMe.a1;
+            a2 = fromMe.a2;
+        }
+
         public void initialize(double audioRate, double cutOff) {
             clearOnePoleFilterState();
             setupOnePoleFilter(audioRate, cutOff);
@@ -98,7 +118,9 @@ public class Paula {
      * 2-pole RC low-pass filter with Q factor, based on:
      * https://www.musicdsp.org/en/latest/Filters/38-lp-and-hp-filter.html
      */
-    public static class TwoPoleFilter {
+    public static class TwoPoleFilter implements Serializable {
+
+        private static final long serialVersionUID = -6245797370587232614L;
 
         private long a1, a2, b1, b2;
         private long[] tmpL = new long[4];
@@ -109,6 +131,22 @@ public class Paula {
             initialize(audioRate, cutOff, qFactor);
         }
 
+        /**
+         * Copy constructor - including the current filter state
+         *
+         * @param fromMe
+         * @since 17.10.2026
+         */
+        public TwoPoleFilter(TwoPoleFilter fromMe) {
+            super();
+            a1 = fromMe.a1;
+            a2 = fromMe.a2;
+            b1 = fromMe.b1;
+            b2 = fromMe.b2;
+            System.arraycopy(fromMe.tmpL, 0, tmpL, 0, tmpL.length);
+            System.arraycopy(fromMe.tmpR, 0, tmpR, 0, tmpR.length);
+        }
+
         public void initialize(double audioRate, double cutOff, double qFactor) {
             clearTwoPoleFilterState();
             setupTwoPoleFilter(audioRate, cutOff, qFactor);
@@ -167,7 +205,9 @@ public class Paula {
      * @author Daniel Becker
      * @since 25.04.2026
      */
-    public static class BLEP {
+    public static class BLEP implements Serializable {
+
+        private static final long serialVersionUID = 1793641094526710934L;
 
         // this BLEP table was coded by aciddose
         private static final double[] ACIDDOSE_LUT = {
@@ -283,6 +323,23 @@ public class Paula {
             resetBlep();
         }
 
+        /**
+         * Copy constructor - including the current blep state
+         *
+         * @param fromMe
+         * @since 17.10.2026
+         */
+        public BLEP(BLEP fromMe) {
+            super();
+            System.arraycopy(fromMe.blepBuffer, 0, blepBuffer, 0, blepBuffer.length);
+            blepPos = fromMe.blepPos;
+            blepSamplesLeft = fromMe.blepSamplesLeft;
+            lastDelta = fromMe.lastDelta;
+            lastPhase = fromMe.lastPhase;
+            blepPhase = fromMe.blepPhase;
+            lastSample = fromMe.lastSample;
+        }
+
         public void resetBlep() {
             blepPos = 0;
             lastDelta = lastPhase = blepPhase = 0;
@@ -399,6 +456,29 @@ public class Paula {
         initialize(amigaModel, sampleRate, channels);
     }
 
+    /**
+     * Copy constructor. The copy has the complete filter and blep state
+     * of fromMe, so it continues exactly where fromMe is right now.
+     *
+     * @param fromMe
+     * @since 17.10.2026
+     */
+    public Paula(Paula fromMe) {
+        super();
+        filterLo = (fromMe.filterLo != null) ? new OnePoleFilter(fromMe.filterLo) : null;
+        filterHi = (fromMe.filterHi != null) ? new OnePoleFilter(fromMe.filterHi) : null;
+        filterLED = (fromMe.filterLED != null) ? new TwoPoleFilter(fromMe.filterLED) : null;
+        useLEDFilter = fromMe.useLEDFilter;
+        useLowpassFilter = fromMe.useLowpassFilter;
+        useHighpassFilter = fromMe.useHighpassFilter;
+        if (fromMe.blep != null) {
+            blep = new BLEP[fromMe.blep.length];
+            for (int i = 0; i < blep.length; i++) {
+                if (fromMe.blep[i] != null) blep[i] = new BLEP(fromMe.blep[i]);
+            }
+        }
+    }
+
     public void initialize(int amigaModel, int sampleRate, int channels) {
         if (blep == null || blep.length != channels) {
             blep = new BLEP[channels];
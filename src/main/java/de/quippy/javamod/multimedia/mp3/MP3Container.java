@@ -122,8 +122,9 @@ public class MP3Container extends MultimediaContainer implements TagParseListene
                 bitStream = new Bitstream(inputStream);
                 Header h = bitStream.readFrame();
                 if (h != null) duration = (long) (h.totalMs(inputStream.available()) + 0.5);
-                mp3FileIDTags = new MP3FileID3Controller(inputStream);
-                if (mp3FileIDTags != null) songName = mp3FileIDTags.getShortDescription();
+                // not our mp3FileIDTags - these belong to the file set
+                MP3FileID3Controller idTags = new MP3FileID3Controller(inputStream);
+                songName = idTags.getShortDescription();
             }
         } catch (Throwable ex) {
         } finally {
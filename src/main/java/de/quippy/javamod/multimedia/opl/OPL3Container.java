@@ -62,10 +62,13 @@ public class OPL3Container extends MultimediaContainer implements SpiMultimediaC
     public static final String PROPERTY_OPL3PLAYER_SOUNDBANK = "javamod.player.opl.soundbankurl";
     public static final String PROPERTY_OPL3PLAYER_OPLVERSION = "javamod.player.opl.oplversion";
     public static final String PROPERTY_OPL3PLAYER_VIRTUAL_STEREO = "javamod.player.opl.virtualStereo";
+    public static final String PROPERTY_OPL3PLAYER_FREQUENCY = "javamod.player.opl.frequency";
 
     public static final String DEFAULT_SOUNDBANKURL = Helpers.EMPTY_STING;
     public static final String DEFAULT_VIRTUAL_STEREO = "false";
     public static final String DEFAULT_OPLVERSION = "FMOPL_072_YM3812";
+    /** the native rate of the chips - other rates are resampled */
+    public static final String DEFAULT_SAMPLERATE = "49716";
 
     private Properties currentProps = null;
 
@@ -75,7 +78,7 @@ public class OPL3Container extends MultimediaContainer implements SpiMultimediaC
     private OPL3InfoPanel OPL3InfoPanel;
 
     private float getSampleRate() {
-        return 49716;
+        return Integer.parseInt((currentProps != null) ? currentProps.getProperty(PROPERTY_OPL3PLAYER_FREQUENCY, DEFAULT_SAMPLERATE) : DEFAULT_SAMPLERATE);
     }
 
     private Version getOPLVersion() {
@@ -191,6 +194,7 @@ logger.log(Level.TRACE, e.getMessage(), e);
         currentProps.setProperty(PROPERTY_OPL3PLAYER_SOUNDBANK, newProps.getProperty(PROPERTY_OPL3PLAYER_SOUNDBANK, DEFAULT_SOUNDBANKURL));
         currentProps.setProperty(PROPERTY_OPL3PLAYER_VIRTUAL_STEREO, newProps.getProperty(PROPERTY_OPL3PLAYER_VIRTUAL_STEREO, DEFAULT_VIRTUAL_STEREO));
         currentProps.setProperty(PROPERTY_OPL3PLAYER_OPLVERSION, newProps.getProperty(PROPERTY_OPL3PLAYER_OPLVERSION, DEFAULT_OPLVERSION));
+        currentProps.setProperty(PROPERTY_OPL3PLAYER_FREQUENCY, newProps.getProperty(PROPERTY_OPL3PLAYER_FREQUENCY, DEFAULT_SAMPLERATE));
 
         if (!MultimediaContainerManager.isHeadlessMode()) {
             OPL3ConfigPanel configPanel = (OPL3ConfigPanel) getConfigPanel();
@@ -210,6 +214,7 @@ logger.log(Level.TRACE, e.getMessage(), e);
             props.setProperty(PROPERTY_OPL3PLAYER_SOUNDBANK, currentProps.getProperty(PROPERTY_OPL3PLAYER_SOUNDBANK, DEFAULT_SOUNDBANKURL));
             props.setProperty(PROPERTY_OPL3PLAYER_VIRTUAL_STEREO, currentProps.getProperty(PROPERTY_OPL3PLAYER_VIRTUAL_STEREO, DEFAULT_VIRTUAL_STEREO));
             props.setProperty(PROPERTY_OPL3PLAYER_OPLVERSION, currentProps.getProperty(PROPERTY_OPL3PLAYER_OPLVERSION, DEFAULT_OPLVERSION));
+            props.setProperty(PROPERTY_OPL3PLAYER_FREQUENCY, currentProps.getProperty(PROPERTY_OPL3PLAYER_FREQUENCY, DEFAULT_SAMPLERATE));
         }
     }
 
@@ -26,11 +26,14 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.lang.System.Logger;
 import java.lang.System.Logger.Level;
+import java.util.ArrayList;
+import java.util.List;
 import javax.sound.sampled.AudioFormat;
 
 import de.quippy.javamod.mixer.BasicMixer;
 import de.quippy.javamod.multimedia.opl.emu.EmuOPL;
 import de.quippy.javamod.multimedia.opl.emu.EmuOPL.OplType;
+import de.quippy.javamod.multimedia.opl.emu.EmuOPLRegisters;
 import de.quippy.javamod.multimedia.opl.emu.EmuOPL.Version;
 import de.quippy.javamod.multimedia.opl.sequencer.OPL3Sequence;
 import vavi.io.OutputEngine;
@@ -52,6 +55,14 @@ public class OPL3Mixer extends BasicMixer {
     private static final int COOL_DOWN = 2; // 2 seconds of cool down for OPL
     private static final int RAMP_DOWN_SHIFT = 14;
     private static final int RAMP_DOWN_START = 1 << RAMP_DOWN_SHIFT;
+    /** distance of the seek checkpoints in milliseconds */
+    private static final double CHECKPOINT_INTERVAL = 5000d;
+
+    /**
+     * The registers of the OPL and the state of the sequence at a position
+     */
+    private record Checkpoint(double milliseconds, int[] registers, OPL3Sequence.State state) {
+    }
 
     // Wide Stereo Vars
     private boolean doVirtualStereo;
@@ -63,6 +74,11 @@ public class OPL3Mixer extends BasicMixer {
 
     private final OPL3Sequence opl3Sequence;
     private EmuOPL opl;
+    /** the sequence is run against this when seeking */
+    private EmuOPLRegisters seekRegisters;
+    /** ordered by position */
+    private final List<Checkpoint> checkpoints;
+    private OPL3Resampler resampler;
 
     private byte[] buffer;
     private int bufferSize;
@@ -72,6 +88,13 @@ public class OPL3Mixer extends BasicMixer {
     private final float sampleRate;
     private final Version OPLVersion;
 
+    // pull rendering - the interval of the sequence currently rendered
+    private int[] renderFromOPL3;
+    private boolean renderNewData;
+    private int renderIntervalSamples;
+    private int renderIntervalPosition;
+    private boolean renderLastInterval;
+
     /**
      * Constructor for OPL3Mixer
      */
@@ -81,10 +104,13 @@ public class OPL3Mixer extends BasicMixer {
         this.sampleRate = sampleRate;
         this.opl3Sequence = opl3Sequence;
         this.doVirtualStereo = doVirtualStereo;
+        checkpoints = new ArrayList<>();
     }
 
     protected void initialize() {
-        opl = EmuOPL.createInstance(OPLVersion, sampleRate, opl3Sequence.getOPLType());
+        // the chip always runs at its native rate, the resampler converts to ours
+        opl = EmuOPL.createInstance(OPLVersion, EmuOPL.OPL_SAMPLERATE, opl3Sequence.getOPLType());
+        resampler = new OPL3Resampler(opl, sampleRate);
 logger.log(Level.DEBUG, "opl: " + opl.getClass().getName() + ", " + OPLVersion);
 
         bufferSize = (int) ((MS_BUFFER_SIZE * ANZ_CHANNELS * sampleRate + 500) / 1000);
@@ -110,12 +136,39 @@ logger.log(Level.DEBUG, "opl: " + opl.getClass().getName() + ", " + OPLVersion);
         return true;
     }
 
+    /**
+     * Runs the sequence against a register file instead of the chip -
+     * starting at the nearest checkpoint before the target. Checkpoints are
+     * recorded on the way. Only the final registers are written to the chip.
+     */
     @Override
     protected void seek(long milliseconds) {
+        if (seekRegisters == null) seekRegisters = new EmuOPLRegisters(OPLVersion, opl3Sequence.getOPLType());
         double ms = 0d;
-        opl3Sequence.initialize(opl);
-        while (ms < milliseconds && opl3Sequence.updateToOPL(opl))
+        opl3Sequence.initialize(seekRegisters);
+
+        Checkpoint checkpoint = null;
+        for (Checkpoint c : checkpoints) {
+            if (c.milliseconds() > milliseconds) break;
+            checkpoint = c;
+        }
+        if (checkpoint != null) {
+            seekRegisters.setRegisters(checkpoint.registers());
+            opl3Sequence.restoreState(checkpoint.state());
+            ms = checkpoint.milliseconds();
+        }
+
+        double nextCheckpoint = (checkpoints.isEmpty()) ? CHECKPOINT_INTERVAL : checkpoints.get(checkpoints.size() - 1).milliseconds() + CHECKPOINT_INTERVAL;
+        while (ms < milliseconds && opl3Sequence.updateToOPL(seekRegisters)) {
             ms += 1000d / opl3Sequence.getRefresh();
+            if (ms >= nextCheckpoint) {
+                checkpoints.add(new Checkpoint(ms, seekRegisters.getRegisters(), opl3Sequence.saveState()));
+                nextCheckpoint = ms + CHECKPOINT_INTERVAL;
+            }
+        }
+
+        seekRegisters.applyTo(opl);
+        resampler.reset();
         samplesWritten = (long) ((ms * sampleRate / 1000d) + 0.5d);
     }
 
@@ -155,7 +208,7 @@ logger.log(Level.DEBUG, "opl: " + opl.getClass().getName() + ", " + OPLVersion);
     @Override
     public void startPlayback() {
         initialize();
-        int[] fromOPL3 = new int[2];
+        int[] fromOPL3 = new int[bufferSize >> 1];
         samplesWritten = 0;
         int bufferIndex = 0;
 
@@ -177,53 +230,24 @@ logger.log(Level.DEBUG, "opl: " + opl.getClass().getName() + ", " + OPLVersion);
                     long bytesToWrite = getSamplesToWriteLeft();
                     if ((long) (samples) > bytesToWrite) samples = (int) bytesToWrite;
                 }
-                for (int s = 0; s < samples; s++) {
-                    opl.read(fromOPL3);
-                    int samplel = fromOPL3[0];
-                    int sampler = fromOPL3[1];
-                    fromOPL3[0] = fromOPL3[1] = 0;
-
-                    // WideStereo Mixing - but only with stereo
-                    if (doVirtualStereo && opl.getOPLType() != OplType.OPL2) {
-                        wideLBuffer[writePointer] = samplel;
-                        wideRBuffer[writePointer++] = sampler;
-                        if (writePointer >= maxWideStereo) writePointer = 0;
-
-                        sampler += (int) (wideLBuffer[readPointer] / 2);
-                        samplel += (int) (wideRBuffer[readPointer++] / 2);
-                        if (readPointer >= maxWideStereo) readPointer = 0;
-                    }
-
-                    // let's do a fast ramp down at the end, to avoid clicking
-                    if (!newData && samples - s <= RAMP_DOWN_START) {
-                        samplel = (samplel * rampDownVolume) / (1 << RAMP_DOWN_SHIFT);
-                        sampler = (sampler * rampDownVolume) / (1 << RAMP_DOWN_SHIFT);
-                        rampDownVolume--;
-                        if (rampDownVolume <= 0) rampDownVolume = 0;
-                    }
-
-                    // Clipping - always a good idea (sample is 32bit (int), but 16 bit is border):
-                    if (samplel > 0x0000_7FFF) samplel = 0x0000_7FFF;
-                    else if (samplel < 0xffFF_8000) samplel = 0xffFF_8000;
-                    if (sampler > 0x0000_7FFF) sampler = 0x0000_7FFF;
-                    else if (sampler < 0xffFF_8000) sampler = 0xffFF_8000;
-
-                    buffer[bufferIndex] = (byte) (samplel & 0xff);
-                    buffer[bufferIndex + 1] = (byte) ((samplel >> 8) & 0xff);
-                    buffer[bufferIndex + 2] = (byte) (sampler & 0xff);
-                    buffer[bufferIndex + 3] = (byte) ((sampler >> 8) & 0xff);
-                    samplesWritten++;
-                    bufferIndex += 4;
+                // render the whole interval - nothing is written to the OPL meanwhile
+                int s = 0;
+                while (s < samples && !isStopping() && !isInSeeking()) {
+                    int frames = Math.min(samples - s, (bufferSize - bufferIndex) >> 2);
+                    resampler.read(fromOPL3, frames);
+                    bufferIndex += toBytes(fromOPL3, frames, newData, samples - s, buffer, bufferIndex);
+                    samplesWritten += frames;
+                    s += frames;
                     if (bufferIndex >= bufferSize) {
-                        writeSampleDataToLine(buffer, 0, bufferIndex - 4);
+                        writeSampleDataToLine(buffer, 0, bufferIndex);
                         bufferIndex = 0;
                     }
-                    if (isStopping() || isPausing() || isInSeeking()) break;
+                    // the rest of the interval is played after the pause
+                    waitWhilePausing();
                 }
 
-                if (!newData && !isStopping()) { // if no new Data, we are ready
+                if (!newData && !isStopping() && !isInSeeking()) { // if no new Data, we are ready
                     // finish off the buffer, if something is left
-                    bufferIndex -= 4;
                     if (bufferIndex > 0) {
                         writeSampleDataToLine(buffer, 0, bufferIndex);
                     }
@@ -236,15 +260,10 @@ logger.log(Level.DEBUG, "opl: " + opl.getClass().getName() + ", " + OPLVersion);
                     setIsStopped();
                     break;
                 }
-                if (isPausing()) {
-                    setIsPaused();
-                    while (isPaused()) {
-                        try {
-                            Thread.sleep(10L);
-                        } catch (InterruptedException ex) { /*noop*/ }
-                    }
-                }
+                waitWhilePausing();
                 if (isInSeeking()) {
+                    // the rest of the interval and the frames buffered belong to the old position
+                    bufferIndex = 0;
                     setIsSeeking();
                     while (isInSeeking()) {
                         try {
@@ -262,6 +281,143 @@ logger.log(Level.DEBUG, "opl: " + opl.getClass().getName() + ", " + OPLVersion);
         }
     }
 
+    /**
+     * @since 17.10.2026
+     */
+    private void waitWhilePausing() {
+        if (isPausing()) {
+            setIsPaused();
+            while (isPaused()) {
+                try {
+                    Thread.sleep(10L);
+                } catch (InterruptedException ex) { /*noop*/ }
+            }
+        }
+    }
+
+    /**
+     * Convert frames of the OPL into 16 bit little endian stereo PCM - with
+     * wide stereo mixing and the ramp down at the end.
+     *
+     * @param fromOPL3 interleaved stereo samples of the OPL
+     * @param frames amount of frames to convert
+     * @param newData false, if this is the cool down at the end
+     * @param samplesLeft frames left in the current interval of the sequence
+     * @param target
+     * @param offset
+     * @return the amount of bytes written to target
+     * @since 17.10.2026
+     */
+    private int toBytes(int[] fromOPL3, int frames, boolean newData, int samplesLeft, byte[] target, int offset) {
+        int ox = offset;
+        for (int f = 0; f < frames; f++) {
+            int samplel = fromOPL3[f << 1];
+            int sampler = fromOPL3[(f << 1) + 1];
+
+            // WideStereo Mixing - but only with stereo
+            if (doVirtualStereo && opl.getOPLType() != OplType.OPL2) {
+                wideLBuffer[writePointer] = samplel;
+                wideRBuffer[writePointer++] = sampler;
+                if (writePointer >= maxWideStereo) writePointer = 0;
+
+                sampler += (int) (wideLBuffer[readPointer] / 2);
+                samplel += (int) (wideRBuffer[readPointer++] / 2);
+                if (readPointer >= maxWideStereo) readPointer = 0;
+            }
+
+            // let's do a fast ramp down at the end, to avoid clicking
+            if (!newData && samplesLeft - f <= RAMP_DOWN_START) {
+                samplel = (samplel * rampDownVolume) / (1 << RAMP_DOWN_SHIFT);
+                sampler = (sampler * rampDownVolume) / (1 << RAMP_DOWN_SHIFT);
+                rampDownVolume--;
+                if (rampDownVolume <= 0) rampDownVolume = 0;
+            }
+
+            // Clipping - always a good idea (sample is 32bit (int), but 16 bit is border):
+            if (samplel > 0x0000_7FFF) samplel = 0x0000_7FFF;
+            else if (samplel < 0xffFF_8000) samplel = 0xffFF_8000;
+            if (sampler > 0x0000_7FFF) sampler = 0x0000_7FFF;
+            else if (sampler < 0xffFF_8000) sampler = 0xffFF_8000;
+
+            target[ox++] = (byte) (samplel & 0xff);
+            target[ox++] = (byte) ((samplel >> 8) & 0xff);
+            target[ox++] = (byte) (sampler & 0xff);
+            target[ox++] = (byte) ((sampler >> 8) & 0xff);
+        }
+        return ox - offset;
+    }
+
+    /**
+     * @since 17.10.2026
+     */
+    @Override
+    public void openRendering() throws IOException {
+        initialize();
+        renderFromOPL3 = new int[bufferSize >> 1];
+        renderIntervalSamples = renderIntervalPosition = 0;
+        renderLastInterval = false;
+        samplesWritten = 0;
+
+        setIsPlaying();
+
+        if (getSeekPosition() > 0) seek(getSeekPosition());
+    }
+
+    /**
+     * Renders the frames requested (at most one buffer full) of the current
+     * interval of the sequence directly into the buffer given - the
+     * sequence is advanced only when the interval is used up.
+     *
+     * @since 17.10.2026
+     */
+    @Override
+    public int render(byte[] buffer, int offset, int length) throws IOException {
+        if (renderFromOPL3 == null) throw new IOException("Rendering not opened");
+        int frames = Math.min(length >> 2, renderFromOPL3.length >> 1);
+        if (frames <= 0) return 0;
+
+        while (renderIntervalPosition >= renderIntervalSamples) {
+            if (stopPositionIsReached()) setIsStopping();
+            if (isStopping()) return -1;
+            if (renderLastInterval) {
+                setHasFinished();
+                return -1;
+            }
+
+            renderNewData = opl3Sequence.updateToOPL(opl);
+            // if no new Data, only the cool down is left
+            renderLastInterval = !renderNewData;
+
+            double refresh = (renderNewData) ? 1.0d / opl3Sequence.getRefresh() : (double) COOL_DOWN;
+            int samples = (int) (((double) sampleRate * refresh) + 0.5);
+            if (hasStopPosition()) {
+                long samplesToWrite = getSamplesToWriteLeft();
+                if ((long) (samples) > samplesToWrite) samples = (int) samplesToWrite;
+            }
+            renderIntervalSamples = samples;
+            renderIntervalPosition = 0;
+        }
+
+        if (frames > renderIntervalSamples - renderIntervalPosition) frames = renderIntervalSamples - renderIntervalPosition;
+        // nothing is written to the OPL meanwhile
+        resampler.read(renderFromOPL3, frames);
+        int written = toBytes(renderFromOPL3, frames, renderNewData, renderIntervalSamples - renderIntervalPosition, buffer, offset);
+        renderIntervalPosition += frames;
+        samplesWritten += frames;
+        return written;
+    }
+
+    /**
+     * @since 17.10.2026
+     */
+    @Override
+    public void closeRendering() throws IOException {
+        if (renderFromOPL3 != null) {
+            renderFromOPL3 = null;
+            setIsStopped();
+        }
+    }
+
     @Override
     public OutputEngine getOutputEngine() {
         return new OutputEngine() {
@@ -270,7 +426,7 @@ logger.log(Level.DEBUG, "opl: " + opl.getClass().getName() + ", " + OPLVersion);
             private OutputStream out;
 
             boolean finished = false;
-            int[] fromOPL3 = new int[2];
+            int[] fromOPL3;
             int bufferIndex = 0;
 
             @Override
@@ -282,7 +438,7 @@ logger.log(Level.DEBUG, "opl: " + opl.getClass().getName() + ", " + OPLVersion);
 
                     //
                     OPL3Mixer.this.initialize();
-                    fromOPL3 = new int[2];
+                    fromOPL3 = new int[bufferSize >> 1];
                     samplesWritten = 0;
                     bufferIndex = 0;
 
@@ -307,53 +463,22 @@ logger.log(Level.DEBUG, "opl: " + opl.getClass().getName() + ", " + OPLVersion);
                                 long bytesToWrite = getSamplesToWriteLeft();
                                 if ((long) (samples) > bytesToWrite) samples = (int) bytesToWrite;
                             }
-                            for (int s = 0; s < samples; s++) {
-                                opl.read(fromOPL3);
-                                int samplel = fromOPL3[0];
-                                int sampler = fromOPL3[1];
-                                fromOPL3[0] = fromOPL3[1] = 0;
-
-                                // WideStereo Mixing - but only with stereo
-                                if (doVirtualStereo && opl.getOPLType() != OplType.OPL2) {
-                                    wideLBuffer[writePointer] = samplel;
-                                    wideRBuffer[writePointer++] = sampler;
-                                    if (writePointer >= maxWideStereo) writePointer = 0;
-
-                                    sampler += (int) (wideLBuffer[readPointer] / 2);
-                                    samplel += (int) (wideRBuffer[readPointer++] / 2);
-                                    if (readPointer >= maxWideStereo) readPointer = 0;
-                                }
-
-                                // let's do a fast ramp down at the end, to avoid clicking
-                                if (!newData && samples - s <= RAMP_DOWN_START) {
-                                    samplel = (samplel * rampDownVolume) / (1 << RAMP_DOWN_SHIFT);
-                                    sampler = (sampler * rampDownVolume) / (1 << RAMP_DOWN_SHIFT);
-                                    rampDownVolume--;
-                                    if (rampDownVolume <= 0) rampDownVolume = 0;
-                                }
-
-                                // Clipping - always a good idea (sample is 32bit (int), but 16 bit is border):
-                                if (samplel > 0x0000_7FFF) samplel = 0x0000_7FFF;
-                                else if (samplel < 0xffFF_8000) samplel = 0xffFF_8000;
-                                if (sampler > 0x0000_7FFF) sampler = 0x0000_7FFF;
-                                else if (sampler < 0xffFF_8000) sampler = 0xffFF_8000;
-
-                                buffer[bufferIndex] = (byte) (samplel & 0xff);
-                                buffer[bufferIndex + 1] = (byte) ((samplel >> 8) & 0xff);
-                                buffer[bufferIndex + 2] = (byte) (sampler & 0xff);
-                                buffer[bufferIndex + 3] = (byte) ((sampler >> 8) & 0xff);
-                                samplesWritten++;
-                                bufferIndex += 4;
+                            // render the whole interval - nothing is written to the OPL meanwhile
+                            int s = 0;
+                            while (s < samples && !isStopping() && !isInSeeking()) {
+                                int frames = Math.min(samples - s, (bufferSize - bufferIndex) >> 2);
+                                resampler.read(fromOPL3, frames);
+                                bufferIndex += toBytes(fromOPL3, frames, newData, samples - s, buffer, bufferIndex);
+                                samplesWritten += frames;
+                                s += frames;
                                 if (bufferIndex >= bufferSize) {
-                                    out.write(buffer, 0, bufferIndex - 4);
+                                    out.write(buffer, 0, bufferIndex);
                                     bufferIndex = 0;
                                 }
-                                if (isStopping() || isPausing() || isInSeeking()) break;
                             }
 
                             if (!newData && !isStopping()) { // if no new Data, we are ready
                                 // finish off the buffer, if something is left
-                                bufferIndex -= 4;
                                 if (bufferIndex > 0) {
                                     out.write(buffer, 0, bufferIndex);
                                 }
@@ -0,0 +1,152 @@
+/*
+ * @(#) OPL3Resampler.java
+ *
+ * Created on 17.10.2026 by Daniel Becker
+ *
+ *-----------------------------------------------------------------------
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation; either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, write to the Free Software
+ *  Foundation, Inc., 675 Mass Ave, Cambridge, MA 02139, USA.
+ *----------------------------------------------------------------------
+ */
+
+package de.quippy.javamod.multimedia.opl;
+
+import de.quippy.javamod.multimedia.mod.ModConstants;
+import de.quippy.javamod.multimedia.mod.mixer.interpolation.Kaiser;
+import de.quippy.javamod.multimedia.opl.emu.EmuOPL;
+
+
+/**
+ * Converts the output of an OPL chip, running at its native rate of
+ * {@link EmuOPL#OPL_SAMPLERATE}, to any output rate with the 16 tap
+ * polyphase sinc tables of the mod mixer. The table is chosen like the
+ * mod mixer does for samples: with downsampling the low pass ones are
+ * used, so nothing is aliased.
+ * <p>
+ * The chip is read in blocks as needed - the frames still needed by the
+ * taps are kept as history for the next block.
+ *
+ * @author Daniel Becker
+ * @since 17.10.2026
+ */
+public class OPL3Resampler {
+
+    private static final int TAPS = 16;
+    /** frames before the current one needed by the taps */
+    private static final int TAPS_BEFORE = 7;
+    /** frames after the current one needed by the taps */
+    private static final int TAPS_AFTER = 8;
+
+    private final EmuOPL opl;
+    private final int increment;
+    private final int[] sinc;
+    private final boolean bypass;
+
+    /** the frames read from the chip, interleaved */
+    private int[] input;
+    /** frames from the chip not yet shifted out */
+    private int available;
+    /** frame of the input to interpolate next */
+    private int index;
+    /** fraction of that frame */
+    private int position;
+    private int[] chunk;
+
+    /**
+     * Constructor for OPL3Resampler
+     *
+     * @param opl the chip to read from
+     * @param sampleRate the output rate
+     */
+    public OPL3Resampler(EmuOPL opl, float sampleRate) {
+        super();
+        this.opl = opl;
+        bypass = (int) sampleRate == EmuOPL.OPL_SAMPLERATE;
+        increment = (int) (((long) EmuOPL.OPL_SAMPLERATE << ModConstants.SHIFT) / (long) sampleRate);
+        sinc = (increment > Kaiser.gDownsample13x_Limit) ? (increment > Kaiser.gDownsample2x_Limit) ? Kaiser.gDownsample2x_16 : Kaiser.gDownsample13x_16 : Kaiser.gKaiserSinc_16;
+        input = new int[0];
+        chunk = new int[0];
+        reset();
+    }
+
+    /**
+     * Forgets the history - after the chip was reset or a seek
+     */
+    public void reset() {
+        // start with silence before the first frame
+        available = index = TAPS_BEFORE;
+        position = 0;
+        if (input.length < available << 1) input = new int[available << 1];
+        for (int i = 0; i < available << 1; i++) input[i] = 0;
+    }
+
+    /**
+     * Renders frames at the output rate - reading as many frames from the
+     * chip as needed for them
+     *
+     * @param interleaved left and right sample of each frame
+     * @param frames
+     */
+    public void read(int[] interleaved, int frames) {
+        if (bypass) {
+            opl.read(interleaved, frames);
+            return;
+        }
+        if (frames <= 0) return;
+
+        // read what is needed from the chip at once
+        int lastIndex = index + (int) (((long) position + (long) (frames - 1) * increment) >> ModConstants.SHIFT);
+        int needed = lastIndex + TAPS_AFTER + 1;
+        if (needed > available) {
+            int toRead = needed - available;
+            if (input.length < needed << 1) {
+                int[] newInput = new int[needed << 1];
+                System.arraycopy(input, 0, newInput, 0, available << 1);
+                input = newInput;
+            }
+            if (chunk.length < toRead << 1) chunk = new int[toRead << 1];
+            opl.read(chunk, toRead);
+            System.arraycopy(chunk, 0, input, available << 1, toRead << 1);
+            available = needed;
+        }
+
+        final int[] sinc = this.sinc;
+        final int[] input = this.input;
+        for (int f = 0, o = 0; f < frames; f++, o += 2) {
+            int poslo = ((position >> Kaiser.SINC_FRACSHIFT) & Kaiser.SINC_MASK) * TAPS;
+            int base = (index - TAPS_BEFORE) << 1;
+            long left = 0;
+            long right = 0;
+            for (int i = 0; i < TAPS; i++, base += 2) {
+                int coeff = sinc[poslo + i];
+                left += (long) coeff * input[base];
+                right += (long) coeff * input[base + 1];
+            }
+            interleaved[o] = (int) (left >> Kaiser.SINC_QUANTSHIFT);
+            interleaved[o + 1] = (int) (right >> Kaiser.SINC_QUANTSHIFT);
+
+            position += increment;
+            index += position >> ModConstants.SHIFT;
+            position &= (1 << ModConstants.SHIFT) - 1;
+        }
+
+        // keep the history for the next block
+        int discard = Math.min(index - TAPS_BEFORE, available);
+        if (discard > 0) {
+            System.arraycopy(input, discard << 1, input, 0, (available - discard) << 1);
+            available -= discard;
+            index -= discard;
+        }
+    }
+}
@@ -36,6 +36,8 @@ public class EmuFMOPL_072 extends EmuOPL {
     private static final int CLOCK_RATE = 3579552;    // 49716 * 72, Base Clock of Chip - is said to be 3.579MHz
 
     private final FM_OPL[] opl;
+    private int[] outBuffer;
+    private int[] dualOutBuffer;
 
     /**
      * Constructor for EmuFMOPL_072
@@ -54,6 +56,8 @@ public class EmuFMOPL_072 extends EmuOPL {
         }
 
         opl = new FM_OPL[2];
+        outBuffer = new int[1];
+        dualOutBuffer = new int[1];
         if (ver == Version.FMOPL_072_YM3526) {
             opl[0] = FMOPL_072.init(FMOPL_072.OPL_TYPE_YM3526, CLOCK_RATE, (int) sampleRate);
             if (OPLType == OplType.DUAL_OPL2)
@@ -80,18 +84,22 @@ public class EmuFMOPL_072 extends EmuOPL {
     }
 
     @Override
-    public void read(int[] buffer) {
-//		if (ver == EmuOPL.version.FMOPL_072_Y8950) {
-//			FMOPL_072.y8950_update_one(opl[0], buffer, 1);
-//			buffer[1] = buffer[0];
-//			if (opl[1]!=null) 
-//				FMOPL_072.y8950_update_one(opl[1], buffer, 1);
-//		} else {
-        FMOPL_072.updateOne(opl[0], buffer, 1);
-        buffer[1] = buffer[0];
-        if (opl[1] != null)
-            FMOPL_072.updateOne(opl[1], buffer, 1);
-//		}
+    public void read(int[] interleaved, int frames) {
+        if (outBuffer.length < frames) {
+            outBuffer = new int[frames];
+            if (opl[1] != null) dualOutBuffer = new int[frames];
+        }
+        FMOPL_072.updateOne(opl[0], outBuffer, frames);
+        // with two chips the second one is left
+        int[] left = outBuffer;
+        if (opl[1] != null) {
+            FMOPL_072.updateOne(opl[1], dualOutBuffer, frames);
+            left = dualOutBuffer;
+        }
+        for (int i = 0, o = 0; o < frames; i += 2, o++) {
+            interleaved[i] = left[o];
+            interleaved[i + 1] = outBuffer[o];
+        }
     }
 
     @Override
@@ -34,7 +34,8 @@ public abstract class EmuOPL {
     public enum Version {
         FMOPL_072_YM3526("YM3526 (OPL) V0.72  by Jarek Burczynski"),
         FMOPL_072_YM3812("YM3812 (OPL2) V0.72  by Jarek Burczynski"),
-        OPL3("YMF262 (OPL3) V1.0.6 by Robson Cozendey");
+        OPL3("YMF262 (OPL3) V1.0.6 by Robson Cozendey"),
+        YMF262("YMF262 (OPL3) integer lookup tables");
         public final String versionName;
 
         Version(String versionName) {
@@ -68,6 +69,9 @@ public abstract class EmuOPL {
         }
     }
 
+    /** the native rate of the chips: 14.31818 MHz / 288 */
+    public static final int OPL_SAMPLERATE = 49716;
+
     protected final float sampleRate;
     protected final Version ver;
     protected final OplType oplType;
@@ -76,6 +80,7 @@ public abstract class EmuOPL {
         return switch (ver) {
             case FMOPL_072_YM3526, FMOPL_072_YM3812 -> new EmuFMOPL_072(ver, sampleRate, oplType);
             case OPL3 -> new EmuOPL3(ver, sampleRate, oplType);
+            case YMF262 -> new EmuYMF262(ver, sampleRate, oplType);
         };
     }
 
@@ -113,7 +118,25 @@ public abstract class EmuOPL {
 
     public abstract void resetOPL();
 
-    public abstract void read(int[] buffer);
+    /**
+     * Renders one frame
+     *
+     * @param buffer left and right sample
+     */
+    public void read(int[] buffer) {
+        read(buffer, 1);
+    }
+
+    /**
+     * Renders a block of frames at once - as registers are only written
+     * between two calls, this can be a whole refresh interval of a sequence.
+     *
+     * @param interleaved left and right sample of each frame, at least
+     * frames * 2 long
+     * @param frames amount of frames to render
+     * @since 17.10.2026
+     */
+    public abstract void read(int[] interleaved, int frames);
 
     public abstract void writeOPL2(int reg, int value);
 
@@ -32,7 +32,7 @@ import de.quippy.opl.OPL3;
 public class EmuOPL3 extends EmuOPL {
 
     private final OPL3 opl3;
-    private final int[] outBuffer;
+    private int[] outBuffer;
 
     /**
      * Constructor for EmuOPL3
@@ -57,11 +57,13 @@ public class EmuOPL3 extends EmuOPL {
     }
 
     @Override
-    public void read(int[] buffer) {
-        buffer[0] = buffer[1] = 0;
-        opl3.read(outBuffer, 1);
-        for (int i = 0; i < 4; i++)
-            buffer[i & 1] += outBuffer[i];
+    public void read(int[] interleaved, int frames) {
+        if (outBuffer.length < frames << 2) outBuffer = new int[frames << 2];
+        opl3.read(outBuffer, frames);
+        for (int i = 0, o = 0; i < frames << 1; i += 2, o += 4) {
+            interleaved[i] = outBuffer[o] + outBuffer[o + 2];
+            interleaved[i + 1] = outBuffer[o + 1] + outBuffer[o + 3];
+        }
     }
 
     @Override
@@ -0,0 +1,135 @@
+/*
+ * @(#) EmuOPLRegisters.java
+ *
+ * Created on 17.10.2026 by Daniel Becker
+ *
+ *-----------------------------------------------------------------------
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation; either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, write to the Free Software
+ *  Foundation, Inc., 675 Mass Ave, Cambridge, MA 02139, USA.
+ *----------------------------------------------------------------------
+ */
+
+package de.quippy.javamod.multimedia.opl.emu;
+
+import java.util.Arrays;
+
+
+/**
+ * An OPL without any synthesis: it only keeps the register files of both
+ * banks. Sequences can be run against it much faster than against a chip
+ * emulation - e.g. for seeking - and the final state is handed over to
+ * the real chip with {@link #applyTo(EmuOPL)}.
+ *
+ * @author Daniel Becker
+ * @since 17.10.2026
+ */
+public class EmuOPLRegisters extends EmuOPL {
+
+    /** registers of bank 0 at 0x000, of bank 1 at 0x100 */
+    public static final int REGISTER_COUNT = 0x200;
+
+    private final int[] registers;
+
+    /**
+     * Constructor for EmuOPLRegisters
+     *
+     * @param ver the chip the registers are applied to later
+     * @param oplType
+     */
+    public EmuOPLRegisters(Version ver, OplType oplType) {
+        super(ver, OPL_SAMPLERATE, oplType);
+        registers = new int[REGISTER_COUNT];
+        resetOPL();
+    }
+
+    @Override
+    public void resetOPL() {
+        Arrays.fill(registers, 0);
+        if (oplType == OplType.OPL3) registers[0x105] = 1;
+    }
+
+    /**
+     * There is no synthesis - always silence
+     */
+    @Override
+    public void read(int[] interleaved, int frames) {
+        Arrays.fill(interleaved, 0, frames << 1, 0);
+    }
+
+    @Override
+    public void writeOPL2(int reg, int value) {
+        registers[reg & 0xff] = value & 0xff;
+    }
+
+    @Override
+    public void writeDualOPL2(int bank, int reg, int value) {
+        registers[((bank & 1) << 8) | (reg & 0xff)] = value & 0xff;
+    }
+
+    @Override
+    public void writeOPL3(int base, int reg, int value) {
+        registers[((base & 1) << 8) | (reg & 0xff)] = value & 0xff;
+    }
+
+    /**
+     * @return a copy of the register files of both banks
+     */
+    public int[] getRegisters() {
+        return registers.clone();
+    }
+
+    /**
+     * @param newRegisters register files of both banks, like returned by getRegisters
+     */
+    public void setRegisters(int[] newRegisters) {
+        System.arraycopy(newRegisters, 0, registers, 0, REGISTER_COUNT);
+    }
+
+    /**
+     * Resets the chip and writes all registers to it. The registers playing
+     * notes are written last, so every voice is set up completely when it
+     * is keyed on.
+     *
+     * @param opl the chip
+     */
+    public void applyTo(EmuOPL opl) {
+        opl.resetOPL();
+        int banks = (oplType == OplType.OPL2) ? 1 : 2;
+        if (oplType == OplType.OPL3) {
+            write(opl, 1, 0x05);
+            write(opl, 1, 0x04);
+        }
+        for (int bank = 0; bank < banks; bank++) {
+            write(opl, bank, 0x01);
+            write(opl, bank, 0x08);
+            for (int reg = 0x20; reg <= 0x95; reg++) write(opl, bank, reg);
+            for (int reg = 0xE0; reg <= 0xF5; reg++) write(opl, bank, reg);
+            for (int reg = 0xA0; reg <= 0xA8; reg++) write(opl, bank, reg);
+            for (int reg = 0xC0; reg <= 0xC8; reg++) write(opl, bank, reg);
+        }
+        for (int bank = 0; bank < banks; bank++) {
+            if (bank == 0 || oplType == OplType.DUAL_OPL2) write(opl, bank, 0xBD);
+            for (int reg = 0xB0; reg <= 0xB8; reg++) write(opl, bank, reg);
+        }
+    }
+
+    private void write(EmuOPL opl, int bank, int reg) {
+        int value = registers[(bank << 8) | reg];
+        switch (oplType) {
+            case OPL2 -> opl.writeOPL2(reg, value);
+            case DUAL_OPL2 -> opl.writeDualOPL2(bank, reg, value);
+            case OPL3 -> opl.writeOPL3(bank, reg, value);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * @(#) EmuYMF262.java
+ *
+ * Created on 17.10.2026 by Daniel Becker
+ *
+ *-----------------------------------------------------------------------
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation; either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, write to the Free Software
+ *  Foundation, Inc., 675 Mass Ave, Cambridge, MA 02139, USA.
+ *----------------------------------------------------------------------
+ */
+
+package de.quippy.javamod.multimedia.opl.emu;
+
+import de.quippy.opl.YMF262;
+
+
+/**
+ * The integer OPL3 core - log-sin and exp tables like the chip instead of
+ * floating point. Envelopes and phases step once per output frame, which
+ * makes it several times faster than the OPL3 core.
+ *
+ * @author Daniel Becker
+ * @since 17.10.2026
+ */
+public class EmuYMF262 extends EmuOPL {
+
+    private final YMF262 ymf262;
+    private int[] outBuffer;
+
+    /**
+     * Constructor for EmuYMF262
+     *
+     * @param ver
+     * @param sampleRate
+     */
+    public EmuYMF262(Version ver, float sampleRate, OplType oplType) {
+        super(ver, sampleRate, oplType);
+        ymf262 = new YMF262();
+        outBuffer = new int[4];
+    }
+
+    @Override
+    public void resetOPL() {
+        ymf262.reset();
+        if (oplType == OplType.OPL3)
+            writeOPL3(1, 5, 1);
+    }
+
+    @Override
+    public void read(int[] interleaved, int frames) {
+        if (outBuffer.length < frames << 2) outBuffer = new int[frames << 2];
+        ymf262.read(outBuffer, frames);
+        for (int i = 0, o = 0; i < frames << 1; i += 2, o += 4) {
+            interleaved[i] = outBuffer[o] + outBuffer[o + 2];
+            interleaved[i + 1] = outBuffer[o + 1] + outBuffer[o + 3];
+        }
+    }
+
+    @Override
+    public void writeOPL2(int reg, int value) {
+        ymf262.write(0, reg, value);
+    }
+
+    @Override
+    public void writeDualOPL2(int bank, int reg, int value) {
+        ymf262.write(bank, reg, value);
+    }
+
+    @Override
+    public void writeOPL3(int base, int reg, int value) {
+        ymf262.write(base, reg, value);
+    }
+}
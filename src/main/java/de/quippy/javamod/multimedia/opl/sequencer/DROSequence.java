@@ -78,6 +78,9 @@ public class DROSequence extends OPL3Sequence {
 
     protected static final String MAGIC = "DBRAWOPL";
 
+    private record DROState(int delay, int pos, int bank) implements State {
+    }
+
     /**
      * Constructor for DROSequence
      */
@@ -317,6 +320,19 @@ logger.log(Level.TRACE, "%d, %d, %d, %02x".formatted(oplType.ordinal(), bank, in
         resetOPL(opl);
     }
 
+    @Override
+    public State saveState() {
+        return new DROState(delay, pos, bank);
+    }
+
+    @Override
+    public void restoreState(State state) {
+        DROState droState = (DROState) state;
+        delay = droState.delay();
+        pos = droState.pos();
+        bank = droState.bank();
+    }
+
     @Override
     public double getRefresh() {
         if (delay != 0) return 1000d / (double) delay;
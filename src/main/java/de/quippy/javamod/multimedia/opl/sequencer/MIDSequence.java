@@ -68,6 +68,15 @@ public class MIDSequence extends OPL3Sequence {
         long iwait = 0;
         boolean on = false;
         int pv = 0;
+
+        void copyFrom(midi_track other) {
+            tend = other.tend;
+            spos = other.spos;
+            pos = other.pos;
+            iwait = other.iwait;
+            on = other.on;
+            pv = other.pv;
+        }
     }
 
     private static class midiChannel {
@@ -82,6 +91,40 @@ public class MIDSequence extends OPL3Sequence {
             super();
             ins = new int[11];
         }
+
+        void copyFrom(midiChannel other) {
+            inum = other.inum;
+            System.arraycopy(other.ins, 0, ins, 0, ins.length);
+            vol = other.vol;
+            nshift = other.nshift;
+            on = other.on;
+        }
+    }
+
+    /**
+     * Everything changed by updateToOPL - the instrument banks are set
+     * by initialize only
+     */
+    private static final class MIDState implements State {
+
+        private long pos;
+        private long sierraPos;
+        private final int[] adlibData = new int[256];
+        private int adlibStyle;
+        private int adlibMode;
+        private final midiChannel[] ch = new midiChannel[16];
+        private final int[][] chp = new int[18][3];
+        private int deltas;
+        private long msqtr;
+        private final midi_track[] track = new midi_track[16];
+        private double fwait;
+        private long iwait;
+        private boolean firstRound;
+
+        private MIDState() {
+            for (int i = 0; i < ch.length; i++) ch[i] = new midiChannel();
+            for (int i = 0; i < track.length; i++) track[i] = new midi_track();
+        }
     }
 
     private URL url = null;
@@ -1214,6 +1257,43 @@ logger.log(Level.DEBUG, "myinsbank[%d]inum:%d:@%x".formatted(x, ch[x].inum, Arra
         midiFmReset(opl);
     }
 
+    @Override
+    public State saveState() {
+        MIDState state = new MIDState();
+        state.pos = pos;
+        state.sierraPos = sierraPos;
+        System.arraycopy(adlibData, 0, state.adlibData, 0, adlibData.length);
+        state.adlibStyle = adlibStyle;
+        state.adlibMode = adlibMode;
+        for (int i = 0; i < ch.length; i++) state.ch[i].copyFrom(ch[i]);
+        for (int i = 0; i < chp.length; i++) System.arraycopy(chp[i], 0, state.chp[i], 0, chp[i].length);
+        state.deltas = deltas;
+        state.msqtr = msqtr;
+        for (int i = 0; i < track.length; i++) state.track[i].copyFrom(track[i]);
+        state.fwait = fwait;
+        state.iwait = iwait;
+        state.firstRound = firstRound;
+        return state;
+    }
+
+    @Override
+    public void restoreState(State state) {
+        MIDState midState = (MIDState) state;
+        pos = midState.pos;
+        sierraPos = midState.sierraPos;
+        System.arraycopy(midState.adlibData, 0, adlibData, 0, adlibData.length);
+        adlibStyle = midState.adlibStyle;
+        adlibMode = midState.adlibMode;
+        for (int i = 0; i < ch.length; i++) ch[i].copyFrom(midState.ch[i]);
+        for (int i = 0; i < chp.length; i++) System.arraycopy(midState.chp[i], 0, chp[i], 0, chp[i].length);
+        deltas = midState.deltas;
+        msqtr = midState.msqtr;
+        for (int i = 0; i < track.length; i++) track[i].copyFrom(midState.track[i]);
+        fwait = midState.fwait;
+        iwait = midState.iwait;
+        firstRound = midState.firstRound;
+    }
+
     @Override
     public double getRefresh() {
         return (fwait > 0.01d ? fwait : 0.01d);
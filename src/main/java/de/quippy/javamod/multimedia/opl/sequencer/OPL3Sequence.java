@@ -47,6 +47,16 @@ import vavi.sound.SoundUtil;
  */
 public abstract class OPL3Sequence {
 
+    /**
+     * The playback state of a sequence at a certain position - with the
+     * registers of the OPL, playback can be continued from there.
+     * Only valid for the sequence that created it.
+     *
+     * @since 17.10.2026
+     */
+    public interface State {
+    }
+
     /**
      * Constructor for OPL3Sequence
      */
@@ -139,7 +149,10 @@ public abstract class OPL3Sequence {
      */
     private static OPL3Sequence getOPL3SequenceInstanceFor(URL url) {
         String extension = Helpers.getExtensionFromURL(url).toUpperCase();
-        return sequences.stream().map(Provider::get).filter(s -> s.isSupportedExtension(extension)).findFirst().orElse(null);
+        // a service loader must not be used by several threads at once
+        synchronized (sequences) {
+            return sequences.stream().map(Provider::get).filter(s -> s.isSupportedExtension(extension)).findFirst().orElse(null);
+        }
     }
 
     /**
@@ -147,7 +160,9 @@ public abstract class OPL3Sequence {
      * @throws java.util.NoSuchElementException no suitable sequence found
      */
     public static OPL3Sequence getOPL3SequenceInstanceFor(InputStream stream) {
-        return sequences.stream().map(Provider::get).filter(s -> s.isSupported(stream)).findFirst().orElseThrow();
+        synchronized (sequences) {
+            return sequences.stream().map(Provider::get).filter(s -> s.isSupported(stream)).findFirst().orElseThrow();
+        }
     }
 
     /** Gets suitable sequence by a stream */
@@ -203,6 +218,21 @@ public abstract class OPL3Sequence {
      */
     public abstract void initialize(EmuOPL opl);
 
+    /**
+     * @return a copy of the playback state after the last updateToOPL
+     * @since 17.10.2026
+     */
+    public abstract State saveState();
+
+    /**
+     * Continues the playback from a state saved before. The sequence must
+     * be initialized, the OPL must have the registers of that state.
+     *
+     * @param state a state of this sequence
+     * @since 17.10.2026
+     */
+    public abstract void restoreState(State state);
+
     /**
      * @return refresh
      * @since 03.08.2020
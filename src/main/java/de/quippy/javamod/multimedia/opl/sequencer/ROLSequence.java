@@ -351,6 +351,15 @@ public class ROLSequence extends OPL3Sequence {
             reset();
         }
 
+        private void copyFrom(CVoiceData other) {
+            mNoteDuration = other.mNoteDuration;
+            currentNoteDuration = other.currentNoteDuration;
+            nextNoteEvent = other.nextNoteEvent;
+            nextInstrumentEvent = other.nextInstrumentEvent;
+            nextVolumeEvent = other.nextVolumeEvent;
+            nextPitchEvent = other.nextPitchEvent;
+        }
+
         private void reset() {
             mNoteDuration =
                     currentNoteDuration =
@@ -538,6 +547,28 @@ public class ROLSequence extends OPL3Sequence {
     private int mOldHalfToneOffset;
     private int mAMVibRhythmCache;
 
+    /**
+     * The positions of all voices and the caches of the register values
+     */
+    private static final class ROLState implements State {
+
+        private CVoiceData[] voiceData;
+        private int[] fNumFreqPtrList;
+        private int[] halfToneOffset;
+        private int[] volumeCache;
+        private int[] ksltlCache;
+        private int[] noteCache;
+        private int[] kOnOctFNumCache;
+        private boolean[] keyOnCache;
+        private int oldFNumFreqPtr;
+        private double refresh;
+        private long oldPitchBendLength;
+        private int nextTempoEvent;
+        private int currTick;
+        private int oldHalfToneOffset;
+        private int amVibRhythmCache;
+    }
+
     // ----
 
     private URL rolFile;
@@ -1086,6 +1117,52 @@ logger.log(Level.DEBUG, e.toString());
         setRefresh(1.0f);
     }
 
+    @Override
+    public State saveState() {
+        ROLState state = new ROLState();
+        state.voiceData = new CVoiceData[mVoiceData.size()];
+        for (int voice = 0; voice < state.voiceData.length; voice++) {
+            state.voiceData[voice] = new CVoiceData();
+            state.voiceData[voice].copyFrom(mVoiceData.get(voice));
+        }
+        state.fNumFreqPtrList = mFNumFreqPtrList.clone();
+        state.halfToneOffset = mHalfToneOffset.clone();
+        state.volumeCache = mVolumeCache.clone();
+        state.ksltlCache = mKSLTLCache.clone();
+        state.noteCache = mNoteCache.clone();
+        state.kOnOctFNumCache = mKOnOctFNumCache.clone();
+        state.keyOnCache = mKeyOnCache.clone();
+        state.oldFNumFreqPtr = mpOldFNumFreqPtr;
+        state.refresh = mRefresh;
+        state.oldPitchBendLength = mOldPitchBendLength;
+        state.nextTempoEvent = mNextTempoEvent;
+        state.currTick = mCurrTick;
+        state.oldHalfToneOffset = mOldHalfToneOffset;
+        state.amVibRhythmCache = mAMVibRhythmCache;
+        return state;
+    }
+
+    @Override
+    public void restoreState(State state) {
+        ROLState rolState = (ROLState) state;
+        for (int voice = 0; voice < rolState.voiceData.length; voice++)
+            mVoiceData.get(voice).copyFrom(rolState.voiceData[voice]);
+        System.arraycopy(rolState.fNumFreqPtrList, 0, mFNumFreqPtrList, 0, mFNumFreqPtrList.length);
+        System.arraycopy(rolState.halfToneOffset, 0, mHalfToneOffset, 0, mHalfToneOffset.length);
+        System.arraycopy(rolState.volumeCache, 0, mVolumeCache, 0, mVolumeCache.length);
+        System.arraycopy(rolState.ksltlCache, 0, mKSLTLCache, 0, mKSLTLCache.length);
+        System.arraycopy(rolState.noteCache, 0, mNoteCache, 0, mNoteCache.length);
+        System.arraycopy(rolState.kOnOctFNumCache, 0, mKOnOctFNumCache, 0, mKOnOctFNumCache.length);
+        System.arraycopy(rolState.keyOnCache, 0, mKeyOnCache, 0, mKeyOnCache.length);
+        mpOldFNumFreqPtr = rolState.oldFNumFreqPtr;
+        mRefresh = rolState.refresh;
+        mOldPitchBendLength = rolState.oldPitchBendLength;
+        mNextTempoEvent = rolState.nextTempoEvent;
+        mCurrTick = rolState.currTick;
+        mOldHalfToneOffset = rolState.oldHalfToneOffset;
+        mAMVibRhythmCache = rolState.amVibRhythmCache;
+    }
+
     @Override
     public double getRefresh() {
         return mRefresh;
@@ -0,0 +1,38 @@
+/*
+ * @(#) BatchRenderListener.java
+ *
+ * Created on 17.10.2026 by Daniel Becker
+ *
+ *-----------------------------------------------------------------------
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation; either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, write to the Free Software
+ *  Foundation, Inc., 675 Mass Ave, Cambridge, MA 02139, USA.
+ *----------------------------------------------------------------------
+ */
+
+package de.quippy.javamod.multimedia.render;
+
+import java.util.EventListener;
+
+
+/**
+ * Informed about every job of a {@link BatchRenderer} done - in the thread
+ * of the worker that rendered it.
+ *
+ * @author Daniel Becker
+ * @since 17.10.2026
+ */
+public interface BatchRenderListener extends EventListener {
+
+    void jobFinished(BatchRenderer.Result result);
+}
@@ -0,0 +1,256 @@
+/*
+ * @(#) BatchRenderer.java
+ *
+ * Created on 17.10.2026 by Daniel Becker
+ *
+ *-----------------------------------------------------------------------
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation; either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, write to the Free Software
+ *  Foundation, Inc., 675 Mass Ave, Cambridge, MA 02139, USA.
+ *----------------------------------------------------------------------
+ */
+
+package de.quippy.javamod.multimedia.render;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import javax.sound.sampled.AudioFormat;
+
+import de.quippy.javamod.io.wav.WaveFile;
+
+
+/**
+ * Renders lots of pieces into wave files - faster than real time, as
+ * there is no sound device to wait for, and in parallel with one
+ * {@link RenderSession} per worker thread.
+ * <p>
+ * Jobs failing do not stop the batch: their error is reported with their
+ * result. Pieces looping forever (mods with "loop song" set) never finish,
+ * so the settings should not demand that.
+ *
+ * @author Daniel Becker
+ * @since 17.10.2026
+ */
+public class BatchRenderer {
+
+    /** amount of frames rendered at once */
+    private static final int BUFFER_FRAMES = 8192;
+
+    /**
+     * A piece and the wave file to render it into
+     */
+    public record Job(URL input, File output) {
+    }
+
+    /**
+     * The outcome of a job
+     *
+     * @param job
+     * @param renderedMillis length of the audio rendered
+     * @param elapsedNanos time it took to load and render it
+     * @param error why the job failed or null
+     */
+    public record Result(Job job, long renderedMillis, long elapsedNanos, Throwable error) {
+
+        public boolean isSuccessful() {
+            return error == null;
+        }
+
+        /**
+         * @return how much faster than real time the piece was rendered
+         */
+        public double getSpeed() {
+            return (elapsedNanos > 0) ? (renderedMillis * 1000000d) / elapsedNanos : 0d;
+        }
+    }
+
+    private final RenderSettings settings;
+    private final ThreadPoolExecutor executor;
+    private final List<BatchRenderListener> listeners;
+
+    /**
+     * Constructor for BatchRenderer
+     *
+     * @param settings used for all jobs
+     * @param threads amount of jobs rendered in parallel
+     */
+    public BatchRenderer(RenderSettings settings, int threads) {
+        super();
+        if (threads < 1) throw new IllegalArgumentException("At least one thread needed: " + threads);
+        this.settings = settings;
+        executor = new ThreadPoolExecutor(threads, threads, 5L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "BatchRenderer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.allowCoreThreadTimeOut(true);
+        listeners = new CopyOnWriteArrayList<>();
+    }
+
+    /**
+     * Constructor for BatchRenderer with one thread per core
+     *
+     * @param settings used for all jobs
+     */
+    public BatchRenderer(RenderSettings settings) {
+        this(settings, Runtime.getRuntime().availableProcessors());
+    }
+
+    public void addBatchRenderListener(BatchRenderListener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeBatchRenderListener(BatchRenderListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Creates the jobs for a file or all supported files in a directory
+     * and its subdirectories. The wave files are named like the pieces
+     * with ".wav" appended - so "song.xm" and "song.it" do not collide -
+     * and keep the directory structure below the output directory.
+     *
+     * @param input file or directory
+     * @param outputDir
+     * @return the jobs sorted by path
+     * @throws IOException if the directory cannot be read
+     */
+    public static List<Job> createJobs(File input, File outputDir) throws IOException {
+        List<Job> jobs = new ArrayList<>();
+        if (input.isDirectory()) {
+            Path root = input.toPath();
+            try (Stream<Path> paths = Files.walk(root)) {
+                for (Path path : paths.filter(Files::isRegularFile).sorted().toList()) {
+                    if (!RenderSession.isSupported(path.getFileName().toString())) continue;
+                    File output = new File(outputDir, root.relativize(path) + ".wav");
+                    jobs.add(new Job(path.toUri().toURL(), output));
+                }
+            }
+        } else {
+            jobs.add(new Job(input.toURI().toURL(), new File(outputDir, input.getName() + ".wav")));
+        }
+        return jobs;
+    }
+
+    /**
+     * Makes the wave files of the jobs unique - jobs of different inputs
+     * may end up with the same file, when their names are flattened into
+     * one output directory (playlists) or several inputs are given. The
+     * first job keeps its file, the following ones get a counter appended:
+     * "song.mod.wav", "song.mod-2.wav", ...
+     *
+     * @param jobs
+     * @return the jobs with unique wave files in the same order
+     */
+    public static List<Job> makeOutputsUnique(List<Job> jobs) {
+        Set<String> outputs = new HashSet<>();
+        List<Job> result = new ArrayList<>(jobs.size());
+        for (Job job : jobs) {
+            File output = job.output();
+            if (!outputs.add(getOutputKey(output))) {
+                String name = output.getName();
+                String baseName = (name.endsWith(".wav")) ? name.substring(0, name.length() - 4) : name;
+                int counter = 2;
+                do {
+                    output = new File(output.getParentFile(), baseName + '-' + counter++ + ".wav");
+                } while (!outputs.add(getOutputKey(output)));
+                job = new Job(job.input(), output);
+            }
+            result.add(job);
+        }
+        return result;
+    }
+
+    /**
+     * @param output
+     * @return the file in a form comparable on case insensitive file systems as well
+     */
+    private static String getOutputKey(File output) {
+        return output.getAbsoluteFile().toPath().normalize().toString().toLowerCase();
+    }
+
+    /**
+     * Renders all jobs - returns, when all are done
+     *
+     * @param jobs
+     * @return the results in the order of the jobs
+     * @throws InterruptedException the jobs not started yet are canceled then
+     */
+    public List<Result> render(List<Job> jobs) throws InterruptedException {
+        List<Future<Result>> futures = new ArrayList<>(jobs.size());
+        for (Job job : jobs) futures.add(executor.submit(() -> render(job)));
+        List<Result> results = new ArrayList<>(jobs.size());
+        try {
+            for (Future<Result> future : futures) results.add(future.get());
+        } catch (InterruptedException ex) {
+            for (Future<Result> future : futures) future.cancel(false);
+            throw ex;
+        } catch (ExecutionException ex) {
+            // render(Job) reports all errors with its result
+            throw new IllegalStateException(ex.getCause());
+        }
+        return results;
+    }
+
+    /**
+     * Renders one job in the current thread
+     *
+     * @param job
+     * @return the result - never throws
+     */
+    public Result render(Job job) {
+        long start = System.nanoTime();
+        long bytes = 0;
+        AudioFormat audioFormat = null;
+        Throwable error = null;
+        try (RenderSession session = RenderSession.open(job.input(), settings)) {
+            audioFormat = session.getAudioFormat();
+            File parent = job.output().getParentFile();
+            if (parent != null) Files.createDirectories(parent.toPath());
+            WaveFile waveFile = new WaveFile();
+            if (waveFile.openForWrite(job.output(), audioFormat) != WaveFile.DDC_SUCCESS)
+                throw new IOException("Cannot create " + job.output());
+            try {
+                byte[] buffer = new byte[BUFFER_FRAMES * audioFormat.getFrameSize()];
+                int read;
+                while ((read = session.render(buffer, 0, buffer.length)) != -1) {
+                    if (waveFile.writeSamples(buffer, 0, read) != WaveFile.DDC_SUCCESS)
+                        throw new IOException("Cannot write " + job.output());
+                    bytes += read;
+                }
+            } finally {
+                waveFile.close();
+            }
+        } catch (Throwable ex) {
+            error = ex;
+        }
+        long renderedMillis = (audioFormat != null) ? (bytes / audioFormat.getFrameSize()) * 1000L / (long) audioFormat.getSampleRate() : 0;
+        Result result = new Result(job, renderedMillis, System.nanoTime() - start, error);
+        for (BatchRenderListener listener : listeners) listener.jobFinished(result);
+        return result;
+    }
+}
@@ -0,0 +1,271 @@
+/*
+ * @(#) RenderSession.java
+ *
+ * Created on 17.10.2026 by Daniel Becker
+ *
+ *-----------------------------------------------------------------------
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation; either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, write to the Free Software
+ *  Foundation, Inc., 675 Mass Ave, Cambridge, MA 02139, USA.
+ *----------------------------------------------------------------------
+ */
+
+package de.quippy.javamod.multimedia.render;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.System.Logger;
+import java.lang.System.Logger.Level;
+import java.net.URL;
+import java.nio.file.Path;
+import java.util.Set;
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+
+import de.quippy.javamod.mixer.BasicMixer;
+import de.quippy.javamod.multimedia.mod.ModMixer;
+import de.quippy.javamod.multimedia.mod.loader.Module;
+import de.quippy.javamod.multimedia.mod.loader.ModuleFactory;
+import de.quippy.javamod.multimedia.mod.midi.ModMidiMixer;
+import de.quippy.javamod.multimedia.opl.OPL3Mixer;
+import de.quippy.javamod.multimedia.opl.sequencer.OPL3Sequence;
+import de.quippy.javamod.multimedia.sid.SIDMixer;
+import de.quippy.javamod.system.Helpers;
+import libsidplay.sidtune.SidTune;
+
+import static java.lang.System.getLogger;
+
+
+/**
+ * Renders one piece (mod, opl or sid) to PCM data without a player, a
+ * GUI or a sound device. Unlike the multimedia containers, which are
+ * singletons holding the piece and the mixer last created, every session
+ * owns its piece and its mixer - so any amount of sessions can render in
+ * parallel, each in its own thread.
+ * <p>
+ * A session itself is not thread safe: it is used by one thread at a time.
+ * <pre>
+ * try (RenderSession session = RenderSession.open(url, new RenderSettings())) {
+ *     byte[] buffer = new byte[8192];
+ *     int read;
+ *     while ((read = session.render(buffer, 0, buffer.length)) != -1) ...
+ * }
+ * </pre>
+ * MIDI events of mods are dropped, as there is no device to play them.
+ *
+ * @author Daniel Becker
+ * @since 17.10.2026
+ */
+public class RenderSession implements Closeable {
+
+    private static final Logger logger = getLogger(RenderSession.class.getName());
+
+    /** same as the SIDContainer */
+    private static final Set<String> SID_EXTENSIONS = Set.of("sid", "dat", "inf");
+    /** same as the OPL3Container */
+    private static final Set<String> OPL_EXTENSIONS = Set.of("rol", "laa", "cmf", "dro", "sci");
+
+    private final URL url;
+    private final BasicMixer mixer;
+    private final Module mod;
+    private final AudioFormat audioFormat;
+    private boolean closed;
+
+    private RenderSession(URL url, BasicMixer mixer, Module mod) {
+        super();
+        this.url = url;
+        this.mixer = mixer;
+        this.mod = mod;
+        this.audioFormat = mixer.getAudioFormat();
+    }
+
+    /**
+     * Opens a session rendering the whole piece
+     *
+     * @param url
+     * @param settings
+     * @return the session ready to render
+     * @throws IOException if the piece cannot be loaded or is not supported
+     */
+    public static RenderSession open(URL url, RenderSettings settings) throws IOException {
+        return open(url, settings, 0, -1);
+    }
+
+    /**
+     * Opens a session rendering a part of the piece
+     *
+     * @param url
+     * @param settings
+     * @param fromMillis start position
+     * @param toMillis stop position or -1 to render till the end
+     * @return the session ready to render
+     * @throws IOException if the piece cannot be loaded or is not supported
+     */
+    public static RenderSession open(URL url, RenderSettings settings, long fromMillis, long toMillis) throws IOException {
+        String fileName = url.getPath();
+        String extension = Helpers.getExtensionFrom(fileName);
+        String preceedingExtension = Helpers.getPreceedingExtensionFrom(fileName);
+
+        Module mod = null;
+        BasicMixer mixer;
+        if (isMod(extension) || isMod(preceedingExtension)) {
+            mod = ModuleFactory.acquireInstance(url);
+            mixer = createModMixer(mod, settings);
+        } else if (SID_EXTENSIONS.contains(extension)) {
+            mixer = createSIDMixer(url, settings);
+        } else {
+            OPL3Sequence sequence = OPL3Sequence.createOPL3Sequence(url, settings.getOPLSoundBankURL());
+            mixer = new OPL3Mixer(settings.getOPLVersion(), settings.getOPLSampleRate(), sequence, settings.isOPLVirtualStereo());
+        }
+
+        try {
+            if (fromMillis > 0) mixer.setMillisecondPosition(fromMillis);
+            if (toMillis >= 0) mixer.setStopMillisecondPosition(toMillis);
+            mixer.openRendering();
+            return new RenderSession(url, mixer, mod);
+        } catch (IOException | RuntimeException ex) {
+            if (mod != null) ModuleFactory.releaseInstance(mod);
+            throw ex;
+        }
+    }
+
+    /**
+     * @param fileName
+     * @return true, if a session can be opened for a file of that name -
+     * judged by its extension only
+     */
+    public static boolean isSupported(String fileName) {
+        String extension = Helpers.getExtensionFrom(fileName);
+        return isMod(extension) || isMod(Helpers.getPreceedingExtensionFrom(fileName)) ||
+                SID_EXTENSIONS.contains(extension) || OPL_EXTENSIONS.contains(extension);
+    }
+
+    private static boolean isMod(String extension) {
+        return !extension.isEmpty() && ModuleFactory.getModuleFromExtension(extension) != null;
+    }
+
+    private static ModMixer createModMixer(Module mod, RenderSettings settings) {
+        ModMixer modMixer = new ModMixer(mod, settings.getBitsPerSample(), settings.getChannels(), settings.getSampleRate(),
+                settings.getInterpolation(), settings.getAmigaEmulation(), settings.isWideStereoMix(), settings.isNoiseReduction(),
+                settings.isMegaBass(), settings.isDCRemoval(), settings.getLoopValue(), settings.getMaxNNAChannels(),
+                settings.getMsBufferSize(), settings.getDitherFilter(), settings.getDitherType(), settings.isDitherByPass());
+        modMixer.setDoSIMD(settings.isDoSIMD());
+        modMixer.setMixThreads(settings.getMixThreads());
+        modMixer.setSnapshotInterval(settings.getSnapshotInterval());
+        // no output device - midi events are dropped
+        modMixer.setModMidiMixer(new ModMidiMixer(null, null, mod.getNChannels()));
+        return modMixer;
+    }
+
+    private static SIDMixer createSIDMixer(URL url, RenderSettings settings) throws IOException {
+        SidTune sidTune;
+        try {
+            sidTune = SidTune.load(Path.of(url.toURI()).toFile());
+        } catch (Exception ex) {
+            throw new IOException("Cannot load " + url, ex);
+        }
+        return new SIDMixer(sidTune, null, settings.getSIDSampleRate(), settings.getSIDModel(), settings.getSIDOptimization(),
+                settings.isSIDFilter(), settings.isSIDVirtualStereo());
+    }
+
+    /**
+     * @return the url rendered
+     */
+    public URL getURL() {
+        return url;
+    }
+
+    /**
+     * @return the format of the PCM data rendered
+     */
+    public AudioFormat getAudioFormat() {
+        return audioFormat;
+    }
+
+    /**
+     * @return the length of the whole piece
+     */
+    public long getLengthInMilliseconds() {
+        return mixer.getLengthInMilliseconds();
+    }
+
+    /**
+     * @return the position rendered so far
+     */
+    public long getMillisecondPosition() {
+        return mixer.getMillisecondPosition();
+    }
+
+    /**
+     * Renders the next PCM data
+     *
+     * @param buffer
+     * @param offset
+     * @param length maximum amount of bytes - a multiple of the frame size
+     * @return the amount of bytes rendered or -1 if the piece is finished
+     * @throws IOException
+     */
+    public int render(byte[] buffer, int offset, int length) throws IOException {
+        if (closed) throw new IOException("Session closed");
+        return mixer.render(buffer, offset, length);
+    }
+
+    /**
+     * @return a stream of the PCM data - reading it renders the piece
+     */
+    public AudioInputStream getAudioInputStream() {
+        InputStream in = new InputStream() {
+            private final byte[] single = new byte[audioFormat.getFrameSize()];
+            private int singleIndex = single.length;
+
+            @Override
+            public int read() throws IOException {
+                if (singleIndex >= single.length) {
+                    if (RenderSession.this.render(single, 0, single.length) == -1) return -1;
+                    singleIndex = 0;
+                }
+                return single[singleIndex++] & 0xFF;
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                if (singleIndex < single.length) {
+                    int rest = Math.min(len, single.length - singleIndex);
+                    System.arraycopy(single, singleIndex, b, off, rest);
+                    singleIndex += rest;
+                    return rest;
+                }
+                return RenderSession.this.render(b, off, len);
+            }
+        };
+        return new AudioInputStream(in, audioFormat, AudioSystem.NOT_SPECIFIED);
+    }
+
+    /**
+     * Stops rendering and hands a mod back to the cache
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) return;
+        closed = true;
+        try {
+            mixer.closeRendering();
+        } catch (IOException ex) {
+            logger.log(Level.DEBUG, "Closing " + url, ex);
+        } finally {
+            if (mod != null) ModuleFactory.releaseInstance(mod);
+        }
+    }
+}
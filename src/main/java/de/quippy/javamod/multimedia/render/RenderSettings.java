@@ -0,0 +1,250 @@
+/*
+ * @(#) RenderSettings.java
+ *
+ * Created on 17.10.2026 by Daniel Becker
+ *
+ *-----------------------------------------------------------------------
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation; either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, write to the Free Software
+ *  Foundation, Inc., 675 Mass Ave, Cambridge, MA 02139, USA.
+ *----------------------------------------------------------------------
+ */
+
+package de.quippy.javamod.multimedia.render;
+
+import java.net.URL;
+import java.util.Properties;
+
+import de.quippy.javamod.multimedia.mod.ModContainer;
+import de.quippy.javamod.multimedia.opl.OPL3Container;
+import de.quippy.javamod.multimedia.opl.emu.EmuOPL.Version;
+import de.quippy.javamod.multimedia.sid.SIDContainer;
+import de.quippy.javamod.system.Helpers;
+
+
+/**
+ * The settings of a {@link RenderSession} - read once from properties
+ * with the keys and defaults of the containers, so the configuration of
+ * the player can be used. Only the constants of the containers are used,
+ * the containers themselves are never loaded.
+ * <p>
+ * Instances are immutable and can be shared by any amount of sessions.
+ *
+ * @author Daniel Becker
+ * @since 17.10.2026
+ */
+public final class RenderSettings {
+
+    /** default of the snapshot interval - a render is not seeked in */
+    public static final String DEFAULT_SNAPSHOTINTERVAL = "0";
+
+    // mods
+    private final int sampleRate;
+    private final int bitsPerSample;
+    private final int channels;
+    private final int interpolation;
+    private final int amigaEmulation;
+    private final boolean wideStereoMix;
+    private final boolean noiseReduction;
+    private final boolean megaBass;
+    private final boolean dcRemoval;
+    private final int loopValue;
+    private final boolean doSIMD;
+    private final int mixThreads;
+    private final int snapshotInterval;
+    private final int maxNNAChannels;
+    private final int msBufferSize;
+    private final int ditherFilter;
+    private final int ditherType;
+    private final boolean ditherByPass;
+
+    // opl
+    private final Version oplVersion;
+    private final int oplSampleRate;
+    private final boolean oplVirtualStereo;
+    private final URL oplSoundBankURL;
+
+    // sid
+    private final int sidSampleRate;
+    private final int sidModel;
+    private final int sidOptimization;
+    private final boolean sidFilter;
+    private final boolean sidVirtualStereo;
+
+    /**
+     * Constructor for RenderSettings with all defaults
+     */
+    public RenderSettings() {
+        this(new Properties());
+    }
+
+    /**
+     * Constructor for RenderSettings
+     *
+     * @param props properties with the keys of ModContainer, OPL3Container
+     * and SIDContainer - missing ones are set to their defaults
+     * @throws IllegalArgumentException if a value cannot be parsed
+     */
+    public RenderSettings(Properties props) {
+        super();
+        sampleRate = Integer.parseInt(props.getProperty(ModContainer.PROPERTY_PLAYER_FREQUENCY, ModContainer.DEFAULT_SAMPLERATE));
+        bitsPerSample = Integer.parseInt(props.getProperty(ModContainer.PROPERTY_PLAYER_BITSPERSAMPLE, ModContainer.DEFAULT_BITSPERSAMPLE));
+        channels = Integer.parseInt(props.getProperty(ModContainer.PROPERTY_PLAYER_STEREO, ModContainer.DEFAULT_CHANNEL));
+        interpolation = Integer.parseInt(props.getProperty(ModContainer.PROPERTY_PLAYER_ISP, ModContainer.DEFAULT_INTERPOLATION_INDEX));
+        amigaEmulation = Integer.parseInt(props.getProperty(ModContainer.PROPERTY_PLAYER_AMIGAEMULATION, ModContainer.DEFAULT_AMIGAEMULATION_INDEX));
+        wideStereoMix = Boolean.parseBoolean(props.getProperty(ModContainer.PROPERTY_PLAYER_WIDESTEREOMIX, ModContainer.DEFAULT_WIDESTEREOMIX));
+        noiseReduction = Boolean.parseBoolean(props.getProperty(ModContainer.PROPERTY_PLAYER_NOISEREDUCTION, ModContainer.DEFAULT_NOISEREDUCTION));
+        megaBass = Boolean.parseBoolean(props.getProperty(ModContainer.PROPERTY_PLAYER_MEGABASS, ModContainer.DEFAULT_MEGABASS));
+        dcRemoval = Boolean.parseBoolean(props.getProperty(ModContainer.PROPERTY_PLAYER_DCREMOVAL, ModContainer.DEFAULT_DCREMOVAL));
+        loopValue = Integer.parseInt(props.getProperty(ModContainer.PROPERTY_PLAYER_NOLOOPS, ModContainer.DEFAULT_NOLOOPS));
+        doSIMD = Boolean.parseBoolean(props.getProperty(ModContainer.PROPERTY_PLAYER_SIMD, ModContainer.DEFAULT_SIMD));
+        mixThreads = Integer.parseInt(props.getProperty(ModContainer.PROPERTY_PLAYER_MIXTHREADS, ModContainer.DEFAULT_MIXTHREADS));
+        snapshotInterval = Integer.parseInt(props.getProperty(ModContainer.PROPERTY_PLAYER_SNAPSHOTINTERVAL, DEFAULT_SNAPSHOTINTERVAL));
+        maxNNAChannels = Integer.parseInt(props.getProperty(ModContainer.PROPERTY_PLAYER_MAXNNACHANNELS, ModContainer.DEFAULT_MAXNNACHANNELS));
+        msBufferSize = Integer.parseInt(props.getProperty(ModContainer.PROPERTY_PLAYER_MSBUFFERSIZE, ModContainer.DEFAULT_MSBUFFERSIZE));
+        ditherFilter = Integer.parseInt(props.getProperty(ModContainer.PROPERTY_PLAYER_DITHERFILTER, ModContainer.DEFAULT_DITHERFILTER));
+        ditherType = Integer.parseInt(props.getProperty(ModContainer.PROPERTY_PLAYER_DITHERTYPE, ModContainer.DEFAULT_DITHERTYPE));
+        ditherByPass = Boolean.parseBoolean(props.getProperty(ModContainer.PROPERTY_PLAYER_DITHERBYPASS, ModContainer.DEFAULT_DITHERBYPASS));
+
+        oplVersion = Enum.valueOf(Version.class, props.getProperty(OPL3Container.PROPERTY_OPL3PLAYER_OPLVERSION, OPL3Container.DEFAULT_OPLVERSION));
+        oplSampleRate = Integer.parseInt(props.getProperty(OPL3Container.PROPERTY_OPL3PLAYER_FREQUENCY, OPL3Container.DEFAULT_SAMPLERATE));
+        oplVirtualStereo = Boolean.parseBoolean(props.getProperty(OPL3Container.PROPERTY_OPL3PLAYER_VIRTUAL_STEREO, OPL3Container.DEFAULT_VIRTUAL_STEREO));
+        String soundBankURL = props.getProperty(OPL3Container.PROPERTY_OPL3PLAYER_SOUNDBANK, OPL3Container.DEFAULT_SOUNDBANKURL);
+        oplSoundBankURL = (soundBankURL == null || soundBankURL.isEmpty()) ? null : Helpers.createURLfromString(soundBankURL);
+
+        sidSampleRate = Integer.parseInt(props.getProperty(SIDContainer.PROPERTY_SID_FREQUENCY, SIDContainer.DEFAULT_SAMPLERATE));
+        sidModel = Integer.parseInt(props.getProperty(SIDContainer.PROPERTY_SID_MODEL, SIDContainer.DEFAULT_SIDMODEL));
+        sidOptimization = Integer.parseInt(props.getProperty(SIDContainer.PROPERTY_SID_OPTIMIZATION, SIDContainer.DEFAULT_OPTIMIZATION));
+        sidFilter = Boolean.parseBoolean(props.getProperty(SIDContainer.PROPERTY_SID_USEFILTER, SIDContainer.DEFAULT_USEFILTER));
+        sidVirtualStereo = Boolean.parseBoolean(props.getProperty(SIDContainer.PROPERTY_SID_VIRTUALSTEREO, SIDContainer.DEFAULT_VIRTUALSTEREO));
+
+        if (sampleRate <= 0 || oplSampleRate <= 0 || sidSampleRate <= 0) throw new IllegalArgumentException("Illegal sample rate");
+        if (bitsPerSample != 8 && bitsPerSample != 16 && bitsPerSample != 24 && bitsPerSample != 32) throw new IllegalArgumentException("Illegal bits per sample: " + bitsPerSample);
+        if (channels != 1 && channels != 2) throw new IllegalArgumentException("Illegal amount of channels: " + channels);
+    }
+
+    public int getSampleRate() {
+        return sampleRate;
+    }
+
+    public int getBitsPerSample() {
+        return bitsPerSample;
+    }
+
+    public int getChannels() {
+        return channels;
+    }
+
+    public int getInterpolation() {
+        return interpolation;
+    }
+
+    public int getAmigaEmulation() {
+        return amigaEmulation;
+    }
+
+    public boolean isWideStereoMix() {
+        return wideStereoMix;
+    }
+
+    public boolean isNoiseReduction() {
+        return noiseReduction;
+    }
+
+    public boolean isMegaBass() {
+        return megaBass;
+    }
+
+    public boolean isDCRemoval() {
+        return dcRemoval;
+    }
+
+    public int getLoopValue() {
+        return loopValue;
+    }
+
+    public boolean isDoSIMD() {
+        return doSIMD;
+    }
+
+    public int getMixThreads() {
+        return mixThreads;
+    }
+
+    public int getSnapshotInterval() {
+        return snapshotInterval;
+    }
+
+    public int getMaxNNAChannels() {
+        return maxNNAChannels;
+    }
+
+    public int getMsBufferSize() {
+        return msBufferSize;
+    }
+
+    public int getDitherFilter() {
+        return ditherFilter;
+    }
+
+    public int getDitherType() {
+        return ditherType;
+    }
+
+    public boolean isDitherByPass() {
+        return ditherByPass;
+    }
+
+    public Version getOPLVersion() {
+        return oplVersion;
+    }
+
+    /**
+     * @return the output rate of OPL pieces - the chips run at their native
+     * rate and are resampled to it
+     */
+    public int getOPLSampleRate() {
+        return oplSampleRate;
+    }
+
+    public boolean isOPLVirtualStereo() {
+        return oplVirtualStereo;
+    }
+
+    /**
+     * @return the sound bank for ROL files or null
+     */
+    public URL getOPLSoundBankURL() {
+        return oplSoundBankURL;
+    }
+
+    public int getSIDSampleRate() {
+        return sidSampleRate;
+    }
+
+    public int getSIDModel() {
+        return sidModel;
+    }
+
+    public int getSIDOptimization() {
+        return sidOptimization;
+    }
+
+    public boolean isSIDFilter() {
+        return sidFilter;
+    }
+
+    public boolean isSIDVirtualStereo() {
+        return sidVirtualStereo;
+    }
+}
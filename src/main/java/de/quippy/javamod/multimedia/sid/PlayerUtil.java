@@ -76,14 +76,16 @@ final class PlayerUtil {
      * <em>some</em> {@link AudioDriver} to render into and signals a full buffer by calling
      * {@link #write()}; here that only stashes the rendered little-endian 16-bit PCM into
      * an internal accumulator &mdash; it performs no I/O and no callbacks. The decoding
-     * loop pulls the accumulated bytes with {@link #available()} / {@link #drain()}.
+     * loop pulls the accumulated bytes with {@link #available()} / {@link #drain()}
+     * or, without allocating, with {@link #drain(byte[], int, int)}.
      */
     static class PcmSink implements AudioDriver {
 
         private ByteBuffer sampleBuffer;
         /** rendered PCM not yet pulled */
         private byte[] pending = new byte[0];
-        private int pendingLen;
+        private int pendingStart;
+        private int pendingEnd;
 
         @Override
         public void open(IAudioSection audioSection, String recordingFilename, CPUClock cpuClock, EventScheduler context) {
@@ -96,25 +98,44 @@ final class PlayerUtil {
         @Override
         public void write() {
             int len = sampleBuffer.position();
-            if (pendingLen + len > pending.length) {
-                pending = Arrays.copyOf(pending, Math.max(pendingLen + len, pending.length * 2));
+            if (pendingStart == pendingEnd) pendingStart = pendingEnd = 0;
+            if (pendingEnd + len > pending.length) {
+                int available = pendingEnd - pendingStart;
+                byte[] newPending = (available + len > pending.length) ? new byte[Math.max(available + len, pending.length * 2)] : pending;
+                System.arraycopy(pending, pendingStart, newPending, 0, available);
+                pending = newPending;
+                pendingStart = 0;
+                pendingEnd = available;
             }
-            System.arraycopy(sampleBuffer.array(), 0, pending, pendingLen, len);
-            pendingLen += len;
+            System.arraycopy(sampleBuffer.array(), 0, pending, pendingEnd, len);
+            pendingEnd += len;
         }
 
         /** Number of rendered PCM bytes waiting to be pulled. */
         int available() {
-            return pendingLen;
+            return pendingEnd - pendingStart;
         }
 
         /** Removes and returns all rendered PCM bytes accumulated so far. */
         byte[] drain() {
-            byte[] chunk = Arrays.copyOf(pending, pendingLen);
-            pendingLen = 0;
+            byte[] chunk = Arrays.copyOfRange(pending, pendingStart, pendingEnd);
+            pendingStart = pendingEnd = 0;
             return chunk;
         }
 
+        /**
+         * Removes up to length rendered PCM bytes and copies them into target -
+         * what does not fit stays for the next call.
+         *
+         * @return the amount of bytes copied
+         */
+        int drain(byte[] target, int offset, int length) {
+            int len = Math.min(length, pendingEnd - pendingStart);
+            System.arraycopy(pending, pendingStart, target, offset, len);
+            pendingStart += len;
+            return len;
+        }
+
         @Override
         public void close() {
         }
@@ -80,6 +80,10 @@ public class SIDMixer extends BasicMixer {
 
     private final SIDContainer parentSIDContainer;
 
+    /** the latch pulled from by render - null if not rendering */
+    private PcmSink renderSink;
+    private boolean renderEnded;
+
     /**
      * Constructor for SIDMixer
      */
@@ -241,11 +245,20 @@ logger.log(Level.DEBUG, "sid sampleRate: " + sampleRate);
             songNumber = (int) (milliseconds / 1000L) + 1;
 //            sidTune.selectSong(songNumber); // TODO impl
             sidPlayer.play(sidTune);
-            parentSIDContainer.nameChanged();
+            fireNameChanged();
             pausePlayback();
         }
     }
 
+    /**
+     * Mixers without a container (like when rendering) have nobody to tell
+     *
+     * @since 17.10.2026
+     */
+    private void fireNameChanged() {
+        if (parentSIDContainer != null) parentSIDContainer.nameChanged();
+    }
+
     private byte[] getOutputBuffer(int length) {
         if (output == null || output.length < length) output = new byte[length];
         return output;
@@ -268,7 +281,7 @@ logger.log(Level.DEBUG, "sid sampleRate: " + sampleRate);
         int byteBufferSize = (isStereo) ? bufferSize : bufferSize << 1;
         setSourceLineBufferSize(byteBufferSize);
 
-        parentSIDContainer.nameChanged();
+        fireNameChanged();
         setIsPlaying();
 
         if (getSeekPosition() > 0) seek(getSeekPosition());
@@ -346,6 +359,111 @@ logger.log(Level.DEBUG, "exit startPlayback");
         }
     }
 
+    /**
+     * Opens the emulation on the caller's thread and installs a passive PCM
+     * latch - shared by the output engine and the pull rendering.
+     *
+     * @return the latch the reSID mixer renders into
+     * @since 17.10.2026
+     */
+    private PcmSink startOutput() throws IOException {
+        initialize();
+        setAudioFormat(new AudioFormat(sampleRate, 16, 2, true, false));
+        int bufferSize = sampleRate;
+        int byteBufferSize = (isStereo) ? bufferSize : bufferSize << 1;
+        setSourceLineBufferSize(byteBufferSize);
+
+        fireNameChanged();
+        setIsPlaying();
+
+        if (getSeekPosition() > 0) seek(getSeekPosition());
+
+        // The reSID mixer renders into an AudioDriver buffer; install a passive
+        // latch (no I/O, no callbacks) so the samples can be pulled instead of the
+        // mixer pushing them out. Installed via the public hook, so the WAV/stream
+        // driver is bypassed entirely.
+        PcmSink sink = new PcmSink();
+        sidPlayer.setAudioDriver(sink);
+
+        // Replicate Player#playerRunnable's start sequence on *this* thread
+        // (no Player thread is started), so the emulation can be clocked by the
+        // caller. The SID-chip insertion and mixer start happen through events
+        // fired while clocking, exactly as in the real play() loop.
+        sidPlayer.stopC64();
+        sidPlayer.setTune(sidTune);
+        sidPlayer.stateProperty().set(OPEN);
+        playerOpen(sidPlayer, sidConfig, sidTune); // private Player#open() + playList
+        sidPlayer.stateProperty().set(START);
+        // Player#menuHook is a UI-only callback; nothing to do in batch mode.
+        sidPlayer.stateProperty().set(PLAY);
+        return sink;
+    }
+
+    /**
+     * @since 17.10.2026
+     */
+    @Override
+    public void openRendering() throws IOException {
+        renderEnded = false;
+        renderSink = startOutput();
+    }
+
+    /**
+     * Clocks the emulation until the reSID mixer has rendered a chunk and
+     * copies it from the latch directly into the buffer given.
+     *
+     * @since 17.10.2026
+     */
+    @Override
+    public int render(byte[] buffer, int offset, int length) throws IOException {
+        if (renderSink == null) throw new IOException("Rendering not opened");
+        if (length == 0) return 0;
+        try {
+            EventScheduler scheduler = sidPlayer.getC64().getEventScheduler();
+            while (renderSink.available() == 0) {
+                if (renderEnded) return -1;
+                if (stopPositionIsReached()) setIsStopping();
+                if (isStopping()) {
+                    sidPlayer.stateProperty().set(QUIT);
+                    return -1;
+                }
+                State state = sidPlayer.stateProperty().get();
+                if (state == PAUSE) {
+                    scheduler.clockThreadSafeEvents();
+                    Thread.sleep(250L);
+                } else if (state == PLAY) {
+                    scheduler.clock();
+                } else {
+                    setHasFinished();
+                    return -1;
+                }
+            }
+        } catch (SongEndException e) {
+            sidPlayer.getTimer().end();
+            setHasFinished();
+            renderEnded = true;
+            // deliver whatever was rendered before the end
+            if (renderSink.available() == 0) return -1;
+        } catch (IOException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IOException(e);
+        }
+        return renderSink.drain(buffer, offset, length);
+    }
+
+    /**
+     * @since 17.10.2026
+     */
+    @Override
+    public void closeRendering() throws IOException {
+        if (renderSink != null) {
+            renderSink = null;
+            PlayerUtil.playerClose(sidPlayer); // private Player#close(): teardown
+            setIsStopped();
+        }
+    }
+
     /**
      * Single threaded decoding.
      * <p>
@@ -381,34 +499,7 @@ logger.log(Level.DEBUG, "exit startPlayback");
                 }
                 this.out = out;
 
-                SIDMixer.this.initialize();
-                int bufferSize = sampleRate;
-                int byteBufferSize = (isStereo) ? bufferSize : bufferSize << 1;
-                setSourceLineBufferSize(byteBufferSize);
-
-                parentSIDContainer.nameChanged();
-                setIsPlaying();
-
-                if (getSeekPosition() > 0) seek(getSeekPosition());
-
-                // The reSID mixer renders into an AudioDriver buffer; install a passive
-                // latch (no I/O, no callbacks) so execute() can pull the samples itself
-                // instead of the mixer pushing them out. Installed via the public hook,
-                // so the WAV/stream driver is bypassed entirely.
-                sink = new PcmSink();
-                sidPlayer.setAudioDriver(sink);
-
-                // Replicate Player#playerRunnable's start sequence on *this* thread
-                // (no Player thread is started), so the emulation can be clocked from
-                // execute(). The SID-chip insertion and mixer start happen through events
-                // fired while clocking, exactly as in the real play() loop.
-                sidPlayer.stopC64();
-                sidPlayer.setTune(sidTune);
-                sidPlayer.stateProperty().set(OPEN);
-                playerOpen(sidPlayer, sidConfig, sidTune); // private Player#open() + playList
-                sidPlayer.stateProperty().set(START);
-                // Player#menuHook is a UI-only callback; nothing to do in batch mode.
-                sidPlayer.stateProperty().set(PLAY);
+                sink = startOutput();
             }
 
             @Override
@@ -2251,8 +2251,8 @@ public class FMOPL_072 {
             return (p >= TL_TAB_LEN) ? 0 : tl_tab[p];
         }
 
-        /** lock/unlock for common table */
-        private static int lockTable() {
+        /** lock/unlock for common table - chips can be created by several threads at once */
+        private static synchronized int lockTable() {
             num_lock++;
             if (num_lock > 1) return 0;
 
@@ -0,0 +1,893 @@
+/*
+ * @(#) YMF262.java
+ *
+ * Created on 17.10.2026 by Daniel Becker
+ *
+ *-----------------------------------------------------------------------
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation; either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, write to the Free Software
+ *  Foundation, Inc., 675 Mass Ave, Cambridge, MA 02139, USA.
+ *----------------------------------------------------------------------
+ *
+ * The tables and the envelope generator follow ymf262.c of MAME by
+ * Jarek Burczynski - like FMOPL_072 does for the OPL2. The routing of the
+ * four operator channels follows Nuked OPL3 by Alexey Khokholov (Nuke.YKT).
+ */
+
+package de.quippy.opl;
+
+
+/**
+ * Table driven software implementation of the Yamaha YMF262 (OPL3):
+ * integers only, no floating point at all while playing.
+ * <ul>
+ * <li>Operators look up a log-sin table and add the envelope as an
+ * attenuation in the same log domain - the sum indexes a precomputed exp
+ * table holding the signed output.</li>
+ * <li>Phases are 16.16 fixed point accumulators. Their increments, the key
+ * scaling and the envelope rates are computed when a register is written,
+ * not while playing.</li>
+ * <li>Envelopes do one step per output frame with the increment tables of
+ * the chip.</li>
+ * <li>Tremolo, vibrato and the rhythm noise are plain counters and a shift
+ * register.</li>
+ * </ul>
+ * One frame computes every operator once - there is no emulation of the
+ * single chip cycles. Like {@link OPL3} it renders at 49716 Hz - the native
+ * rate of the chip - four 16 bit channels (CHA..CHD) per frame.
+ *
+ * @author Daniel Becker
+ * @since 17.10.2026
+ */
+public final class YMF262 {
+
+    /** the native sample rate */
+    public static final int SAMPLE_RATE = 49716;
+
+    /** 16.16 fixed point (frequency calculations) */
+    private static final int FREQ_SH = 16;
+    private static final int FREQ_MASK = (1 << FREQ_SH) - 1;
+
+    private static final int ENV_BITS = 10;
+    private static final int ENV_LEN = 1 << ENV_BITS;
+    private static final double ENV_STEP = 128.0d / ENV_LEN;
+    private static final int MAX_ATT_INDEX = (1 << (ENV_BITS - 1)) - 1; // 511
+    private static final int MIN_ATT_INDEX = 0;
+
+    private static final int SIN_BITS = 10;
+    private static final int SIN_LEN = 1 << SIN_BITS;
+    private static final int SIN_MASK = SIN_LEN - 1;
+
+    /** 8 bits addressing (real chip) */
+    private static final int TL_RES_LEN = 256;
+    /** 13 amplitude bits, the sign and TL_RES_LEN steps */
+    private static final int TL_TAB_LEN = 13 * 2 * TL_RES_LEN;
+    private static final int ENV_QUIET = TL_TAB_LEN >> 4;
+
+    // exp table: the signed output of an attenuation - even index positive, odd negative
+    private static final int[] TL_TAB = new int[TL_TAB_LEN];
+    // log-sin table: the attenuation of the eight waveforms, the lowest bit is the sign
+    private static final int[] SIN_TAB = new int[SIN_LEN * 8];
+
+    static {
+        for (int x = 0; x < TL_RES_LEN; x++) {
+            int n = (int) Math.floor((1 << 16) / Math.pow(2, (x + 1) * (ENV_STEP / 4.0d) / 8.0d));
+            n >>= 4; // 12 bits here
+            n = ((n & 1) != 0) ? (n >> 1) + 1 : n >> 1; // round to nearest
+            n <<= 1; // 12 bits here (as in real chip)
+            for (int i = 0; i < 13; i++) {
+                TL_TAB[x * 2 + i * 2 * TL_RES_LEN] = n >> i;
+                TL_TAB[x * 2 + 1 + i * 2 * TL_RES_LEN] = -(n >> i);
+            }
+        }
+
+        for (int i = 0; i < SIN_LEN; i++) {
+            // non-standard sinus - checked against the real chip, never zero due to ((i * 2) + 1)
+            double m = Math.sin(((i * 2) + 1) * Math.PI / SIN_LEN);
+            double o = 8.0d * Math.log(1.0d / Math.abs(m)) / Math.log(2.0d); // 'decibels'
+            o /= ENV_STEP / 4.0d;
+            int n = (int) (2.0d * o);
+            n = ((n & 1) != 0) ? (n >> 1) + 1 : n >> 1; // round to nearest
+            SIN_TAB[i] = n * 2 + ((m >= 0.0d) ? 0 : 1);
+        }
+
+        int half = 1 << (SIN_BITS - 1);
+        for (int i = 0; i < SIN_LEN; i++) {
+            // 1: half sine
+            SIN_TAB[1 * SIN_LEN + i] = ((i & half) != 0) ? TL_TAB_LEN : SIN_TAB[i];
+            // 2: absolute sine
+            SIN_TAB[2 * SIN_LEN + i] = SIN_TAB[i & (SIN_MASK >> 1)];
+            // 3: pulse sine - the first quarter only
+            SIN_TAB[3 * SIN_LEN + i] = ((i & (half >> 1)) != 0) ? TL_TAB_LEN : SIN_TAB[i & (SIN_MASK >> 2)];
+            // 4: sine - even periods only
+            SIN_TAB[4 * SIN_LEN + i] = ((i & half) != 0) ? TL_TAB_LEN : SIN_TAB[(i * 2) & SIN_MASK];
+            // 5: absolute sine - even periods only
+            SIN_TAB[5 * SIN_LEN + i] = ((i & half) != 0) ? TL_TAB_LEN : SIN_TAB[(i * 2) & (SIN_MASK >> 1)];
+            // 6: square
+            SIN_TAB[6 * SIN_LEN + i] = ((i & half) != 0) ? 1 : 0;
+            // 7: derived square
+            int x = ((i & half) != 0) ? ((SIN_LEN - 1) - i) * 16 + 1 : i * 16;
+            SIN_TAB[7 * SIN_LEN + i] = Math.min(x, TL_TAB_LEN);
+        }
+    }
+
+    private static final int RATE_STEPS = 8;
+
+    /** envelope increments per step of the envelope counter */
+    private static final int[] EG_INC = {
+            // cycle:0 1  2 3  4 5  6 7
+            0, 1, 0, 1, 0, 1, 0, 1, // rates 00..12 0 (increment by 0 or 1)
+            0, 1, 0, 1, 1, 1, 0, 1, // rates 00..12 1
+            0, 1, 1, 1, 0, 1, 1, 1, // rates 00..12 2
+            0, 1, 1, 1, 1, 1, 1, 1, // rates 00..12 3
+
+            1, 1, 1, 1, 1, 1, 1, 1, // rate 13 0 (increment by 1)
+            1, 1, 1, 2, 1, 1, 1, 2, // rate 13 1
+            1, 2, 1, 2, 1, 2, 1, 2, // rate 13 2
+            1, 2, 2, 2, 1, 2, 2, 2, // rate 13 3
+
+            2, 2, 2, 2, 2, 2, 2, 2, // rate 14 0 (increment by 2)
+            2, 2, 2, 4, 2, 2, 2, 4, // rate 14 1
+            2, 4, 2, 4, 2, 4, 2, 4, // rate 14 2
+            2, 4, 4, 4, 2, 4, 4, 4, // rate 14 3
+
+            4, 4, 4, 4, 4, 4, 4, 4, // rates 15 0, 15 1, 15 2, 15 3 (increment by 4)
+            8, 8, 8, 8, 8, 8, 8, 8, // rates 15 2, 15 3 for attack
+            0, 0, 0, 0, 0, 0, 0, 0, // infinity rates for attack and decay(s)
+    };
+
+    /** rate to increment row and counter shift - 16 infinite rates, 64 rates, 16 rates of the key scaling */
+    private static final int[] EG_RATE_SELECT = new int[16 + 64 + 16];
+    private static final int[] EG_RATE_SHIFT = new int[16 + 64 + 16];
+
+    static {
+        for (int rate = 0; rate < EG_RATE_SELECT.length; rate++) {
+            int r = rate - 16;
+            if (r < 0) {
+                EG_RATE_SELECT[rate] = 14 * RATE_STEPS;
+            } else if (r < 52) {
+                EG_RATE_SELECT[rate] = (r & 3) * RATE_STEPS;
+                EG_RATE_SHIFT[rate] = 12 - (r >> 2);
+            } else if (r < 60) {
+                EG_RATE_SELECT[rate] = (4 + (r - 52)) * RATE_STEPS;
+            } else {
+                EG_RATE_SELECT[rate] = 12 * RATE_STEPS;
+            }
+        }
+    }
+
+    /** the attack of rates from 15 0 on is instant */
+    private static final int EG_RATE_INSTANT = 16 + 60;
+
+    /** sustain level table (3dB per step) - 0 - 15: 0, 3, 6, 9,12,15,18,21,24,27,30,33,36,39,42,93 (dB) */
+    private static final int[] SL_TAB = {0, 16, 32, 48, 64, 80, 96, 112, 128, 144, 160, 176, 192, 208, 224, 496};
+    /** multiple table - doubled, mult 0 is a half */
+    private static final int[] MUL_TAB = {1, 2, 4, 6, 8, 10, 12, 14, 16, 18, 20, 20, 24, 24, 30, 30};
+    /** key scale level of the upper four bits of fnum in octave 8 */
+    private static final int[] KSL_ROM = {0, 32, 40, 45, 48, 51, 53, 55, 56, 58, 59, 60, 61, 62, 63, 64};
+    /** 0 / 3.0 / 1.5 / 6.0 dB/OCT */
+    private static final int[] KSL_SHIFT = {8, 1, 2, 0};
+
+    private static final int LFO_AM_TAB_ELEMENTS = 210;
+    /**
+     * LFO amplitude modulation: 27 levels of a triangle, each element lasts
+     * 64 frames - 13440 frames for the whole table
+     */
+    private static final int[] LFO_AM_TAB = new int[LFO_AM_TAB_ELEMENTS];
+
+    static {
+        int i = 0;
+        for (int n = 0; n < 7; n++) LFO_AM_TAB[i++] = 0;
+        for (int level = 1; level < 26; level++) for (int n = 0; n < 4; n++) LFO_AM_TAB[i++] = level;
+        for (int n = 0; n < 3; n++) LFO_AM_TAB[i++] = 26;
+        for (int level = 25; level > 0; level--) for (int n = 0; n < 4; n++) LFO_AM_TAB[i++] = level;
+    }
+
+    /** LFO phase modulation per upper three bits of fnum - depth 0 and 1 */
+    private static final int[] LFO_PM_TAB = {
+            0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0,
+            0, 0, 0, 0, 0, 0, 0, 0, 1, 0, 0, 0, -1, 0, 0, 0,
+            1, 0, 0, 0, -1, 0, 0, 0, 2, 1, 0, -1, -2, -1, 0, 1,
+            1, 0, 0, 0, -1, 0, 0, 0, 3, 1, 0, -1, -3, -1, 0, 1,
+            2, 1, 0, -1, -2, -1, 0, 1, 4, 2, 0, -2, -4, -2, 0, 2,
+            2, 1, 0, -1, -2, -1, 0, 1, 5, 2, 0, -2, -5, -2, 0, 2,
+            3, 1, 0, -1, -3, -1, 0, 1, 6, 3, 0, -3, -6, -3, 0, 3,
+            3, 1, 0, -1, -3, -1, 0, 1, 7, 3, 0, -3, -7, -3, 0, 3
+    };
+
+    /** register offset to slot in one bank - channel * 2 + operator */
+    private static final int[] SLOT_ARRAY = {
+            0, 2, 4, 1, 3, 5, -1, -1,
+            6, 8, 10, 7, 9, 11, -1, -1,
+            12, 14, 16, 13, 15, 17, -1, -1,
+            -1, -1, -1, -1, -1, -1, -1, -1
+    };
+
+    // envelope generator phases
+    private static final int EG_ATT = 4;
+    private static final int EG_DEC = 3;
+    private static final int EG_SUS = 2;
+    private static final int EG_REL = 1;
+    private static final int EG_OFF = 0;
+
+    /** the slots the rhythm sounds take their phase from - even when silent */
+    private static final long RHYTHM_PHASE_SLOTS = (1L << (7 * 2)) | (1L << (8 * 2 + 1));
+
+    private static final int KEY_NORMAL = 0x01;
+    private static final int KEY_DRUM = 0x02;
+
+    /**
+     * Where the operators put their output - slots refer to it by index:
+     * the phase modulation of the next operator, the one of the second
+     * channel of a four operator pair, and the output of each channel
+     */
+    private static final int PM = 0;
+    private static final int PM2 = 1;
+    private static final int CHANOUT = 2;
+    private final int[] signals = new int[CHANOUT + 18];
+
+    private static final class Slot {
+
+        /** the bit of this slot in {@link #sounding} */
+        final long bit;
+
+        /** attack rate: 16 + AR << 2, 0 is infinite */
+        int ar;
+        /** decay rate: 16 + DR << 2, 0 is infinite */
+        int dr;
+        /** release rate: 16 + RR << 2, 0 is infinite */
+        int rr;
+        /** key scale rate: 0 or 2 */
+        int ksrShift;
+        /** key scale rate: kcode >> ksrShift */
+        int ksr;
+        /** key scale level shift */
+        int ksl;
+        int mul;
+
+        // phase generator
+        int cnt;
+        int incr;
+        /** feedback shift, 0 is none */
+        int fb;
+        int op1Out0;
+        int op1Out1;
+        int con;
+        /** index into the signals */
+        int connect;
+
+        // envelope generator
+        /** non-zero is a sustained sound, zero percussive */
+        int egType;
+        int state;
+        /** total level: TL << 2 */
+        int tl;
+        /** total level plus key scale level */
+        int tll;
+        int volume;
+        int sl;
+        int egShAr, egMaskAr, egSelAr;
+        int egShDr, egMaskDr, egSelDr;
+        int egShRr, egMaskRr, egSelRr;
+        int key;
+
+        // LFO
+        int amMask;
+        boolean vib;
+
+        int waveTable;
+
+        Slot(int slotNum) {
+            bit = 1L << slotNum;
+        }
+
+        void keyOn(int keySet) {
+            if (key == 0) {
+                cnt = 0;
+                state = EG_ATT;
+            }
+            key |= keySet;
+        }
+
+        void keyOff(int keyClr) {
+            if (key != 0) {
+                key &= ~keyClr;
+                if (key == 0 && state > EG_REL) state = EG_REL;
+            }
+        }
+
+        void updateRates() {
+            int rate = ar + ksr;
+            if (rate < EG_RATE_INSTANT) {
+                egShAr = EG_RATE_SHIFT[rate];
+                egSelAr = EG_RATE_SELECT[rate];
+            } else {
+                egShAr = 0;
+                egSelAr = 13 * RATE_STEPS;
+            }
+            egMaskAr = (1 << egShAr) - 1;
+            egShDr = EG_RATE_SHIFT[dr + ksr];
+            egSelDr = EG_RATE_SELECT[dr + ksr];
+            egMaskDr = (1 << egShDr) - 1;
+            egShRr = EG_RATE_SHIFT[rr + ksr];
+            egSelRr = EG_RATE_SELECT[rr + ksr];
+            egMaskRr = (1 << egShRr) - 1;
+        }
+
+        void reset() {
+            ar = dr = rr = ksr = mul = 0;
+            ksl = KSL_SHIFT[0];
+            ksrShift = 2;
+            cnt = incr = fb = op1Out0 = op1Out1 = con = 0;
+            egType = tl = tll = sl = key = amMask = 0;
+            vib = false;
+            state = EG_OFF;
+            volume = MAX_ATT_INDEX;
+            waveTable = 0;
+            updateRates();
+        }
+    }
+
+    private static final class Channel {
+
+        final int chNum;
+        final Slot slot1;
+        final Slot slot2;
+        /** block and fnum - 13 bits */
+        int blockFnum;
+        /** phase increment of multiple 1 */
+        int fc;
+        int kslBase;
+        int kcode;
+        /** first channel of a four operator pair - its slots modulate the second one */
+        boolean fourOp;
+        /** second channel of a four operator pair - its frequency and key follow the first one */
+        boolean fourOpSecond;
+        /** masks of the outputs CHA..CHD */
+        int panA, panB, panC, panD;
+
+        Channel(int chNum) {
+            this.chNum = chNum;
+            slot1 = new Slot(chNum << 1);
+            slot2 = new Slot((chNum << 1) + 1);
+        }
+
+        void updateSlot(Slot slot) {
+            slot.incr = fc * slot.mul;
+            slot.ksr = kcode >> slot.ksrShift;
+            slot.updateRates();
+            slot.tll = slot.tl + (kslBase >> slot.ksl);
+        }
+
+        void setBlockFnum(int blockFnum, boolean nts) {
+            int block = blockFnum >> 10;
+            int fnum = blockFnum & 0x3ff;
+            this.blockFnum = blockFnum;
+            kslBase = Math.max(0, (KSL_ROM[fnum >> 6] << 2) - ((8 - block) << 5));
+            fc = (fnum << 12) >> (7 - block);
+            kcode = (block << 1) | ((nts) ? (fnum >> 8) & 1 : (fnum >> 9) & 1);
+            updateSlot(slot1);
+            updateSlot(slot2);
+        }
+    }
+
+    private final Channel[] channels;
+    private final Slot[] slots;
+
+    /** the slots not in the off state - the others need no envelope and phase steps */
+    private long sounding;
+    private int egCnt;
+    private int lfoAmCnt;
+    private int lfoPmCnt;
+    private int lfoAm;
+    private int lfoPm;
+    private boolean lfoAmDepth;
+    private int lfoPmDepthRange;
+    private int noiseRng;
+    private int rhythm;
+    private boolean nts;
+    private boolean newm;
+    private int fourOpEnable;
+
+    /**
+     * Constructor for YMF262
+     */
+    public YMF262() {
+        super();
+        channels = new Channel[18];
+        slots = new Slot[36];
+        for (int i = 0; i < 18; i++) {
+            channels[i] = new Channel(i);
+            slots[i << 1] = channels[i].slot1;
+            slots[(i << 1) + 1] = channels[i].slot2;
+        }
+        reset();
+    }
+
+    /**
+     * Resets the chip to its power on state
+     */
+    public void reset() {
+        java.util.Arrays.fill(signals, 0);
+        sounding = 0;
+        egCnt = 0;
+        lfoAmCnt = lfoPmCnt = lfoAm = lfoPm = 0;
+        lfoAmDepth = false;
+        lfoPmDepthRange = 0;
+        noiseRng = 1;
+        rhythm = 0;
+        nts = false;
+        newm = false;
+        fourOpEnable = 0;
+        for (Channel channel : channels) {
+            channel.slot1.reset();
+            channel.slot2.reset();
+            channel.blockFnum = channel.fc = channel.kslBase = channel.kcode = 0;
+            channel.fourOp = channel.fourOpSecond = false;
+            channel.panA = channel.panB = ~0;
+            channel.panC = channel.panD = 0;
+            updateConnection(channel);
+        }
+    }
+
+    //
+    // Registers
+    //
+
+    /** the four operator pairs are channel 0-2 with 3-5 of both banks */
+    private static boolean isFourOpCapable(int chNum) {
+        return (chNum % 9) < 3;
+    }
+
+    private static int fourOpBit(int chNum) {
+        return 1 << ((chNum < 9) ? chNum : chNum - 9 + 3);
+    }
+
+    private void updateFourOp() {
+        for (int chNum = 0; chNum < 18; chNum++) {
+            if (!isFourOpCapable(chNum)) continue;
+            Channel first = channels[chNum];
+            Channel second = channels[chNum + 3];
+            first.fourOp = second.fourOpSecond = newm && (fourOpEnable & fourOpBit(chNum)) != 0;
+            updateConnection(first);
+            updateConnection(second);
+        }
+    }
+
+    /**
+     * Sets where the slots of a channel put their output. The four
+     * operator pairs route everything to the output of their second channel.
+     */
+    private void updateConnection(Channel channel) {
+        if (channel.fourOp || channel.fourOpSecond) {
+            Channel first = (channel.fourOp) ? channel : channels[channel.chNum - 3];
+            Channel second = channels[first.chNum + 3];
+            int out = CHANOUT + second.chNum;
+            switch ((first.slot1.con << 1) | second.slot1.con) {
+                case 0: // 1 -> 2 -> 3 -> 4 -> out
+                    first.slot1.connect = PM;
+                    first.slot2.connect = PM2;
+                    second.slot1.connect = PM;
+                    break;
+                case 1: // 1 -> 2 -> out, 3 -> 4 -> out
+                    first.slot1.connect = PM;
+                    first.slot2.connect = out;
+                    second.slot1.connect = PM;
+                    break;
+                case 2: // 1 -> out, 2 -> 3 -> 4 -> out
+                    first.slot1.connect = out;
+                    first.slot2.connect = PM2;
+                    second.slot1.connect = PM;
+                    break;
+                default: // 1 -> out, 2 -> 3 -> out, 4 -> out
+                    first.slot1.connect = out;
+                    first.slot2.connect = PM2;
+                    second.slot1.connect = out;
+                    break;
+            }
+            second.slot2.connect = out;
+        } else {
+            channel.slot1.connect = (channel.slot1.con != 0) ? CHANOUT + channel.chNum : PM;
+            channel.slot2.connect = CHANOUT + channel.chNum;
+        }
+    }
+
+    private void writeSlot(Channel channel, Slot slot, int reg, int data) {
+        switch (reg & 0xe0) {
+            case 0x20: // am, vib, eg type, ksr, mult
+                slot.mul = MUL_TAB[data & 0x0f];
+                slot.ksrShift = ((data & 0x10) != 0) ? 0 : 2;
+                slot.egType = data & 0x20;
+                slot.vib = (data & 0x40) != 0;
+                slot.amMask = ((data & 0x80) != 0) ? ~0 : 0;
+                channel.updateSlot(slot);
+                break;
+            case 0x40: // ksl, tl
+                slot.ksl = KSL_SHIFT[data >> 6];
+                slot.tl = (data & 0x3f) << 2;
+                channel.updateSlot(slot);
+                break;
+            case 0x60: // ar, dr
+                slot.ar = ((data >> 4) != 0) ? 16 + ((data >> 4) << 2) : 0;
+                slot.dr = ((data & 0x0f) != 0) ? 16 + ((data & 0x0f) << 2) : 0;
+                slot.updateRates();
+                break;
+            case 0x80: // sl, rr
+                slot.sl = SL_TAB[data >> 4];
+                slot.rr = ((data & 0x0f) != 0) ? 16 + ((data & 0x0f) << 2) : 0;
+                slot.updateRates();
+                break;
+            default: // waveform select
+                slot.waveTable = (data & ((newm) ? 0x07 : 0x03)) * SIN_LEN;
+                break;
+        }
+    }
+
+    private void writeRhythm(int data) {
+        lfoAmDepth = (data & 0x80) != 0;
+        lfoPmDepthRange = ((data & 0x40) != 0) ? 8 : 0;
+        rhythm = data & 0x3f;
+        boolean on = (rhythm & 0x20) != 0;
+        setDrumKey(channels[6].slot1, on && (data & 0x10) != 0); // bass drum
+        setDrumKey(channels[6].slot2, on && (data & 0x10) != 0);
+        setDrumKey(channels[7].slot1, on && (data & 0x01) != 0); // high hat
+        setDrumKey(channels[7].slot2, on && (data & 0x08) != 0); // snare drum
+        setDrumKey(channels[8].slot1, on && (data & 0x04) != 0); // tom tom
+        setDrumKey(channels[8].slot2, on && (data & 0x02) != 0); // top cymbal
+    }
+
+    private void setDrumKey(Slot slot, boolean on) {
+        if (on) keyOn(slot, KEY_DRUM);
+        else slot.keyOff(KEY_DRUM);
+    }
+
+    private void keyOn(Slot slot, int keySet) {
+        slot.keyOn(keySet);
+        if (slot.state != EG_OFF) sounding |= slot.bit;
+    }
+
+    private void writeFrequency(Channel channel, int reg, int data) {
+        // the frequency of the second channel of a four operator pair is the one of the first
+        if (channel.fourOpSecond) return;
+        int blockFnum;
+        if ((reg & 0x10) == 0) {
+            blockFnum = (channel.blockFnum & 0x1f00) | data;
+        } else {
+            blockFnum = ((data & 0x1f) << 8) | (channel.blockFnum & 0xff);
+            boolean on = (data & 0x20) != 0;
+            setKey(channel, on);
+            if (channel.fourOp) setKey(channels[channel.chNum + 3], on);
+        }
+        if (channel.blockFnum != blockFnum) channel.setBlockFnum(blockFnum, nts);
+        if (channel.fourOp && channels[channel.chNum + 3].blockFnum != blockFnum)
+            channels[channel.chNum + 3].setBlockFnum(blockFnum, nts);
+    }
+
+    private void setKey(Channel channel, boolean on) {
+        if (on) {
+            keyOn(channel.slot1, KEY_NORMAL);
+            keyOn(channel.slot2, KEY_NORMAL);
+        } else {
+            channel.slot1.keyOff(KEY_NORMAL);
+            channel.slot2.keyOff(KEY_NORMAL);
+        }
+    }
+
+    private void writeChannelC0(Channel channel, int data) {
+        int fb = (data >> 1) & 0x07;
+        channel.slot1.fb = (fb != 0) ? fb + 7 : 0;
+        channel.slot1.con = data & 0x01;
+        if (newm) {
+            channel.panA = ((data & 0x10) != 0) ? ~0 : 0;
+            channel.panB = ((data & 0x20) != 0) ? ~0 : 0;
+            channel.panC = ((data & 0x40) != 0) ? ~0 : 0;
+            channel.panD = ((data & 0x80) != 0) ? ~0 : 0;
+        } else {
+            channel.panA = channel.panB = ~0;
+            channel.panC = channel.panD = 0;
+        }
+        updateConnection(channel);
+    }
+
+    /**
+     * Writes a register
+     *
+     * @param array register bank 0 or 1
+     * @param address
+     * @param data
+     */
+    public void write(int array, int address, int data) {
+        int high = array & 0x01;
+        int reg = address & 0xff;
+        data &= 0xff;
+        switch (reg & 0xe0) {
+            case 0x00:
+                if (high != 0) {
+                    if (reg == 0x04) {
+                        fourOpEnable = data & 0x3f;
+                        updateFourOp();
+                    } else if (reg == 0x05) {
+                        newm = (data & 0x01) != 0;
+                        updateFourOp();
+                    }
+                } else if (reg == 0x08) {
+                    nts = (data & 0x40) != 0;
+                }
+                break;
+            case 0x20:
+            case 0x40:
+            case 0x60:
+            case 0x80:
+            case 0xe0:
+                int slotNum = SLOT_ARRAY[reg & 0x1f];
+                if (slotNum < 0) break;
+                Channel channel = channels[9 * high + (slotNum >> 1)];
+                writeSlot(channel, ((slotNum & 1) == 0) ? channel.slot1 : channel.slot2, reg, data);
+                break;
+            case 0xa0: // fnum, key on, block - and the rhythm register
+                if (reg == 0xbd) {
+                    if (high == 0) writeRhythm(data);
+                } else if ((reg & 0x0f) < 9) {
+                    writeFrequency(channels[9 * high + (reg & 0x0f)], reg, data);
+                }
+                break;
+            case 0xc0: // outputs, feedback, connection
+                if (reg < 0xc9) writeChannelC0(channels[9 * high + (reg & 0x0f)], data);
+                break;
+        }
+    }
+
+    //
+    // Output
+    //
+
+    private static int opCalc(int phase, int env, int pm, int waveTable) {
+        int p = (env << 4) + SIN_TAB[waveTable + ((((phase & ~FREQ_MASK) + (pm << 16)) >> FREQ_SH) & SIN_MASK)];
+        return (p >= TL_TAB_LEN) ? 0 : TL_TAB[p];
+    }
+
+    private static int opCalc1(int phase, int env, int pm, int waveTable) {
+        int p = (env << 4) + SIN_TAB[waveTable + ((((phase & ~FREQ_MASK) + pm) >> FREQ_SH) & SIN_MASK)];
+        return (p >= TL_TAB_LEN) ? 0 : TL_TAB[p];
+    }
+
+    private int volume(Slot slot) {
+        return slot.tll + slot.volume + (lfoAm & slot.amMask);
+    }
+
+    /** a two operator channel or the first channel of a four operator pair */
+    private void calcChannel(Channel channel) {
+        int[] signals = this.signals;
+        signals[PM] = 0;
+        signals[PM2] = 0;
+
+        Slot slot = channel.slot1;
+        // silent - nothing to compute once the feedback has run out
+        if (slot.state == EG_OFF && channel.slot2.state == EG_OFF && (slot.op1Out0 | slot.op1Out1) == 0) return;
+        int env = volume(slot);
+        int out = slot.op1Out0 + slot.op1Out1;
+        slot.op1Out0 = slot.op1Out1;
+        slot.op1Out1 = 0;
+        if (env < ENV_QUIET) {
+            if (slot.fb == 0) out = 0;
+            slot.op1Out1 = opCalc1(slot.cnt, env, out << slot.fb, slot.waveTable);
+        }
+        signals[slot.connect] += slot.op1Out1;
+
+        slot = channel.slot2;
+        env = volume(slot);
+        if (env < ENV_QUIET) signals[slot.connect] += opCalc(slot.cnt, env, signals[PM], slot.waveTable);
+    }
+
+    /** the second channel of a four operator pair - modulated by the first one */
+    private void calcChannelExt(Channel channel) {
+        int[] signals = this.signals;
+        signals[PM] = 0;
+
+        Slot slot = channel.slot1;
+        if (slot.state == EG_OFF && channel.slot2.state == EG_OFF) return;
+        int env = volume(slot);
+        if (env < ENV_QUIET) signals[slot.connect] += opCalc(slot.cnt, env, signals[PM2], slot.waveTable);
+
+        slot = channel.slot2;
+        env = volume(slot);
+        if (env < ENV_QUIET) signals[slot.connect] += opCalc(slot.cnt, env, signals[PM], slot.waveTable);
+    }
+
+    /**
+     * The rhythm sounds - bass drum on channel 6, high hat and snare drum
+     * on channel 7, tom tom and top cymbal on channel 8. High hat, snare
+     * drum and top cymbal take their phase from the first slot of
+     * channel 7 and the second one of channel 8 and the noise.
+     */
+    private void calcRhythm() {
+        int[] signals = this.signals;
+        int noise = noiseRng & 1;
+
+        // bass drum: like a normal channel, but only the second slot sounds with connection 1
+        Slot slot = channels[6].slot1;
+        int env = volume(slot);
+        int out = slot.op1Out0 + slot.op1Out1;
+        slot.op1Out0 = slot.op1Out1;
+        int pm = (slot.con == 0) ? slot.op1Out0 : 0;
+        slot.op1Out1 = 0;
+        if (env < ENV_QUIET) {
+            if (slot.fb == 0) out = 0;
+            slot.op1Out1 = opCalc1(slot.cnt, env, out << slot.fb, slot.waveTable);
+        }
+        slot = channels[6].slot2;
+        env = volume(slot);
+        if (env < ENV_QUIET) signals[CHANOUT + 6] += opCalc(slot.cnt, env, pm, slot.waveTable) << 1;
+
+        Slot slot71 = channels[7].slot1;
+        Slot slot82 = channels[8].slot2;
+        int phase71 = slot71.cnt >>> FREQ_SH;
+        int phase82 = slot82.cnt >>> FREQ_SH;
+        int res1 = ((((phase71 >> 2) ^ (phase71 >> 7)) | (phase71 >> 3)) & 1);
+        int res2 = ((phase82 >> 3) ^ (phase82 >> 5)) & 1;
+
+        // high hat
+        env = volume(slot71);
+        if (env < ENV_QUIET) {
+            int phase = (res1 != 0 || res2 != 0) ? 0x200 | (0xd0 >> 2) : 0xd0;
+            if (noise != 0) phase = ((phase & 0x200) != 0) ? 0x200 | 0xd0 : 0xd0 >> 2;
+            signals[CHANOUT + 7] += opCalc(phase << FREQ_SH, env, 0, slot71.waveTable) << 1;
+        }
+
+        // snare drum
+        slot = channels[7].slot2;
+        env = volume(slot);
+        if (env < ENV_QUIET) {
+            int phase = (((phase71 >> 8) & 1) != 0) ? 0x200 : 0x100;
+            if (noise != 0) phase ^= 0x100;
+            signals[CHANOUT + 7] += opCalc(phase << FREQ_SH, env, 0, slot.waveTable) << 1;
+        }
+
+        // tom tom
+        slot = channels[8].slot1;
+        env = volume(slot);
+        if (env < ENV_QUIET) signals[CHANOUT + 8] += opCalc(slot.cnt, env, 0, slot.waveTable) << 1;
+
+        // top cymbal
+        env = volume(slot82);
+        if (env < ENV_QUIET) {
+            int phase = (res1 != 0 || res2 != 0) ? 0x300 : 0x100;
+            signals[CHANOUT + 8] += opCalc(phase << FREQ_SH, env, 0, slot82.waveTable) << 1;
+        }
+    }
+
+    private void advanceLFO() {
+        if (++lfoAmCnt >= LFO_AM_TAB_ELEMENTS << 6) lfoAmCnt = 0;
+        int am = LFO_AM_TAB[lfoAmCnt >> 6];
+        lfoAm = (lfoAmDepth) ? am : am >> 2;
+        lfoPm = ((++lfoPmCnt >> 10) & 7) | lfoPmDepthRange;
+    }
+
+    /**
+     * One step of the envelopes and phases of the sounding slots, and of the
+     * noise. A silent slot starts its phase at 0 with the next key on anyway.
+     */
+    private void advance() {
+        int egCnt = ++this.egCnt;
+        for (long todo = sounding | RHYTHM_PHASE_SLOTS; todo != 0; todo &= todo - 1) {
+            int i = Long.numberOfTrailingZeros(todo);
+            Slot slot = slots[i];
+            switch (slot.state) {
+                case EG_ATT:
+                    if ((egCnt & slot.egMaskAr) == 0) {
+                        slot.volume += (~slot.volume * EG_INC[slot.egSelAr + ((egCnt >> slot.egShAr) & 7)]) >> 3;
+                        if (slot.volume <= MIN_ATT_INDEX) {
+                            slot.volume = MIN_ATT_INDEX;
+                            slot.state = EG_DEC;
+                        }
+                    }
+                    break;
+                case EG_DEC:
+                    if ((egCnt & slot.egMaskDr) == 0) {
+                        slot.volume += EG_INC[slot.egSelDr + ((egCnt >> slot.egShDr) & 7)];
+                        if (slot.volume >= slot.sl) slot.state = EG_SUS;
+                    }
+                    break;
+                case EG_SUS:
+                    // a percussive sound decays with the release rate while sustained
+                    if (slot.egType == 0 && (egCnt & slot.egMaskRr) == 0) {
+                        slot.volume += EG_INC[slot.egSelRr + ((egCnt >> slot.egShRr) & 7)];
+                        if (slot.volume >= MAX_ATT_INDEX) {
+                            // silent until the next key on - like the off state
+                            slot.volume = MAX_ATT_INDEX;
+                            slot.state = EG_OFF;
+                            sounding &= ~slot.bit;
+                        }
+                    }
+                    break;
+                case EG_REL:
+                    if ((egCnt & slot.egMaskRr) == 0) {
+                        slot.volume += EG_INC[slot.egSelRr + ((egCnt >> slot.egShRr) & 7)];
+                        if (slot.volume >= MAX_ATT_INDEX) {
+                            slot.volume = MAX_ATT_INDEX;
+                            slot.state = EG_OFF;
+                            sounding &= ~slot.bit;
+                        }
+                    }
+                    break;
+                default:
+                    break;
+            }
+
+            if (slot.vib) {
+                Channel channel = channels[i >> 1];
+                int blockFnum = channel.blockFnum;
+                int offset = LFO_PM_TAB[lfoPm + 16 * ((blockFnum & 0x0380) >> 7)];
+                if (offset != 0) {
+                    blockFnum += offset;
+                    slot.cnt += (((blockFnum & 0x03ff) << 12) >> (7 - ((blockFnum & 0x1c00) >> 10))) * slot.mul;
+                    continue;
+                }
+            }
+            slot.cnt += slot.incr;
+        }
+
+        // 23 bit shift register - bit 0 is the noise
+        if ((noiseRng & 1) != 0) noiseRng ^= 0x800302;
+        noiseRng >>= 1;
+    }
+
+    private static int clip(int sample) {
+        return (sample > 0x7fff) ? 0x7fff : (sample < -0x8000) ? -0x8000 : sample;
+    }
+
+    /**
+     * Renders frames at 49716 Hz - four 16 bit samples per frame
+     * (CHA, CHB, CHC, CHD)
+     *
+     * @param output
+     * @param frames
+     */
+    public void read(int[] output, int frames) {
+        int[] signals = this.signals;
+        Channel[] channels = this.channels;
+        for (int f = 0, offset = 0; f < frames; f++, offset += 4) {
+            advanceLFO();
+            java.util.Arrays.fill(signals, CHANOUT, CHANOUT + 18, 0);
+
+            for (int base = 0; base < 18; base += 9) {
+                for (int i = base; i < base + 3; i++) {
+                    calcChannel(channels[i]);
+                    if (channels[i].fourOp) calcChannelExt(channels[i + 3]);
+                    else calcChannel(channels[i + 3]);
+                }
+                if (base == 0 && (rhythm & 0x20) != 0) {
+                    calcRhythm();
+                } else {
+                    for (int i = base + 6; i < base + 9; i++) calcChannel(channels[i]);
+                }
+            }
+
+            int a = 0, b = 0, c = 0, d = 0;
+            for (int i = 0; i < 18; i++) {
+                Channel channel = channels[i];
+                int out = signals[CHANOUT + i];
+                a += out & channel.panA;
+                b += out & channel.panB;
+                c += out & channel.panC;
+                d += out & channel.panD;
+            }
+            output[offset] = clip(a);
+            output[offset + 1] = clip(b);
+            output[offset + 2] = clip(c);
+            output[offset + 3] = clip(d);
+
+            advance();
+        }
+    }
+}
@@ -9,10 +9,9 @@ package vavi.sound.sampled.mod;
 import java.io.IOException;
 import java.util.Map;
 import javax.sound.sampled.AudioFormat;
-import javax.sound.sampled.AudioInputStream;
 
-import de.quippy.javamod.mixer.Mixer;
-import vavi.io.OutputEngineInputStream;
+import de.quippy.javamod.mixer.BasicMixer;
+import de.quippy.javamod.mixer.MixerAudioInputStream;
 
 
 /**
@@ -21,7 +20,7 @@ import vavi.io.OutputEngineInputStream;
  * @author <a href="mailto:umjammer@gmail.com">Naohide Sano</a> (nsano)
  * @version 0.00 241122 nsano initial version <br>
  */
-class Mod2PcmAudioInputStream extends AudioInputStream {
+class Mod2PcmAudioInputStream extends MixerAudioInputStream {
 
     /**
      * Constructor.
@@ -31,6 +30,6 @@ class Mod2PcmAudioInputStream extends AudioInputStream {
      * @param length the length in sample frames of the data in this stream.
      */
     public Mod2PcmAudioInputStream(AudioFormat sourceFormat, AudioFormat format, long length, Map<String, Object> props) throws IOException {
-        super(new OutputEngineInputStream(((Mixer) sourceFormat.getProperty("mod")).getOutputEngine()), format, length);
+        super((BasicMixer) sourceFormat.getProperty("mod"), format, length);
     }
 }
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2026 by Naohide Sano, All rights reserved.
+ *
+ * Programmed by Naohide Sano
+ */
+
+package de.quippy.javamod.io;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+
+/**
+ * RandomAccessInputStreamImplTest.
+ *
+ * @author <a href="mailto:umjammer@gmail.com">Naohide Sano</a> (umjammer)
+ * @version 0.00 2026/10/17 umjammer initial version <br>
+ */
+public class RandomAccessInputStreamImplTest {
+
+    /** odd length, so the bulk reads end with a partial value */
+    static final int LENGTH = 1001;
+
+    @TempDir
+    Path dir;
+
+    private Path createFile() throws IOException {
+        byte[] data = new byte[LENGTH];
+        for (int i = 0; i < data.length; i++) data[i] = (byte) (i * 31 + 7);
+        return Files.write(dir.resolve("data.bin"), data);
+    }
+
+    @Test
+    void testSingleReads() throws Exception {
+        Path file = createFile();
+        try (RandomAccessInputStreamImpl mapped = new RandomAccessInputStreamImpl(file.toFile(), true);
+             RandomAccessInputStreamImpl stream = new RandomAccessInputStreamImpl(file.toFile(), false)) {
+            assertEquals(stream.getLength(), mapped.getLength());
+            assertEquals(stream.read(), mapped.read());
+            assertEquals(stream.readIntelWord(), mapped.readIntelWord());
+            assertEquals(stream.readMotorolaWord(), mapped.readMotorolaWord());
+            assertEquals(stream.readIntelDWord(), mapped.readIntelDWord());
+            assertEquals(stream.readMotorolaDWord(), mapped.readMotorolaDWord());
+            assertEquals(stream.getFilePointer(), mapped.getFilePointer());
+
+            stream.seek(LENGTH - 3);
+            mapped.seek(LENGTH - 3);
+            assertEquals(stream.readIntelWord(), mapped.readIntelWord());
+            // only one byte left
+            assertEquals(stream.readIntelDWord(), mapped.readIntelDWord());
+            assertEquals(stream.getFilePointer(), mapped.getFilePointer());
+            assertEquals(stream.read(), mapped.read());
+
+            stream.seek(10);
+            mapped.seek(10);
+            assertEquals(stream.skip(LENGTH), mapped.skip(LENGTH));
+            assertEquals(stream.getFilePointer(), mapped.getFilePointer());
+        }
+    }
+
+    @Test
+    void testBulkReads() throws Exception {
+        Path file = createFile();
+        try (RandomAccessInputStreamImpl mapped = new RandomAccessInputStreamImpl(file.toFile(), true);
+             RandomAccessInputStreamImpl stream = new RandomAccessInputStreamImpl(file.toFile(), false)) {
+            for (int start = 0; start < 4; start++) {
+                short[] expectedWords = new short[LENGTH];
+                short[] actualWords = new short[LENGTH];
+                stream.seek(start);
+                mapped.seek(start);
+                assertEquals(stream.readIntelWords(expectedWords, 1, 100), mapped.readIntelWords(actualWords, 1, 100));
+                assertEquals(stream.readMotorolaWords(expectedWords, 101, 100), mapped.readMotorolaWords(actualWords, 101, 100));
+                assertArrayEquals(expectedWords, actualWords);
+                assertEquals(stream.getFilePointer(), mapped.getFilePointer());
+
+                int[] expectedDWords = new int[LENGTH];
+                int[] actualDWords = new int[LENGTH];
+                assertEquals(stream.readIntelDWords(expectedDWords, 0, 50), mapped.readIntelDWords(actualDWords, 0, 50));
+                // runs past the end
+                assertEquals(stream.readMotorolaDWords(expectedDWords, 50, LENGTH), mapped.readMotorolaDWords(actualDWords, 50, LENGTH));
+                assertArrayEquals(expectedDWords, actualDWords);
+                assertEquals(stream.getFilePointer(), mapped.getFilePointer());
+                assertEquals(stream.read(), mapped.read());
+            }
+        }
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2026 by Naohide Sano, All rights reserved.
+ *
+ * Programmed by Naohide Sano
+ */
+
+package de.quippy.javamod.io;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+
+/**
+ * RandomAccessZipFileTest.
+ *
+ * @author <a href="mailto:umjammer@gmail.com">Naohide Sano</a> (umjammer)
+ * @version 0.00 2026/10/17 umjammer initial version <br>
+ */
+public class RandomAccessZipFileTest {
+
+    static final byte[] STORED = "stored, not compressed".getBytes(StandardCharsets.UTF_8);
+    static final byte[] DEFLATED = new byte[100000];
+
+    static {
+        for (int i = 0; i < DEFLATED.length; i++) DEFLATED[i] = (byte) ((i * 7) % 251);
+    }
+
+    /** an archive like a renoise song - a stored, a deflated entry and a directory */
+    static byte[] createArchive() throws IOException {
+        ByteArrayOutputStream archive = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(archive)) {
+            zip.setComment("comment after the central directory");
+
+            ZipEntry stored = new ZipEntry("Song.xml");
+            stored.setMethod(ZipEntry.STORED);
+            stored.setSize(STORED.length);
+            CRC32 crc = new CRC32();
+            crc.update(STORED);
+            stored.setCrc(crc.getValue());
+            stored.setExtra(new byte[] {(byte) 0xca, (byte) 0xfe, 4, 0, 1, 2, 3, 4}); // local extra field only
+            zip.putNextEntry(stored);
+            zip.write(STORED);
+            zip.closeEntry();
+
+            zip.putNextEntry(new ZipEntry("SampleData/"));
+            zip.closeEntry();
+
+            zip.putNextEntry(new ZipEntry("SampleData/Instrument00/Sample00.flac"));
+            zip.write(DEFLATED);
+            zip.closeEntry();
+        }
+        return archive.toByteArray();
+    }
+
+    @Test
+    public void testCentralDirectory() throws Exception {
+        RandomAccessZipFile zip = new RandomAccessZipFile(new RandomAccessInputStreamImpl(createArchive()));
+        List<RandomAccessZipFile.Entry> entries = zip.getEntries();
+        assertEquals(3, entries.size());
+        assertEquals("Song.xml", entries.get(0).getName());
+        assertEquals(STORED.length, entries.get(0).getSize());
+        assertEquals(STORED.length, entries.get(0).getCompressedSize());
+        assertTrue(entries.get(1).isDirectory());
+        RandomAccessZipFile.Entry deflated = zip.getEntry("SampleData/Instrument00/Sample00.flac");
+        assertEquals(DEFLATED.length, deflated.getSize());
+        assertTrue(deflated.getCompressedSize() < deflated.getSize());
+        assertNull(zip.getEntry("Song.XML"));
+    }
+
+    @Test
+    public void testReadAllBytes() throws Exception {
+        RandomAccessZipFile zip = new RandomAccessZipFile(new RandomAccessInputStreamImpl(createArchive()));
+        assertArrayEquals(STORED, zip.readAllBytes(zip.getEntry("Song.xml")));
+        assertArrayEquals(DEFLATED, zip.readAllBytes(zip.getEntry("SampleData/Instrument00/Sample00.flac")));
+    }
+
+    @Test
+    public void testInputStream() throws Exception {
+        RandomAccessZipFile zip = new RandomAccessZipFile(new RandomAccessInputStreamImpl(createArchive()));
+        try (InputStream stored = zip.getInputStream(zip.getEntry("Song.xml"));
+             InputStream deflated = zip.getInputStream(zip.getEntry("SampleData/Instrument00/Sample00.flac"))) {
+            // interleaved reads - each stream reads the archive at its own position
+            assertEquals(STORED[0], (byte) stored.read());
+            assertEquals(DEFLATED[0], (byte) deflated.read());
+            byte[] rest = stored.readAllBytes();
+            assertArrayEquals(Arrays.copyOfRange(STORED, 1, STORED.length), rest);
+            assertArrayEquals(Arrays.copyOfRange(DEFLATED, 1, DEFLATED.length), deflated.readAllBytes());
+        }
+    }
+
+    @Test
+    public void testNoArchive() {
+        assertThrows(ZipException.class, () -> new RandomAccessZipFile(new RandomAccessInputStreamImpl(new byte[10])));
+        assertThrows(ZipException.class, () -> new RandomAccessZipFile(new RandomAccessInputStreamImpl(new byte[1000])));
+    }
+
+    @Test
+    public void testTruncated() throws Exception {
+        byte[] archive = createArchive();
+        // the end of central directory is cut off
+        byte[] cut = Arrays.copyOf(archive, archive.length - 60);
+        assertThrows(ZipException.class, () -> new RandomAccessZipFile(new RandomAccessInputStreamImpl(cut)));
+
+        // a file shorter than its length told - the data ends while being read
+        byte[] truncated = Arrays.copyOf(archive, archive.length / 2);
+        RandomAccessInputStreamImpl input = new RandomAccessInputStreamImpl(truncated) {
+            @Override
+            public long getLength() {
+                return archive.length;
+            }
+        };
+        ZipException e = assertThrows(ZipException.class, () -> new RandomAccessZipFile(input));
+        assertEquals("Unexpected end of zip archive", e.getMessage());
+    }
+}
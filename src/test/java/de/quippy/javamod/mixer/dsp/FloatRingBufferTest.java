@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2026 by Naohide Sano, All rights reserved.
+ *
+ * Programmed by Naohide Sano
+ */
+
+package de.quippy.javamod.mixer.dsp;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import javax.sound.sampled.AudioFormat;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+
+/**
+ * FloatRingBufferTest.
+ *
+ * @author <a href="mailto:umjammer@gmail.com">Naohide Sano</a> (umjammer)
+ * @version 0.00 2026/10/17 umjammer initial version <br>
+ */
+public class FloatRingBufferTest {
+
+    /** the value written for a sequence - exact as float */
+    private static float valueOf(long sequence) {
+        return (float) (sequence & 0xFFFFFF);
+    }
+
+    @Test
+    public void testReadWrite() {
+        FloatRingBuffer ring = new FloatRingBuffer(100);
+        float[] chunk = new float[30];
+        float[] target = new float[30];
+
+        assertFalse(ring.read(0, target, 0, 30), "nothing published yet");
+
+        for (long sequence = 0; sequence < 300; sequence += 30) {
+            for (int i = 0; i < 30; i++) chunk[i] = valueOf(sequence + i);
+            ring.write(chunk, 0, 30);
+        }
+        assertEquals(300, ring.getWriteSequence());
+
+        // wrapped around the end of the array
+        assertTrue(ring.read(210, target, 0, 30));
+        for (int i = 0; i < 30; i++) assertEquals(valueOf(210 + i), target[i]);
+        assertTrue(ring.read(270, target, 0, 30));
+
+        assertFalse(ring.read(290, target, 0, 30), "not published");
+        assertFalse(ring.read(150, target, 0, 30), "overwritten");
+        assertEquals(270, ring.readLatest(target, 0, 30));
+    }
+
+    @Test
+    public void testClaimedSamplesAreNotRead() {
+        FloatRingBuffer ring = new FloatRingBuffer(100);
+        float[] target = new float[10];
+        ring.write(new float[100], 0, 100);
+        assertTrue(ring.read(0, target, 0, 10));
+
+        // the writer is processing the samples at the indices of sequence 0..19
+        ring.claim(20);
+        assertFalse(ring.read(0, target, 0, 10));
+        assertTrue(ring.read(20, target, 0, 10));
+        ring.publish(20);
+        assertTrue(ring.read(100, target, 0, 10));
+    }
+
+    /**
+     * The writer fills every claimed range with garbage first and processes
+     * it in place afterwards - like the DSP effects. A successful read must
+     * never see garbage or samples of another sequence.
+     */
+    @Test
+    public void testStress() throws Exception {
+        int capacity = 4096;
+        FloatRingBuffer ring = new FloatRingBuffer(capacity);
+        long total = 20_000_000L;
+        AtomicReference<String> failure = new AtomicReference<>();
+        AtomicLong successfulReads = new AtomicLong();
+
+        Thread writer = new Thread(() -> {
+            float[] buffer = ring.getBuffer();
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            long sequence = 0;
+            while (sequence < total && failure.get() == null) {
+                int amount = 1 + random.nextInt(capacity >> 2);
+                int index = ring.claim(amount);
+                for (int i = 0; i < amount; i++) buffer[(index + i) % capacity] = Float.NaN;
+                for (int i = 0; i < amount; i++) buffer[(index + i) % capacity] = valueOf(sequence + i);
+                ring.publish(amount);
+                sequence += amount;
+            }
+        });
+
+        Thread[] readers = new Thread[3];
+        for (int r = 0; r < readers.length; r++) {
+            readers[r] = new Thread(() -> {
+                float[] target = new float[capacity >> 3];
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                while (writer.isAlive() && failure.get() == null) {
+                    int length = 1 + random.nextInt(target.length);
+                    long sequence = ring.getWriteSequence() - length - random.nextInt(capacity);
+                    if (sequence < 0 || !ring.read(sequence, target, 0, length)) continue;
+                    for (int i = 0; i < length; i++) {
+                        if (target[i] != valueOf(sequence + i)) {
+                            failure.compareAndSet(null, "sequence " + (sequence + i) + ": " + target[i]);
+                            break;
+                        }
+                    }
+                    successfulReads.incrementAndGet();
+                }
+            });
+        }
+
+        writer.start();
+        for (Thread reader : readers) reader.start();
+        writer.join();
+        for (Thread reader : readers) reader.join();
+
+        assertNull(failure.get());
+        assertTrue(successfulReads.get() > 0, "no read succeeded");
+    }
+
+    @Test
+    public void testFramePositionAfterSeek() {
+        AudioProcessor processor = new AudioProcessor(16, 70);
+        processor.setDspEnabled(false);
+        processor.initializeProcessor(new AudioFormat(44100, 16, 2, true, false));
+        try {
+            processor.setUseInternalCounter(true);
+            float[] samples = new float[200];
+            for (int i = 0; i < samples.length; i++) samples[i] = i / 1000f;
+            float[] target = new float[20];
+
+            processor.writeSampleData(samples, 0, 100);
+            processor.setInternalFramePosition(10);
+            assertTrue(processor.readSampleData(10, target, 0, 20));
+            assertEquals(samples[20], target[0]);
+
+            // seek to frame 5000 - the samples written next belong to it
+            processor.setInternalFramePosition(5000);
+            processor.writeSampleData(samples, 100, 100);
+            assertTrue(processor.readSampleData(5000, target, 0, 20));
+            assertEquals(samples[100], target[0]);
+            assertEquals(samples[119], target[19]);
+            assertTrue(processor.readSampleData(5010, target, 0, 20));
+            assertEquals(samples[120], target[0]);
+
+            // and back
+            processor.setInternalFramePosition(0);
+            processor.writeSampleData(samples, 0, 40);
+            assertTrue(processor.readSampleData(0, target, 0, 20));
+            assertEquals(samples[0], target[0]);
+        } finally {
+            processor.stop();
+        }
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2026 by Naohide Sano, All rights reserved.
+ *
+ * Programmed by Naohide Sano
+ */
+
+package de.quippy.javamod.multimedia;
+
+import java.io.File;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Properties;
+
+import de.quippy.javamod.multimedia.mod.ModConstants;
+import de.quippy.javamod.multimedia.mod.ModContainer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+
+/**
+ * SongInfoIndexTest.
+ *
+ * @author <a href="mailto:umjammer@gmail.com">Naohide Sano</a> (umjammer)
+ * @version 0.00 2026/10/17 umjammer initial version <br>
+ */
+public class SongInfoIndexTest {
+
+    Path dir;
+    URL url;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        MultimediaContainerManager.setIsHeadlessMode(true);
+        dir = Files.createTempDirectory("songinfo");
+        Path mod = dir.resolve("test.mod");
+        Files.copy(Path.of("src/test/resources/test.mod"), mod);
+        url = mod.toUri().toURL();
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        setLoopMode(Integer.parseInt(ModContainer.DEFAULT_NOLOOPS));
+        try (var files = Files.list(dir)) {
+            for (Path file : files.toList()) Files.delete(file);
+        }
+        Files.delete(dir);
+    }
+
+    static void setLoopMode(int loopMode) throws Exception {
+        Properties props = new Properties();
+        props.setProperty(ModContainer.PROPERTY_PLAYER_NOLOOPS, Integer.toString(loopMode));
+        MultimediaContainerManager.getMultimediaContainerForType("mod").configurationChanged(props);
+    }
+
+    @Test
+    public void testLoopModeIsPartOfTheKey() throws Exception {
+        File indexFile = dir.resolve("index").toFile();
+        SongInfoIndex index = new SongInfoIndex(indexFile);
+
+        setLoopMode(ModConstants.PLAYER_LOOP_IGNORE);
+        Map<String, Object> ignored = index.getSongInfosFor(url);
+        setLoopMode(ModConstants.PLAYER_LOOP_FADEOUT);
+        Map<String, Object> fadeOut = index.getSongInfosFor(url);
+        // one entry per loop mode - the durations may differ
+        assertEquals(2, index.size());
+        long ignoredDuration = (Long) ignored.get("duration");
+        long fadeOutDuration = (Long) fadeOut.get("duration");
+        assertTrue(ignoredDuration > 0);
+        assertTrue(fadeOutDuration > 0);
+
+        // switching back finds the infos of that loop mode
+        setLoopMode(ModConstants.PLAYER_LOOP_IGNORE);
+        assertEquals(ignoredDuration, index.getSongInfosFor(url).get("duration"));
+        assertEquals(2, index.size());
+        index.close();
+
+        // and both are stored
+        SongInfoIndex reloaded = new SongInfoIndex(indexFile);
+        assertEquals(2, reloaded.size());
+        assertEquals(ignoredDuration, reloaded.getSongInfosFor(url).get("duration"));
+        setLoopMode(ModConstants.PLAYER_LOOP_FADEOUT);
+        assertEquals(fadeOutDuration, reloaded.getSongInfosFor(url).get("duration"));
+        reloaded.close();
+    }
+}
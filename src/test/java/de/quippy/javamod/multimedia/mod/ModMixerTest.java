@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2026 by Naohide Sano, All rights reserved.
+ *
+ * Programmed by Naohide Sano
+ */
+
+package de.quippy.javamod.multimedia.mod;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.lang.reflect.Proxy;
+
+import de.quippy.javamod.io.SoundOutputStream;
+import de.quippy.javamod.multimedia.mod.loader.Module;
+import de.quippy.javamod.multimedia.mod.loader.ModuleFactory;
+import org.junit.jupiter.api.Test;
+import vavi.io.OutputEngine;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+
+/**
+ * ModMixerTest.
+ *
+ * @author <a href="mailto:umjammer@gmail.com">Naohide Sano</a> (umjammer)
+ * @version 0.00 2026/10/17 umjammer initial version <br>
+ */
+public class ModMixerTest {
+
+    /** what the mixer wrote to a sound output stream */
+    static class Written {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        int floats;
+    }
+
+    static SoundOutputStream recordingStream(Written written) {
+        return (SoundOutputStream) Proxy.newProxyInstance(ModMixerTest.class.getClassLoader(), new Class<?>[] {SoundOutputStream.class}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "writeSampleData" -> {
+                    if (args[0] instanceof byte[] samples) written.bytes.write(samples, (int) args[1], (int) args[2]);
+                    else written.floats += (int) args[2];
+                }
+                case "isInitialized" -> {
+                    return true;
+                }
+                default -> {
+                }
+            }
+            Class<?> type = method.getReturnType();
+            if (type == boolean.class) return false;
+            if (type == int.class) return 0;
+            if (type == long.class) return 0L;
+            if (type == float.class) return 0f;
+            return null;
+        });
+    }
+
+    static ModMixer createMixer(int sampleSizeInBits) throws Exception {
+        return createMixer(sampleSizeInBits, false);
+    }
+
+    /** @param ditherByPass dithering adds random noise - bypass it to compare outputs */
+    static ModMixer createMixer(int sampleSizeInBits, boolean ditherByPass) throws Exception {
+        Module mod = ModuleFactory.getInstance(new File("src/test/resources/test.mod"));
+        return new ModMixer(mod, sampleSizeInBits, 2, 44100, 0, 0, false, false, false, false, 0, 256, 100, 0, 0, ditherByPass);
+    }
+
+    static Written play(int sampleSizeInBits, long milliseconds) throws Exception {
+        Written written = new Written();
+        ModMixer mixer = createMixer(sampleSizeInBits);
+        mixer.setSoundOutputStream(recordingStream(written));
+        mixer.setStopMillisecondPosition(milliseconds);
+        mixer.startPlayback();
+        return written;
+    }
+
+    @Test
+    public void testFloatsBelow32Bits() throws Exception {
+        Written written = play(16, 1000);
+        assertEquals(0, written.bytes.size());
+        assertTrue(written.floats > 0);
+    }
+
+    /** floats carry 24 bits only - 32 bit output keeps the integer path, bit identical to rendering */
+    @Test
+    public void testIntegersAt32Bits() throws Exception {
+        Written written = play(32, 1000);
+        assertEquals(0, written.floats);
+        byte[] played = written.bytes.toByteArray();
+        assertTrue(played.length > 0);
+
+        ModMixer mixer = createMixer(32);
+        byte[] rendered = new byte[played.length];
+        mixer.openRendering();
+        try {
+            int offset = 0;
+            while (offset < rendered.length) {
+                int read = mixer.render(rendered, offset, rendered.length - offset);
+                if (read <= 0) break;
+                offset += read;
+            }
+            assertEquals(rendered.length, offset);
+        } finally {
+            mixer.closeRendering();
+        }
+        assertArrayEquals(rendered, played);
+    }
+
+    /** render mixes into the buffer given, the output engine writes whole mixing buffers - the bytes are the same */
+    @Test
+    public void testRenderIsOutputEngine() throws Exception {
+        for (int sampleSizeInBits : new int[] {16, 24, 32}) {
+            ModMixer engineMixer = createMixer(sampleSizeInBits, true);
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            OutputEngine engine = engineMixer.getOutputEngine();
+            engine.initialize(out);
+            try {
+                for (int i = 0; i < 50; i++) engine.execute();
+            } finally {
+                engine.finish();
+            }
+            byte[] written = out.toByteArray();
+
+            ModMixer mixer = createMixer(sampleSizeInBits, true);
+            ByteArrayOutputStream rendered = new ByteArrayOutputStream();
+            byte[] buffer = new byte[1001 * (sampleSizeInBits / 8) * 2]; // not a multiple of the mixing buffer
+            mixer.openRendering();
+            try {
+                while (rendered.size() < written.length) {
+                    int read = mixer.render(buffer, 0, Math.min(buffer.length, written.length - rendered.size()));
+                    if (read <= 0) break;
+                    rendered.write(buffer, 0, read);
+                }
+            } finally {
+                mixer.closeRendering();
+            }
+            assertArrayEquals(written, rendered.toByteArray(), sampleSizeInBits + " bits");
+        }
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2026 by Naohide Sano, All rights reserved.
+ *
+ * Programmed by Naohide Sano
+ */
+
+package de.quippy.javamod.multimedia.mod.gui;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+
+/**
+ * UpdateEventRingTest.
+ *
+ * @author <a href="mailto:umjammer@gmail.com">Naohide Sano</a> (umjammer)
+ * @version 0.00 2026/10/17 umjammer initial version <br>
+ */
+public class UpdateEventRingTest {
+
+    @Test
+    public void testPutAndRead() {
+        UpdateEventRing ring = new UpdateEventRing(3); // rounded up to 4
+        assertTrue(ring.isEmpty());
+
+        assertTrue(ring.putPatternPosition(100, 2, 0x0001_0000_0002_0000L));
+        assertTrue(ring.putPeek(200, 4, 7, 1000, -1000, true, false));
+        assertFalse(ring.isEmpty());
+
+        long sequence = ring.nextSequence();
+        assertEquals(UpdateEventRing.TYPE_PATTERN_POSITION, ring.getType(sequence));
+        assertEquals(100, ring.getSamplesMixed(sequence));
+        assertEquals(2, ring.getTimeCode(sequence));
+        assertEquals(0x0001_0000_0002_0000L, ring.getPosition(sequence));
+        assertTrue(ring.isValid(sequence));
+        ring.release(++sequence);
+
+        assertEquals(UpdateEventRing.TYPE_PEEK, ring.getType(sequence));
+        assertEquals(7, ring.getChannel(sequence));
+        assertEquals(1000, ring.getPeekLeft(sequence));
+        assertEquals(-1000, ring.getPeekRight(sequence));
+        assertTrue(ring.isSurround(sequence));
+        assertFalse(ring.isMidiAdlib(sequence));
+        ring.release(++sequence);
+
+        assertTrue(ring.isEmpty());
+    }
+
+    @Test
+    public void testFullRingDropsEvents() {
+        UpdateEventRing ring = new UpdateEventRing(4);
+        for (int i = 0; i < 4; i++) assertTrue(ring.putPatternPosition(i, i, i));
+        assertFalse(ring.putPatternPosition(4, 4, 4), "full");
+
+        // releasing one slot makes room for one event - written into the wrapped slot
+        ring.release(1);
+        assertTrue(ring.putPatternPosition(5, 5, 5));
+        assertFalse(ring.putPatternPosition(6, 6, 6));
+        assertEquals(1, ring.getPosition(1));
+        assertEquals(5, ring.getPosition(4));
+    }
+
+    @Test
+    public void testFlush() {
+        UpdateEventRing ring = new UpdateEventRing(4);
+        for (int i = 0; i < 4; i++) ring.putPatternPosition(i, i, i);
+        long sequence = ring.nextSequence();
+
+        ring.flush();
+        assertFalse(ring.isValid(sequence));
+        assertTrue(ring.isEmpty());
+        assertEquals(4, ring.nextSequence());
+
+        // flushed slots are free again without a release
+        for (int i = 0; i < 4; i++) assertTrue(ring.putPatternPosition(10 + i, 10 + i, 10 + i));
+        assertEquals(10, ring.getPosition(ring.nextSequence()));
+        assertTrue(ring.isValid(ring.nextSequence()));
+    }
+
+    /** one writer, one reader - every event read arrives complete and in order */
+    @Test
+    public void testConcurrent() throws Exception {
+        UpdateEventRing ring = new UpdateEventRing(64);
+        long total = 200_000L;
+        AtomicReference<String> failure = new AtomicReference<>();
+
+        Thread writer = new Thread(() -> {
+            long value = 0;
+            while (value < total && failure.get() == null) {
+                if (ring.putPeek(value, value, (int) value, (int) value, (int) -value, (value & 1) != 0, false)) value++;
+                else Thread.yield();
+            }
+        });
+        writer.start();
+
+        long expected = 0;
+        while (expected < total && failure.get() == null) {
+            long sequence = ring.nextSequence();
+            if (!ring.isAvailable(sequence)) {
+                Thread.yield();
+                continue;
+            }
+            long samplesMixed = ring.getSamplesMixed(sequence);
+            int left = ring.getPeekLeft(sequence);
+            int right = ring.getPeekRight(sequence);
+            boolean surround = ring.isSurround(sequence);
+            if (!ring.isValid(sequence)) failure.set("not flushed, but invalid: " + sequence);
+            else if (samplesMixed != expected || left != (int) expected || right != (int) -expected || surround != ((expected & 1) != 0))
+                failure.set("sequence " + sequence + ": " + samplesMixed + " " + left + "/" + right);
+            ring.release(sequence + 1);
+            expected++;
+        }
+        writer.join();
+
+        assertNull(failure.get());
+        assertTrue(ring.isEmpty());
+    }
+}
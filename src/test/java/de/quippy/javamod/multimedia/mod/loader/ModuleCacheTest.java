@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2026 by Naohide Sano, All rights reserved.
+ *
+ * Programmed by Naohide Sano
+ */
+
+package de.quippy.javamod.multimedia.mod.loader;
+
+import java.io.File;
+import java.net.URI;
+import java.net.URL;
+import java.nio.file.Files;
+
+import de.quippy.javamod.multimedia.mod.loader.instrument.InstrumentsContainer;
+import de.quippy.javamod.multimedia.mod.loader.instrument.Sample;
+import de.quippy.javamod.multimedia.mod.loader.tracker.ProTrackerMod;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+
+/**
+ * ModuleCacheTest.
+ *
+ * @author <a href="mailto:umjammer@gmail.com">Naohide Sano</a> (umjammer)
+ * @version 0.00 2026/10/17 umjammer initial version <br>
+ */
+public class ModuleCacheTest {
+
+    /** a module with one 8 bit sample of that length */
+    static Module createModule(int sampleLength) {
+        Module mod = new ProTrackerMod();
+        InstrumentsContainer container = new InstrumentsContainer(mod, 0, 1);
+        Sample sample = new Sample();
+        sample.sampleLength = sampleLength;
+        sample.allocSampleData(8);
+        container.setSample(0, sample);
+        mod.setInstrumentContainer(container);
+        return mod;
+    }
+
+    static ModuleCache.Key key(String name) throws Exception {
+        return new ModuleCache.Key(URI.create("http://localhost/" + name).toURL());
+    }
+
+    @Test
+    public void testWeight() {
+        Module mod = createModule(1000);
+        long weight = ModuleCache.getWeight(mod);
+        assertTrue(weight >= 1000, "weight " + weight);
+
+        // a sample shared by two slots counts once
+        Sample sample = mod.getInstrumentContainer().getSample(0);
+        InstrumentsContainer container = new InstrumentsContainer(mod, 0, 2);
+        container.setSample(0, sample);
+        container.setSample(1, sample);
+        mod.setInstrumentContainer(container);
+        assertEquals(weight, ModuleCache.getWeight(mod));
+
+        assertEquals(0, ModuleCache.getWeight(new ProTrackerMod()));
+    }
+
+    @Test
+    public void testGetAndPut() throws Exception {
+        ModuleCache cache = new ModuleCache(1L << 20);
+        Module mod = createModule(1000);
+        assertNull(cache.get(key("a.mod"), false));
+
+        cache.put(key("a.mod"), mod, false);
+        assertSame(mod, cache.get(key("a.mod"), false));
+        assertNull(cache.get(key("b.mod"), false));
+        assertEquals(1, cache.size());
+        assertEquals(ModuleCache.getWeight(mod), cache.getWeight());
+
+        // the first one loaded stays
+        cache.put(key("a.mod"), createModule(1000), false);
+        assertSame(mod, cache.get(key("a.mod"), false));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void testPinnedModulesAreNotHandedOutTwice() throws Exception {
+        ModuleCache cache = new ModuleCache(1L << 20);
+        Module mod = createModule(1000);
+        cache.put(key("a.mod"), mod, true);
+        assertTrue(cache.isPinned(mod));
+        assertNull(cache.get(key("a.mod"), true), "in use");
+
+        cache.release(mod);
+        assertFalse(cache.isPinned(mod));
+        assertSame(mod, cache.get(key("a.mod"), true));
+        assertTrue(cache.isPinned(mod));
+
+        // releasing too often does no harm
+        cache.release(mod);
+        cache.release(mod);
+        assertSame(mod, cache.get(key("a.mod"), false));
+    }
+
+    @Test
+    public void testLeastRecentlyUsedIsEvicted() throws Exception {
+        Module a = createModule(1000);
+        Module b = createModule(1000);
+        Module c = createModule(1000);
+        long weight = ModuleCache.getWeight(a);
+        ModuleCache cache = new ModuleCache(weight * 2 + weight / 2);
+
+        cache.put(key("a.mod"), a, false);
+        cache.put(key("b.mod"), b, false);
+        cache.get(key("a.mod"), false); // a is used more recently than b now
+        cache.put(key("c.mod"), c, false);
+
+        assertEquals(2, cache.size());
+        assertSame(a, cache.get(key("a.mod"), false));
+        assertNull(cache.get(key("b.mod"), false));
+        assertSame(c, cache.get(key("c.mod"), false));
+        assertTrue(cache.getWeight() <= cache.getMaxWeight());
+    }
+
+    @Test
+    public void testPinnedModulesAreNotEvicted() throws Exception {
+        Module a = createModule(1000);
+        Module b = createModule(1000);
+        ModuleCache cache = new ModuleCache(ModuleCache.getWeight(a) + 1);
+
+        cache.put(key("a.mod"), a, true);
+        cache.put(key("b.mod"), b, false);
+        assertEquals(1, cache.size());
+        assertTrue(cache.isPinned(a));
+        assertNull(cache.get(key("b.mod"), false));
+
+        // too heavy modules are not cached at all
+        cache.put(key("big.mod"), createModule(100000), false);
+        assertNull(cache.get(key("big.mod"), false));
+
+        // a zero size disables caching
+        cache.release(a);
+        cache.setMaxWeight(0);
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getWeight());
+        assertThrows(IllegalArgumentException.class, () -> cache.setMaxWeight(-1));
+    }
+
+    @Test
+    public void testRemove() throws Exception {
+        ModuleCache cache = new ModuleCache(1L << 20);
+        Module a = createModule(1000);
+        Module b = createModule(1000);
+        cache.put(key("a.mod"), a, true);
+        cache.put(key("b.mod"), b, false);
+
+        cache.remove(URI.create("http://localhost/a.mod").toURL());
+        assertEquals(1, cache.size());
+        assertFalse(cache.isPinned(a), "not cached anymore");
+        assertEquals(ModuleCache.getWeight(b), cache.getWeight());
+
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getWeight());
+    }
+
+    @Test
+    public void testKeyFollowsModification() throws Exception {
+        File file = Files.createTempFile("modulecache", ".mod").toFile();
+        try {
+            URL url = file.toURI().toURL();
+            assertTrue(file.setLastModified(1_000_000_000_000L));
+            ModuleCache.Key before = new ModuleCache.Key(url);
+            assertEquals(before, new ModuleCache.Key(url));
+            assertEquals(before.hashCode(), new ModuleCache.Key(url).hashCode());
+
+            assertTrue(file.setLastModified(2_000_000_000_000L));
+            assertNotEquals(before, new ModuleCache.Key(url));
+        } finally {
+            file.delete();
+        }
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2026 by Naohide Sano, All rights reserved.
+ *
+ * Programmed by Naohide Sano
+ */
+
+package de.quippy.javamod.multimedia.mod.loader;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import de.quippy.javamod.io.ModfileInputStream;
+import de.quippy.javamod.io.RandomAccessInputStream;
+import de.quippy.javamod.multimedia.mod.ModConstants;
+import de.quippy.javamod.multimedia.mod.ModMixer;
+import de.quippy.javamod.multimedia.mod.loader.instrument.Sample;
+import de.quippy.javamod.multimedia.mod.loader.tracker.ProTrackerMod;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+
+/**
+ * ModuleTest.
+ *
+ * @author <a href="mailto:umjammer@gmail.com">Naohide Sano</a> (umjammer)
+ * @version 0.00 2026/10/17 umjammer initial version <br>
+ */
+public class ModuleTest {
+
+    /** reads the data of one sample only - where the header only load ends is the skipped length */
+    static class SampleOnlyMod extends ProTrackerMod {
+
+        final Sample sample = new Sample();
+        long end;
+
+        SampleOnlyMod(int sampleType, int sampleLength) {
+            sample.sampleType = sampleType;
+            sample.sampleLength = sampleLength;
+        }
+
+        @Override
+        protected void loadModFileInternal(RandomAccessInputStream inputStream) throws IOException {
+            readSampleData(sample, inputStream);
+            end = inputStream.getFilePointer();
+        }
+    }
+
+    static long skip(int sampleType, int sampleLength, byte[] data) throws Exception {
+        Path file = Files.createTempFile("sample", ".bin");
+        try {
+            Files.write(file, data);
+            SampleOnlyMod mod = new SampleOnlyMod(sampleType, sampleLength);
+            try (ModfileInputStream inputStream = new ModfileInputStream(file.toFile())) {
+                mod.loadModHeader(inputStream);
+            }
+            assertNull(mod.sample.sampleL);
+            return mod.end;
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void testSkipUncompressed() throws Exception {
+        assertEquals(200, skip(ModConstants.SM_16BIT, 100, new byte[300]));
+        assertEquals(400, skip(ModConstants.SM_16BIT | ModConstants.SM_STEREO, 100, new byte[500]));
+        // cut off at the end
+        assertEquals(150, skip(ModConstants.SM_16BIT, 100, new byte[150]));
+    }
+
+    @Test
+    public void testSkipCompressed() throws Exception {
+        // two blocks, each starting with its size
+        byte[] data = new byte[2 + 10 + 2 + 20 + 50];
+        data[0] = 10;
+        data[12] = 20;
+        assertEquals(34, skip(ModConstants.SM_IT214, 0x8000 + 1, data));
+
+        // the second block runs past the end - the input is skipped to its end
+        byte[] cut = new byte[2 + 10 + 2 + 5];
+        cut[0] = 10;
+        cut[12] = 20;
+        assertEquals(cut.length, skip(ModConstants.SM_IT214, 0x8000 + 1, cut));
+    }
+
+    /** a module loaded without sample data has all it needs for the song infos */
+    @Test
+    public void testHeaderOnlyProbe() throws Exception {
+        File file = new File("src/test/resources/test.mod");
+        Module full = ModuleFactory.getInstance(file);
+        Module header = ModuleFactory.getHeaderInstance(file.toURI().toURL());
+        assertFalse(full.isHeaderOnly());
+        assertTrue(header.isHeaderOnly());
+
+        assertEquals(full.getSongName(), header.getSongName());
+        assertEquals(full.getNChannels(), header.getNChannels());
+        assertEquals(full.getSongLength(), header.getSongLength());
+        assertEquals(full.getNSamples(), header.getNSamples());
+        for (int i = 0; i < full.getNSamples(); i++) {
+            Sample fullSample = full.getInstrumentContainer().getSample(i);
+            Sample headerSample = header.getInstrumentContainer().getSample(i);
+            assertEquals(fullSample.sampleLength, headerSample.sampleLength);
+            assertNull(headerSample.sampleL);
+        }
+
+        long fullLength = new ModMixer(full, 8, 1, 22050, 0, 0, false, false, false, false, ModConstants.PLAYER_LOOP_IGNORE, 0, 500, 0, 0, true).getLengthInMilliseconds();
+        long headerLength = new ModMixer(header, 8, 1, 22050, 0, 0, false, false, false, false, ModConstants.PLAYER_LOOP_IGNORE, 0, 500, 0, 0, true).getLengthInMilliseconds();
+        assertTrue(fullLength > 0);
+        assertEquals(fullLength, headerLength);
+    }
+
+    @Test
+    public void testDecodeSamples() throws Exception {
+        int parallelism = Module.getSampleDecodingParallelism();
+        try {
+            // every sample once
+            Module.setSampleDecodingParallelism(4);
+            AtomicIntegerArray decoded = new AtomicIntegerArray(100);
+            Module.decodeSamples(decoded.length(), decoded::incrementAndGet);
+            for (int i = 0; i < decoded.length(); i++) assertEquals(1, decoded.get(i), "sample " + i);
+
+            // a failure is passed on, after all threads are done
+            IllegalStateException failure = new IllegalStateException();
+            assertSame(failure, assertThrows(IllegalStateException.class, () -> Module.decodeSamples(100, index -> {
+                if (index == 42) throw failure;
+            })));
+
+            // one after another in the loading thread
+            Module.setSampleDecodingParallelism(1);
+            List<Integer> order = new ArrayList<>();
+            Thread caller = Thread.currentThread();
+            Module.decodeSamples(10, index -> {
+                assertSame(caller, Thread.currentThread());
+                order.add(index);
+            });
+            assertEquals(List.of(0, 1, 2, 3, 4, 5, 6, 7, 8, 9), order);
+
+            assertThrows(IllegalArgumentException.class, () -> Module.setSampleDecodingParallelism(0));
+        } finally {
+            Module.setSampleDecodingParallelism(parallelism);
+        }
+    }
+}
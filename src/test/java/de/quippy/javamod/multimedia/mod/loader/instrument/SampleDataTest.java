@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2026 by Naohide Sano, All rights reserved.
+ *
+ * Programmed by Naohide Sano
+ */
+
+package de.quippy.javamod.multimedia.mod.loader.instrument;
+
+import java.util.Random;
+
+import de.quippy.javamod.multimedia.mod.ModConstants;
+import de.quippy.javamod.multimedia.mod.mixer.interpolation.CubicSpline;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+
+/**
+ * SampleDataTest.
+ *
+ * @author <a href="mailto:umjammer@gmail.com">Naohide Sano</a> (umjammer)
+ * @version 0.00 2026/10/17 umjammer initial version <br>
+ */
+public class SampleDataTest {
+
+    @Test
+    public void testPromotion() {
+        SampleData data8 = SampleData.create(8, 2);
+        data8.setSigned8(new byte[] {-128, 127}, 0, 0, 2);
+        assertEquals(-128L << 24, data8.get(0));
+        assertEquals(127L << 24, data8.get(1));
+
+        SampleData data16 = SampleData.create(16, 2);
+        data16.setSigned16(new short[] {-32768, 32767}, 0, 0, 2);
+        assertEquals(-32768L << 16, data16.get(0));
+        assertEquals(32767L << 16, data16.get(1));
+        assertEquals(4, data16.getByteLength());
+    }
+
+    /** funk repeat and Karplus-Strong write values the native width cannot hold */
+    @Test
+    public void testWidenKeepsInPlaceEffectsExact() {
+        Sample sample = new Sample();
+        sample.sampleLength = 4;
+        sample.allocSampleData(8);
+        for (int i = 0; i < sample.sampleL.length(); i++) sample.sampleL.set(i, ((long) (i * 7 - 20)) << 24);
+        long[] expected = new long[sample.sampleL.length()];
+        for (int i = 0; i < expected.length; i++) expected[i] = sample.sampleL.get(i);
+
+        sample.widenSampleData();
+        assertEquals(32, sample.sampleL.getBitsPerSample());
+        assertSame(sample.sampleL, sample.sampleL.widen());
+
+        // invert loop
+        expected[3] = ~expected[3];
+        sample.sampleL.set(3, ~sample.sampleL.get(3));
+        // Karplus-Strong
+        expected[4] = (expected[4] + expected[5]) >> 1;
+        sample.sampleL.set(4, (sample.sampleL.get(4) + sample.sampleL.get(5)) >> 1);
+
+        for (int i = 0; i < expected.length; i++) assertEquals(expected[i], sample.sampleL.get(i), "index " + i);
+    }
+
+    @Test
+    public void testCopyOfKeepsTheWidth() {
+        for (int bits : new int[] {8, 16, 32}) {
+            SampleData data = SampleData.create(bits, 3);
+            for (int i = 0; i < 3; i++) data.set(i, ((long) (i - 1)) << 24);
+            SampleData longer = data.copyOf(Sample.getAllocLength(3));
+            assertEquals(bits, longer.getBitsPerSample());
+            assertEquals(Sample.getAllocLength(3), longer.length());
+            for (int i = 0; i < 3; i++) assertEquals(data.get(i), longer.get(i));
+            assertEquals(0, longer.get(3));
+            SampleData shorter = data.copyOf(2);
+            assertEquals(2, shorter.length());
+            assertEquals(data.get(1), shorter.get(1));
+        }
+    }
+
+    /** the shared kernels give the same for every width - and the blocks the same as the single points */
+    @Test
+    public void testKernelsMatchForAllWidths() {
+        int length = 256;
+        byte[] values = new byte[length];
+        new Random(1).nextBytes(values);
+        SampleData[] widths = new SampleData[3];
+        for (int i = 0; i < widths.length; i++) {
+            widths[i] = SampleData.create(8 << i, length);
+            widths[i].setSigned8(values, 0, 0, length);
+        }
+        int phases = 16;
+        int[] sinc = new int[phases * 16];
+        Random random = new Random(2);
+        for (int i = 0; i < sinc.length; i++) sinc[i] = random.nextInt(1 << 14) - (1 << 13);
+        int fracShift = ModConstants.SHIFT - 4;
+        int quantShift = 14;
+        int tuning = (3 << ModConstants.SHIFT) / 7;
+        int count = 64;
+
+        for (boolean isBackwards : new boolean[] {false, true}) {
+            int pos = (isBackwards) ? length - 10 : 10;
+            int direction = (isBackwards) ? -1 : 1;
+            long[][] expected = null;
+            for (SampleData data : widths) {
+                long[][] results = new long[5][count];
+                data.getNone(results[0], 0, count, pos, 0, tuning, isBackwards);
+                data.getLinear(results[1], 0, count, pos, 0, tuning, isBackwards);
+                data.getCubic(results[2], 0, count, pos, 0, tuning, isBackwards);
+                data.getSinc8(results[3], 0, count, sinc, fracShift, phases - 1, quantShift, pos, 0, tuning, isBackwards);
+                data.getSinc16(results[4], 0, count, sinc, fracShift, phases - 1, quantShift, pos, 0, tuning, isBackwards);
+                if (expected == null) expected = results;
+                else for (int k = 0; k < results.length; k++) assertArrayEquals(expected[k], results[k], data.getBitsPerSample() + " bits, kernel " + k);
+
+                // the single point kernels
+                int p = pos, tuningPos = 0;
+                for (int i = 0; i < count; i++) {
+                    assertEquals(data.get(p), results[0][i]);
+                    assertEquals(data.getLinear(p, tuningPos, isBackwards), results[1][i]);
+                    int poslo = (tuningPos >> CubicSpline.SPLINE_FRACSHIFT) & CubicSpline.SPLINE_FRACMASK;
+                    assertEquals(data.getCubic(p, poslo, isBackwards) / (1L << CubicSpline.SPLINE_QUANTBITS), results[2][i]);
+                    int phase = (tuningPos >> fracShift) & (phases - 1);
+                    assertEquals(data.getSinc8(sinc, phase << 3, p, isBackwards) / (1L << quantShift), results[3][i]);
+                    assertEquals(data.getSinc16(sinc, phase << 4, p, isBackwards) / (1L << quantShift), results[4][i]);
+                    tuningPos += tuning;
+                    p += direction * (tuningPos >> ModConstants.SHIFT);
+                    tuningPos &= ModConstants.SHIFT_MASK;
+                }
+            }
+        }
+    }
+}
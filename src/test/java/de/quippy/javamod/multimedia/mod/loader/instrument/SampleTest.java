@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2026 by Naohide Sano, All rights reserved.
+ *
+ * Programmed by Naohide Sano
+ */
+
+package de.quippy.javamod.multimedia.mod.loader.instrument;
+
+import java.util.Random;
+
+import de.quippy.javamod.multimedia.mod.ModConstants;
+import de.quippy.javamod.multimedia.mod.SampleFrame;
+import de.quippy.javamod.multimedia.mod.mixer.interpolation.Kaiser;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+
+/**
+ * SampleTest.
+ *
+ * @author <a href="mailto:umjammer@gmail.com">Naohide Sano</a> (umjammer)
+ * @version 0.00 2026/10/17 umjammer initial version <br>
+ */
+public class SampleTest {
+
+    static Sample createSample(int bitsPerSample) {
+        Sample sample = new Sample();
+        sample.isStereo = true;
+        sample.sampleLength = 1024;
+        sample.allocSampleData(bitsPerSample);
+        int alloc = Sample.getAllocLength(sample.sampleLength);
+        Random random = new Random(bitsPerSample);
+        for (int i = 0; i < alloc; i++) {
+            sample.sampleL.set(i, (random.nextInt(1 << 16) - (1 << 15)) << 8);
+            sample.sampleR.set(i, (random.nextInt(1 << 16) - (1 << 15)) << 8);
+        }
+        return sample;
+    }
+
+    /** the block mixing renders exactly, what rendering frame by frame does */
+    @Test
+    public void testBlockIsFrameByFrame() {
+        int[] interpolations = {
+                ModConstants.INTERPOLATION_NONE, ModConstants.INTERPOLATION_LINEAR, ModConstants.INTERPOLATION_CUBIC,
+                ModConstants.INTERPOLATION_KAISER_8, ModConstants.INTERPOLATION_WINDOWSFIR, ModConstants.INTERPOLATION_KAISER_16
+        };
+        // up sampling, and both down sampling sinc tables
+        int[] tunings = {(3 << ModConstants.SHIFT) / 7, Kaiser.gDownsample13x_Limit + 1, Kaiser.gDownsample2x_Limit + 1};
+        int count = 200;
+        SampleFrame frame = new SampleFrame();
+
+        for (int bitsPerSample : new int[] {8, 16, 32}) {
+            Sample sample = createSample(bitsPerSample);
+            for (int doISP : interpolations) {
+                for (int tuning : tunings) {
+                    for (boolean isBackwards : new boolean[] {false, true}) {
+                        int direction = (isBackwards) ? -1 : 1;
+                        int startPos = (isBackwards) ? sample.sampleLength - 10 : 10;
+                        for (boolean doSIMD : new boolean[] {false, true}) {
+                            long[] left = new long[count + 3];
+                            long[] right = new long[count + 3];
+                            sample.getInterpolatedSamples(left, right, 3, count, doISP, tuning, startPos, 5, isBackwards, doSIMD);
+
+                            int pos = startPos, tuningPos = 5;
+                            for (int i = 0; i < count; i++) {
+                                sample.getInterpolatedSample(frame, doISP, tuning, pos, tuningPos, isBackwards, 0);
+                                String message = bitsPerSample + " bits, interpolation " + doISP + ", tuning " + tuning + ", backwards " + isBackwards + ", simd " + doSIMD + ", frame " + i;
+                                assertEquals(frame.left, left[3 + i], message);
+                                assertEquals(frame.right, right[3 + i], message);
+                                tuningPos += tuning;
+                                pos += direction * (tuningPos >> ModConstants.SHIFT);
+                                tuningPos &= ModConstants.SHIFT_MASK;
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+}
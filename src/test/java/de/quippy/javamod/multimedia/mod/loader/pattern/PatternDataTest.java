@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2026 by Naohide Sano, All rights reserved.
+ *
+ * Programmed by Naohide Sano
+ */
+
+package de.quippy.javamod.multimedia.mod.loader.pattern;
+
+import de.quippy.javamod.multimedia.mod.loader.tracker.ProTrackerMod;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+
+/**
+ * PatternDataTest.
+ *
+ * @author <a href="mailto:umjammer@gmail.com">Naohide Sano</a> (umjammer)
+ * @version 0.00 2026/10/17 umjammer initial version <br>
+ */
+public class PatternDataTest {
+
+    @Test
+    public void testValues() {
+        PatternData data = new PatternData(4);
+        data.initRow(2, 3);
+        data.create(2, 1);
+        data.setPeriod(2, 1, 0x12345678);
+        data.setNoteIndex(2, 1, -2); // note cut
+        data.setInstrument(2, 1, 255);
+        data.setEffect(2, 1, 0x1F);
+        data.setEffectOp(2, 1, Short.MAX_VALUE);
+        data.setVolumeEffect(2, 1, 7);
+        data.setVolumeEffectOp(2, 1, Short.MIN_VALUE);
+
+        assertTrue(data.isPresent(2, 1));
+        assertFalse(data.isPresent(2, 0));
+        assertEquals(0x12345678, data.getPeriod(2, 1));
+        assertEquals(-2, data.getNoteIndex(2, 1));
+        assertEquals(255, data.getInstrument(2, 1));
+        assertEquals(0x1F, data.getEffect(2, 1));
+        assertEquals(Short.MAX_VALUE, data.getEffectOp(2, 1));
+        assertEquals(7, data.getVolumeEffect(2, 1));
+        assertEquals(Short.MIN_VALUE, data.getVolumeEffectOp(2, 1));
+        // the neighbours are untouched
+        assertEquals(0, data.getPeriod(2, 0));
+        assertEquals(0, data.getNoteIndex(2, 2));
+    }
+
+    @Test
+    public void testOutOfRange() {
+        PatternData data = new PatternData(1);
+        data.initRow(0, 1);
+        data.create(0, 0);
+        assertThrows(IllegalArgumentException.class, () -> data.setEffectOp(0, 0, 0x8000));
+        assertThrows(IllegalArgumentException.class, () -> data.setNoteIndex(0, 0, -0x8001));
+        assertEquals(0, data.getEffectOp(0, 0));
+    }
+
+    @Test
+    public void testSetChannels() {
+        PatternData data = new PatternData(2);
+        data.initRow(0, 4);
+        data.initRow(1, 4);
+        data.create(1, 3);
+        data.setInstrument(1, 3, 12);
+        data.create(1, 0);
+        data.setEffectOp(1, 0, 0x42);
+
+        data.setChannels(8);
+        assertTrue(data.isPresent(1, 3));
+        assertEquals(12, data.getInstrument(1, 3));
+        assertEquals(0x42, data.getEffectOp(1, 0));
+        assertFalse(data.isPresent(1, 5));
+
+        data.setChannels(2);
+        assertTrue(data.isPresent(1, 0));
+        assertEquals(0x42, data.getEffectOp(1, 0));
+    }
+
+    @Test
+    public void testViews() {
+        PatternContainer container = new PatternContainer(new ProTrackerMod(), 2, 4, 4);
+        Pattern pattern = container.getPattern(1);
+        PatternRow row = pattern.getPatternRow(3);
+        assertNull(row.getPatternElement(2));
+
+        PatternElement element = pattern.createPatternElement(3, 2);
+        element.setNoteIndex(25);
+        element.setEffectOp(0x0F);
+
+        // nothing is cached - every call hands out a new, equal view on the cell
+        assertNotSame(element, row.getPatternElement(2));
+        assertEquals(element, row.getPatternElement(2));
+        assertEquals(row.getPatternElement(2), container.getPatternElement(1, 3, 2));
+        assertEquals(1, element.getPatternIndex());
+        assertEquals(25, row.getPatternElement(2).getNoteIndex());
+
+        // copying into another cell copies the values, not the view
+        pattern.setPatternElement(0, 1, element);
+        PatternElement copy = pattern.getPatternElement(0, 1);
+        assertEquals(25, copy.getNoteIndex());
+        assertEquals(0x0F, copy.getEffectOp());
+        assertFalse(copy.equals(element));
+
+        pattern.setPatternElement(3, 2, null);
+        assertNull(row.getPatternElement(2));
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    public void testSetPatternRow() {
+        PatternContainer container = new PatternContainer(new ProTrackerMod(), 2, 4, 4);
+        Pattern source = container.getPattern(0);
+        source.createPatternElement(2, 0).setInstrument(7);
+        source.createPatternElement(2, 3).setEffect(0x0C);
+        Pattern target = container.getPattern(1);
+        target.createPatternElement(1, 1).setNoteIndex(40);
+
+        container.setPatternRow(1, 1, source.getPatternRow(2));
+        PatternRow row = target.getPatternRow(1);
+        assertSame(target, row.getParentPattern());
+        assertEquals(7, row.getPatternElement(0).getInstrument());
+        assertEquals(1, row.getPatternElement(0).getPatternIndex());
+        assertNull(row.getPatternElement(1));
+        assertEquals(0x0C, row.getPatternElement(3).getEffect());
+        // the source is untouched
+        assertEquals(7, source.getPatternElement(2, 0).getInstrument());
+
+        target.setPatternRow(source.getPatternRows());
+        assertNull(target.getPatternElement(1, 0));
+        assertEquals(7, target.getPatternElement(2, 0).getInstrument());
+
+        target.setPatternRow(2, null);
+        assertNull(target.getPatternElement(2, 0));
+        assertNull(target.getPatternElement(2, 3));
+    }
+}
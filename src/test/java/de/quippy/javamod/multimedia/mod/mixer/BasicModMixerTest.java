@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2026 by Naohide Sano, All rights reserved.
+ *
+ * Programmed by Naohide Sano
+ */
+
+package de.quippy.javamod.multimedia.mod.mixer;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.List;
+
+import de.quippy.javamod.multimedia.mod.loader.Module;
+import de.quippy.javamod.multimedia.mod.loader.ModuleFactory;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+
+/**
+ * BasicModMixerTest.
+ *
+ * @author <a href="mailto:umjammer@gmail.com">Naohide Sano</a> (umjammer)
+ * @version 0.00 2026/10/17 umjammer initial version <br>
+ */
+public class BasicModMixerTest {
+
+    /**
+     * hashes of the mixing buffers of test.mod per interpolation - taken
+     * with the sample data held promoted in long[]
+     */
+    static final String[] HASHES = {
+        "de186e2f105ee98", "6a0c48674c8d9a9d", "667ffaa87f505137", "e8af8245229bcdd1", "d902a11689a582f7", "1836e56c41f030b4"
+    };
+
+    static final int BUFFER_SIZE = 4096;
+    static final int BUFFERS = 3000;
+
+    static String mix(int doISP, boolean doSIMD, int mixThreads) throws Exception {
+        Module mod = ModuleFactory.getInstance(new File("src/test/resources/test.mod"));
+        BasicModMixer mixer = mod.getModMixer(44100, doISP, 0, 0, 256);
+        mixer.initializeMixer(false);
+        mixer.changeDoSIMD(doSIMD);
+        mixer.changeMixThreads(mixThreads);
+        try {
+            long[] left = new long[BUFFER_SIZE];
+            long[] right = new long[BUFFER_SIZE];
+            long hash = 0;
+            for (int i = 0; i < BUFFERS; i++) {
+                Arrays.fill(left, 0);
+                Arrays.fill(right, 0);
+                int count = mixer.mixIntoBuffer(left, right, BUFFER_SIZE);
+                if (count <= 0) break;
+                for (int j = 0; j < count; j++) hash = hash * 31 + left[j] * 7 + right[j];
+            }
+            return Long.toHexString(hash);
+        } finally {
+            mixer.stopMixThreads();
+        }
+    }
+
+    @Test
+    public void testNativeWidthIsBitIdentical() throws Exception {
+        for (int doISP = 0; doISP < HASHES.length; doISP++)
+            assertEquals(HASHES[doISP], mix(doISP, false, 1), "interpolation " + doISP);
+    }
+
+    @Test
+    public void testSIMDAndParallelMixingAreBitIdentical() throws Exception {
+        for (int doISP = 0; doISP < HASHES.length; doISP++)
+            assertEquals(HASHES[doISP], mix(doISP, true, 4), "interpolation " + doISP);
+    }
+
+    @Test
+    public void testSnapshotsAreBounded() throws Exception {
+        Module mod = ModuleFactory.getInstance(new File("src/test/resources/test.mod"));
+        BasicModMixer mixer = mod.getModMixer(44100, 0, 0, 0, 256);
+        mixer.initializeMixer(false);
+        mixer.changeSnapshotInterval(1);
+        long[] left = new long[BUFFER_SIZE];
+        long[] right = new long[BUFFER_SIZE];
+        for (int i = 0; i < BUFFERS; i++) {
+            if (mixer.mixIntoBuffer(left, right, BUFFER_SIZE) <= 0) break;
+        }
+
+        List<MixerSnapshot> snapshots = mixer.getSnapshots();
+        assertTrue(snapshots.size() > 1 && snapshots.size() <= 64, "snapshots: " + snapshots.size());
+        for (int i = 1; i < snapshots.size(); i++)
+            assertTrue(snapshots.get(i - 1).samplePosition < snapshots.get(i).samplePosition);
+
+        // the kept snapshots still serve seeking
+        long target = snapshots.get(snapshots.size() - 1).samplePosition * 1000L / 44100L + 500L;
+        assertEquals(target * 44100L / 1000L, mixer.seek(target));
+    }
+
+    static BasicModMixer createMixer(File file) throws Exception {
+        Module mod = ModuleFactory.getInstance(file);
+        BasicModMixer mixer = mod.getModMixer(44100, 0, 0, 0, 256);
+        mixer.initializeMixer(false);
+        return mixer;
+    }
+
+    static String mix(BasicModMixer mixer, int buffers) {
+        long[] left = new long[BUFFER_SIZE];
+        long[] right = new long[BUFFER_SIZE];
+        long hash = 0;
+        for (int i = 0; i < buffers; i++) {
+            Arrays.fill(left, 0);
+            Arrays.fill(right, 0);
+            int count = mixer.mixIntoBuffer(left, right, BUFFER_SIZE);
+            if (count <= 0) break;
+            for (int j = 0; j < count; j++) hash = hash * 31 + left[j] * 7 + right[j];
+        }
+        return Long.toHexString(hash);
+    }
+
+    /** a serialized snapshot restored with a fresh mixer continues the song bit identical */
+    @Test
+    public void testSnapshotRoundTrip() throws Exception {
+        File file = new File("src/test/resources/test.mod");
+        BasicModMixer mixer = createMixer(file);
+        mix(mixer, 200);
+        MixerSnapshot snapshot = mixer.createSnapshot();
+        ByteArrayOutputStream serialized = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(serialized)) {
+            out.writeObject(snapshot);
+        }
+        String expected = mix(mixer, 300);
+
+        BasicModMixer other = createMixer(file);
+        MixerSnapshot restored;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(serialized.toByteArray()))) {
+            restored = (MixerSnapshot) in.readObject();
+        }
+        assertEquals(snapshot.getSamplePosition(), other.restoreSnapshot(restored));
+        assertEquals(expected, mix(other, 300));
+    }
+
+    /** the same song from another file is another module */
+    @Test
+    public void testSnapshotOfAnotherFile() throws Exception {
+        File file = new File("src/test/resources/test.mod");
+        MixerSnapshot snapshot = createMixer(file).createSnapshot();
+        ByteArrayOutputStream serialized = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(serialized)) {
+            out.writeObject(snapshot);
+        }
+
+        Path copy = Files.createTempFile("copy", ".mod");
+        try {
+            Files.copy(file.toPath(), copy, StandardCopyOption.REPLACE_EXISTING);
+            BasicModMixer other = createMixer(copy.toFile());
+            try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(serialized.toByteArray()))) {
+                MixerSnapshot restored = (MixerSnapshot) in.readObject();
+                assertThrows(IllegalArgumentException.class, () -> other.restoreSnapshot(restored));
+            }
+            // not serialized, a snapshot only fits the module it was taken from
+            assertThrows(IllegalArgumentException.class, () -> other.restoreSnapshot(snapshot));
+        } finally {
+            Files.delete(copy);
+        }
+    }
+}
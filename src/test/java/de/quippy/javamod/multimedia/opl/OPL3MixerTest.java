@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2026 by Naohide Sano, All rights reserved.
+ *
+ * Programmed by Naohide Sano
+ */
+
+package de.quippy.javamod.multimedia.opl;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.lang.reflect.Proxy;
+import java.net.URL;
+
+import de.quippy.javamod.io.RandomAccessInputStream;
+import de.quippy.javamod.io.SoundOutputStream;
+import de.quippy.javamod.multimedia.opl.emu.EmuOPL;
+import de.quippy.javamod.multimedia.opl.emu.EmuOPL.OplType;
+import de.quippy.javamod.multimedia.opl.emu.EmuOPL.Version;
+import de.quippy.javamod.multimedia.opl.sequencer.OPL3Sequence;
+import org.junit.jupiter.api.Test;
+import vavi.io.OutputEngine;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+
+/**
+ * OPL3MixerTest.
+ *
+ * @author <a href="mailto:umjammer@gmail.com">Naohide Sano</a> (umjammer)
+ * @version 0.00 2026/10/17 umjammer initial version <br>
+ */
+public class OPL3MixerTest {
+
+    /** some notes on both banks, 70 ticks per second */
+    static class TestSequence extends OPL3Sequence {
+
+        static final int TICKS = 140;
+
+        record TickState(int tick) implements State {
+        }
+
+        int tick;
+
+        @Override
+        protected boolean isSupportedExtension(String extension) {
+            return false;
+        }
+
+        @Override
+        protected boolean isSupported(InputStream stream) {
+            return false;
+        }
+
+        @Override
+        protected void readOPL3Sequence(RandomAccessInputStream inputStream) {
+        }
+
+        @Override
+        public void setURL(URL url) {
+        }
+
+        @Override
+        public boolean updateToOPL(EmuOPL opl) {
+            if (tick >= TICKS) return false;
+            if (tick == 0) {
+                opl.writeOPL3(1, 0x05, 0x01);
+                for (int bank = 0; bank < 2; bank++) {
+                    opl.writeOPL3(bank, 0x20, 0x21);
+                    opl.writeOPL3(bank, 0x23, 0x21);
+                    opl.writeOPL3(bank, 0x43, 0x00);
+                    opl.writeOPL3(bank, 0x60, 0xf4);
+                    opl.writeOPL3(bank, 0x63, 0xf4);
+                    opl.writeOPL3(bank, 0x80, 0x26);
+                    opl.writeOPL3(bank, 0x83, 0x26);
+                    opl.writeOPL3(bank, 0xc0, (bank == 0) ? 0x16 : 0x26);
+                }
+            }
+            if ((tick % 20) == 0) {
+                for (int bank = 0; bank < 2; bank++) {
+                    opl.writeOPL3(bank, 0xa0, 0x41 + tick + bank * 50);
+                    opl.writeOPL3(bank, 0xb0, ((tick % 40) == 0) ? 0x32 : 0x12);
+                }
+            }
+            tick++;
+            return true;
+        }
+
+        @Override
+        public void initialize(EmuOPL opl) {
+            resetOPL(opl);
+            tick = 0;
+        }
+
+        @Override
+        public State saveState() {
+            return new TickState(tick);
+        }
+
+        @Override
+        public void restoreState(State state) {
+            tick = ((TickState) state).tick();
+        }
+
+        @Override
+        public double getRefresh() {
+            return 70d;
+        }
+
+        @Override
+        public String getSongName() {
+            return "test";
+        }
+
+        @Override
+        public String getAuthor() {
+            return "";
+        }
+
+        @Override
+        public String getDescription() {
+            return "";
+        }
+
+        @Override
+        public String getTypeName() {
+            return "test";
+        }
+
+        @Override
+        public OplType getOPLType() {
+            return OplType.OPL3;
+        }
+    }
+
+    static OPL3Mixer createMixer() {
+        return new OPL3Mixer(Version.YMF262, 44100, new TestSequence(), true);
+    }
+
+    static byte[] render() throws Exception {
+        OPL3Mixer mixer = createMixer();
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        byte[] buffer = new byte[1000]; // not a multiple of an interval or the buffer of the mixer
+        mixer.openRendering();
+        try {
+            int read;
+            while ((read = mixer.render(buffer, 0, buffer.length)) >= 0) result.write(buffer, 0, read);
+        } finally {
+            mixer.closeRendering();
+        }
+        return result.toByteArray();
+    }
+
+    @Test
+    public void testOutputEngineIsRendering() throws Exception {
+        byte[] rendered = render();
+        // the intervals and the cool down at the end
+        assertTrue(rendered.length > (TestSequence.TICKS * 44100 / 70) * 4, "" + rendered.length);
+
+        OPL3Mixer mixer = createMixer();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        OutputEngine engine = mixer.getOutputEngine();
+        engine.initialize(out);
+        while (!mixer.hasFinished()) engine.execute();
+        engine.finish();
+        assertArrayEquals(rendered, out.toByteArray());
+    }
+
+    @Test
+    public void testPlaybackIsRendering() throws Exception {
+        byte[] rendered = render();
+
+        OPL3Mixer mixer = createMixer();
+        ByteArrayOutputStream played = new ByteArrayOutputStream();
+        mixer.setSoundOutputStream((SoundOutputStream) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] {SoundOutputStream.class}, (proxy, method, args) -> {
+            if (method.getName().equals("writeSampleData") && args[0] instanceof byte[] samples)
+                played.write(samples, (int) args[1], (int) args[2]);
+            Class<?> type = method.getReturnType();
+            if (type == boolean.class) return method.getName().equals("isInitialized");
+            if (type == int.class) return 0;
+            if (type == long.class) return 0L;
+            return null;
+        }));
+        mixer.startPlayback();
+        assertTrue(mixer.hasFinished());
+        assertEquals(rendered.length, played.size());
+        assertArrayEquals(rendered, played.toByteArray());
+    }
+}
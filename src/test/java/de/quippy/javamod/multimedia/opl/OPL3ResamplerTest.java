@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2026 by Naohide Sano, All rights reserved.
+ *
+ * Programmed by Naohide Sano
+ */
+
+package de.quippy.javamod.multimedia.opl;
+
+import java.util.Arrays;
+
+import de.quippy.javamod.multimedia.opl.emu.EmuOPL;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+
+/**
+ * OPL3ResamplerTest.
+ *
+ * @author <a href="mailto:umjammer@gmail.com">Naohide Sano</a> (umjammer)
+ * @version 0.00 2026/10/17 umjammer initial version <br>
+ */
+public class OPL3ResamplerTest {
+
+    static final int DC = 10000;
+
+    /** a chip playing DC on the left and a 1 kHz sine on the right */
+    static class TestOPL extends EmuOPL {
+
+        long framesRead;
+
+        TestOPL() {
+            super(Version.YMF262, OPL_SAMPLERATE, OplType.OPL3);
+        }
+
+        @Override
+        public void resetOPL() {
+            framesRead = 0;
+        }
+
+        @Override
+        public void read(int[] interleaved, int frames) {
+            for (int i = 0; i < frames; i++, framesRead++) {
+                interleaved[i << 1] = DC;
+                interleaved[(i << 1) + 1] = (int) Math.round(8000d * Math.sin(2d * Math.PI * 1000d * framesRead / OPL_SAMPLERATE));
+            }
+        }
+
+        @Override
+        public void writeOPL2(int reg, int value) {
+        }
+
+        @Override
+        public void writeDualOPL2(int bank, int reg, int value) {
+        }
+
+        @Override
+        public void writeOPL3(int base, int reg, int value) {
+        }
+    }
+
+    @Test
+    public void testBypassAtNativeRate() {
+        TestOPL chip = new TestOPL();
+        OPL3Resampler resampler = new OPL3Resampler(chip, EmuOPL.OPL_SAMPLERATE);
+        int[] output = new int[200];
+        resampler.read(output, 100);
+
+        int[] expected = new int[200];
+        new TestOPL().read(expected, 100);
+        assertArrayEquals(expected, output);
+        assertEquals(100, chip.framesRead);
+    }
+
+    @Test
+    public void testDCGain() {
+        for (int sampleRate : new int[] {96000, 48000, 44100, 32000, 22050}) {
+            OPL3Resampler resampler = new OPL3Resampler(new TestOPL(), sampleRate);
+            int[] output = new int[2000];
+            resampler.read(output, 1000);
+            // after the silent history has left the taps
+            for (int f = 16; f < 1000; f++)
+                assertTrue(Math.abs(output[f << 1] - DC) <= DC / 100, sampleRate + "Hz frame " + f + ": " + output[f << 1]);
+        }
+    }
+
+    @Test
+    public void testFrequencyIsKept() {
+        int sampleRate = 44100;
+        OPL3Resampler resampler = new OPL3Resampler(new TestOPL(), sampleRate);
+        int[] output = new int[sampleRate << 1];
+        resampler.read(output, sampleRate);
+
+        // one second of a 1 kHz sine crosses zero upwards 1000 times
+        int crossings = 0;
+        for (int f = 17; f < sampleRate; f++)
+            if (output[(f - 1) << 1 | 1] < 0 && output[f << 1 | 1] >= 0) crossings++;
+        assertTrue(Math.abs(crossings - 1000) <= 1, "crossings " + crossings);
+    }
+
+    @Test
+    public void testBlockSizeDoesNotMatter() {
+        int frames = 4410;
+        int[] whole = new int[frames << 1];
+        new OPL3Resampler(new TestOPL(), 44100).read(whole, frames);
+
+        int[] blocks = new int[frames << 1];
+        int[] block = new int[1024 << 1];
+        OPL3Resampler resampler = new OPL3Resampler(new TestOPL(), 44100);
+        int[] sizes = {1, 7, 100, 333, 1024, 2};
+        for (int done = 0, i = 0; done < frames; i++) {
+            int size = Math.min(sizes[i % sizes.length], frames - done);
+            resampler.read(block, size);
+            System.arraycopy(block, 0, blocks, done << 1, size << 1);
+            done += size;
+        }
+        assertArrayEquals(whole, blocks);
+    }
+
+    @Test
+    public void testChipIsReadAtItsRate() {
+        TestOPL chip = new TestOPL();
+        OPL3Resampler resampler = new OPL3Resampler(chip, 44100);
+        int[] output = new int[4410 << 1];
+        for (int i = 0; i < 10; i++) resampler.read(output, 4410);
+
+        // one second plus the frames the taps look ahead
+        assertTrue(Math.abs(chip.framesRead - (EmuOPL.OPL_SAMPLERATE + 8)) <= 2, "frames read " + chip.framesRead);
+    }
+
+    @Test
+    public void testReset() {
+        TestOPL chip = new TestOPL();
+        OPL3Resampler resampler = new OPL3Resampler(chip, 44100);
+        int[] first = new int[200];
+        resampler.read(first, 100);
+
+        resampler.read(new int[2000], 1000);
+        chip.resetOPL();
+        resampler.reset();
+        int[] again = new int[200];
+        resampler.read(again, 100);
+        assertArrayEquals(first, again);
+        assertTrue(Arrays.stream(first).anyMatch(s -> s != 0));
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2026 by Naohide Sano, All rights reserved.
+ *
+ * Programmed by Naohide Sano
+ */
+
+package de.quippy.javamod.multimedia.opl.emu;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import de.quippy.javamod.multimedia.opl.emu.EmuOPL.OplType;
+import de.quippy.javamod.multimedia.opl.emu.EmuOPL.Version;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+
+/**
+ * EmuOPLRegistersTest.
+ *
+ * @author <a href="mailto:umjammer@gmail.com">Naohide Sano</a> (umjammer)
+ * @version 0.00 2026/10/17 umjammer initial version <br>
+ */
+public class EmuOPLRegistersTest {
+
+    /** records every call - a write as bank &lt;&lt; 8 | reg, a reset as -1 */
+    static class RecordingOPL extends EmuOPL {
+
+        final List<Integer> writes = new ArrayList<>();
+        final int[] values = new int[EmuOPLRegisters.REGISTER_COUNT];
+
+        RecordingOPL(OplType oplType) {
+            super(Version.YMF262, OPL_SAMPLERATE, oplType);
+        }
+
+        @Override
+        public void resetOPL() {
+            writes.add(-1);
+        }
+
+        @Override
+        public void read(int[] interleaved, int frames) {
+        }
+
+        @Override
+        public void writeOPL2(int reg, int value) {
+            writeOPL3(0, reg, value);
+        }
+
+        @Override
+        public void writeDualOPL2(int bank, int reg, int value) {
+            writeOPL3(bank, reg, value);
+        }
+
+        @Override
+        public void writeOPL3(int base, int reg, int value) {
+            writes.add((base << 8) | reg);
+            values[(base << 8) | reg] = value;
+        }
+    }
+
+    /** a note on channel 0 of both banks - keyed on before its operators are set up */
+    static void playNotes(EmuOPL opl) {
+        opl.writeOPL3(1, 0x05, 0x01);
+        for (int bank = 0; bank < 2; bank++) {
+            opl.writeOPL3(bank, 0xa0, 0x41 + bank);
+            opl.writeOPL3(bank, 0xb0, 0x32);
+            opl.writeOPL3(bank, 0x20, 0x21);
+            opl.writeOPL3(bank, 0x23, 0x01);
+            opl.writeOPL3(bank, 0x43, 0x00);
+            opl.writeOPL3(bank, 0x60, 0xf4);
+            opl.writeOPL3(bank, 0x63, 0xf4);
+            opl.writeOPL3(bank, 0x80, 0x26);
+            opl.writeOPL3(bank, 0x83, 0x26);
+            opl.writeOPL3(bank, 0xc0, 0x36);
+        }
+    }
+
+    @Test
+    public void testApplyToSoundsLikeTheWrites() {
+        EmuOPL direct = EmuOPL.createInstance(Version.YMF262, EmuOPL.OPL_SAMPLERATE, OplType.OPL3);
+        direct.resetOPL();
+        playNotes(direct);
+
+        EmuOPLRegisters registers = new EmuOPLRegisters(Version.YMF262, OplType.OPL3);
+        playNotes(registers);
+        EmuOPL applied = EmuOPL.createInstance(Version.YMF262, EmuOPL.OPL_SAMPLERATE, OplType.OPL3);
+        applied.writeOPL3(0, 0xb0, 0x3f); // garbage - applyTo resets the chip first
+        registers.applyTo(applied);
+
+        int[] expected = new int[2048 << 1];
+        int[] actual = new int[2048 << 1];
+        direct.read(expected, 2048);
+        applied.read(actual, 2048);
+        assertArrayEquals(expected, actual);
+        boolean sounds = false;
+        for (int sample : actual) sounds |= sample != 0;
+        assertTrue(sounds);
+    }
+
+    @Test
+    public void testApplyOrder() {
+        EmuOPLRegisters registers = new EmuOPLRegisters(Version.YMF262, OplType.OPL3);
+        playNotes(registers);
+        RecordingOPL opl = new RecordingOPL(OplType.OPL3);
+        registers.applyTo(opl);
+
+        assertEquals(-1, (int) opl.writes.get(0), "reset first");
+        assertEquals(0x105, (int) opl.writes.get(1), "OPL3 mode before anything else");
+        int firstKey = opl.writes.indexOf(0x0b0);
+        for (int reg : new int[] {0x020, 0x060, 0x0a0, 0x0c0, 0x0e0, 0x120, 0x1a0, 0x1c0})
+            assertTrue(opl.writes.indexOf(reg) < firstKey, Integer.toHexString(reg) + " after the key on");
+        assertEquals(0x32, opl.values[0x0b0]);
+        assertEquals(0x42, opl.values[0x1a0]);
+        // the rhythm register exists in bank 0 only
+        assertTrue(opl.writes.contains(0x0bd));
+        assertFalse(opl.writes.contains(0x1bd));
+    }
+
+    @Test
+    public void testBanksPerType() {
+        EmuOPLRegisters opl2 = new EmuOPLRegisters(Version.FMOPL_072_YM3812, OplType.OPL2);
+        RecordingOPL recording = new RecordingOPL(OplType.OPL2);
+        opl2.applyTo(recording);
+        assertTrue(recording.writes.stream().allMatch(write -> write < 0x100));
+        assertFalse(recording.writes.contains(0x105));
+
+        EmuOPLRegisters dual = new EmuOPLRegisters(Version.FMOPL_072_YM3812, OplType.DUAL_OPL2);
+        recording = new RecordingOPL(OplType.DUAL_OPL2);
+        dual.applyTo(recording);
+        assertTrue(recording.writes.contains(0x0bd));
+        assertTrue(recording.writes.contains(0x1bd));
+    }
+
+    @Test
+    public void testSaveAndRestore() {
+        EmuOPLRegisters registers = new EmuOPLRegisters(Version.YMF262, OplType.OPL3);
+        playNotes(registers);
+        int[] saved = registers.getRegisters();
+        assertEquals(EmuOPLRegisters.REGISTER_COUNT, saved.length);
+        assertEquals(0x01, saved[0x105]);
+
+        // a copy - later writes do not change it
+        registers.writeOPL3(0, 0xb0, 0x12);
+        assertEquals(0x32, saved[0x0b0]);
+
+        registers.resetOPL();
+        assertEquals(0, registers.getRegisters()[0x0b0]);
+        registers.setRegisters(saved);
+        assertArrayEquals(saved, registers.getRegisters());
+
+        RecordingOPL restored = new RecordingOPL(OplType.OPL3);
+        registers.applyTo(restored);
+        assertEquals(0x32, restored.values[0x0b0]);
+        assertEquals(0x36, restored.values[0x1c0]);
+    }
+
+    @Test
+    public void testSilent() {
+        EmuOPLRegisters registers = new EmuOPLRegisters(Version.YMF262, OplType.OPL3);
+        playNotes(registers);
+        int[] output = {1, 2, 3, 4, 5};
+        registers.read(output, 2);
+        assertArrayEquals(new int[] {0, 0, 0, 0, 5}, output);
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2026 by Naohide Sano, All rights reserved.
+ *
+ * Programmed by Naohide Sano
+ */
+
+package de.quippy.javamod.multimedia.render;
+
+import java.io.File;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+
+/**
+ * BatchRendererTest.
+ *
+ * @author <a href="mailto:umjammer@gmail.com">Naohide Sano</a> (umjammer)
+ * @version 0.00 2026/10/17 umjammer initial version <br>
+ */
+public class BatchRendererTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void testCreateJobs() throws Exception {
+        Path input = Files.createDirectories(dir.resolve("in"));
+        Files.createDirectories(input.resolve("sub"));
+        Files.write(input.resolve("song.xm"), new byte[1]);
+        Files.write(input.resolve("song.it"), new byte[1]);
+        Files.write(input.resolve("sub/song.mod"), new byte[1]);
+        Files.write(input.resolve("readme.txt"), new byte[1]);
+        File output = dir.resolve("out").toFile();
+
+        List<BatchRenderer.Job> jobs = BatchRenderer.createJobs(input.toFile(), output);
+
+        assertEquals(3, jobs.size());
+        assertEquals(new File(output, "song.it.wav"), jobs.get(0).output());
+        assertEquals(new File(output, "song.xm.wav"), jobs.get(1).output());
+        assertEquals(new File(output, "sub" + File.separator + "song.mod.wav"), jobs.get(2).output());
+        assertEquals(input.resolve("song.it").toUri().toURL(), jobs.get(0).input());
+    }
+
+    @Test
+    void testMakeOutputsUnique() throws Exception {
+        File output = dir.toFile();
+        List<BatchRenderer.Job> jobs = List.of(
+                new BatchRenderer.Job(new URL("file:/a/song.mod"), new File(output, "song.mod.wav")),
+                new BatchRenderer.Job(new URL("file:/b/song.mod"), new File(output, "song.mod.wav")),
+                new BatchRenderer.Job(new URL("file:/c/SONG.MOD"), new File(output, "SONG.MOD.wav")),
+                new BatchRenderer.Job(new URL("file:/d/song.mod-2"), new File(output, "song.mod-2.wav")),
+                new BatchRenderer.Job(new URL("file:/e/other.mod"), new File(output, "other.mod.wav")));
+
+        List<BatchRenderer.Job> unique = BatchRenderer.makeOutputsUnique(jobs);
+
+        assertEquals(jobs.size(), unique.size());
+        assertSame(jobs.get(0), unique.get(0));
+        assertEquals(new File(output, "song.mod-2.wav"), unique.get(1).output());
+        assertEquals(jobs.get(1).input(), unique.get(1).input());
+        // case insensitive file systems would overwrite it as well
+        assertEquals(new File(output, "SONG.MOD-3.wav"), unique.get(2).output());
+        // a taken counted name is skipped
+        assertEquals(new File(output, "song.mod-2-2.wav"), unique.get(3).output());
+        assertSame(jobs.get(4), unique.get(4));
+    }
+}
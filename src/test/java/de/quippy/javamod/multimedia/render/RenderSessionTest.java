@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2026 by Naohide Sano, All rights reserved.
+ *
+ * Programmed by Naohide Sano
+ */
+
+package de.quippy.javamod.multimedia.render;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.util.Properties;
+
+import de.quippy.javamod.multimedia.mod.ModContainer;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+
+/**
+ * RenderSessionTest.
+ *
+ * @author <a href="mailto:umjammer@gmail.com">Naohide Sano</a> (umjammer)
+ * @version 0.00 2026/10/17 umjammer initial version <br>
+ */
+public class RenderSessionTest {
+
+    static RenderSettings createSettings() {
+        Properties props = new Properties();
+        // the dither noise is random
+        props.setProperty(ModContainer.PROPERTY_PLAYER_DITHERBYPASS, "true");
+        return new RenderSettings(props);
+    }
+
+    static byte[] render(RenderSession session, int length, int chunk) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[chunk];
+        int read;
+        while (out.size() < length && (read = session.render(buffer, 0, Math.min(chunk, length - out.size()))) != -1)
+            out.write(buffer, 0, read);
+        return out.toByteArray();
+    }
+
+    /** sessions of the same piece do not share any state */
+    @Test
+    public void testSessionsAreIndependent() throws Exception {
+        URL url = new File("src/test/resources/test.mod").toURI().toURL();
+        RenderSettings settings = createSettings();
+
+        byte[] expected;
+        int length;
+        try (RenderSession session = RenderSession.open(url, settings)) {
+            assertEquals(settings.getSampleRate(), (int) session.getAudioFormat().getSampleRate());
+            // ten seconds are enough to compare
+            length = settings.getSampleRate() * session.getAudioFormat().getFrameSize() * 10;
+            expected = render(session, length, 8192);
+        }
+        assertEquals(length, expected.length);
+
+        try (RenderSession first = RenderSession.open(url, settings);
+             RenderSession second = RenderSession.open(url, settings)) {
+            assertEquals(first.getLengthInMilliseconds(), second.getLengthInMilliseconds());
+            ByteArrayOutputStream firstOut = new ByteArrayOutputStream();
+            ByteArrayOutputStream secondOut = new ByteArrayOutputStream();
+            // interleaved and with different chunk sizes
+            while (firstOut.size() < length) {
+                firstOut.write(render(first, Math.min(4096, length - firstOut.size()), 4096));
+                if (secondOut.size() < length) secondOut.write(render(second, Math.min(1024, length - secondOut.size()), 1024));
+            }
+            secondOut.write(render(second, length - secondOut.size(), 1024));
+            assertArrayEquals(expected, firstOut.toByteArray());
+            assertArrayEquals(expected, secondOut.toByteArray());
+        }
+    }
+
+    @Test
+    public void testClosed() throws Exception {
+        URL url = new File("src/test/resources/test.mod").toURI().toURL();
+        RenderSession session = RenderSession.open(url, createSettings());
+        session.close();
+        assertThrows(IOException.class, () -> session.render(new byte[4], 0, 4));
+    }
+
+    @Test
+    public void testStartPosition() throws Exception {
+        URL url = new File("src/test/resources/test.mod").toURI().toURL();
+        try (RenderSession session = RenderSession.open(url, createSettings(), 2000, -1)) {
+            assertTrue(session.getMillisecondPosition() >= 1900, "position " + session.getMillisecondPosition());
+        }
+    }
+}
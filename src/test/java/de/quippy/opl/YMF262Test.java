@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2026 by Naohide Sano, All rights reserved.
+ *
+ * Programmed by Naohide Sano
+ */
+
+package de.quippy.opl;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+
+/**
+ * YMF262Test.
+ *
+ * @author <a href="mailto:umjammer@gmail.com">Naohide Sano</a> (umjammer)
+ * @version 0.00 2026/10/17 umjammer initial version <br>
+ */
+public class YMF262Test {
+
+    /** hash of the frames rendered by {@link #render(int[], int[])} - taken with the table driven core */
+    static final String GOLDEN = "93a09f597a78e3a0";
+
+    static final int KEY_ON_FRAMES = 2048;
+    static final int KEY_OFF_FRAMES = 4096;
+
+    /**
+     * A 2 operator FM note on channel 0 with feedback and waveforms,
+     * output to CHA and CHB - key on, then released
+     */
+    static YMF262 render(int[] keyOn, int[] keyOff) {
+        YMF262 chip = new YMF262();
+        chip.write(1, 0x05, 0x01); // OPL3 mode
+        chip.write(0, 0x20, 0x21); // modulator: vibrato off, sustain, mult 1
+        chip.write(0, 0x23, 0x01);
+        chip.write(0, 0x40, 0x10);
+        chip.write(0, 0x43, 0x00);
+        chip.write(0, 0x60, 0xf4);
+        chip.write(0, 0x63, 0xf4);
+        chip.write(0, 0x80, 0x26);
+        chip.write(0, 0x83, 0x26);
+        chip.write(0, 0xe0, 0x00);
+        chip.write(0, 0xe3, 0x01); // half sine carrier
+        chip.write(0, 0xc0, 0x36); // CHA + CHB, feedback 3, FM
+        chip.write(0, 0xa0, 0x41);
+        chip.write(0, 0xb0, 0x32); // key on, block 4
+        chip.read(keyOn, KEY_ON_FRAMES);
+        chip.write(0, 0xb0, 0x12); // key off
+        chip.read(keyOff, KEY_OFF_FRAMES);
+        return chip;
+    }
+
+    @Test
+    public void testGoldenOutput() {
+        int[] keyOn = new int[KEY_ON_FRAMES << 2];
+        int[] keyOff = new int[KEY_OFF_FRAMES << 2];
+        render(keyOn, keyOff);
+
+        long hash = 0;
+        for (int sample : keyOn) hash = hash * 31 + sample;
+        for (int sample : keyOff) hash = hash * 31 + sample;
+        assertEquals(GOLDEN, Long.toHexString(hash));
+    }
+
+    @Test
+    public void testChannels() {
+        int[] keyOn = new int[KEY_ON_FRAMES << 2];
+        int[] keyOff = new int[KEY_OFF_FRAMES << 2];
+        render(keyOn, keyOff);
+
+        int peak = 0;
+        for (int frame = 0; frame < KEY_ON_FRAMES; frame++) {
+            int offset = frame << 2;
+            // CHC and CHD are not enabled
+            assertEquals(0, keyOn[offset + 2]);
+            assertEquals(0, keyOn[offset + 3]);
+            // both selected by register C0
+            assertEquals(keyOn[offset], keyOn[offset + 1], "frame " + frame);
+            peak = Math.max(peak, Math.abs(keyOn[offset]));
+        }
+        assertTrue(peak > 0x0800, "peak " + peak);
+
+        // released - decays, but the release rate is slow enough to still sound
+        int peakEnd = 0;
+        for (int frame = KEY_OFF_FRAMES - 512; frame < KEY_OFF_FRAMES; frame++)
+            peakEnd = Math.max(peakEnd, Math.abs(keyOff[frame << 2]));
+        assertTrue(peakEnd > 0 && peakEnd < peak, "peak " + peak + ", end " + peakEnd);
+    }
+
+    @Test
+    public void testReset() {
+        int[] keyOn = new int[KEY_ON_FRAMES << 2];
+        int[] keyOff = new int[KEY_OFF_FRAMES << 2];
+        YMF262 chip = render(keyOn, keyOff);
+
+        chip.reset();
+        int[] output = new int[256 << 2];
+        chip.read(output, 256);
+        for (int sample : output) assertEquals(0, sample);
+    }
+
+    static int peak(int[] output, int channel) {
+        int peak = 0;
+        for (int i = channel; i < output.length; i += 4) peak = Math.max(peak, Math.abs(output[i]));
+        return peak;
+    }
+
+    @Test
+    public void testFourOperators() {
+        YMF262 chip = new YMF262();
+        chip.write(1, 0x05, 0x01);
+        chip.write(1, 0x04, 0x01); // channel 0 and 3 are one channel
+        for (int reg : new int[] {0x00, 0x03, 0x08, 0x0b}) {
+            chip.write(0, 0x20 + reg, 0x21);
+            chip.write(0, 0x40 + reg, 0x00);
+            chip.write(0, 0x60 + reg, 0xf0);
+            chip.write(0, 0x80 + reg, 0x00);
+        }
+        chip.write(0, 0xc0, 0x10); // 1 -> 2 -> 3 -> 4, the outputs of channel 0 are not used
+        chip.write(0, 0xc3, 0x20); // CHB only
+        chip.write(0, 0xa0, 0x41);
+        chip.write(0, 0xb0, 0x32); // keys all four slots
+        chip.write(0, 0xb3, 0x00); // ignored - the second channel follows the first one
+
+        int[] output = new int[1024 << 2];
+        chip.read(output, 1024);
+        assertEquals(0, peak(output, 0));
+        assertTrue(peak(output, 1) > 0x0800, "peak " + peak(output, 1));
+
+        // back to two operators - a key off of channel 0 does not reach channel 3 anymore
+        chip.write(1, 0x04, 0x00);
+        chip.write(0, 0xb0, 0x12);
+        chip.read(output, 1024);
+        assertTrue(peak(output, 1) > 0, "channel 3 still sounds");
+    }
+
+    @Test
+    public void testRhythm() {
+        YMF262 chip = new YMF262();
+        for (int reg : new int[] {0x10, 0x11, 0x12, 0x13, 0x14, 0x15}) {
+            chip.write(0, 0x20 + reg, 0x01);
+            chip.write(0, 0x40 + reg, 0x00);
+            chip.write(0, 0x60 + reg, 0xf4);
+            chip.write(0, 0x80 + reg, 0x0f);
+        }
+        for (int channel = 6; channel < 9; channel++) {
+            chip.write(0, 0xa0 + channel, 0x80);
+            chip.write(0, 0xb0 + channel, 0x09);
+        }
+        int[] output = new int[1024 << 2];
+        chip.read(output, 1024);
+        assertEquals(0, peak(output, 0), "not keyed");
+
+        for (int drum : new int[] {0x10, 0x08, 0x04, 0x02, 0x01}) {
+            chip.write(0, 0xbd, 0x20 | drum);
+            chip.read(output, 1024);
+            assertTrue(peak(output, 0) > 0x0400, Integer.toHexString(drum) + ": " + peak(output, 0));
+            chip.write(0, 0xbd, 0x20);
+            for (int i = 0; i < 16; i++) chip.read(output, 1024);
+            assertEquals(0, peak(output, 0), Integer.toHexString(drum) + " released");
+        }
+    }
+
+    /** all 18 channels playing notes - the same register writes for both cores */
+    static long renderSong(java.util.function.IntConsumer read, Writer writer) {
+        writer.write(1, 0x05, 0x01);
+        for (int bank = 0; bank < 2; bank++) {
+            for (int channel = 0; channel < 9; channel++) {
+                int op = (channel / 3) * 8 + channel % 3;
+                writer.write(bank, 0x20 + op, 0x21);
+                writer.write(bank, 0x23 + op, 0x21);
+                writer.write(bank, 0x40 + op, 0x10);
+                writer.write(bank, 0x43 + op, 0x00);
+                writer.write(bank, 0x60 + op, 0xf4);
+                writer.write(bank, 0x63 + op, 0xf4);
+                writer.write(bank, 0x80 + op, 0x26);
+                writer.write(bank, 0x83 + op, 0x26);
+                writer.write(bank, 0xe0 + op, channel & 3);
+                writer.write(bank, 0xc0 + channel, 0x36);
+            }
+        }
+        long start = System.nanoTime();
+        for (int step = 0; step < 100; step++) {
+            for (int bank = 0; bank < 2; bank++) {
+                for (int channel = 0; channel < 9; channel++) {
+                    writer.write(bank, 0xb0 + channel, 0x12);
+                    writer.write(bank, 0xa0 + channel, (0x41 + channel * 7 + step * 13) & 0xff);
+                    writer.write(bank, 0xb0 + channel, 0x32 | (((step + channel) & 1) << 2));
+                }
+            }
+            read.accept(4096);
+        }
+        return System.nanoTime() - start;
+    }
+
+    interface Writer {
+        void write(int array, int address, int data);
+    }
+
+    /** the reason for this core: it has to be faster than the floating point one */
+    @Test
+    public void testFasterThanOPL3() {
+        int[] output = new int[4096 << 2];
+        long ymf262 = Long.MAX_VALUE;
+        long opl3 = Long.MAX_VALUE;
+        for (int round = 0; round < 3; round++) {
+            YMF262 chip = new YMF262();
+            ymf262 = Math.min(ymf262, renderSong(frames -> chip.read(output, frames), chip::write));
+            OPL3 reference = new OPL3();
+            opl3 = Math.min(opl3, renderSong(frames -> reference.read(output, frames), reference::write));
+        }
+        assertTrue(ymf262 < opl3, "YMF262 " + ymf262 + " ns, OPL3 " + opl3 + " ns");
+    }
+}